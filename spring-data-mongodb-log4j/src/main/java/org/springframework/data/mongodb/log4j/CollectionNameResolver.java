@@ -0,0 +1,215 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.log4j;
+
+import static org.springframework.data.mongodb.log4j.MongoLog4jAppender.*;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.log4j.MDC;
+import org.apache.log4j.PatternLayout;
+import org.apache.log4j.spi.LoggingEvent;
+
+/**
+ * Resolves the name of the collection to store a {@link LoggingEvent} in by formatting the collection
+ * {@link PatternLayout} with the {@link MongoLog4jAppender#YEAR}, {@link MongoLog4jAppender#MONTH},
+ * {@link MongoLog4jAppender#DAY}, {@link MongoLog4jAppender#HOUR} and {@link MongoLog4jAppender#APP_ID} MDC values
+ * set. If the pattern only consists of literals, the logger name and those MDC values, the resolved names are cached
+ * per logger name for the current hour, so that they're only formatted again once the hour is over.
+ *
+ * @since 1.10
+ */
+class CollectionNameResolver {
+
+	private static final Pattern CONVERSION = Pattern.compile("%(?:%|[-.\\d]*([a-zA-Z])(?:\\{([^}]*)\\})?)");
+	private static final Set<String> CACHEABLE_KEYS = new HashSet<String>(
+			Arrays.asList(YEAR, MONTH, DAY, HOUR, APP_ID));
+
+	private final PatternLayout layout;
+	private final String applicationId;
+	private final boolean cacheable;
+
+	private volatile Bucket bucket;
+
+	/**
+	 * Creates a new {@link CollectionNameResolver} for the given {@link PatternLayout} and application id.
+	 *
+	 * @param layout must not be {@literal null}.
+	 * @param applicationId can be {@literal null}.
+	 */
+	CollectionNameResolver(PatternLayout layout, String applicationId) {
+
+		this.layout = layout;
+		this.applicationId = applicationId;
+		this.cacheable = isCacheable(layout.getConversionPattern());
+	}
+
+	/**
+	 * Returns whether the collection names created by the given pattern only depend on the logger name and the current
+	 * hour.
+	 *
+	 * @param pattern can be {@literal null}.
+	 * @return
+	 */
+	static boolean isCacheable(String pattern) {
+
+		if (pattern == null) {
+			return false;
+		}
+
+		Matcher matcher = CONVERSION.matcher(pattern);
+
+		while (matcher.find()) {
+
+			String conversion = matcher.group(1);
+
+			if (conversion == null || "c".equals(conversion)) {
+				continue;
+			}
+
+			if (!"X".equals(conversion) || !CACHEABLE_KEYS.contains(matcher.group(2))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns whether the {@link CollectionNameResolver} resolves names for the given {@link PatternLayout} and
+	 * application id.
+	 *
+	 * @param layout
+	 * @param applicationId
+	 * @return
+	 */
+	boolean isFor(PatternLayout layout, String applicationId) {
+		return this.layout == layout
+				&& (this.applicationId == null ? applicationId == null : this.applicationId.equals(applicationId));
+	}
+
+	/**
+	 * Returns the name of the collection to store the given {@link LoggingEvent} in.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @return
+	 */
+	String resolve(LoggingEvent event) {
+		return resolve(event, System.currentTimeMillis());
+	}
+
+	/**
+	 * Returns the name of the collection to store the given {@link LoggingEvent} in at the given time.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param now the current time in milliseconds.
+	 * @return
+	 */
+	String resolve(LoggingEvent event, long now) {
+
+		if (!cacheable) {
+			return format(event, new Bucket(now));
+		}
+
+		Bucket bucket = this.bucket;
+
+		if (bucket == null || now >= bucket.end || now < bucket.start) {
+			bucket = new Bucket(now);
+			this.bucket = bucket;
+		}
+
+		String loggerName = event.getLoggerName();
+		String name = bucket.names.get(loggerName);
+
+		if (name == null) {
+			name = format(event, bucket);
+			bucket.names.putIfAbsent(loggerName, name);
+		}
+
+		return name;
+	}
+
+	private String format(LoggingEvent event, Bucket bucket) {
+
+		if (null != applicationId) {
+			MDC.put(APP_ID, applicationId);
+		}
+
+		MDC.put(YEAR, bucket.year);
+		MDC.put(MONTH, bucket.month);
+		MDC.put(DAY, bucket.day);
+		MDC.put(HOUR, bucket.hour);
+
+		try {
+
+			// PatternLayout formats into a shared buffer
+			synchronized (layout) {
+				return layout.format(event);
+			}
+
+		} finally {
+
+			MDC.remove(YEAR);
+			MDC.remove(MONTH);
+			MDC.remove(DAY);
+			MDC.remove(HOUR);
+
+			if (null != applicationId) {
+				MDC.remove(APP_ID);
+			}
+		}
+	}
+
+	/**
+	 * The hour a set of cached collection names is valid for, together with the MDC values for that hour.
+	 */
+	private static class Bucket {
+
+		private final long start;
+		private final long end;
+		private final Integer year;
+		private final String month;
+		private final String day;
+		private final String hour;
+		private final ConcurrentMap<String, String> names = new ConcurrentHashMap<String, String>();
+
+		Bucket(long now) {
+
+			Calendar calendar = Calendar.getInstance();
+			calendar.setTimeInMillis(now);
+
+			this.year = calendar.get(Calendar.YEAR);
+			this.month = String.format("%1$02d", calendar.get(Calendar.MONTH) + 1);
+			this.day = String.format("%1$02d", calendar.get(Calendar.DAY_OF_MONTH));
+			this.hour = String.format("%1$02d", calendar.get(Calendar.HOUR_OF_DAY));
+
+			calendar.set(Calendar.MINUTE, 0);
+			calendar.set(Calendar.SECOND, 0);
+			calendar.set(Calendar.MILLISECOND, 0);
+			this.start = calendar.getTimeInMillis();
+
+			calendar.add(Calendar.HOUR_OF_DAY, 1);
+			this.end = calendar.getTimeInMillis();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2011-2013 the original author or authors.
+ * Copyright 2011-2016 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,24 +16,41 @@
 package org.springframework.data.mongodb.log4j;
 
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 import org.apache.log4j.AppenderSkeleton;
 import org.apache.log4j.Level;
 import org.apache.log4j.MDC;
 import org.apache.log4j.PatternLayout;
+import org.apache.log4j.helpers.LogLog;
+import org.apache.log4j.spi.ErrorCode;
+import org.apache.log4j.spi.Filter;
 import org.apache.log4j.spi.LoggingEvent;
 
 import com.mongodb.BasicDBList;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DB;
+import com.mongodb.DBObject;
 import com.mongodb.Mongo;
 import com.mongodb.WriteConcern;
 
 /**
- * Log4j appender writing log entries into a MongoDB instance.
+ * Log4j appender writing log entries into a MongoDB instance. By default every log entry is inserted on the logging
+ * thread. In {@link #setAsync(boolean) asynchronous mode}, log entries are put into a bounded, lock-free ring buffer
+ * instead and written by a background thread with multi-document inserts grouped by target collection. What happens
+ * if the buffer is full is controlled by the {@link #setOverflowPolicy(String) overflow policy}. Logging threads
+ * do not synchronize on the appender in asynchronous mode, so that they do not contend with each other and a thread
+ * waiting for room in the buffer does not hold up the others.
  * 
  * @author Jon Brisbin
  * @author Oliver Gierke
@@ -52,6 +69,27 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 	public static final String DAY = "day";
 	public static final String HOUR = "hour";
 
+	private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+	private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+	/**
+	 * Policy to apply when a log entry cannot be buffered in asynchronous mode as the buffer is full.
+	 *
+	 * @since 1.10
+	 */
+	public static enum OverflowPolicy {
+
+		/**
+		 * Discards the log entry.
+		 */
+		DROP,
+
+		/**
+		 * Blocks the logging thread until there's room in the buffer.
+		 */
+		BLOCK;
+	}
+
 	protected String host = "localhost";
 	protected int port = 27017;
 	protected String database = "logs";
@@ -63,6 +101,22 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 	protected Mongo mongo;
 	protected DB db;
 
+	protected boolean async = false;
+	protected int bufferSize = 8192;
+	protected int batchSize = 512;
+	protected long flushInterval = 100;
+	protected OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+	private final AtomicLong queuedCount = new AtomicLong();
+	private final AtomicLong droppedCount = new AtomicLong();
+	private final AtomicLong flushedCount = new AtomicLong();
+	private final AtomicInteger enqueuing = new AtomicInteger();
+
+	private volatile CollectionNameResolver collectionNameResolver;
+	private volatile RingBuffer<PendingEvent> buffer;
+	private volatile Thread flusher;
+	private volatile boolean flushing;
+
 	public MongoLog4jAppender() {
 	}
 
@@ -127,26 +181,202 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 		this.infoOrLowerWriteConcern = WriteConcern.valueOf(wc);
 	}
 
+	public boolean isAsync() {
+		return async;
+	}
+
+	/**
+	 * Configures whether to write log entries asynchronously on a background thread. Defaults to {@literal false}.
+	 *
+	 * @param async
+	 * @since 1.10
+	 */
+	public void setAsync(boolean async) {
+		this.async = async;
+	}
+
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * Configures the number of log entries buffered in asynchronous mode. Will be rounded up to the next power of two.
+	 * Defaults to 8192.
+	 *
+	 * @param bufferSize must be greater than zero.
+	 * @since 1.10
+	 */
+	public void setBufferSize(int bufferSize) {
+		this.bufferSize = bufferSize;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Configures the maximum number of log entries written at once in asynchronous mode. Defaults to 512.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @since 1.10
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public long getFlushInterval() {
+		return flushInterval;
+	}
+
+	/**
+	 * Configures the number of milliseconds the background thread waits for new log entries if the buffer is empty in
+	 * asynchronous mode. Defaults to 100.
+	 *
+	 * @param flushInterval must be greater than zero.
+	 * @since 1.10
+	 */
+	public void setFlushInterval(long flushInterval) {
+		this.flushInterval = flushInterval;
+	}
+
+	public String getOverflowPolicy() {
+		return overflowPolicy.name();
+	}
+
+	/**
+	 * Configures the {@link OverflowPolicy} to apply if the buffer is full in asynchronous mode. Either {@code DROP}
+	 * (the default) or {@code BLOCK}.
+	 *
+	 * @param overflowPolicy
+	 * @since 1.10
+	 */
+	public void setOverflowPolicy(String overflowPolicy) {
+		this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy.trim().toUpperCase(Locale.US));
+	}
+
+	/**
+	 * Returns the number of log entries that were accepted into the buffer in asynchronous mode.
+	 *
+	 * @return
+	 * @since 1.10
+	 */
+	public long getQueuedCount() {
+		return queuedCount.get();
+	}
+
+	/**
+	 * Returns the number of log entries that were dropped in asynchronous mode, either because the buffer was full, the
+	 * appender was closed or writing them failed.
+	 *
+	 * @return
+	 * @since 1.10
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	/**
+	 * Returns the number of log entries written by the background thread in asynchronous mode.
+	 *
+	 * @return
+	 * @since 1.10
+	 */
+	public long getFlushedCount() {
+		return flushedCount.get();
+	}
+
 	protected void connectToMongo() throws UnknownHostException {
 		this.mongo = new Mongo(host, port);
 		this.db = mongo.getDB(database);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.log4j.AppenderSkeleton#activateOptions()
+	 */
+	@Override
+	public void activateOptions() {
+
+		if (async) {
+			startFlusher();
+		}
+	}
+
+	/**
+	 * Applies the threshold and the filters like {@link AppenderSkeleton#doAppend(LoggingEvent)} but only synchronizes
+	 * on the appender in synchronous mode. In asynchronous mode, log entries are put into the buffer without any lock.
+	 *
+	 * @see org.apache.log4j.AppenderSkeleton#doAppend(org.apache.log4j.spi.LoggingEvent)
+	 */
+	@Override
+	public void doAppend(LoggingEvent event) {
+
+		if (!async) {
+			super.doAppend(event);
+			return;
+		}
+
+		if (closed) {
+			LogLog.error("Attempted to append to closed appender named [" + name + "].");
+			return;
+		}
+
+		if (!isAsSevereAsThreshold(event.getLevel())) {
+			return;
+		}
+
+		for (Filter filter = getFirstFilter(); filter != null; filter = filter.getNext()) {
+
+			int decision = filter.decide(event);
+
+			if (decision == Filter.DENY) {
+				return;
+			}
+
+			if (decision == Filter.ACCEPT) {
+				break;
+			}
+		}
+
+		enqueue(event);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.apache.log4j.AppenderSkeleton#append(org.apache.log4j.spi.LoggingEvent)
 	 */
 	@Override
-	@SuppressWarnings({ "unchecked" })
 	protected void append(final LoggingEvent event) {
-		if (null == db) {
-			try {
-				connectToMongo();
-			} catch (UnknownHostException e) {
-				throw new RuntimeException(e.getMessage(), e);
-			}
+
+		if (async) {
+			enqueue(event);
+			return;
 		}
 
+		ensureConnected();
+
+		BasicDBObject dbo = createDocument(event);
+		String coll = getCollectionName(event);
+
+		WriteConcern wc;
+		if (event.getLevel().isGreaterOrEqual(Level.WARN)) {
+			wc = warnOrHigherWriteConcern;
+		} else {
+			wc = infoOrLowerWriteConcern;
+		}
+		db.getCollection(coll).insert(dbo, wc);
+	}
+
+	/**
+	 * Creates the document to store for the given {@link LoggingEvent}. Always invoked on the logging thread, in
+	 * asynchronous mode by multiple logging threads concurrently.
+	 *
+	 * @param event
+	 * @return
+	 */
+	@SuppressWarnings({ "unchecked" })
+	protected BasicDBObject createDocument(LoggingEvent event) {
+
 		BasicDBObject dbo = new BasicDBObject();
 		if (null != applicationId) {
 			dbo.put(APP_ID, applicationId);
@@ -168,6 +398,10 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 			dbo.put(PROPERTIES, propsDbo);
 		}
 
+		if (null != applicationId) {
+			MDC.remove(APP_ID);
+		}
+
 		// Copy traceback info (if there is any) into the document
 		String[] traceback = event.getThrowableStrRep();
 		if (null != traceback && traceback.length > 0) {
@@ -179,37 +413,246 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 		// Put the rendered message into the document
 		dbo.put(MESSAGE, event.getRenderedMessage());
 
-		// Insert the document
-		Calendar now = Calendar.getInstance();
-		MDC.put(YEAR, now.get(Calendar.YEAR));
-		MDC.put(MONTH, String.format("%1$02d", now.get(Calendar.MONTH) + 1));
-		MDC.put(DAY, String.format("%1$02d", now.get(Calendar.DAY_OF_MONTH)));
-		MDC.put(HOUR, String.format("%1$02d", now.get(Calendar.HOUR_OF_DAY)));
+		return dbo;
+	}
 
-		String coll = collectionLayout.format(event);
+	/**
+	 * Returns the name of the collection to store the given {@link LoggingEvent} in. Always invoked on the logging
+	 * thread, in asynchronous mode by multiple logging threads concurrently. If the collection pattern only refers to
+	 * the logger name, the time based MDC values and the application id, the names are cached per logger for the
+	 * current hour.
+	 *
+	 * @param event
+	 * @return
+	 */
+	protected String getCollectionName(LoggingEvent event) {
 
-		MDC.remove(YEAR);
-		MDC.remove(MONTH);
-		MDC.remove(DAY);
-		MDC.remove(HOUR);
-		if (null != applicationId) {
-			MDC.remove(APP_ID);
+		CollectionNameResolver resolver = this.collectionNameResolver;
+
+		if (resolver == null || !resolver.isFor(collectionLayout, applicationId)) {
+			resolver = new CollectionNameResolver(collectionLayout, applicationId);
+			this.collectionNameResolver = resolver;
 		}
 
-		WriteConcern wc;
-		if (event.getLevel().isGreaterOrEqual(Level.WARN)) {
-			wc = warnOrHigherWriteConcern;
-		} else {
-			wc = infoOrLowerWriteConcern;
+		return resolver.resolve(event);
+	}
+
+	private void ensureConnected() {
+
+		if (null == db) {
+			try {
+				connectToMongo();
+			} catch (UnknownHostException e) {
+				throw new RuntimeException(e.getMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * Puts the given {@link LoggingEvent} into the buffer, applying the configured {@link OverflowPolicy} if it is
+	 * full.
+	 *
+	 * @param event
+	 */
+	private void enqueue(LoggingEvent event) {
+
+		if (flusher == null) {
+			startFlusher();
+		}
+
+		boolean warnOrHigher = event.getLevel().isGreaterOrEqual(Level.WARN);
+		PendingEvent pending = new PendingEvent(getCollectionName(event), createDocument(event), warnOrHigher);
+
+		enqueuing.incrementAndGet();
+
+		try {
+
+			RingBuffer<PendingEvent> buffer = this.buffer;
+
+			if (buffer == null) {
+				droppedCount.incrementAndGet();
+				return;
+			}
+
+			offer(buffer, pending);
+
+		} finally {
+			enqueuing.decrementAndGet();
+		}
+	}
+
+	private void offer(RingBuffer<PendingEvent> buffer, PendingEvent pending) {
+
+		while (!buffer.offer(pending)) {
+
+			if (overflowPolicy == OverflowPolicy.DROP || !flushing) {
+				droppedCount.incrementAndGet();
+				return;
+			}
+
+			LockSupport.unpark(flusher);
+			LockSupport.parkNanos(BLOCK_PARK_NANOS);
+		}
+
+		queuedCount.incrementAndGet();
+
+		if (buffer.size() >= batchSize) {
+			LockSupport.unpark(flusher);
+		}
+	}
+
+	private synchronized void startFlusher() {
+
+		if (flusher != null || closed) {
+			return;
+		}
+
+		final RingBuffer<PendingEvent> buffer = new RingBuffer<PendingEvent>(bufferSize);
+
+		this.buffer = buffer;
+		this.flushing = true;
+
+		Thread thread = new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+				flushUntilStopped(buffer);
+			}
+		}, "mongo-log4j-appender-" + (name == null ? "flusher" : name));
+
+		thread.setDaemon(true);
+		thread.start();
+
+		this.flusher = thread;
+	}
+
+	private synchronized void stopFlusher() {
+
+		Thread thread = flusher;
+
+		if (thread == null) {
+			return;
+		}
+
+		// no new entries once the logging threads currently offering to the buffer are done
+		buffer = null;
+		awaitEnqueuing();
+
+		flushing = false;
+		LockSupport.unpark(thread);
+
+		try {
+			thread.join(SHUTDOWN_TIMEOUT_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		flusher = null;
+	}
+
+	/**
+	 * Waits for logging threads currently putting an entry into the buffer, so that the entry is either drained by the
+	 * flusher or was counted as dropped.
+	 */
+	private void awaitEnqueuing() {
+
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_TIMEOUT_MILLIS);
+
+		while (enqueuing.get() != 0 && System.nanoTime() - deadline < 0) {
+			LockSupport.parkNanos(BLOCK_PARK_NANOS);
+		}
+	}
+
+	/**
+	 * Writes buffered log entries in batches until the flusher is stopped and writes the remaining entries afterwards.
+	 *
+	 * @param buffer
+	 */
+	private void flushUntilStopped(RingBuffer<PendingEvent> buffer) {
+
+		List<PendingEvent> events = new ArrayList<PendingEvent>(batchSize);
+
+		while (flushing) {
+
+			if (buffer.drainTo(events, batchSize) == 0) {
+				LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(flushInterval));
+				continue;
+			}
+
+			flush(events);
+			events.clear();
+		}
+
+		while (buffer.drainTo(events, batchSize) > 0) {
+			flush(events);
+			events.clear();
+		}
+	}
+
+	/**
+	 * Writes the given log entries with one insert per target collection and write concern.
+	 *
+	 * @param events
+	 */
+	private void flush(List<PendingEvent> events) {
+
+		try {
+			ensureConnected();
+		} catch (RuntimeException e) {
+
+			errorHandler.error("Could not connect to MongoDB!", e, ErrorCode.GENERIC_FAILURE);
+			droppedCount.addAndGet(events.size());
+
+			return;
+		}
+
+		Map<String, List<DBObject>> warnOrHigher = new LinkedHashMap<String, List<DBObject>>();
+		Map<String, List<DBObject>> infoOrLower = new LinkedHashMap<String, List<DBObject>>();
+
+		for (PendingEvent event : events) {
+
+			Map<String, List<DBObject>> batches = event.warnOrHigher ? warnOrHigher : infoOrLower;
+			List<DBObject> batch = batches.get(event.collection);
+
+			if (batch == null) {
+				batch = new ArrayList<DBObject>();
+				batches.put(event.collection, batch);
+			}
+
+			batch.add(event.document);
+		}
+
+		insert(warnOrHigher, warnOrHigherWriteConcern);
+		insert(infoOrLower, infoOrLowerWriteConcern);
+	}
+
+	private void insert(Map<String, List<DBObject>> batches, WriteConcern writeConcern) {
+
+		for (Map.Entry<String, List<DBObject>> entry : batches.entrySet()) {
+
+			List<DBObject> documents = entry.getValue();
+
+			try {
+
+				db.getCollection(entry.getKey()).insert(documents, writeConcern);
+				flushedCount.addAndGet(documents.size());
+
+			} catch (RuntimeException e) {
+
+				errorHandler.error("Could not write log entries to MongoDB!", e, ErrorCode.WRITE_FAILURE);
+				droppedCount.addAndGet(documents.size());
+			}
 		}
-		db.getCollection(coll).insert(dbo, wc);
 	}
 
 	/*
 	 * (non-Javadoc)
 	 * @see org.apache.log4j.AppenderSkeleton#close()
 	 */
-	public void close() {
+	public synchronized void close() {
+
+		closed = true;
+		stopFlusher();
 
 		if (mongo != null) {
 			mongo.close();
@@ -223,4 +666,21 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 	public boolean requiresLayout() {
 		return true;
 	}
+
+	/**
+	 * A log entry waiting to be written in asynchronous mode.
+	 */
+	private static class PendingEvent {
+
+		private final String collection;
+		private final DBObject document;
+		private final boolean warnOrHigher;
+
+		PendingEvent(String collection, DBObject document, boolean warnOrHigher) {
+
+			this.collection = collection;
+			this.document = document;
+			this.warnOrHigher = warnOrHigher;
+		}
+	}
 }
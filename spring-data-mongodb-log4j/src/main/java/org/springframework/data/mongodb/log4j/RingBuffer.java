@@ -0,0 +1,151 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.log4j;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free ring buffer for many producers and a single consumer. Every slot carries a sequence number that
+ * tells producers whether the slot is free for the current lap and the consumer whether it was published, so that
+ * neither side ever takes a lock.
+ *
+ * @since 1.10
+ */
+class RingBuffer<T> {
+
+	private final int capacity;
+	private final int mask;
+	private final AtomicReferenceArray<T> elements;
+	private final AtomicLongArray sequences;
+	private final AtomicLong tail = new AtomicLong();
+
+	private volatile long head;
+
+	/**
+	 * Creates a new {@link RingBuffer} holding at least the given number of elements. The capacity is rounded up to the
+	 * next power of two, two being the minimum.
+	 *
+	 * @param capacity must be greater than zero.
+	 */
+	RingBuffer(int capacity) {
+
+		if (capacity <= 0 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("Capacity must be between 1 and 2^30!");
+		}
+
+		this.capacity = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+		this.mask = this.capacity - 1;
+		this.elements = new AtomicReferenceArray<T>(this.capacity);
+		this.sequences = new AtomicLongArray(this.capacity);
+
+		for (int i = 0; i < this.capacity; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * Adds the given element to the buffer unless it is full. Can be called by multiple threads concurrently.
+	 *
+	 * @param element must not be {@literal null}.
+	 * @return whether the element was added.
+	 */
+	boolean offer(T element) {
+
+		long position = tail.get();
+
+		while (true) {
+
+			int index = (int) (position & mask);
+			long difference = sequences.get(index) - position;
+
+			if (difference == 0) {
+
+				if (tail.compareAndSet(position, position + 1)) {
+
+					elements.lazySet(index, element);
+					sequences.lazySet(index, position + 1);
+
+					return true;
+				}
+
+			} else if (difference < 0) {
+				return false;
+			}
+
+			position = tail.get();
+		}
+	}
+
+	/**
+	 * Removes the oldest element from the buffer. Must only be called by a single thread.
+	 *
+	 * @return the oldest element or {@literal null} if the buffer is empty.
+	 */
+	T poll() {
+
+		long position = head;
+		int index = (int) (position & mask);
+
+		if (sequences.get(index) != position + 1) {
+			return null;
+		}
+
+		T element = elements.get(index);
+
+		elements.lazySet(index, null);
+		sequences.lazySet(index, position + capacity);
+		head = position + 1;
+
+		return element;
+	}
+
+	/**
+	 * Moves up to the given number of elements into the given {@link Collection}. Must only be called by a single
+	 * thread.
+	 *
+	 * @param target must not be {@literal null}.
+	 * @param maxElements
+	 * @return the number of elements moved.
+	 */
+	int drainTo(Collection<? super T> target, int maxElements) {
+
+		int count = 0;
+		T element;
+
+		while (count < maxElements && (element = poll()) != null) {
+			target.add(element);
+			count++;
+		}
+
+		return count;
+	}
+
+	/**
+	 * Returns the number of elements currently in the buffer. Only an estimate while producers are adding elements.
+	 *
+	 * @return
+	 */
+	int size() {
+		return (int) Math.max(0, Math.min(tail.get() - head, capacity));
+	}
+
+	int getCapacity() {
+		return capacity;
+	}
+}
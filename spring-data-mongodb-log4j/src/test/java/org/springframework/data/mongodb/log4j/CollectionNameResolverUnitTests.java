@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.log4j;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Calendar;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.MDC;
+import org.apache.log4j.PatternLayout;
+import org.apache.log4j.spi.LoggingEvent;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CollectionNameResolver}.
+ */
+public class CollectionNameResolverUnitTests {
+
+	@After
+	public void tearDown() {
+		MDC.remove("tenant");
+	}
+
+	@Test
+	public void detectsCacheablePatterns() {
+
+		assertThat(CollectionNameResolver.isCacheable("%c"), is(true));
+		assertThat(CollectionNameResolver.isCacheable("logs_%c{1}_%X{year}%X{month}"), is(true));
+		assertThat(CollectionNameResolver.isCacheable("%X{applicationId}-%X{day}%X{hour}%%"), is(true));
+
+		assertThat(CollectionNameResolver.isCacheable("%X{tenant}"), is(false));
+		assertThat(CollectionNameResolver.isCacheable("%X"), is(false));
+		assertThat(CollectionNameResolver.isCacheable("%c-%p"), is(false));
+		assertThat(CollectionNameResolver.isCacheable("%d{yyyy}"), is(false));
+	}
+
+	@Test
+	public void resolvesNameFromTimeApplicationIdAndLogger() {
+
+		CollectionNameResolver resolver = new CollectionNameResolver(
+				new PatternLayout("%X{applicationId}_%c_%X{year}%X{month}%X{day}%X{hour}"), "app");
+
+		assertThat(resolver.resolve(event("foo"), time(2016, 3, 5, 7, 30)), is("app_foo_2016030507"));
+		assertThat(MDC.get(MongoLog4jAppender.YEAR), is(nullValue()));
+		assertThat(MDC.get(MongoLog4jAppender.APP_ID), is(nullValue()));
+	}
+
+	@Test
+	public void cachesNamesWithinHour() {
+
+		CollectionNameResolver resolver = new CollectionNameResolver(new PatternLayout("%c%X{hour}"), null);
+
+		String first = resolver.resolve(event("foo"), time(2016, 3, 5, 7, 0));
+
+		assertThat(resolver.resolve(event("foo"), time(2016, 3, 5, 7, 59)), is(sameInstance(first)));
+		assertThat(resolver.resolve(event("bar"), time(2016, 3, 5, 7, 59)), is("bar07"));
+	}
+
+	@Test
+	public void recomputesNamesAtHourBoundary() {
+
+		CollectionNameResolver resolver = new CollectionNameResolver(new PatternLayout("%c%X{hour}"), null);
+
+		assertThat(resolver.resolve(event("foo"), time(2016, 3, 5, 7, 59)), is("foo07"));
+		assertThat(resolver.resolve(event("foo"), time(2016, 3, 5, 8, 0)), is("foo08"));
+	}
+
+	@Test
+	public void doesNotCacheNamesForPatternsDependingOnOtherValues() {
+
+		CollectionNameResolver resolver = new CollectionNameResolver(new PatternLayout("%X{tenant}"), null);
+
+		MDC.put("tenant", "foo");
+		assertThat(resolver.resolve(event("foo"), time(2016, 3, 5, 7, 0)), is("foo"));
+
+		MDC.put("tenant", "bar");
+		assertThat(resolver.resolve(event("foo"), time(2016, 3, 5, 7, 0)), is("bar"));
+	}
+
+	private static LoggingEvent event(String logger) {
+		return new LoggingEvent(Logger.class.getName(), Logger.getLogger(logger), Level.INFO, "message", null);
+	}
+
+	private static long time(int year, int month, int day, int hour, int minute) {
+
+		Calendar calendar = Calendar.getInstance();
+		calendar.clear();
+		calendar.set(year, month - 1, day, hour, minute);
+
+		return calendar.getTimeInMillis();
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2013 the original author or authors.
+ * Copyright 2013-2016 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,7 +15,26 @@
  */
 package org.springframework.data.mongodb.log4j;
 
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.spi.LoggingEvent;
+import org.apache.log4j.varia.LevelMatchFilter;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.mongodb.DB;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+import com.mongodb.WriteConcern;
 
 /**
  * Unit tests for {@link MongoLog4jAppender}.
@@ -31,4 +50,254 @@ public class MongoLog4jAppenderUnitTests {
 	public void closesWithoutMongoInstancePresent() {
 		new MongoLog4jAppender().close();
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void writesBatchesGroupedByCollectionAsynchronously() {
+
+		DB db = mock(DB.class);
+		DBCollection foo = mock(DBCollection.class);
+		DBCollection bar = mock(DBCollection.class);
+
+		when(db.getCollection("foo")).thenReturn(foo);
+		when(db.getCollection("bar")).thenReturn(bar);
+
+		MongoLog4jAppender appender = new StubbedMongoLog4jAppender(db, null);
+		appender.setCollectionPattern("%c");
+		appender.setAsync(true);
+		appender.setFlushInterval(10000);
+		appender.activateOptions();
+
+		appender.doAppend(event("foo", Level.INFO));
+		appender.doAppend(event("bar", Level.INFO));
+		appender.doAppend(event("foo", Level.INFO));
+		appender.doAppend(event("foo", Level.ERROR));
+
+		appender.close();
+
+		ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+
+		verify(foo).insert(captor.capture(), eq(WriteConcern.NORMAL));
+		assertThat(captor.getValue(), hasSize(2));
+
+		verify(foo).insert(captor.capture(), eq(WriteConcern.SAFE));
+		assertThat(captor.getValue(), hasSize(1));
+
+		verify(bar).insert(captor.capture(), eq(WriteConcern.NORMAL));
+		assertThat(captor.getValue(), hasSize(1));
+
+		assertThat(appender.getQueuedCount(), is(4L));
+		assertThat(appender.getFlushedCount(), is(4L));
+		assertThat(appender.getDroppedCount(), is(0L));
+	}
+
+	@Test
+	public void dropsEventsIfBufferIsFull() throws Exception {
+
+		DB db = mock(DB.class);
+		when(db.getCollection(anyString())).thenReturn(mock(DBCollection.class));
+
+		CountDownLatch latch = new CountDownLatch(1);
+
+		MongoLog4jAppender appender = new StubbedMongoLog4jAppender(db, latch);
+		appender.setAsync(true);
+		appender.setBufferSize(2);
+		appender.setBatchSize(1);
+		appender.activateOptions();
+
+		for (int i = 0; i < 10; i++) {
+			appender.doAppend(event("foo", Level.INFO));
+		}
+
+		assertThat(appender.getDroppedCount(), is(greaterThanOrEqualTo(7L)));
+		assertThat(appender.getQueuedCount() + appender.getDroppedCount(), is(10L));
+
+		latch.countDown();
+		appender.close();
+
+		assertThat(appender.getFlushedCount(), is(appender.getQueuedCount()));
+	}
+
+	@Test
+	public void blocksIfBufferIsFullAndConfiguredToBlock() {
+
+		DB db = mock(DB.class);
+		when(db.getCollection(anyString())).thenReturn(mock(DBCollection.class));
+
+		MongoLog4jAppender appender = new StubbedMongoLog4jAppender(db, null);
+		appender.setAsync(true);
+		appender.setBufferSize(2);
+		appender.setBatchSize(1);
+		appender.setOverflowPolicy("block");
+		appender.activateOptions();
+
+		for (int i = 0; i < 100; i++) {
+			appender.doAppend(event("foo", Level.INFO));
+		}
+
+		appender.close();
+
+		assertThat(appender.getDroppedCount(), is(0L));
+		assertThat(appender.getFlushedCount(), is(100L));
+	}
+
+	@Test(timeout = 5000)
+	public void doesNotSynchronizeOnAppenderWhileBlockingOnFullBuffer() throws Exception {
+
+		DB db = mock(DB.class);
+		when(db.getCollection(anyString())).thenReturn(mock(DBCollection.class));
+
+		CountDownLatch latch = new CountDownLatch(1);
+
+		final MongoLog4jAppender appender = new StubbedMongoLog4jAppender(db, latch);
+		appender.setAsync(true);
+		appender.setBufferSize(2);
+		appender.setBatchSize(1);
+		appender.setOverflowPolicy("block");
+		appender.activateOptions();
+
+		Thread producer = new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+
+				for (int i = 0; i < 10; i++) {
+					appender.doAppend(event("foo", Level.INFO));
+				}
+			}
+		});
+
+		producer.start();
+
+		while (appender.getQueuedCount() < 3) {
+			Thread.sleep(10);
+		}
+
+		// the producer is waiting for room in the buffer now
+		synchronized (appender) {
+			latch.countDown();
+		}
+
+		producer.join();
+		appender.close();
+
+		assertThat(appender.getDroppedCount(), is(0L));
+		assertThat(appender.getFlushedCount(), is(10L));
+	}
+
+	@Test
+	public void appliesFiltersAsynchronously() {
+
+		DB db = mock(DB.class);
+		when(db.getCollection(anyString())).thenReturn(mock(DBCollection.class));
+
+		LevelMatchFilter filter = new LevelMatchFilter();
+		filter.setLevelToMatch("INFO");
+		filter.setAcceptOnMatch(false);
+
+		MongoLog4jAppender appender = new StubbedMongoLog4jAppender(db, null);
+		appender.setAsync(true);
+		appender.setThreshold(Level.INFO);
+		appender.addFilter(filter);
+		appender.activateOptions();
+
+		appender.doAppend(event("foo", Level.DEBUG));
+		appender.doAppend(event("foo", Level.INFO));
+		appender.doAppend(event("foo", Level.WARN));
+
+		appender.close();
+
+		assertThat(appender.getQueuedCount(), is(1L));
+		assertThat(appender.getFlushedCount(), is(1L));
+	}
+
+	@Test(timeout = 10000)
+	public void flushesAllQueuedEventsIfClosedWhileAppending() throws Exception {
+
+		DB db = mock(DB.class);
+		when(db.getCollection(anyString())).thenReturn(mock(DBCollection.class));
+
+		final MongoLog4jAppender appender = new StubbedMongoLog4jAppender(db, null);
+		appender.setAsync(true);
+		appender.activateOptions();
+
+		final CountDownLatch started = new CountDownLatch(4);
+		final AtomicBoolean closed = new AtomicBoolean();
+		Thread[] threads = new Thread[4];
+
+		for (int i = 0; i < threads.length; i++) {
+
+			threads[i] = new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+
+					started.countDown();
+
+					while (!closed.get()) {
+						appender.doAppend(event("foo", Level.INFO));
+					}
+				}
+			});
+
+			threads[i].start();
+		}
+
+		started.await();
+		appender.close();
+		closed.set(true);
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(appender.getFlushedCount(), is(appender.getQueuedCount()));
+	}
+
+	@Test
+	public void insertsSynchronouslyByDefault() {
+
+		DB db = mock(DB.class);
+		DBCollection collection = mock(DBCollection.class);
+		when(db.getCollection("foo")).thenReturn(collection);
+
+		MongoLog4jAppender appender = new StubbedMongoLog4jAppender(db, null);
+		appender.doAppend(event("foo", Level.WARN));
+
+		verify(collection).insert(any(DBObject.class), eq(WriteConcern.SAFE));
+		assertThat(appender.getQueuedCount(), is(0L));
+	}
+
+	private static LoggingEvent event(String logger, Level level) {
+		return new LoggingEvent(Logger.class.getName(), Logger.getLogger(logger), level, "message", null);
+	}
+
+	/**
+	 * {@link MongoLog4jAppender} using the given {@link DB} and optionally waiting for the given latch when connecting.
+	 */
+	static class StubbedMongoLog4jAppender extends MongoLog4jAppender {
+
+		private final DB stub;
+		private final CountDownLatch latch;
+
+		StubbedMongoLog4jAppender(DB stub, CountDownLatch latch) {
+
+			this.stub = stub;
+			this.latch = latch;
+		}
+
+		@Override
+		protected void connectToMongo() {
+
+			if (latch != null) {
+				try {
+					latch.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+
+			this.db = stub;
+		}
+	}
 }
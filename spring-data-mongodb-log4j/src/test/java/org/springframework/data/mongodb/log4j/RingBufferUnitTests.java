@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.log4j;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RingBuffer}.
+ */
+public class RingBufferUnitTests {
+
+	@Test
+	public void roundsCapacityUpToPowerOfTwo() {
+
+		assertThat(new RingBuffer<Object>(1).getCapacity(), is(2));
+		assertThat(new RingBuffer<Object>(5).getCapacity(), is(8));
+		assertThat(new RingBuffer<Object>(8).getCapacity(), is(8));
+	}
+
+	@Test
+	public void rejectsElementsIfFull() {
+
+		RingBuffer<Integer> buffer = new RingBuffer<Integer>(2);
+
+		assertThat(buffer.offer(1), is(true));
+		assertThat(buffer.offer(2), is(true));
+		assertThat(buffer.offer(3), is(false));
+		assertThat(buffer.size(), is(2));
+
+		assertThat(buffer.poll(), is(1));
+		assertThat(buffer.offer(3), is(true));
+	}
+
+	@Test
+	public void returnsElementsInInsertionOrder() {
+
+		RingBuffer<Integer> buffer = new RingBuffer<Integer>(4);
+
+		for (int i = 0; i < 10; i++) {
+			buffer.offer(i);
+			assertThat(buffer.poll(), is(i));
+		}
+
+		assertThat(buffer.poll(), is(nullValue()));
+	}
+
+	@Test
+	public void drainsUpToMaxElements() {
+
+		RingBuffer<Integer> buffer = new RingBuffer<Integer>(4);
+		buffer.offer(1);
+		buffer.offer(2);
+		buffer.offer(3);
+
+		List<Integer> result = new ArrayList<Integer>();
+
+		assertThat(buffer.drainTo(result, 2), is(2));
+		assertThat(result, contains(1, 2));
+		assertThat(buffer.size(), is(1));
+	}
+
+	@Test
+	public void acceptsElementsFromConcurrentProducers() throws Exception {
+
+		final RingBuffer<Integer> buffer = new RingBuffer<Integer>(16);
+		final int producers = 4, elements = 10000;
+		final CountDownLatch latch = new CountDownLatch(producers);
+
+		for (int i = 0; i < producers; i++) {
+
+			final int offset = i * elements;
+
+			new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+
+					for (int j = 0; j < elements; j++) {
+						while (!buffer.offer(offset + j)) {
+							Thread.yield();
+						}
+					}
+
+					latch.countDown();
+				}
+			}).start();
+		}
+
+		Set<Integer> received = new HashSet<Integer>();
+
+		while (received.size() < producers * elements) {
+
+			Integer element = buffer.poll();
+
+			if (element == null) {
+				Thread.yield();
+			} else {
+				assertThat(received.add(element), is(true));
+			}
+		}
+
+		latch.await();
+		assertThat(buffer.poll(), is(nullValue()));
+	}
+}
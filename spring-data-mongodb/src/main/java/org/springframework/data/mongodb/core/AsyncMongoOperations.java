@@ -0,0 +1,266 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import com.mongodb.WriteResult;
+
+/**
+ * Interface that specifies a basic set of MongoDB operations executed asynchronously. Every method returns
+ * immediately with a {@link ListenableFuture} that is completed with the result of the operation or the
+ * {@link org.springframework.dao.DataAccessException} it failed with. Implemented by {@link AsyncMongoTemplate}.
+ *
+ * @since 1.10
+ * @see MongoOperations
+ */
+public interface AsyncMongoOperations {
+
+	/**
+	 * Returns the underlying {@link MongoConverter}.
+	 *
+	 * @return
+	 */
+	MongoConverter getConverter();
+
+	/**
+	 * Map the results of an ad-hoc query on the collection for the entity class to a {@link List} of the specified
+	 * type.
+	 *
+	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
+	 *          specification, must not be {@literal null}.
+	 * @param entityClass the parametrized type of the returned {@link List}.
+	 * @return
+	 */
+	<T> ListenableFuture<List<T>> find(Query query, Class<T> entityClass);
+
+	/**
+	 * Map the results of an ad-hoc query on the specified collection to a {@link List} of the specified type.
+	 *
+	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
+	 *          specification, must not be {@literal null}.
+	 * @param entityClass the parametrized type of the returned {@link List}.
+	 * @param collectionName name of the collection to retrieve the objects from.
+	 * @return
+	 */
+	<T> ListenableFuture<List<T>> find(Query query, Class<T> entityClass, String collectionName);
+
+	/**
+	 * Map the results of an ad-hoc query on the collection for the entity class to a single instance of an object of
+	 * the specified type. The future is completed with {@literal null} if there is no matching document.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass the parametrized type of the result.
+	 * @return
+	 */
+	<T> ListenableFuture<T> findOne(Query query, Class<T> entityClass);
+
+	/**
+	 * Map the results of an ad-hoc query on the specified collection to a single instance of an object of the specified
+	 * type. The future is completed with {@literal null} if there is no matching document.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass the parametrized type of the result.
+	 * @param collectionName name of the collection to retrieve the objects from.
+	 * @return
+	 */
+	<T> ListenableFuture<T> findOne(Query query, Class<T> entityClass, String collectionName);
+
+	/**
+	 * Returns the document with the given id mapped onto the given class. The future is completed with {@literal null}
+	 * if there is no such document.
+	 *
+	 * @param id the id of the document to return.
+	 * @param entityClass the type the document shall be converted into.
+	 * @return
+	 */
+	<T> ListenableFuture<T> findById(Object id, Class<T> entityClass);
+
+	/**
+	 * Returns the document with the given id from the given collection mapped onto the given class. The future is
+	 * completed with {@literal null} if there is no such document.
+	 *
+	 * @param id the id of the document to return.
+	 * @param entityClass the type to convert the document to.
+	 * @param collectionName the collection to query for the document.
+	 * @return
+	 */
+	<T> ListenableFuture<T> findById(Object id, Class<T> entityClass, String collectionName);
+
+	/**
+	 * Returns the number of documents for the given {@link Query} by querying the collection of the given entity class.
+	 *
+	 * @param query
+	 * @param entityClass must not be {@literal null}.
+	 * @return
+	 */
+	ListenableFuture<Long> count(Query query, Class<?> entityClass);
+
+	/**
+	 * Returns the number of documents for the given {@link Query} querying the given collection.
+	 *
+	 * @param query
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @return
+	 */
+	ListenableFuture<Long> count(Query query, String collectionName);
+
+	/**
+	 * Execute an aggregation operation on the collection of the input type of the given {@link TypedAggregation}.
+	 *
+	 * @param aggregation the {@link TypedAggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @param outputType the parametrized type of the returned {@link AggregationResults}, must not be {@literal null}.
+	 * @return
+	 */
+	<O> ListenableFuture<AggregationResults<O>> aggregate(TypedAggregation<?> aggregation, Class<O> outputType);
+
+	/**
+	 * Execute an aggregation operation on the given collection.
+	 *
+	 * @param aggregation the {@link Aggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @param collectionName the collection to aggregate, must not be {@literal null} or empty.
+	 * @param outputType the parametrized type of the returned {@link AggregationResults}, must not be {@literal null}.
+	 * @return
+	 */
+	<O> ListenableFuture<AggregationResults<O>> aggregate(Aggregation aggregation, String collectionName,
+			Class<O> outputType);
+
+	/**
+	 * Inserts the given object into the collection for its type. The future is completed with the inserted object.
+	 *
+	 * @param objectToSave the object to store in the collection, must not be {@literal null}.
+	 * @return
+	 */
+	<T> ListenableFuture<T> insert(T objectToSave);
+
+	/**
+	 * Inserts the given object into the given collection. The future is completed with the inserted object.
+	 *
+	 * @param objectToSave the object to store in the collection, must not be {@literal null}.
+	 * @param collectionName name of the collection to store the object in.
+	 * @return
+	 */
+	<T> ListenableFuture<T> insert(T objectToSave, String collectionName);
+
+	/**
+	 * Saves the given object into the collection for its type, i.e. inserts or updates it depending on its identifier.
+	 * The future is completed with the saved object.
+	 *
+	 * @param objectToSave the object to store in the collection, must not be {@literal null}.
+	 * @return
+	 */
+	<T> ListenableFuture<T> save(T objectToSave);
+
+	/**
+	 * Saves the given object into the given collection. The future is completed with the saved object.
+	 *
+	 * @param objectToSave the object to store in the collection, must not be {@literal null}.
+	 * @param collectionName name of the collection to store the object in.
+	 * @return
+	 */
+	<T> ListenableFuture<T> save(T objectToSave, String collectionName);
+
+	/**
+	 * Updates the first object found by the given {@link Query} in the collection of the given entity class.
+	 *
+	 * @param query the query document that specifies the criteria used to select a record to be updated.
+	 * @param update the update document that contains the updated object or $ operators to manipulate the existing
+	 *          object.
+	 * @param entityClass class that determines the collection to use.
+	 * @return
+	 */
+	ListenableFuture<WriteResult> updateFirst(Query query, Update update, Class<?> entityClass);
+
+	/**
+	 * Updates the first object found by the given {@link Query} in the given collection.
+	 *
+	 * @param query the query document that specifies the criteria used to select a record to be updated.
+	 * @param update the update document that contains the updated object or $ operators to manipulate the existing
+	 *          object.
+	 * @param collectionName name of the collection to update the object in.
+	 * @return
+	 */
+	ListenableFuture<WriteResult> updateFirst(Query query, Update update, String collectionName);
+
+	/**
+	 * Updates all objects found by the given {@link Query} in the collection of the given entity class.
+	 *
+	 * @param query the query document that specifies the criteria used to select the records to be updated.
+	 * @param update the update document that contains the updated object or $ operators to manipulate the existing
+	 *          objects.
+	 * @param entityClass class that determines the collection to use.
+	 * @return
+	 */
+	ListenableFuture<WriteResult> updateMulti(Query query, Update update, Class<?> entityClass);
+
+	/**
+	 * Updates all objects found by the given {@link Query} in the given collection.
+	 *
+	 * @param query the query document that specifies the criteria used to select the records to be updated.
+	 * @param update the update document that contains the updated object or $ operators to manipulate the existing
+	 *          objects.
+	 * @param collectionName name of the collection to update the objects in.
+	 * @return
+	 */
+	ListenableFuture<WriteResult> updateMulti(Query query, Update update, String collectionName);
+
+	/**
+	 * Performs an upsert on the collection of the given entity class.
+	 *
+	 * @param query the query document that specifies the criteria used to select a record to be upserted.
+	 * @param update the update document that contains the updated object or $ operators to manipulate the existing
+	 *          object.
+	 * @param entityClass class that determines the collection to use.
+	 * @return
+	 */
+	ListenableFuture<WriteResult> upsert(Query query, Update update, Class<?> entityClass);
+
+	/**
+	 * Removes the given object from the collection for its type.
+	 *
+	 * @param object must not be {@literal null}.
+	 * @return
+	 */
+	ListenableFuture<WriteResult> remove(Object object);
+
+	/**
+	 * Removes all documents matching the given {@link Query} from the collection of the given entity class.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass class that determines the collection to use.
+	 * @return
+	 */
+	ListenableFuture<WriteResult> remove(Query query, Class<?> entityClass);
+
+	/**
+	 * Removes all documents matching the given {@link Query} from the given collection.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param collectionName name of the collection to remove the documents from.
+	 * @return
+	 */
+	ListenableFuture<WriteResult> remove(Query query, String collectionName);
+}
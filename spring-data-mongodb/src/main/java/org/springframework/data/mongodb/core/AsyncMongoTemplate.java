@@ -0,0 +1,479 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import com.mongodb.WriteResult;
+
+/**
+ * {@link AsyncMongoOperations} implementation executing the operations of a {@link MongoOperations} on a
+ * {@link CollectionFairExecutor}. As the operations are executed by the {@link MongoOperations}, mapping and exception
+ * translation are the same as for blocking usage, i.e. the returned futures fail with the
+ * {@link org.springframework.dao.DataAccessException} the {@link MongoOperations} would have thrown.
+ *
+ * @since 1.10
+ */
+public class AsyncMongoTemplate implements AsyncMongoOperations {
+
+	private final MongoOperations operations;
+	private final CollectionFairExecutor executor;
+
+	/**
+	 * Creates a new {@link AsyncMongoTemplate} for the given {@link MongoOperations} executing operations on the given
+	 * {@link CollectionFairExecutor}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 */
+	public AsyncMongoTemplate(MongoOperations operations, CollectionFairExecutor executor) {
+
+		Assert.notNull(operations, "MongoOperations must not be null!");
+		Assert.notNull(executor, "CollectionFairExecutor must not be null!");
+
+		this.operations = operations;
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the {@link CollectionFairExecutor} the operations are executed on, e.g. to inspect queue depths and
+	 * rejections.
+	 *
+	 * @return
+	 */
+	public CollectionFairExecutor getExecutor() {
+		return executor;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#getConverter()
+	 */
+	@Override
+	public MongoConverter getConverter() {
+		return operations.getConverter();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#find(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public <T> ListenableFuture<List<T>> find(final Query query, final Class<T> entityClass) {
+
+		return submit(getCollectionName(entityClass), new Callable<List<T>>() {
+
+			@Override
+			public List<T> call() throws Exception {
+				return operations.find(query, entityClass);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#find(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.lang.String)
+	 */
+	@Override
+	public <T> ListenableFuture<List<T>> find(final Query query, final Class<T> entityClass,
+			final String collectionName) {
+
+		return submit(collectionName, new Callable<List<T>>() {
+
+			@Override
+			public List<T> call() throws Exception {
+				return operations.find(query, entityClass, collectionName);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#findOne(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public <T> ListenableFuture<T> findOne(final Query query, final Class<T> entityClass) {
+
+		return submit(getCollectionName(entityClass), new Callable<T>() {
+
+			@Override
+			public T call() throws Exception {
+				return operations.findOne(query, entityClass);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#findOne(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.lang.String)
+	 */
+	@Override
+	public <T> ListenableFuture<T> findOne(final Query query, final Class<T> entityClass, final String collectionName) {
+
+		return submit(collectionName, new Callable<T>() {
+
+			@Override
+			public T call() throws Exception {
+				return operations.findOne(query, entityClass, collectionName);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#findById(java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	public <T> ListenableFuture<T> findById(final Object id, final Class<T> entityClass) {
+
+		return submit(getCollectionName(entityClass), new Callable<T>() {
+
+			@Override
+			public T call() throws Exception {
+				return operations.findById(id, entityClass);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#findById(java.lang.Object, java.lang.Class, java.lang.String)
+	 */
+	@Override
+	public <T> ListenableFuture<T> findById(final Object id, final Class<T> entityClass, final String collectionName) {
+
+		return submit(collectionName, new Callable<T>() {
+
+			@Override
+			public T call() throws Exception {
+				return operations.findById(id, entityClass, collectionName);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#count(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public ListenableFuture<Long> count(final Query query, final Class<?> entityClass) {
+
+		return submit(getCollectionName(entityClass), new Callable<Long>() {
+
+			@Override
+			public Long call() throws Exception {
+				return operations.count(query, entityClass);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#count(org.springframework.data.mongodb.core.query.Query, java.lang.String)
+	 */
+	@Override
+	public ListenableFuture<Long> count(final Query query, final String collectionName) {
+
+		return submit(collectionName, new Callable<Long>() {
+
+			@Override
+			public Long call() throws Exception {
+				return operations.count(query, collectionName);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#aggregate(org.springframework.data.mongodb.core.aggregation.TypedAggregation, java.lang.Class)
+	 */
+	@Override
+	public <O> ListenableFuture<AggregationResults<O>> aggregate(final TypedAggregation<?> aggregation,
+			final Class<O> outputType) {
+
+		return submit(getCollectionName(aggregation.getInputType()), new Callable<AggregationResults<O>>() {
+
+			@Override
+			public AggregationResults<O> call() throws Exception {
+				return operations.aggregate(aggregation, outputType);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#aggregate(org.springframework.data.mongodb.core.aggregation.Aggregation, java.lang.String, java.lang.Class)
+	 */
+	@Override
+	public <O> ListenableFuture<AggregationResults<O>> aggregate(final Aggregation aggregation,
+			final String collectionName, final Class<O> outputType) {
+
+		return submit(collectionName, new Callable<AggregationResults<O>>() {
+
+			@Override
+			public AggregationResults<O> call() throws Exception {
+				return operations.aggregate(aggregation, collectionName, outputType);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#insert(java.lang.Object)
+	 */
+	@Override
+	public <T> ListenableFuture<T> insert(final T objectToSave) {
+
+		return submit(getEntityCollectionName(objectToSave), new Callable<T>() {
+
+			@Override
+			public T call() throws Exception {
+
+				operations.insert(objectToSave);
+				return objectToSave;
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#insert(java.lang.Object, java.lang.String)
+	 */
+	@Override
+	public <T> ListenableFuture<T> insert(final T objectToSave, final String collectionName) {
+
+		return submit(collectionName, new Callable<T>() {
+
+			@Override
+			public T call() throws Exception {
+
+				operations.insert(objectToSave, collectionName);
+				return objectToSave;
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#save(java.lang.Object)
+	 */
+	@Override
+	public <T> ListenableFuture<T> save(final T objectToSave) {
+
+		return submit(getEntityCollectionName(objectToSave), new Callable<T>() {
+
+			@Override
+			public T call() throws Exception {
+
+				operations.save(objectToSave);
+				return objectToSave;
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#save(java.lang.Object, java.lang.String)
+	 */
+	@Override
+	public <T> ListenableFuture<T> save(final T objectToSave, final String collectionName) {
+
+		return submit(collectionName, new Callable<T>() {
+
+			@Override
+			public T call() throws Exception {
+
+				operations.save(objectToSave, collectionName);
+				return objectToSave;
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#updateFirst(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update, java.lang.Class)
+	 */
+	@Override
+	public ListenableFuture<WriteResult> updateFirst(final Query query, final Update update,
+			final Class<?> entityClass) {
+
+		return submit(getCollectionName(entityClass), new Callable<WriteResult>() {
+
+			@Override
+			public WriteResult call() throws Exception {
+				return operations.updateFirst(query, update, entityClass);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#updateFirst(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update, java.lang.String)
+	 */
+	@Override
+	public ListenableFuture<WriteResult> updateFirst(final Query query, final Update update,
+			final String collectionName) {
+
+		return submit(collectionName, new Callable<WriteResult>() {
+
+			@Override
+			public WriteResult call() throws Exception {
+				return operations.updateFirst(query, update, collectionName);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#updateMulti(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update, java.lang.Class)
+	 */
+	@Override
+	public ListenableFuture<WriteResult> updateMulti(final Query query, final Update update,
+			final Class<?> entityClass) {
+
+		return submit(getCollectionName(entityClass), new Callable<WriteResult>() {
+
+			@Override
+			public WriteResult call() throws Exception {
+				return operations.updateMulti(query, update, entityClass);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#updateMulti(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update, java.lang.String)
+	 */
+	@Override
+	public ListenableFuture<WriteResult> updateMulti(final Query query, final Update update,
+			final String collectionName) {
+
+		return submit(collectionName, new Callable<WriteResult>() {
+
+			@Override
+			public WriteResult call() throws Exception {
+				return operations.updateMulti(query, update, collectionName);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#upsert(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update, java.lang.Class)
+	 */
+	@Override
+	public ListenableFuture<WriteResult> upsert(final Query query, final Update update, final Class<?> entityClass) {
+
+		return submit(getCollectionName(entityClass), new Callable<WriteResult>() {
+
+			@Override
+			public WriteResult call() throws Exception {
+				return operations.upsert(query, update, entityClass);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#remove(java.lang.Object)
+	 */
+	@Override
+	public ListenableFuture<WriteResult> remove(final Object object) {
+
+		return submit(getEntityCollectionName(object), new Callable<WriteResult>() {
+
+			@Override
+			public WriteResult call() throws Exception {
+				return operations.remove(object);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#remove(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public ListenableFuture<WriteResult> remove(final Query query, final Class<?> entityClass) {
+
+		return submit(getCollectionName(entityClass), new Callable<WriteResult>() {
+
+			@Override
+			public WriteResult call() throws Exception {
+				return operations.remove(query, entityClass);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#remove(org.springframework.data.mongodb.core.query.Query, java.lang.String)
+	 */
+	@Override
+	public ListenableFuture<WriteResult> remove(final Query query, final String collectionName) {
+
+		return submit(collectionName, new Callable<WriteResult>() {
+
+			@Override
+			public WriteResult call() throws Exception {
+				return operations.remove(query, collectionName);
+			}
+		});
+	}
+
+	private <T> ListenableFuture<T> submit(String collectionName, Callable<T> callable) {
+		return executor.submit(collectionName, callable);
+	}
+
+	private String getCollectionName(Class<?> entityClass) {
+
+		Assert.notNull(entityClass, "Entity class must not be null!");
+
+		return operations.getCollectionName(entityClass);
+	}
+
+	/**
+	 * Returns the name of the collection the given object will be stored in. Falls back to the name of the type for
+	 * objects without mapping information, e.g. {@link com.mongodb.DBObject}s, as the name is only used to queue the
+	 * operation and the operation itself will report the actual problem.
+	 *
+	 * @param object must not be {@literal null}.
+	 * @return
+	 */
+	private String getEntityCollectionName(Object object) {
+
+		Assert.notNull(object, "Object must not be null!");
+
+		Class<?> type = ClassUtils.getUserClass(object);
+
+		try {
+			return operations.getCollectionName(type);
+		} catch (RuntimeException o_O) {
+			return type.getName();
+		}
+	}
+}
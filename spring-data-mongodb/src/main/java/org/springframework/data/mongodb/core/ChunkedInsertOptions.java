@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for chunked inserts via {@link MongoOperations#insertChunked(java.util.Iterator, String, ChunkedInsertOptions)}
+ * . A chunk is closed as soon as it either contains {@link #getMaxDocuments()} documents or the estimated BSON size of
+ * its documents reaches {@link #getMaxBytes()}. If an {@link Executor} is configured, chunks are written on it so that
+ * the conversion of the next chunk overlaps with writing the current one.
+ * 
+ * @since 1.10
+ */
+public class ChunkedInsertOptions {
+
+	private static final int DEFAULT_MAX_DOCUMENTS = 1000;
+	private static final long DEFAULT_MAX_BYTES = 8 * 1024 * 1024;
+
+	private int maxDocuments = DEFAULT_MAX_DOCUMENTS;
+	private long maxBytes = DEFAULT_MAX_BYTES;
+	private Executor executor;
+
+	/**
+	 * Static factory method to create a {@link ChunkedInsertOptions} instance.
+	 * 
+	 * @return a new instance
+	 */
+	public static ChunkedInsertOptions options() {
+		return new ChunkedInsertOptions();
+	}
+
+	/**
+	 * Configures the maximum number of documents per chunk. Defaults to {@value #DEFAULT_MAX_DOCUMENTS}.
+	 * 
+	 * @param maxDocuments must be greater than zero.
+	 * @return
+	 */
+	public ChunkedInsertOptions maxDocuments(int maxDocuments) {
+
+		Assert.isTrue(maxDocuments > 0, "Maximum number of documents must be greater than zero!");
+
+		this.maxDocuments = maxDocuments;
+		return this;
+	}
+
+	/**
+	 * Configures the maximum estimated BSON size of a chunk in bytes. Defaults to 8 MB.
+	 * 
+	 * @param maxBytes must be greater than zero.
+	 * @return
+	 */
+	public ChunkedInsertOptions maxBytes(long maxBytes) {
+
+		Assert.isTrue(maxBytes > 0, "Maximum number of bytes must be greater than zero!");
+
+		this.maxBytes = maxBytes;
+		return this;
+	}
+
+	/**
+	 * Configures the {@link Executor} to write chunks on. Setting {@literal null} writes chunks on the calling thread.
+	 * 
+	 * @param executor can be {@literal null}.
+	 * @return
+	 */
+	public ChunkedInsertOptions executor(Executor executor) {
+
+		this.executor = executor;
+		return this;
+	}
+
+	public int getMaxDocuments() {
+		return maxDocuments;
+	}
+
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	public Executor getExecutor() {
+		return executor;
+	}
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureTask;
+
+/**
+ * Executes tasks for MongoDB collections with a bounded number of concurrently running tasks. Pending tasks are queued
+ * per collection and the queues are served round robin, so that a burst of operations against one collection does not
+ * delay the operations against other collections. Submissions exceeding the maximum queue depth of a collection are
+ * rejected with a {@link TaskRejectedException} and counted.
+ *
+ * @since 1.10
+ * @see AsyncMongoTemplate
+ */
+public class CollectionFairExecutor {
+
+	private static final int DEFAULT_MAX_QUEUE_DEPTH = 1000;
+
+	private final Executor executor;
+	private final int concurrency;
+	private final int maxQueueDepth;
+
+	private final ConcurrentMap<String, CollectionQueue> queues = new ConcurrentHashMap<String, CollectionQueue>();
+	private final Queue<CollectionQueue> ready = new ConcurrentLinkedQueue<CollectionQueue>();
+	private final AtomicInteger activeWorkers = new AtomicInteger();
+	private final AtomicLong rejected = new AtomicLong();
+
+	/**
+	 * Creates a new {@link CollectionFairExecutor} running at most the given number of tasks concurrently on the given
+	 * {@link Executor} and queueing up to {@value #DEFAULT_MAX_QUEUE_DEPTH} tasks per collection.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @param concurrency must be greater than zero.
+	 */
+	public CollectionFairExecutor(Executor executor, int concurrency) {
+		this(executor, concurrency, DEFAULT_MAX_QUEUE_DEPTH);
+	}
+
+	/**
+	 * Creates a new {@link CollectionFairExecutor} running at most the given number of tasks concurrently on the given
+	 * {@link Executor} and queueing up to the given number of tasks per collection.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @param concurrency must be greater than zero.
+	 * @param maxQueueDepth must be greater than zero.
+	 */
+	public CollectionFairExecutor(Executor executor, int concurrency, int maxQueueDepth) {
+
+		Assert.notNull(executor, "Executor must not be null!");
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero!");
+		Assert.isTrue(maxQueueDepth > 0, "Maximum queue depth must be greater than zero!");
+
+		this.executor = executor;
+		this.concurrency = concurrency;
+		this.maxQueueDepth = maxQueueDepth;
+	}
+
+	/**
+	 * Submits the given {@link Callable} operating on the given collection.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param callable must not be {@literal null}.
+	 * @return the {@link ListenableFuture} completed with the result of the {@link Callable}.
+	 * @throws TaskRejectedException in case the queue of the collection is full or the {@link Executor} did not accept
+	 *           the task.
+	 */
+	public <T> ListenableFuture<T> submit(String collectionName, Callable<T> callable) {
+
+		Assert.notNull(collectionName, "Collection name must not be null!");
+		Assert.notNull(callable, "Callable must not be null!");
+
+		CollectionQueue queue = getQueue(collectionName);
+		ListenableFutureTask<T> task = new ListenableFutureTask<T>(callable);
+
+		if (!queue.offer(task)) {
+
+			queue.rejected.incrementAndGet();
+			rejected.incrementAndGet();
+
+			throw new TaskRejectedException(String.format("Maximum queue depth of %s reached for collection %s!",
+					maxQueueDepth, collectionName));
+		}
+
+		queue.schedule();
+
+		if (!acquireWorker()) {
+			return task;
+		}
+
+		try {
+			executor.execute(new Worker());
+		} catch (RejectedExecutionException o_O) {
+
+			activeWorkers.decrementAndGet();
+
+			if (queue.remove(task)) {
+
+				queue.rejected.incrementAndGet();
+				rejected.incrementAndGet();
+
+				throw new TaskRejectedException(
+						String.format("Executor %s did not accept task for collection %s!", executor, collectionName),
+						o_O);
+			}
+		}
+
+		return task;
+	}
+
+	/**
+	 * Returns the number of tasks currently waiting for execution.
+	 *
+	 * @return
+	 */
+	public int getQueueDepth() {
+
+		int depth = 0;
+
+		for (CollectionQueue queue : queues.values()) {
+			depth += queue.size.get();
+		}
+
+		return depth;
+	}
+
+	/**
+	 * Returns the number of tasks currently waiting for execution against the given collection.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @return
+	 */
+	public int getQueueDepth(String collectionName) {
+
+		CollectionQueue queue = queues.get(collectionName);
+		return queue == null ? 0 : queue.size.get();
+	}
+
+	/**
+	 * Returns the total number of rejected tasks.
+	 *
+	 * @return
+	 */
+	public long getRejectedCount() {
+		return rejected.get();
+	}
+
+	/**
+	 * Returns the number of rejected tasks for the given collection.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @return
+	 */
+	public long getRejectedCount(String collectionName) {
+
+		CollectionQueue queue = queues.get(collectionName);
+		return queue == null ? 0 : queue.rejected.get();
+	}
+
+	/**
+	 * Returns the number of workers currently executing tasks.
+	 *
+	 * @return
+	 */
+	public int getActiveCount() {
+		return activeWorkers.get();
+	}
+
+	private CollectionQueue getQueue(String collectionName) {
+
+		CollectionQueue queue = queues.get(collectionName);
+
+		if (queue != null) {
+			return queue;
+		}
+
+		queue = new CollectionQueue();
+		CollectionQueue existing = queues.putIfAbsent(collectionName, queue);
+
+		return existing == null ? queue : existing;
+	}
+
+	private boolean acquireWorker() {
+
+		for (;;) {
+
+			int current = activeWorkers.get();
+
+			if (current >= concurrency) {
+				return false;
+			}
+
+			if (activeWorkers.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Runs tasks of the collections with pending tasks, one at a time per collection in turn, until there are no
+	 * pending tasks left.
+	 */
+	private class Worker implements Runnable {
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run() {
+
+			do {
+
+				CollectionQueue queue;
+
+				while ((queue = ready.poll()) != null) {
+
+					Runnable task = queue.poll();
+
+					if (task != null) {
+						task.run();
+					}
+				}
+
+				activeWorkers.decrementAndGet();
+
+			} while (!ready.isEmpty() && acquireWorker());
+		}
+	}
+
+	/**
+	 * The pending tasks of a single collection. A {@link CollectionQueue} is contained in the queue of ready
+	 * collections at most once.
+	 */
+	private class CollectionQueue {
+
+		private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<Runnable>();
+		private final AtomicInteger size = new AtomicInteger();
+		private final AtomicLong rejected = new AtomicLong();
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+
+		boolean offer(Runnable task) {
+
+			if (size.incrementAndGet() > maxQueueDepth) {
+				size.decrementAndGet();
+				return false;
+			}
+
+			tasks.offer(task);
+			return true;
+		}
+
+		boolean remove(Runnable task) {
+
+			if (!tasks.remove(task)) {
+				return false;
+			}
+
+			size.decrementAndGet();
+			return true;
+		}
+
+		/**
+		 * Takes the next task and puts the collection back at the end of the ready queue if there are tasks left.
+		 *
+		 * @return
+		 */
+		Runnable poll() {
+
+			Runnable task = tasks.poll();
+
+			if (task != null) {
+				size.decrementAndGet();
+			}
+
+			scheduled.set(false);
+
+			if (!tasks.isEmpty()) {
+				schedule();
+			}
+
+			return task;
+		}
+
+		void schedule() {
+
+			if (scheduled.compareAndSet(false, true)) {
+				ready.offer(this);
+			}
+		}
+	}
+}
@@ -50,8 +50,10 @@ class DefaultBulkOperations implements BulkOperations {
 	private PersistenceExceptionTranslator exceptionTranslator;
 	private WriteConcernResolver writeConcernResolver;
 	private WriteConcern defaultWriteConcern;
+	private EntityCache entityCache;
 
 	private BulkWriteOperation bulk;
+	private boolean modifying;
 
 	/**
 	 * Creates a new {@link DefaultBulkOperations} for the given {@link MongoOperations}, {@link BulkMode}, collection
@@ -108,6 +110,17 @@ class DefaultBulkOperations implements BulkOperations {
 		this.defaultWriteConcern = defaultWriteConcern;
 	}
 
+	/**
+	 * Configures the {@link EntityCache} to evict the documents of the collection from once updates, upserts or
+	 * removals were executed. Defaults to {@literal null}.
+	 * 
+	 * @param entityCache can be {@literal null}.
+	 * @since 1.10
+	 */
+	public void setEntityCache(EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.core.BulkOperations#insert(java.lang.Object)
@@ -230,6 +243,7 @@ class DefaultBulkOperations implements BulkOperations {
 		Assert.notNull(query, "Query must not be null!");
 
 		bulk.find(query.getQueryObject()).remove();
+		modifying = true;
 
 		return this;
 	}
@@ -271,7 +285,14 @@ class DefaultBulkOperations implements BulkOperations {
 			throw toThrow == null ? o_O : toThrow;
 
 		} finally {
+
+			// documents might have been modified even if the bulk failed
+			if (modifying && entityCache != null) {
+				entityCache.evictAll(collectionName);
+			}
+
 			this.bulk = initBulkOperation();
+			this.modifying = false;
 		}
 	}
 
@@ -308,6 +329,8 @@ class DefaultBulkOperations implements BulkOperations {
 			}
 		}
 
+		modifying = true;
+
 		return this;
 	}
 
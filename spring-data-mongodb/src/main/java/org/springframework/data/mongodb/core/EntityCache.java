@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import com.mongodb.DBObject;
+
+/**
+ * A second level cache for documents looked up by id through {@link MongoTemplate#findById(Object, Class, String)}.
+ * Only documents of types annotated with {@link org.springframework.data.mongodb.core.mapping.Cached} are cached.
+ * Documents are held in their raw form and converted on every access. {@link MongoTemplate} only hands copies of the
+ * documents read to the cache and converts copies of the cached ones, so that neither event listeners nor the converter
+ * can modify cached entries. Every eviction changes the version of the collection's entries, so that a document read
+ * before a concurrent write is not cached after the write evicted it. Implementations have to be thread-safe.
+ * 
+ * @since 1.10
+ * @see InMemoryEntityCache
+ */
+public interface EntityCache {
+
+	/**
+	 * Returns the document cached for the given collection and id.
+	 * 
+	 * @param collectionName will never be {@literal null}.
+	 * @param id the mapped identifier, will never be {@literal null}.
+	 * @return the cached document or {@literal null} if none is cached.
+	 */
+	DBObject get(String collectionName, Object id);
+
+	/**
+	 * Returns the current version of the entries of the given collection. The version has to change whenever documents
+	 * of the collection are evicted.
+	 * 
+	 * @param collectionName will never be {@literal null}.
+	 * @return
+	 */
+	long getVersion(String collectionName);
+
+	/**
+	 * Caches the given document unless documents of the collection were evicted since the given version was obtained via
+	 * {@link #getVersion(String)}.
+	 * 
+	 * @param collectionName will never be {@literal null}.
+	 * @param id the mapped identifier, will never be {@literal null}.
+	 * @param document will never be {@literal null}.
+	 * @param version the version obtained before the document was read.
+	 */
+	void put(String collectionName, Object id, DBObject document, long version);
+
+	/**
+	 * Removes the document with the given id from the cache.
+	 * 
+	 * @param collectionName will never be {@literal null}.
+	 * @param id the mapped identifier, will never be {@literal null}.
+	 */
+	void evict(String collectionName, Object id);
+
+	/**
+	 * Removes all documents of the given collection from the cache.
+	 * 
+	 * @param collectionName will never be {@literal null}.
+	 */
+	void evictAll(String collectionName);
+}
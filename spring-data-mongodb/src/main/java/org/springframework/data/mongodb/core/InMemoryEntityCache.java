@@ -0,0 +1,231 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.mongodb.DBObject;
+
+/**
+ * {@link EntityCache} keeping documents in memory. The number of cached documents is bounded, the least recently used
+ * ones are evicted first. Documents expire after a configurable time to live.
+ * 
+ * @since 1.10
+ */
+public class InMemoryEntityCache implements EntityCache {
+
+	private final Map<CacheKey, CacheEntry> entries;
+	private final Map<String, Long> versions = new HashMap<String, Long>();
+	private final long timeToLiveNanos;
+
+	private long hits;
+	private long misses;
+
+	/**
+	 * Creates a new {@link InMemoryEntityCache} holding at most the given number of documents for the given time.
+	 * 
+	 * @param maxSize must be greater than zero.
+	 * @param timeToLive must be greater than zero.
+	 * @param unit must not be {@literal null}.
+	 */
+	public InMemoryEntityCache(final int maxSize, long timeToLive, TimeUnit unit) {
+
+		Assert.isTrue(maxSize > 0, "Maximum size must be greater than zero!");
+		Assert.isTrue(timeToLive > 0, "Time to live must be greater than zero!");
+		Assert.notNull(unit, "TimeUnit must not be null!");
+
+		this.timeToLiveNanos = unit.toNanos(timeToLive);
+		this.entries = new LinkedHashMap<CacheKey, CacheEntry>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.EntityCache#get(java.lang.String, java.lang.Object)
+	 */
+	@Override
+	public synchronized DBObject get(String collectionName, Object id) {
+
+		CacheKey key = new CacheKey(collectionName, id);
+		CacheEntry entry = entries.get(key);
+
+		if (entry != null && entry.isExpired(System.nanoTime())) {
+			entries.remove(key);
+			entry = null;
+		}
+
+		if (entry == null) {
+			misses++;
+			return null;
+		}
+
+		hits++;
+		return entry.document;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.EntityCache#getVersion(java.lang.String)
+	 */
+	@Override
+	public synchronized long getVersion(String collectionName) {
+
+		Long version = versions.get(collectionName);
+		return version == null ? 0 : version;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.EntityCache#put(java.lang.String, java.lang.Object, com.mongodb.DBObject, long)
+	 */
+	@Override
+	public synchronized void put(String collectionName, Object id, DBObject document, long version) {
+
+		if (version != getVersion(collectionName)) {
+			return;
+		}
+
+		entries.put(new CacheKey(collectionName, id), new CacheEntry(document, System.nanoTime() + timeToLiveNanos));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.EntityCache#evict(java.lang.String, java.lang.Object)
+	 */
+	@Override
+	public synchronized void evict(String collectionName, Object id) {
+
+		versions.put(collectionName, getVersion(collectionName) + 1);
+		entries.remove(new CacheKey(collectionName, id));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.EntityCache#evictAll(java.lang.String)
+	 */
+	@Override
+	public synchronized void evictAll(String collectionName) {
+
+		versions.put(collectionName, getVersion(collectionName) + 1);
+
+		Iterator<CacheKey> keys = entries.keySet().iterator();
+
+		while (keys.hasNext()) {
+			if (keys.next().collectionName.equals(collectionName)) {
+				keys.remove();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of documents currently cached, including expired ones not evicted yet.
+	 * 
+	 * @return
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Returns the number of lookups that were answered from the cache.
+	 * 
+	 * @return
+	 */
+	public synchronized long getHitCount() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of lookups that could not be answered from the cache.
+	 * 
+	 * @return
+	 */
+	public synchronized long getMissCount() {
+		return misses;
+	}
+
+	private static class CacheEntry {
+
+		private final DBObject document;
+		private final long expiresAt;
+
+		CacheEntry(DBObject document, long expiresAt) {
+
+			this.document = document;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired(long now) {
+			return now - expiresAt >= 0;
+		}
+	}
+
+	private static class CacheKey {
+
+		private final String collectionName;
+		private final Object id;
+
+		CacheKey(String collectionName, Object id) {
+
+			this.collectionName = collectionName;
+			this.id = id;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+
+			CacheKey that = (CacheKey) obj;
+
+			return ObjectUtils.nullSafeEquals(this.collectionName, that.collectionName)
+					&& ObjectUtils.nullSafeEquals(this.id, that.id);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * ObjectUtils.nullSafeHashCode(collectionName) + ObjectUtils.nullSafeHashCode(id);
+		}
+	}
+}
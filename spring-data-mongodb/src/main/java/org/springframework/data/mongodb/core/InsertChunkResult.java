@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Value object to capture the outcome of writing a single chunk of a chunked insert.
+ * 
+ * @since 1.10
+ * @see MongoOperations#insertChunked(java.util.Iterator, String, ChunkedInsertOptions)
+ */
+public class InsertChunkResult {
+
+	private final int index;
+	private final long estimatedBytes;
+	private final List<Object> ids;
+
+	/**
+	 * Creates a new {@link InsertChunkResult}.
+	 * 
+	 * @param index the zero-based index of the chunk.
+	 * @param estimatedBytes the estimated BSON size of the chunk.
+	 * @param ids the ids of the inserted documents in insertion order, must not be {@literal null}.
+	 */
+	public InsertChunkResult(int index, long estimatedBytes, List<Object> ids) {
+
+		this.index = index;
+		this.estimatedBytes = estimatedBytes;
+		this.ids = Collections.unmodifiableList(ids);
+	}
+
+	/**
+	 * Returns the zero-based index of the chunk.
+	 * 
+	 * @return
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Returns the number of documents inserted with the chunk.
+	 * 
+	 * @return
+	 */
+	public int getCount() {
+		return ids.size();
+	}
+
+	/**
+	 * Returns the estimated BSON size of the chunk in bytes.
+	 * 
+	 * @return
+	 */
+	public long getEstimatedBytes() {
+		return estimatedBytes;
+	}
+
+	/**
+	 * Returns the ids of the documents inserted with the chunk in insertion order.
+	 * 
+	 * @return will never be {@literal null}.
+	 */
+	public List<Object> getIds() {
+		return ids;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("InsertChunkResult [index=%s, count=%s, estimatedBytes=%s]", index, getCount(),
+				estimatedBytes);
+	}
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link Publisher} emitting the elements of an {@link Iterator} obtained from a potentially blocking
+ * {@link Callable} for every {@link Subscriber}. Obtaining the {@link Iterator} as well as iterating it is performed
+ * on the given {@link Executor} and only as far as demanded by the {@link Subscriber}, so that neither the subscribing
+ * thread nor the threads requesting elements are blocked. A {@link CloseableIterator} is closed once it is drained,
+ * iterating it failed or the {@link Subscription} got cancelled.
+ *
+ * @since 1.10
+ */
+class IteratorPublisher<T> implements Publisher<T> {
+
+	private final Callable<? extends Iterator<? extends T>> source;
+	private final Executor executor;
+
+	/**
+	 * Creates a new {@link IteratorPublisher} for the given source of {@link Iterator}s and {@link Executor}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 */
+	IteratorPublisher(Callable<? extends Iterator<? extends T>> source, Executor executor) {
+
+		Assert.notNull(source, "Source must not be null!");
+		Assert.notNull(executor, "Executor must not be null!");
+
+		this.source = source;
+		this.executor = executor;
+	}
+
+	/**
+	 * Creates a new {@link IteratorPublisher} emitting the result of the given {@link Callable} if it is not
+	 * {@literal null}.
+	 *
+	 * @param callable must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @return
+	 */
+	static <T> IteratorPublisher<T> single(final Callable<? extends T> callable, Executor executor) {
+
+		Assert.notNull(callable, "Callable must not be null!");
+
+		return new IteratorPublisher<T>(new Callable<Iterator<T>>() {
+
+			@Override
+			public Iterator<T> call() throws Exception {
+
+				T result = callable.call();
+				return result == null ? Collections.<T> emptyList().iterator() : Collections.singleton(result).iterator();
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.reactivestreams.Publisher#subscribe(org.reactivestreams.Subscriber)
+	 */
+	@Override
+	public void subscribe(Subscriber<? super T> subscriber) {
+
+		if (subscriber == null) {
+			throw new NullPointerException("Subscriber must not be null!");
+		}
+
+		IteratorSubscription<T> subscription = new IteratorSubscription<T>(source, executor, subscriber);
+		subscriber.onSubscribe(subscription);
+	}
+
+	/**
+	 * {@link Subscription} draining the {@link Iterator} on the {@link Executor}. All signals to the {@link Subscriber}
+	 * are sent from a single drain loop at a time, guarded by a work-in-progress counter.
+	 */
+	static class IteratorSubscription<T> implements Subscription, Runnable {
+
+		private final Callable<? extends Iterator<? extends T>> source;
+		private final Executor executor;
+		private final Subscriber<? super T> subscriber;
+
+		private final AtomicLong demand = new AtomicLong();
+		private final AtomicInteger workInProgress = new AtomicInteger();
+
+		private volatile boolean cancelled;
+		private volatile Throwable invalidRequest;
+
+		private Iterator<? extends T> iterator;
+		private boolean done;
+
+		IteratorSubscription(Callable<? extends Iterator<? extends T>> source, Executor executor,
+				Subscriber<? super T> subscriber) {
+
+			this.source = source;
+			this.executor = executor;
+			this.subscriber = subscriber;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.reactivestreams.Subscription#request(long)
+		 */
+		@Override
+		public void request(long n) {
+
+			if (n <= 0) {
+				invalidRequest = new IllegalArgumentException(
+						String.format("Number of requested elements must be positive but was %s!", n));
+			} else {
+
+				long current, next;
+
+				do {
+					current = demand.get();
+					next = current + n < 0 ? Long.MAX_VALUE : current + n;
+				} while (!demand.compareAndSet(current, next));
+			}
+
+			schedule();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.reactivestreams.Subscription#cancel()
+		 */
+		@Override
+		public void cancel() {
+
+			cancelled = true;
+			schedule();
+		}
+
+		private void schedule() {
+
+			if (workInProgress.getAndIncrement() != 0) {
+				return;
+			}
+
+			try {
+				executor.execute(this);
+			} catch (RejectedExecutionException o_O) {
+
+				cancelled = true;
+
+				boolean signal = !done;
+
+				terminate();
+				workInProgress.set(0);
+
+				if (signal) {
+					subscriber.onError(o_O);
+				}
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run() {
+
+			int missed = 1;
+
+			do {
+
+				if (!done) {
+					drain();
+				}
+
+				missed = workInProgress.addAndGet(-missed);
+
+			} while (missed != 0);
+		}
+
+		private void drain() {
+
+			if (cancelled) {
+				terminate();
+				return;
+			}
+
+			if (invalidRequest != null) {
+				terminate();
+				subscriber.onError(invalidRequest);
+				return;
+			}
+
+			long requested = demand.get();
+			long emitted = 0;
+
+			while (true) {
+
+				if (cancelled) {
+					terminate();
+					return;
+				}
+
+				T element = null;
+				boolean hasNext;
+
+				try {
+
+					if (iterator == null) {
+						iterator = source.call();
+					}
+
+					hasNext = iterator.hasNext();
+
+					if (hasNext && emitted != requested) {
+						element = iterator.next();
+					}
+
+				} catch (Exception e) {
+
+					terminate();
+					subscriber.onError(e);
+					return;
+				}
+
+				if (!hasNext) {
+					terminate();
+					subscriber.onComplete();
+					return;
+				}
+
+				if (emitted == requested) {
+					break;
+				}
+
+				emit(element);
+				emitted++;
+			}
+
+			if (requested != Long.MAX_VALUE) {
+				demand.addAndGet(-emitted);
+			}
+		}
+
+		/**
+		 * Hands the given element to the {@link Subscriber}. Exceptions thrown by the {@link Subscriber} are not signalled
+		 * back to it via {@link Subscriber#onError(Throwable)} but propagated after considering the {@link Subscription}
+		 * cancelled and closing the {@link Iterator}.
+		 *
+		 * @param element
+		 */
+		private void emit(T element) {
+
+			boolean delivered = false;
+
+			try {
+				subscriber.onNext(element);
+				delivered = true;
+			} finally {
+
+				if (!delivered) {
+					cancelled = true;
+					terminate();
+				}
+			}
+		}
+
+		private void terminate() {
+
+			done = true;
+
+			if (iterator instanceof CloseableIterator) {
+
+				try {
+					((CloseableIterator<?>) iterator).close();
+				} catch (RuntimeException o_O) {
+					// already terminating
+				}
+			}
+
+			iterator = null;
+		}
+	}
+}
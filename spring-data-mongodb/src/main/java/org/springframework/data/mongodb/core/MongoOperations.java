@@ -16,6 +16,7 @@
 package org.springframework.data.mongodb.core;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
@@ -25,6 +26,7 @@ import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.PreparedQuery;
 import org.springframework.data.mongodb.core.mapreduce.GroupBy;
 import org.springframework.data.mongodb.core.mapreduce.GroupByResults;
 import org.springframework.data.mongodb.core.mapreduce.MapReduceOptions;
@@ -182,6 +184,59 @@ public interface MongoOperations {
 	 */
 	<T> CloseableIterator<T> stream(Query query, Class<T> entityType);
 
+	/**
+	 * Executes the given {@link Query} on the collection with the given name backed by a Mongo DB {@link Cursor}.
+	 * <p>
+	 * Returns a {@link CloseableIterator} that wraps the a Mongo DB {@link Cursor} that needs to be closed.
+	 * 
+	 * @param <T> element return type
+	 * @param query must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @return
+	 * @since 1.10
+	 */
+	<T> CloseableIterator<T> stream(Query query, Class<T> entityType, String collectionName);
+
+	/**
+	 * Executes the given {@link Query} on the collection with the given name backed by a Mongo DB {@link Cursor} read
+	 * in batches as configured by the given {@link StreamOptions}. If the {@link StreamOptions} configure an
+	 * {@link java.util.concurrent.Executor}, the next batches are fetched and converted in the background while the
+	 * current one is consumed. Elements are returned in cursor order either way.
+	 * <p>
+	 * Returns a {@link CloseableIterator} that wraps the a Mongo DB {@link Cursor} that needs to be closed.
+	 * 
+	 * @param <T> element return type
+	 * @param query must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @param options can be {@literal null} to use the defaults.
+	 * @return
+	 * @since 1.10
+	 */
+	<T> CloseableIterator<T> stream(Query query, Class<T> entityType, String collectionName, StreamOptions options);
+
+	/**
+	 * Scans all documents of the given collection matching the given {@link Query} in partitions. The collection is
+	 * split into ranges of {@code _id} values as configured by the given {@link PartitionedScanOptions}, every range is
+	 * read with its own cursor and handed to the given {@link PartitionCallback}. Partitions are scanned concurrently if
+	 * an {@link java.util.concurrent.Executor} is configured. If a partition fails, the remaining ones are skipped and
+	 * the exception is rethrown once all running partitions finished.
+	 * <p>
+	 * The {@link Query} must not define a limit, skip or sort. As ranges only match {@code _id} values of the BSON type
+	 * of their bounds, documents with identifiers of other BSON types are read by an additional residual partition.
+	 * 
+	 * @param query must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @param options can be {@literal null} to use the defaults.
+	 * @param callback must not be {@literal null}.
+	 * @return the total number of documents read.
+	 * @since 1.10
+	 */
+	<T> long scan(Query query, Class<T> entityType, String collectionName, PartitionedScanOptions options,
+			PartitionCallback<T> callback);
+
 	/**
 	 * Create an uncapped collection with a name based on the provided entity class.
 	 * 
@@ -430,6 +485,65 @@ public interface MongoOperations {
 	 */
 	<O> AggregationResults<O> aggregate(Aggregation aggregation, String collectionName, Class<O> outputType);
 
+	/**
+	 * Executes the given {@link TypedAggregation} using an aggregation cursor and returns a {@link CloseableIterator}
+	 * that lazily maps the results to the given output type. The name of the input collection is derived from the input
+	 * type of the aggregation.
+	 * <p>
+	 * Other than {@link #aggregate(TypedAggregation, Class)} the results are neither limited to the maximum document
+	 * size nor held in memory at once. The cursor batch size can be configured via
+	 * {@link org.springframework.data.mongodb.core.aggregation.AggregationOptions.Builder#cursorBatchSize(int)}. The
+	 * returned {@link CloseableIterator} needs to be closed.
+	 * 
+	 * @param aggregation The {@link TypedAggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @param outputType The parameterized type of the returned elements, must not be {@literal null}.
+	 * @return
+	 * @since 1.10
+	 */
+	<O> CloseableIterator<O> aggregateStream(TypedAggregation<?> aggregation, Class<O> outputType);
+
+	/**
+	 * Executes the given {@link TypedAggregation} on the given collection using an aggregation cursor.
+	 * 
+	 * @param aggregation The {@link TypedAggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @param collectionName The name of the input collection to use for the aggreation, must not be {@literal null} or
+	 *          empty.
+	 * @param outputType The parameterized type of the returned elements, must not be {@literal null}.
+	 * @return
+	 * @since 1.10
+	 * @see #aggregateStream(TypedAggregation, Class)
+	 */
+	<O> CloseableIterator<O> aggregateStream(TypedAggregation<?> aggregation, String collectionName, Class<O> outputType);
+
+	/**
+	 * Executes the given {@link Aggregation} on the collection of the given input type using an aggregation cursor.
+	 * 
+	 * @param aggregation The {@link Aggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @param inputType the inputType where the aggregation operation will read from, must not be {@literal null}.
+	 * @param outputType The parameterized type of the returned elements, must not be {@literal null}.
+	 * @return
+	 * @since 1.10
+	 * @see #aggregateStream(TypedAggregation, Class)
+	 */
+	<O> CloseableIterator<O> aggregateStream(Aggregation aggregation, Class<?> inputType, Class<O> outputType);
+
+	/**
+	 * Executes the given {@link Aggregation} on the given collection using an aggregation cursor.
+	 * 
+	 * @param aggregation The {@link Aggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @param collectionName the collection where the aggregation operation will read from, must not be {@literal null} or
+	 *          empty.
+	 * @param outputType The parameterized type of the returned elements, must not be {@literal null}.
+	 * @return
+	 * @since 1.10
+	 * @see #aggregateStream(TypedAggregation, Class)
+	 */
+	<O> CloseableIterator<O> aggregateStream(Aggregation aggregation, String collectionName, Class<O> outputType);
+
 	/**
 	 * Execute a map-reduce operation. The map-reduce operation will be formed with an output type of INLINE
 	 * 
@@ -573,6 +687,18 @@ public interface MongoOperations {
 	 */
 	boolean exists(Query query, Class<?> entityClass, String collectionName);
 
+	/**
+	 * Maps the given {@link Query} against the given entity class once so that it can be executed repeatedly with
+	 * different values for the {@link PreparedQuery#parameter(String) parameters} used within it. The {@link Query}
+	 * returned by {@link PreparedQuery#bind(java.util.Map)} can be handed to all methods taking a {@link Query}.
+	 * 
+	 * @param query must not be {@literal null}.
+	 * @param entityClass the type the query will be executed for, must not be {@literal null}.
+	 * @return the {@link PreparedQuery}.
+	 * @since 1.10
+	 */
+	PreparedQuery prepare(Query query, Class<?> entityClass);
+
 	/**
 	 * Map the results of an ad-hoc query on the collection for the entity class to a List of the specified type.
 	 * <p/>
@@ -805,6 +931,49 @@ public interface MongoOperations {
 	 */
 	void insertAll(Collection<? extends Object> objectsToSave);
 
+	/**
+	 * Inserts the objects provided by the given {@link Iterable} into the collection for the given entity class in
+	 * bounded chunks.
+	 * 
+	 * @param objectsToSave must not be {@literal null}.
+	 * @param entityClass class that determines the collection to use, must not be {@literal null}.
+	 * @param options can be {@literal null} to use the defaults.
+	 * @return the results of the individual chunks in insertion order.
+	 * @since 1.10
+	 * @see #insertChunked(Iterator, String, ChunkedInsertOptions)
+	 */
+	List<InsertChunkResult> insertChunked(Iterable<? extends Object> objectsToSave, Class<?> entityClass,
+			ChunkedInsertOptions options);
+
+	/**
+	 * Inserts the objects provided by the given {@link Iterable} into the specified collection in bounded chunks.
+	 * 
+	 * @param objectsToSave must not be {@literal null}.
+	 * @param collectionName name of the collection to store the objects in, must not be {@literal null} or empty.
+	 * @param options can be {@literal null} to use the defaults.
+	 * @return the results of the individual chunks in insertion order.
+	 * @since 1.10
+	 * @see #insertChunked(Iterator, String, ChunkedInsertOptions)
+	 */
+	List<InsertChunkResult> insertChunked(Iterable<? extends Object> objectsToSave, String collectionName,
+			ChunkedInsertOptions options);
+
+	/**
+	 * Inserts the objects provided by the given {@link Iterator} into the specified collection in bounded chunks. Other
+	 * than {@link #insert(Collection, String)} this only ever holds a single chunk of converted documents (two if an
+	 * {@link java.util.concurrent.Executor} is configured on the {@link ChunkedInsertOptions}) in memory, which allows
+	 * inserting arbitrarily large amounts of objects. Chunks are bounded by number of documents as well as estimated
+	 * BSON size. Ids are populated on the saved objects as with the other insert methods.
+	 * 
+	 * @param objectsToSave must not be {@literal null}.
+	 * @param collectionName name of the collection to store the objects in, must not be {@literal null} or empty.
+	 * @param options can be {@literal null} to use the defaults.
+	 * @return the results of the individual chunks in insertion order.
+	 * @since 1.10
+	 */
+	List<InsertChunkResult> insertChunked(Iterator<? extends Object> objectsToSave, String collectionName,
+			ChunkedInsertOptions options);
+
 	/**
 	 * Save the object to the collection for the entity type of the object to save. This will perform an insert if the
 	 * object is not already present, that is an 'upsert'.
@@ -20,6 +20,7 @@ import static org.springframework.data.mongodb.core.query.SerializationUtils.*;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -28,8 +29,17 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.bson.types.ObjectId;
 import org.slf4j.Logger;
@@ -67,15 +77,18 @@ import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.aggregation.Fields;
 import org.springframework.data.mongodb.core.aggregation.TypeBasedAggregationOperationContext;
 import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.convert.DbRefResolutionScope;
 import org.springframework.data.mongodb.core.convert.DbRefResolver;
 import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoWriter;
+import org.springframework.data.mongodb.core.convert.PreparedQuery;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.convert.UpdateMapper;
 import org.springframework.data.mongodb.core.index.MongoMappingEventPublisher;
 import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexCreator;
+import org.springframework.data.mongodb.core.mapping.Cached;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
@@ -96,6 +109,7 @@ import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.util.DBObjectUtils;
 import org.springframework.data.mongodb.util.MongoClientVersion;
 import org.springframework.data.util.CloseableIterator;
 import org.springframework.jca.cci.core.ConnectionCallback;
@@ -145,6 +159,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 	private static final Logger LOGGER = LoggerFactory.getLogger(MongoTemplate.class);
 	private static final String ID_FIELD = "_id";
 	private static final WriteResultChecking DEFAULT_WRITE_RESULT_CHECKING = WriteResultChecking.NONE;
+	private static final int DEFAULT_PARALLEL_BATCH_CONVERSION_THRESHOLD = 1000;
+	private static final int DEFAULT_BATCH_CONVERSION_CHUNK_SIZE = 250;
 	private static final Collection<String> ITERABLE_CLASSES;
 
 	static {
@@ -171,6 +187,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 	private ApplicationEventPublisher eventPublisher;
 	private ResourceLoader resourceLoader;
 	private MongoPersistentEntityIndexCreator indexCreator;
+	private Executor batchConversionExecutor;
+	private int parallelBatchConversionThreshold = DEFAULT_PARALLEL_BATCH_CONVERSION_THRESHOLD;
+	private int batchConversionChunkSize = DEFAULT_BATCH_CONVERSION_CHUNK_SIZE;
+	private boolean useDbRefResolutionScopes = false;
+	private EntityCache entityCache;
 
 	/**
 	 * Constructor used for a basic template configuration
@@ -271,6 +292,73 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		this.readPreference = readPreference;
 	}
 
+	/**
+	 * Configures the {@link Executor} to convert the elements of batch inserts concurrently. Batches with at least
+	 * {@link #setParallelBatchConversionThreshold(int) threshold} elements are split into chunks that are converted on
+	 * the given {@link Executor}, e.g. a {@link java.util.concurrent.ThreadPoolExecutor} or a {@code ForkJoinPool}.
+	 * {@link BeforeConvertEvent}s and {@link BeforeSaveEvent}s are still published on the calling thread in the order of
+	 * the batch, all {@link BeforeConvertEvent}s before and all {@link BeforeSaveEvent}s after the conversion. The
+	 * calling thread converts the chunks the {@link Executor} did not pick up yet itself, so that the insert also
+	 * completes if it is issued from a thread of the {@link Executor}. Setting {@literal null} disables parallel
+	 * conversion, which is the default.
+	 * 
+	 * @param batchConversionExecutor can be {@literal null}.
+	 * @since 1.10
+	 */
+	public void setBatchConversionExecutor(Executor batchConversionExecutor) {
+		this.batchConversionExecutor = batchConversionExecutor;
+	}
+
+	/**
+	 * Configures the minimum number of elements a batch insert needs to have to be converted in parallel. Defaults to
+	 * {@value #DEFAULT_PARALLEL_BATCH_CONVERSION_THRESHOLD}.
+	 * 
+	 * @param parallelBatchConversionThreshold must be greater than zero.
+	 * @since 1.10
+	 */
+	public void setParallelBatchConversionThreshold(int parallelBatchConversionThreshold) {
+
+		Assert.isTrue(parallelBatchConversionThreshold > 0, "Parallel batch conversion threshold must be greater than zero!");
+		this.parallelBatchConversionThreshold = parallelBatchConversionThreshold;
+	}
+
+	/**
+	 * Configures the number of elements converted by a single task when converting a batch insert in parallel. Defaults
+	 * to {@value #DEFAULT_BATCH_CONVERSION_CHUNK_SIZE}.
+	 * 
+	 * @param batchConversionChunkSize must be greater than zero.
+	 * @since 1.10
+	 */
+	public void setBatchConversionChunkSize(int batchConversionChunkSize) {
+
+		Assert.isTrue(batchConversionChunkSize > 0, "Batch conversion chunk size must be greater than zero!");
+		this.batchConversionChunkSize = batchConversionChunkSize;
+	}
+
+	/**
+	 * Configures whether to resolve {@link com.mongodb.DBRef}s within a {@link DbRefResolutionScope} per find and stream
+	 * operation. If enabled, every referenced document is fetched only once per operation and all references to it
+	 * resolve to the same instance. Scopes opened by the caller are joined. Defaults to {@literal false}.
+	 * 
+	 * @param useDbRefResolutionScopes
+	 * @since 1.10
+	 */
+	public void setUseDbRefResolutionScopes(boolean useDbRefResolutionScopes) {
+		this.useDbRefResolutionScopes = useDbRefResolutionScopes;
+	}
+
+	/**
+	 * Configures the {@link EntityCache} to look up documents of types annotated with {@link Cached} by id. Cached
+	 * documents are evicted on saves and deletes as well as on updates and find-and-modify operations executed through
+	 * the template. Setting {@literal null} disables caching, which is the default.
+	 * 
+	 * @param entityCache can be {@literal null}.
+	 * @since 1.10
+	 */
+	public void setEntityCache(EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.context.ApplicationContextAware#setApplicationContext(org.springframework.context.ApplicationContext)
@@ -325,8 +413,31 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 	 */
 	@Override
 	public <T> CloseableIterator<T> stream(final Query query, final Class<T> entityType) {
+		return stream(query, entityType, determineCollectionName(entityType));
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#stream(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.lang.String)
+	 */
+	@Override
+	public <T> CloseableIterator<T> stream(final Query query, final Class<T> entityType, String collectionName) {
+		return stream(query, entityType, collectionName, null);
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#stream(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.lang.String, org.springframework.data.mongodb.core.StreamOptions)
+	 */
+	@Override
+	public <T> CloseableIterator<T> stream(final Query query, final Class<T> entityType, String collectionName,
+			final StreamOptions options) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(entityType, "Entity type must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
 
-		return execute(entityType, new CollectionCallback<CloseableIterator<T>>() {
+		return execute(collectionName, new CollectionCallback<CloseableIterator<T>>() {
 
 			@Override
 			public CloseableIterator<T> doInCollection(DBCollection collection) throws MongoException, DataAccessException {
@@ -339,10 +450,62 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 				DBCursor cursor = collection.find(mappedQuery, mappedFields);
 				QueryCursorPreparer cursorPreparer = new QueryCursorPreparer(query, entityType);
 
-				ReadDbObjectCallback<T> readCallback = new ReadDbObjectCallback<T>(mongoConverter, entityType,
+				DbObjectCallback<T> readCallback = new ReadDbObjectCallback<T>(mongoConverter, entityType,
+						collection.getName());
+
+				cursor = cursorPreparer.prepare(cursor);
+
+				if (options != null) {
+					cursor = cursor.batchSize(options.getBatchSize());
+				}
+
+				if (options != null && options.getExecutor() != null) {
+					return new PrefetchingCursorAdapter<T>(cursor, exceptionTranslator, readCallback, useDbRefResolutionScopes,
+							options);
+				}
+
+				if (useDbRefResolutionScopes) {
+					readCallback = new DbRefResolutionScopeDbObjectCallback<T>(readCallback);
+				}
+
+				return new CloseableIterableCursorAdapter<T>(cursor, exceptionTranslator, readCallback);
+			}
+		});
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#scan(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.lang.String, org.springframework.data.mongodb.core.PartitionedScanOptions, org.springframework.data.mongodb.core.PartitionCallback)
+	 */
+	@Override
+	public <T> long scan(final Query query, final Class<T> entityType, String collectionName,
+			PartitionedScanOptions options, final PartitionCallback<T> callback) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(entityType, "Entity type must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+		Assert.notNull(callback, "PartitionCallback must not be null!");
+		Assert.isTrue(query.getLimit() <= 0 && query.getSkip() <= 0 && query.getSortObject() == null,
+				"Partitioned scans do not support limit, skip or sort!");
+
+		final PartitionedScanOptions optionsToUse = options == null ? PartitionedScanOptions.options() : options;
+
+		return execute(collectionName, new CollectionCallback<Long>() {
+
+			@Override
+			public Long doInCollection(DBCollection collection) throws MongoException, DataAccessException {
+
+				MongoPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(entityType);
+
+				DBObject mappedFields = queryMapper.getMappedFields(query.getFieldsObject(), persistentEntity);
+				DBObject mappedQuery = queryMapper.getMappedObject(query.getQueryObject(), persistentEntity);
+
+				DbObjectCallback<T> readCallback = new ReadDbObjectCallback<T>(mongoConverter, entityType,
 						collection.getName());
+				List<ScanPartition> partitions = new ScanPartitioner(collection).partition(optionsToUse.getPartitions());
 
-				return new CloseableIterableCursorAdapter<T>(cursorPreparer.prepare(cursor), exceptionTranslator, readCallback);
+				return new PartitionedScan<T>(collection, mappedQuery, mappedFields, readCallback, optionsToUse, callback)
+						.execute(partitions);
 			}
 		});
 	}
@@ -524,10 +687,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		dropCollection(determineCollectionName(entityClass));
 	}
 
-	public void dropCollection(String collectionName) {
+	public void dropCollection(final String collectionName) {
 		execute(collectionName, new CollectionCallback<Void>() {
 			public Void doInCollection(DBCollection collection) throws MongoException, DataAccessException {
 				collection.drop();
+				evictCachedDocuments(collectionName, null);
 				if (LOGGER.isDebugEnabled()) {
 					LOGGER.debug("Dropped collection [{}]", collection.getFullName());
 				}
@@ -562,6 +726,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		operations.setExceptionTranslator(exceptionTranslator);
 		operations.setWriteConcernResolver(writeConcernResolver);
 		operations.setDefaultWriteConcern(writeConcern);
+		operations.setEntityCache(entityCache);
 
 		return operations;
 	}
@@ -609,6 +774,18 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		return execute(collectionName, new FindCallback(mappedQuery)).hasNext();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#prepare(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 */
+	public PreparedQuery prepare(Query query, Class<?> entityClass) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(entityClass, "Entity class must not be null!");
+
+		return new PreparedQuery(query, getPersistentEntity(entityClass), queryMapper);
+	}
+
 	// Find methods that take a Query to express the query and that return a List of objects.
 
 	public <T> List<T> find(Query query, Class<T> entityClass) {
@@ -633,6 +810,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		MongoPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(entityClass);
 		MongoPersistentProperty idProperty = persistentEntity == null ? null : persistentEntity.getIdProperty();
 		String idKey = idProperty == null ? ID_FIELD : idProperty.getName();
+
+		if (entityCache != null && persistentEntity != null && persistentEntity.findAnnotation(Cached.class) != null) {
+			return doFindByIdCached(collectionName, new BasicDBObject(idKey, id), persistentEntity, entityClass);
+		}
+
 		return doFindOne(collectionName, new BasicDBObject(idKey, id), null, entityClass);
 	}
 
@@ -920,6 +1102,25 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 
 		Assert.notNull(writer);
 
+		List<DBObject> dbObjectList = batchConversionExecutor != null
+				&& batchToSave.size() >= parallelBatchConversionThreshold
+						? convertBatchInParallel(collectionName, batchToSave, writer)
+						: convertBatch(collectionName, batchToSave, writer);
+
+		List<ObjectId> ids = insertDBObjectList(collectionName, dbObjectList);
+		int i = 0;
+		for (T obj : batchToSave) {
+			if (i < ids.size()) {
+				populateIdIfNecessary(obj, ids.get(i));
+				maybeEmitEvent(new AfterSaveEvent<T>(obj, dbObjectList.get(i), collectionName));
+			}
+			i++;
+		}
+	}
+
+	private <T> List<DBObject> convertBatch(String collectionName, Collection<? extends T> batchToSave,
+			MongoWriter<T> writer) {
+
 		List<DBObject> dbObjectList = new ArrayList<DBObject>();
 		for (T o : batchToSave) {
 
@@ -932,14 +1133,248 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 			maybeEmitEvent(new BeforeSaveEvent<T>(o, dbDoc, collectionName));
 			dbObjectList.add(dbDoc);
 		}
-		List<ObjectId> ids = insertDBObjectList(collectionName, dbObjectList);
-		int i = 0;
-		for (T obj : batchToSave) {
-			if (i < ids.size()) {
-				populateIdIfNecessary(obj, ids.get(i));
-				maybeEmitEvent(new AfterSaveEvent<T>(obj, dbObjectList.get(i), collectionName));
+
+		return dbObjectList;
+	}
+
+	/**
+	 * Converts the given batch in chunks on the configured batch conversion {@link Executor}. Publishes all
+	 * {@link BeforeConvertEvent}s before and all {@link BeforeSaveEvent}s after the conversion on the calling thread, both
+	 * in the order of the batch, so that listeners are never invoked concurrently. Only the conversion itself runs on
+	 * the {@link Executor}. Chunks rejected or not yet started by the {@link Executor} are converted on the calling
+	 * thread.
+	 * 
+	 * @param collectionName must not be {@literal null}.
+	 * @param batchToSave must not be {@literal null}.
+	 * @param writer must not be {@literal null}.
+	 * @return the converted {@link DBObject}s in the order of the batch.
+	 */
+	private <T> List<DBObject> convertBatchInParallel(final String collectionName,
+			Collection<? extends T> batchToSave, final MongoWriter<T> writer) {
+
+		final List<T> elements = new ArrayList<T>(batchToSave);
+		final DBObject[] dbObjects = new DBObject[elements.size()];
+
+		for (T o : elements) {
+			initializeVersionProperty(o);
+			maybeEmitEvent(new BeforeConvertEvent<T>(o, collectionName));
+		}
+
+		List<FutureTask<Void>> tasks = new ArrayList<FutureTask<Void>>();
+
+		for (int start = 0; start < elements.size(); start += batchConversionChunkSize) {
+
+			final int from = start;
+			final int to = Math.min(start + batchConversionChunkSize, elements.size());
+
+			FutureTask<Void> task = new FutureTask<Void>(new Runnable() {
+
+				@Override
+				public void run() {
+
+					for (int i = from; i < to; i++) {
+
+						BasicDBObject dbDoc = new BasicDBObject();
+						writer.write(elements.get(i), dbDoc);
+						dbObjects[i] = dbDoc;
+					}
+				}
+			}, null);
+
+			tasks.add(task);
+			executeOrRun(batchConversionExecutor, task);
+		}
+
+		try {
+
+			for (FutureTask<Void> task : tasks) {
+
+				// convert chunks the executor did not get to yet ourselves instead of waiting for them
+				task.run();
+				getResult(task);
 			}
-			i++;
+
+		} finally {
+
+			for (FutureTask<Void> task : tasks) {
+				task.cancel(true);
+			}
+		}
+
+		for (int i = 0; i < dbObjects.length; i++) {
+			maybeEmitEvent(new BeforeSaveEvent<T>(elements.get(i), dbObjects[i], collectionName));
+		}
+
+		return Arrays.asList(dbObjects);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#insertChunked(java.lang.Iterable, java.lang.Class, org.springframework.data.mongodb.core.ChunkedInsertOptions)
+	 */
+	public List<InsertChunkResult> insertChunked(Iterable<? extends Object> objectsToSave, Class<?> entityClass,
+			ChunkedInsertOptions options) {
+
+		Assert.notNull(entityClass, "Entity class must not be null!");
+		return insertChunked(objectsToSave, determineCollectionName(entityClass), options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#insertChunked(java.lang.Iterable, java.lang.String, org.springframework.data.mongodb.core.ChunkedInsertOptions)
+	 */
+	public List<InsertChunkResult> insertChunked(Iterable<? extends Object> objectsToSave, String collectionName,
+			ChunkedInsertOptions options) {
+
+		Assert.notNull(objectsToSave, "Objects to save must not be null!");
+		return insertChunked(objectsToSave.iterator(), collectionName, options);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#insertChunked(java.util.Iterator, java.lang.String, org.springframework.data.mongodb.core.ChunkedInsertOptions)
+	 */
+	public List<InsertChunkResult> insertChunked(Iterator<? extends Object> objectsToSave, String collectionName,
+			ChunkedInsertOptions options) {
+
+		Assert.notNull(objectsToSave, "Objects to save must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		return doInsertChunked(collectionName, objectsToSave, options == null ? ChunkedInsertOptions.options() : options,
+				this.mongoConverter);
+	}
+
+	/**
+	 * Converts and inserts the objects provided by the given {@link Iterator} chunk by chunk. While a chunk is written on
+	 * the {@link Executor} configured in the given {@link ChunkedInsertOptions}, the next one is converted on the calling
+	 * thread. All mapping events are published on the calling thread.
+	 * 
+	 * @param collectionName must not be {@literal null}.
+	 * @param objectsToSave must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @param writer must not be {@literal null}.
+	 * @return
+	 */
+	protected <T> List<InsertChunkResult> doInsertChunked(String collectionName, Iterator<? extends T> objectsToSave,
+			ChunkedInsertOptions options, MongoWriter<T> writer) {
+
+		Assert.notNull(writer);
+
+		List<InsertChunkResult> results = new ArrayList<InsertChunkResult>();
+		InsertChunk<T> pending = null;
+
+		try {
+
+			while (objectsToSave.hasNext()) {
+
+				InsertChunk<T> chunk = convertChunk(results.size() + (pending == null ? 0 : 1), collectionName,
+						objectsToSave, options, writer);
+
+				if (pending != null) {
+					results.add(pending.complete());
+				}
+
+				if (chunk.isEmpty()) {
+					pending = null;
+					continue;
+				}
+
+				pending = chunk;
+				pending.submit(options.getExecutor());
+			}
+
+			if (pending != null) {
+				results.add(pending.complete());
+				pending = null;
+			}
+
+		} finally {
+
+			if (pending != null) {
+				pending.cancel();
+			}
+		}
+
+		return results;
+	}
+
+	private <T> InsertChunk<T> convertChunk(int index, String collectionName, Iterator<? extends T> objectsToSave,
+			ChunkedInsertOptions options, MongoWriter<T> writer) {
+
+		InsertChunk<T> chunk = new InsertChunk<T>(index, collectionName);
+
+		while (objectsToSave.hasNext() && chunk.size() < options.getMaxDocuments()
+				&& chunk.estimatedBytes < options.getMaxBytes()) {
+
+			T o = objectsToSave.next();
+
+			if (o == null) {
+				continue;
+			}
+
+			initializeVersionProperty(o);
+			BasicDBObject dbDoc = new BasicDBObject();
+
+			maybeEmitEvent(new BeforeConvertEvent<T>(o, collectionName));
+			writer.write(o, dbDoc);
+
+			maybeEmitEvent(new BeforeSaveEvent<T>(o, dbDoc, collectionName));
+			chunk.add(o, dbDoc);
+		}
+
+		return chunk;
+	}
+
+	/**
+	 * Executes the given task on the given {@link Executor} or runs it on the calling thread if no {@link Executor} is
+	 * given or it rejects the task.
+	 * 
+	 * @param executor can be {@literal null}.
+	 * @param task must not be {@literal null}.
+	 */
+	private static void executeOrRun(Executor executor, Runnable task) {
+
+		if (executor == null) {
+			task.run();
+			return;
+		}
+
+		try {
+			executor.execute(task);
+		} catch (RejectedExecutionException o_O) {
+			task.run();
+		}
+	}
+
+	/**
+	 * Waits for the given {@link Future} to complete and returns its result. Rethrows the original exception in case the
+	 * underlying task failed.
+	 * 
+	 * @param future must not be {@literal null}.
+	 * @return
+	 */
+	private static <T> T getResult(Future<T> future) {
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new InvalidDataAccessApiUsageException("Interrupted while waiting for a background task!", e);
+
+		} catch (ExecutionException e) {
+
+			Throwable cause = e.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw new InvalidDataAccessApiUsageException("Background task failed!", cause);
 		}
 	}
 
@@ -1161,6 +1596,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 				}
 
 				handleAnyWriteResultErrors(writeResult, queryObj, MongoActionOperation.UPDATE);
+				evictCachedDocuments(collectionName, queryObj);
+
 				return writeResult;
 			}
 		});
@@ -1489,42 +1926,86 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.data.mongodb.core.MongoOperations#findAllAndRemove(org.springframework.data.mongodb.core.query.Query, java.lang.String)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#aggregateStream(org.springframework.data.mongodb.core.aggregation.TypedAggregation, java.lang.Class)
 	 */
 	@Override
-	public <T> List<T> findAllAndRemove(Query query, String collectionName) {
-		return findAndRemove(query, null, collectionName);
+	public <O> CloseableIterator<O> aggregateStream(TypedAggregation<?> aggregation, Class<O> outputType) {
+		return aggregateStream(aggregation, determineCollectionName(aggregation.getInputType()), outputType);
 	}
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.data.mongodb.core.MongoOperations#findAllAndRemove(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#aggregateStream(org.springframework.data.mongodb.core.aggregation.TypedAggregation, java.lang.String, java.lang.Class)
 	 */
 	@Override
-	public <T> List<T> findAllAndRemove(Query query, Class<T> entityClass) {
-		return findAllAndRemove(query, entityClass, determineCollectionName(entityClass));
+	public <O> CloseableIterator<O> aggregateStream(TypedAggregation<?> aggregation, String inputCollectionName,
+			Class<O> outputType) {
+
+		Assert.notNull(aggregation, "Aggregation pipeline must not be null!");
+
+		AggregationOperationContext context = new TypeBasedAggregationOperationContext(aggregation.getInputType(),
+				mappingContext, queryMapper);
+		return aggregateStream(aggregation, inputCollectionName, outputType, context);
 	}
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.data.mongodb.core.MongoOperations#findAllAndRemove(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.lang.String)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#aggregateStream(org.springframework.data.mongodb.core.aggregation.Aggregation, java.lang.Class, java.lang.Class)
 	 */
 	@Override
-	public <T> List<T> findAllAndRemove(Query query, Class<T> entityClass, String collectionName) {
-		return doFindAndDelete(collectionName, query, entityClass);
+	public <O> CloseableIterator<O> aggregateStream(Aggregation aggregation, Class<?> inputType, Class<O> outputType) {
+
+		return aggregateStream(aggregation, determineCollectionName(inputType), outputType,
+				new TypeBasedAggregationOperationContext(inputType, mappingContext, queryMapper));
 	}
 
-	/**
-	 * Retrieve and remove all documents matching the given {@code query} by calling {@link #find(Query, Class, String)}
-	 * and {@link #remove(Query, Class, String)}, whereas the {@link Query} for {@link #remove(Query, Class, String)} is
-	 * constructed out of the find result.
-	 * 
-	 * @param collectionName
-	 * @param query
-	 * @param entityClass
-	 * @return
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#aggregateStream(org.springframework.data.mongodb.core.aggregation.Aggregation, java.lang.String, java.lang.Class)
 	 */
-	protected <T> List<T> doFindAndDelete(String collectionName, Query query, Class<T> entityClass) {
+	@Override
+	public <O> CloseableIterator<O> aggregateStream(Aggregation aggregation, String collectionName, Class<O> outputType) {
+		return aggregateStream(aggregation, collectionName, outputType, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#findAllAndRemove(org.springframework.data.mongodb.core.query.Query, java.lang.String)
+	 */
+	@Override
+	public <T> List<T> findAllAndRemove(Query query, String collectionName) {
+		return findAndRemove(query, null, collectionName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#findAllAndRemove(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public <T> List<T> findAllAndRemove(Query query, Class<T> entityClass) {
+		return findAllAndRemove(query, entityClass, determineCollectionName(entityClass));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#findAllAndRemove(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.lang.String)
+	 */
+	@Override
+	public <T> List<T> findAllAndRemove(Query query, Class<T> entityClass, String collectionName) {
+		return doFindAndDelete(collectionName, query, entityClass);
+	}
+
+	/**
+	 * Retrieve and remove all documents matching the given {@code query} by calling {@link #find(Query, Class, String)}
+	 * and {@link #remove(Query, Class, String)}, whereas the {@link Query} for {@link #remove(Query, Class, String)} is
+	 * constructed out of the find result.
+	 * 
+	 * @param collectionName
+	 * @param query
+	 * @param entityClass
+	 * @return
+	 */
+	protected <T> List<T> doFindAndDelete(String collectionName, Query query, Class<T> entityClass) {
 
 		List<T> result = find(query, entityClass, collectionName);
 
@@ -1556,6 +2037,66 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 				commandResult);
 	}
 
+	@SuppressWarnings("unchecked")
+	protected <O> CloseableIterator<O> aggregateStream(Aggregation aggregation, String collectionName,
+			final Class<O> outputType, AggregationOperationContext context) {
+
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+		Assert.notNull(aggregation, "Aggregation pipeline must not be null!");
+		Assert.notNull(outputType, "Output type must not be null!");
+
+		AggregationOperationContext rootContext = context == null ? Aggregation.DEFAULT_CONTEXT : context;
+		DBObject command = aggregation.toDbObject(collectionName, rootContext);
+
+		Assert.isTrue(!command.containsField("explain"), "Can't use explain option with streaming!");
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Streaming aggregation: {}", serializeToJsonSafely(command));
+		}
+
+		final List<DBObject> pipeline = (List<DBObject>) command.get("pipeline");
+		final com.mongodb.AggregationOptions options = toCursorAggregationOptions(command);
+
+		return execute(collectionName, new CollectionCallback<CloseableIterator<O>>() {
+
+			@Override
+			public CloseableIterator<O> doInCollection(DBCollection collection) throws MongoException, DataAccessException {
+
+				Cursor cursor = collection.aggregate(pipeline, options);
+				DbObjectCallback<O> readCallback = new UnwrapAndReadDbObjectCallback<O>(mongoConverter, outputType,
+						collection.getName());
+
+				return new CloseableIterableCursorAdapter<O>(cursor, exceptionTranslator, readCallback);
+			}
+		});
+	}
+
+	/**
+	 * Creates the driver's aggregation options to request a cursor from the given aggregation command, considering a
+	 * potentially configured {@code allowDiskUse} flag and cursor batch size.
+	 * 
+	 * @param command must not be {@literal null}.
+	 * @return
+	 */
+	private static com.mongodb.AggregationOptions toCursorAggregationOptions(DBObject command) {
+
+		com.mongodb.AggregationOptions.Builder builder = com.mongodb.AggregationOptions.builder()
+				.outputMode(com.mongodb.AggregationOptions.OutputMode.CURSOR);
+
+		if (command.containsField("allowDiskUse")) {
+			builder.allowDiskUse(Boolean.TRUE.equals(command.get("allowDiskUse")));
+		}
+
+		Object cursor = command.get("cursor");
+		Object batchSize = cursor instanceof DBObject ? ((DBObject) cursor).get("batchSize") : null;
+
+		if (batchSize instanceof Number) {
+			builder.batchSize(((Number) batchSize).intValue());
+		}
+
+		return builder.build();
+	}
+
 	/**
 	 * Returns the potentially mapped results of the given {@commandResult} contained some.
 	 * 
@@ -1663,6 +2204,17 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 	}
 
 	protected <T> void maybeEmitEvent(MongoMappingEvent<T> event) {
+
+		if (entityCache != null) {
+
+			if (event instanceof AfterSaveEvent) {
+				evictCachedDocuments(event.getCollectionName(), event.getDBObject());
+			} else if (event instanceof AfterDeleteEvent) {
+				evictCachedDocuments(event.getCollectionName(), queryMapper.getMappedObject(event.getDBObject(),
+						getPersistentEntity(((AfterDeleteEvent<T>) event).getType())));
+			}
+		}
+
 		if (null != eventPublisher) {
 			eventPublisher.publishEvent(event);
 		}
@@ -1713,6 +2265,80 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 				new ReadDbObjectCallback<T>(this.mongoConverter, entityClass, collectionName), collectionName);
 	}
 
+	/**
+	 * Looks up a single document by id consulting the configured {@link EntityCache} first. Documents read from the
+	 * database are added to the cache.
+	 * 
+	 * @param collectionName name of the collection to retrieve the object from.
+	 * @param query the query selecting the document by id.
+	 * @param entity the {@link MongoPersistentEntity} of the type to read.
+	 * @param entityClass the parameterized type of the returned object.
+	 * @return the converted object.
+	 */
+	private <T> T doFindByIdCached(String collectionName, DBObject query, MongoPersistentEntity<?> entity,
+			Class<T> entityClass) {
+
+		DBObject mappedQuery = queryMapper.getMappedObject(query, entity);
+		Object id = mappedQuery.get(ID_FIELD);
+		ReadDbObjectCallback<T> readCallback = new ReadDbObjectCallback<T>(this.mongoConverter, entityClass,
+				collectionName);
+
+		if (id == null || id instanceof DBObject) {
+			return executeFindOneInternal(new FindOneCallback(mappedQuery, null), readCallback, collectionName);
+		}
+
+		long version = entityCache.getVersion(collectionName);
+		DBObject cached = entityCache.get(collectionName, id);
+
+		if (cached != null) {
+
+			try {
+				return readCallback.doWith(copy(cached));
+			} catch (RuntimeException e) {
+				throw potentiallyConvertRuntimeException(e, exceptionTranslator);
+			}
+		}
+
+		return executeFindOneInternal(new FindOneCallback(mappedQuery, null),
+				new CachingDbObjectCallback<T>(readCallback, collectionName, id, version), collectionName);
+	}
+
+	/**
+	 * Creates a deep copy of the given {@link DBObject} so that the copy can be modified without affecting the original.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @return
+	 */
+	private static DBObject copy(DBObject source) {
+
+		BasicDBObject object = source instanceof BasicDBObject ? (BasicDBObject) source
+				: new BasicDBObject(source.toMap());
+
+		return (DBObject) object.copy();
+	}
+
+	/**
+	 * Evicts the documents selected by the given mapped query from the {@link EntityCache}. Evicts all documents of the
+	 * collection if the query doesn't select a single document by id.
+	 * 
+	 * @param collectionName must not be {@literal null}.
+	 * @param mappedQuery can be {@literal null}.
+	 */
+	private void evictCachedDocuments(String collectionName, DBObject mappedQuery) {
+
+		if (entityCache == null) {
+			return;
+		}
+
+		Object id = mappedQuery == null ? null : mappedQuery.get(ID_FIELD);
+
+		if (id == null || id instanceof DBObject) {
+			entityCache.evictAll(collectionName);
+		} else {
+			entityCache.evict(collectionName, id);
+		}
+	}
+
 	/**
 	 * Map the results of an ad-hoc query on the default MongoDB collection to a List using the template's converter. The
 	 * query document is specified as a standard DBObject and so is the fields specification.
@@ -1803,8 +2429,14 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
-		return executeFindOneInternal(new FindAndRemoveCallback(queryMapper.getMappedObject(query, entity), fields, sort),
-				new ReadDbObjectCallback<T>(readerToUse, entityClass, collectionName), collectionName);
+		DBObject mappedQuery = queryMapper.getMappedObject(query, entity);
+
+		try {
+			return executeFindOneInternal(new FindAndRemoveCallback(mappedQuery, fields, sort),
+					new ReadDbObjectCallback<T>(readerToUse, entityClass, collectionName), collectionName);
+		} finally {
+			evictCachedDocuments(collectionName, mappedQuery);
+		}
 	}
 
 	protected <T> T doFindAndModify(String collectionName, DBObject query, DBObject fields, DBObject sort,
@@ -1830,8 +2462,12 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 					collectionName);
 		}
 
-		return executeFindOneInternal(new FindAndModifyCallback(mappedQuery, fields, sort, mappedUpdate, options),
-				new ReadDbObjectCallback<T>(readerToUse, entityClass, collectionName), collectionName);
+		try {
+			return executeFindOneInternal(new FindAndModifyCallback(mappedQuery, fields, sort, mappedUpdate, options),
+					new ReadDbObjectCallback<T>(readerToUse, entityClass, collectionName), collectionName);
+		} finally {
+			evictCachedDocuments(collectionName, mappedQuery);
+		}
 	}
 
 	/**
@@ -1896,12 +2532,19 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 	private <T> T executeFindOneInternal(CollectionCallback<DBObject> collectionCallback,
 			DbObjectCallback<T> objectCallback, String collectionName) {
 
+		DbRefResolutionScope scope = useDbRefResolutionScopes ? DbRefResolutionScope.open() : null;
+
 		try {
 			T result = objectCallback
 					.doWith(collectionCallback.doInCollection(getAndPrepareCollection(getDb(), collectionName)));
 			return result;
 		} catch (RuntimeException e) {
 			throw potentiallyConvertRuntimeException(e, exceptionTranslator);
+		} finally {
+
+			if (scope != null) {
+				scope.close();
+			}
 		}
 	}
 
@@ -1926,6 +2569,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 	private <T> List<T> executeFindMultiInternal(CollectionCallback<DBCursor> collectionCallback, CursorPreparer preparer,
 			DbObjectCallback<T> objectCallback, String collectionName) {
 
+		DbRefResolutionScope scope = useDbRefResolutionScopes ? DbRefResolutionScope.open() : null;
+
 		try {
 
 			DBCursor cursor = null;
@@ -1955,6 +2600,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 			}
 		} catch (RuntimeException e) {
 			throw potentiallyConvertRuntimeException(e, exceptionTranslator);
+		} finally {
+
+			if (scope != null) {
+				scope.close();
+			}
 		}
 	}
 
@@ -2240,6 +2890,95 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		T doWith(DBObject object);
 	}
 
+	/**
+	 * A chunk of converted objects of a chunked insert that is written asynchronously and completed on the calling
+	 * thread.
+	 * 
+	 * @since 1.10
+	 */
+	private class InsertChunk<T> {
+
+		private final int index;
+		private final String collectionName;
+		private final List<T> objects = new ArrayList<T>();
+		private final List<DBObject> dbObjects = new ArrayList<DBObject>();
+		private long estimatedBytes = 0;
+		private FutureTask<List<ObjectId>> write;
+
+		public InsertChunk(int index, String collectionName) {
+
+			this.index = index;
+			this.collectionName = collectionName;
+		}
+
+		public void add(T object, DBObject dbObject) {
+
+			objects.add(object);
+			dbObjects.add(dbObject);
+			estimatedBytes += DBObjectUtils.estimateSize(dbObject);
+		}
+
+		public int size() {
+			return objects.size();
+		}
+
+		public boolean isEmpty() {
+			return objects.isEmpty();
+		}
+
+		/**
+		 * Starts writing the chunk on the given {@link Executor} or the calling thread if none given.
+		 * 
+		 * @param executor can be {@literal null}.
+		 */
+		public void submit(Executor executor) {
+
+			this.write = new FutureTask<List<ObjectId>>(new Callable<List<ObjectId>>() {
+
+				@Override
+				public List<ObjectId> call() throws Exception {
+					return insertDBObjectList(collectionName, dbObjects);
+				}
+			});
+
+			executeOrRun(executor, write);
+		}
+
+		/**
+		 * Waits for the write to finish, populates the ids of the saved objects and publishes the
+		 * {@link AfterSaveEvent}s.
+		 * 
+		 * @return
+		 */
+		public InsertChunkResult complete() {
+
+			List<ObjectId> ids = getResult(write);
+			List<Object> insertedIds = new ArrayList<Object>(objects.size());
+
+			for (int i = 0; i < objects.size(); i++) {
+
+				T object = objects.get(i);
+				DBObject dbObject = dbObjects.get(i);
+
+				if (i < ids.size()) {
+					populateIdIfNecessary(object, ids.get(i));
+					maybeEmitEvent(new AfterSaveEvent<T>(object, dbObject, collectionName));
+				}
+
+				insertedIds.add(dbObject.get(ID_FIELD));
+			}
+
+			return new InsertChunkResult(index, estimatedBytes, insertedIds);
+		}
+
+		public void cancel() {
+
+			if (write != null) {
+				write.cancel(false);
+			}
+		}
+	}
+
 	/**
 	 * Simple {@link DbObjectCallback} that will transform {@link DBObject} into the given target type using the given
 	 * {@link MongoReader}.
@@ -2274,6 +3013,76 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		}
 	}
 
+	/**
+	 * {@link DbObjectCallback} adding a copy of the {@link DBObject} read to the {@link EntityCache} before handing it to
+	 * the given delegate. The copy is only cached if no documents of the collection were evicted since the given version
+	 * was obtained.
+	 * 
+	 * @since 1.10
+	 */
+	private class CachingDbObjectCallback<T> implements DbObjectCallback<T> {
+
+		private final DbObjectCallback<T> delegate;
+		private final String collectionName;
+		private final Object id;
+		private final long version;
+
+		public CachingDbObjectCallback(DbObjectCallback<T> delegate, String collectionName, Object id, long version) {
+
+			this.delegate = delegate;
+			this.collectionName = collectionName;
+			this.id = id;
+			this.version = version;
+		}
+
+		public T doWith(DBObject object) {
+
+			if (object != null) {
+				entityCache.put(collectionName, id, copy(object), version);
+			}
+
+			return delegate.doWith(object);
+		}
+	}
+
+	/**
+	 * {@link DbObjectCallback} that converts each {@link DBObject} within the same {@link DbRefResolutionScope}, so that
+	 * references are shared across the elements of a stream. Joins a scope already active when a {@link DBObject} is
+	 * read. As a stream can be of arbitrary length, the scope only keeps the most recently used references.
+	 * 
+	 * @since 1.10
+	 */
+	static class DbRefResolutionScopeDbObjectCallback<T> implements DbObjectCallback<T> {
+
+		static final int MAXIMUM_SCOPE_SIZE = 1000;
+
+		private final DbObjectCallback<T> delegate;
+		private final DbRefResolutionScope scope;
+
+		public DbRefResolutionScopeDbObjectCallback(DbObjectCallback<T> delegate) {
+
+			Assert.notNull(delegate, "Delegate DbObjectCallback must not be null!");
+
+			this.delegate = delegate;
+			this.scope = new DbRefResolutionScope(MAXIMUM_SCOPE_SIZE);
+		}
+
+		public T doWith(DBObject object) {
+
+			if (DbRefResolutionScope.getCurrent() != null) {
+				return delegate.doWith(object);
+			}
+
+			scope.activate();
+
+			try {
+				return delegate.doWith(object);
+			} finally {
+				scope.close();
+			}
+		}
+	}
+
 	class UnwrapAndReadDbObjectCallback<T> extends ReadDbObjectCallback<T> {
 
 		public UnwrapAndReadDbObjectCallback(EntityReader<? super T, DBObject> reader, Class<T> type,
@@ -2466,4 +3275,547 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 			}
 		}
 	}
+
+	/**
+	 * Scans the {@link ScanPartition}s of a collection with a cursor each, on the {@link Executor} configured in the
+	 * {@link PartitionedScanOptions} or one after the other on the calling thread. Once a partition failed, the
+	 * remaining partitions are skipped and the partitions being scanned stop at their next element.
+	 * 
+	 * @since 1.10
+	 */
+	private class PartitionedScan<T> {
+
+		private final DBCollection collection;
+		private final DBObject mappedQuery;
+		private final DBObject mappedFields;
+		private final DbObjectCallback<T> readCallback;
+		private final PartitionedScanOptions options;
+		private final PartitionCallback<T> callback;
+
+		private volatile boolean failed;
+
+		PartitionedScan(DBCollection collection, DBObject mappedQuery, DBObject mappedFields,
+				DbObjectCallback<T> readCallback, PartitionedScanOptions options, PartitionCallback<T> callback) {
+
+			this.collection = collection;
+			this.mappedQuery = mappedQuery;
+			this.mappedFields = mappedFields;
+			this.readCallback = readCallback;
+			this.options = options;
+			this.callback = callback;
+		}
+
+		/**
+		 * Scans the given {@link ScanPartition}s and waits for all of them to complete.
+		 * 
+		 * @param partitions must not be {@literal null}.
+		 * @return the total number of documents read.
+		 */
+		long execute(List<ScanPartition> partitions) {
+
+			List<FutureTask<Long>> tasks = new ArrayList<FutureTask<Long>>(partitions.size());
+
+			for (final ScanPartition partition : partitions) {
+
+				FutureTask<Long> task = new FutureTask<Long>(new Callable<Long>() {
+
+					@Override
+					public Long call() throws Exception {
+						return scan(partition);
+					}
+				});
+
+				tasks.add(task);
+				executeOrRun(options.getExecutor(), task);
+			}
+
+			long total = 0;
+			RuntimeException exception = null;
+
+			for (FutureTask<Long> task : tasks) {
+
+				task.run();
+
+				try {
+					total += task.get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					failed = true;
+					throw new IllegalStateException("Interrupted while waiting for partitioned scan!", e);
+				} catch (ExecutionException e) {
+
+					Throwable cause = e.getCause();
+
+					if (cause instanceof Error) {
+						throw (Error) cause;
+					}
+
+					if (exception == null) {
+						exception = cause instanceof RuntimeException ? (RuntimeException) cause
+								: new IllegalStateException("Partitioned scan failed!", cause);
+					}
+				}
+			}
+
+			if (exception != null) {
+				throw exception;
+			}
+
+			return total;
+		}
+
+		private long scan(ScanPartition partition) {
+
+			if (failed) {
+				return 0;
+			}
+
+			DBObject criteria = partition.getCriteriaObject();
+			DBObject query = mappedQuery;
+
+			if (!criteria.keySet().isEmpty()) {
+				query = mappedQuery.keySet().isEmpty() ? criteria
+						: new BasicDBObject("$and", Arrays.asList(mappedQuery, criteria));
+			}
+
+			DbObjectCallback<T> callbackToUse = useDbRefResolutionScopes
+					? new DbRefResolutionScopeDbObjectCallback<T>(readCallback) : readCallback;
+
+			DBCursor cursor = collection.find(query, mappedFields).batchSize(options.getBatchSize());
+			ProgressReportingIterator elements = new ProgressReportingIterator(partition,
+					new CloseableIterableCursorAdapter<T>(cursor, exceptionTranslator, callbackToUse));
+
+			try {
+				callback.doInPartition(partition, elements);
+			} catch (RuntimeException o_O) {
+				failed = true;
+				throw o_O;
+			} catch (Error o_O) {
+				failed = true;
+				throw o_O;
+			} finally {
+				elements.close();
+			}
+
+			ScanProgressListener listener = options.getProgressListener();
+
+			if (listener != null && !elements.aborted) {
+				listener.onCompleted(partition, elements.scanned);
+			}
+
+			return elements.scanned;
+		}
+
+		/**
+		 * {@link CloseableIterator} counting the elements read from a {@link ScanPartition} and reporting the progress
+		 * after every batch. Ends early once another partition failed and remembers it did, so that the partition is not
+		 * reported as completed.
+		 */
+		private class ProgressReportingIterator implements CloseableIterator<T> {
+
+			private final ScanPartition partition;
+			private final CloseableIterator<T> delegate;
+			private long scanned;
+			private boolean aborted;
+
+			ProgressReportingIterator(ScanPartition partition, CloseableIterator<T> delegate) {
+
+				this.partition = partition;
+				this.delegate = delegate;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Iterator#hasNext()
+			 */
+			@Override
+			public boolean hasNext() {
+
+				if (failed) {
+					aborted = true;
+					return false;
+				}
+
+				return delegate.hasNext();
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Iterator#next()
+			 */
+			@Override
+			public T next() {
+
+				T element = delegate.next();
+				scanned++;
+
+				ScanProgressListener listener = options.getProgressListener();
+
+				if (listener != null && scanned % options.getBatchSize() == 0) {
+					listener.onProgress(partition, scanned);
+				}
+
+				return element;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.data.util.CloseableIterator#close()
+			 */
+			@Override
+			public void close() {
+				delegate.close();
+			}
+		}
+	}
+
+	/**
+	 * {@link CloseableIterator} reading the documents of a {@link Cursor} in batches on a background task and converting
+	 * the batches on an {@link Executor}, so that fetching the next batches and converting them overlaps with consuming
+	 * the current one. Only a bounded number of batches is held ahead of the consumer. Elements are returned in cursor
+	 * order. Batches the {@link Executor} did not get to yet are converted on the consuming thread. If
+	 * {@link DbRefResolutionScope}s are used, every batch is converted within its own scope. While prefetching, the
+	 * {@link Cursor} is only accessed by the background task, which also closes it once it is done. Once reading or
+	 * converting a batch failed, the iterator is exhausted.
+	 * 
+	 * @since 1.10
+	 */
+	static class PrefetchingCursorAdapter<T> implements CloseableIterator<T> {
+
+		private final Cursor cursor;
+		private final PersistenceExceptionTranslator exceptionTranslator;
+		private final DbObjectCallback<T> objectReadCallback;
+		private final boolean useDbRefResolutionScopes;
+		private final Executor executor;
+		private final int batchSize;
+		private final BlockingQueue<FutureTask<List<T>>> batches;
+		private final boolean prefetching;
+
+		private volatile boolean closed;
+		private Iterator<T> current;
+		private boolean exhausted;
+
+		/**
+		 * Creates a new {@link PrefetchingCursorAdapter} for the given {@link Cursor} and starts prefetching batches on
+		 * the {@link Executor} configured in the given {@link StreamOptions}.
+		 * 
+		 * @param cursor must not be {@literal null}.
+		 * @param exceptionTranslator must not be {@literal null}.
+		 * @param objectReadCallback must not be {@literal null}.
+		 * @param useDbRefResolutionScopes whether to convert batches within a {@link DbRefResolutionScope}.
+		 * @param options must not be {@literal null} and have an {@link Executor} configured.
+		 */
+		PrefetchingCursorAdapter(Cursor cursor, PersistenceExceptionTranslator exceptionTranslator,
+				DbObjectCallback<T> objectReadCallback, boolean useDbRefResolutionScopes, StreamOptions options) {
+
+			Assert.notNull(options.getExecutor(), "Executor must not be null!");
+
+			this.cursor = cursor;
+			this.exceptionTranslator = exceptionTranslator;
+			this.objectReadCallback = objectReadCallback;
+			this.useDbRefResolutionScopes = useDbRefResolutionScopes;
+			this.executor = options.getExecutor();
+			this.batchSize = options.getBatchSize();
+			this.batches = new ArrayBlockingQueue<FutureTask<List<T>>>(options.getBufferSize());
+			this.prefetching = startPrefetching();
+		}
+
+		private boolean startPrefetching() {
+
+			try {
+
+				executor.execute(new Runnable() {
+
+					@Override
+					public void run() {
+						prefetch();
+					}
+				});
+
+				return true;
+
+			} catch (RejectedExecutionException o_O) {
+				return false;
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+
+			while (current == null || !current.hasNext()) {
+
+				if (exhausted || closed) {
+					return false;
+				}
+
+				List<T> batch = nextBatch();
+
+				if (batch == null) {
+					exhausted = true;
+					return false;
+				}
+
+				current = batch.iterator();
+			}
+
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public T next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			return current.next();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.util.CloseableIterator#close()
+		 */
+		@Override
+		public void close() {
+
+			stopPrefetching();
+			current = null;
+
+			if (prefetching) {
+				return;
+			}
+
+			try {
+				cursor.close();
+			} catch (RuntimeException ex) {
+				throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
+			}
+		}
+
+		/**
+		 * Signals the prefetching task to stop and discards the batches buffered, which unblocks the task in case it is
+		 * waiting for space in the buffer.
+		 */
+		private void stopPrefetching() {
+
+			closed = true;
+			cancelBuffered();
+		}
+
+		private void cancelBuffered() {
+
+			List<FutureTask<List<T>>> pending = new ArrayList<FutureTask<List<T>>>();
+			batches.drainTo(pending);
+
+			for (FutureTask<List<T>> batch : pending) {
+				batch.cancel(false);
+			}
+		}
+
+		/**
+		 * Reads batches from the {@link Cursor} and hands them to the consumer until the {@link Cursor} is exhausted,
+		 * reading it failed or the adapter got closed. Blocks while the buffer is full. Closes the {@link Cursor} when
+		 * done.
+		 */
+		private void prefetch() {
+
+			try {
+				doPrefetch();
+			} finally {
+
+				try {
+					cursor.close();
+				} catch (RuntimeException o_O) {
+					// nobody left to report to
+				}
+			}
+		}
+
+		private void doPrefetch() {
+
+			while (!closed) {
+
+				FutureTask<List<T>> batch;
+				boolean last = false;
+
+				try {
+
+					batch = readBatch();
+
+					if (batch == null) {
+						batch = completed(null);
+						last = true;
+					} else {
+						submit(batch);
+					}
+
+				} catch (RuntimeException o_O) {
+					batch = failed(o_O);
+					last = true;
+				}
+
+				try {
+					batches.put(batch);
+				} catch (InterruptedException o_O) {
+
+					Thread.currentThread().interrupt();
+
+					batches.clear();
+					batches.offer(failed(new IllegalStateException("Interrupted while prefetching documents!", o_O)));
+					return;
+				}
+
+				if (closed) {
+					cancelBuffered();
+					return;
+				}
+
+				if (last) {
+					return;
+				}
+			}
+		}
+
+		private void submit(FutureTask<List<T>> batch) {
+
+			try {
+				executor.execute(batch);
+			} catch (RejectedExecutionException o_O) {
+				// converted on the consuming thread
+			}
+		}
+
+		/**
+		 * Reads the next batch of documents from the {@link Cursor}.
+		 * 
+		 * @return the task converting the batch or {@literal null} if the {@link Cursor} is exhausted.
+		 */
+		private FutureTask<List<T>> readBatch() {
+
+			if (!cursor.hasNext()) {
+				return null;
+			}
+
+			final List<DBObject> documents = new ArrayList<DBObject>(batchSize);
+
+			while (documents.size() < batchSize && cursor.hasNext()) {
+				documents.add(cursor.next());
+			}
+
+			return new FutureTask<List<T>>(new Callable<List<T>>() {
+
+				@Override
+				public List<T> call() throws Exception {
+
+					DbObjectCallback<T> callback = useDbRefResolutionScopes
+							? new DbRefResolutionScopeDbObjectCallback<T>(objectReadCallback) : objectReadCallback;
+					List<T> result = new ArrayList<T>(documents.size());
+
+					for (DBObject document : documents) {
+						result.add(callback.doWith(document));
+					}
+
+					return result;
+				}
+			});
+		}
+
+		/**
+		 * Returns the next converted batch, converting it on the calling thread if it was not started yet. Exhausts the
+		 * iterator and stops prefetching in case the batch failed.
+		 * 
+		 * @return the batch or {@literal null} if there are no more documents.
+		 */
+		private List<T> nextBatch() {
+
+			boolean failed = true;
+
+			try {
+
+				List<T> batch = awaitNextBatch();
+				failed = false;
+
+				return batch;
+
+			} finally {
+
+				if (failed) {
+					exhausted = true;
+					stopPrefetching();
+				}
+			}
+		}
+
+		private List<T> awaitNextBatch() {
+
+			FutureTask<List<T>> batch;
+
+			try {
+
+				batch = prefetching ? batches.take() : readBatch();
+
+				if (batch == null) {
+					return null;
+				}
+
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for documents!", e);
+			} catch (RuntimeException ex) {
+				throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
+			}
+
+			batch.run();
+
+			try {
+				return batch.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for documents!", e);
+			} catch (ExecutionException e) {
+
+				Throwable cause = e.getCause();
+
+				if (cause instanceof RuntimeException) {
+					throw potentiallyConvertRuntimeException((RuntimeException) cause, exceptionTranslator);
+				}
+
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+
+				throw new IllegalStateException("Converting documents failed!", cause);
+			}
+		}
+
+		private static <T> FutureTask<List<T>> completed(final List<T> result) {
+
+			return new FutureTask<List<T>>(new Callable<List<T>>() {
+
+				@Override
+				public List<T> call() throws Exception {
+					return result;
+				}
+			});
+		}
+
+		private static <T> FutureTask<List<T>> failed(final RuntimeException exception) {
+
+			return new FutureTask<List<T>>(new Callable<List<T>>() {
+
+				@Override
+				public List<T> call() throws Exception {
+					throw exception;
+				}
+			});
+		}
+	}
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.util.CloseableIterator;
+
+/**
+ * Callback interface to process the documents of a single {@link ScanPartition} of a partitioned scan. Callbacks for
+ * different partitions are invoked concurrently if an {@link java.util.concurrent.Executor} is configured for the
+ * scan, so implementations need to be thread-safe.
+ *
+ * @since 1.10
+ * @see MongoOperations#scan(org.springframework.data.mongodb.core.query.Query, Class, String,
+ *      PartitionedScanOptions, PartitionCallback)
+ */
+public interface PartitionCallback<T> {
+
+	/**
+	 * Processes the documents of the given {@link ScanPartition}. The {@link CloseableIterator} is closed by the caller
+	 * once the method returns, it does not need to be consumed completely.
+	 *
+	 * @param partition will never be {@literal null}.
+	 * @param elements will never be {@literal null}.
+	 * @throws DataAccessException
+	 */
+	void doInPartition(ScanPartition partition, CloseableIterator<T> elements) throws DataAccessException;
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for partitioned scans via
+ * {@link MongoOperations#scan(org.springframework.data.mongodb.core.query.Query, Class, String, PartitionedScanOptions, PartitionCallback)}
+ * . The collection is split into {@link #getPartitions()} ranges of document identifiers that are scanned with a cursor
+ * each. If an {@link Executor} is configured, the partitions are scanned on it concurrently, otherwise one after the
+ * other on the calling thread.
+ *
+ * @since 1.10
+ */
+public class PartitionedScanOptions {
+
+	private static final int DEFAULT_BATCH_SIZE = 1000;
+
+	private int partitions = Runtime.getRuntime().availableProcessors();
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private Executor executor;
+	private ScanProgressListener progressListener;
+
+	/**
+	 * Static factory method to create a {@link PartitionedScanOptions} instance.
+	 *
+	 * @return a new instance
+	 */
+	public static PartitionedScanOptions options() {
+		return new PartitionedScanOptions();
+	}
+
+	/**
+	 * Configures the number of partitions to split the collection into. The actual number of partitions can be lower for
+	 * small collections. A residual partition is added if the collection contains identifiers of different BSON types.
+	 * Defaults to the number of available processors.
+	 *
+	 * @param partitions must be greater than zero.
+	 * @return
+	 */
+	public PartitionedScanOptions partitions(int partitions) {
+
+		Assert.isTrue(partitions > 0, "Number of partitions must be greater than zero!");
+
+		this.partitions = partitions;
+		return this;
+	}
+
+	/**
+	 * Configures the cursor batch size, which is also the interval progress is reported in. Defaults to
+	 * {@value #DEFAULT_BATCH_SIZE}.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @return
+	 */
+	public PartitionedScanOptions batchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * Configures the {@link Executor} to scan the partitions on. The number of threads of the {@link Executor} limits
+	 * the number of partitions scanned concurrently. Setting {@literal null} scans the partitions on the calling thread.
+	 *
+	 * @param executor can be {@literal null}.
+	 * @return
+	 */
+	public PartitionedScanOptions executor(Executor executor) {
+
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * Configures the {@link ScanProgressListener} to notify about the progress of the scan.
+	 *
+	 * @param progressListener can be {@literal null}.
+	 * @return
+	 */
+	public PartitionedScanOptions progressListener(ScanProgressListener progressListener) {
+
+		this.progressListener = progressListener;
+		return this;
+	}
+
+	public int getPartitions() {
+		return partitions;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	public ScanProgressListener getProgressListener() {
+		return progressListener;
+	}
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Collection;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.WriteResult;
+
+/**
+ * Interface that specifies a basic set of MongoDB operations returning Reactive Streams {@link Publisher}s. Nothing
+ * is executed before a {@link org.reactivestreams.Subscriber} subscribes to the returned {@link Publisher} and
+ * requests elements. Every subscription executes the operation again. Implemented by {@link ReactiveMongoTemplate}.
+ *
+ * @since 1.10
+ * @see MongoOperations
+ */
+public interface ReactiveMongoOperations {
+
+	/**
+	 * Returns the underlying {@link MongoConverter}.
+	 *
+	 * @return
+	 */
+	MongoConverter getConverter();
+
+	/**
+	 * Map the results of an ad-hoc query on the collection for the entity class to a {@link Publisher} of the specified
+	 * type. The results are read from the cursor as far as requested by the subscriber.
+	 *
+	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
+	 *          specification, must not be {@literal null}.
+	 * @param entityClass the parametrized type of the returned {@link Publisher}.
+	 * @return
+	 */
+	<T> Publisher<T> find(Query query, Class<T> entityClass);
+
+	/**
+	 * Map the results of an ad-hoc query on the specified collection to a {@link Publisher} of the specified type. The
+	 * results are read from the cursor as far as requested by the subscriber.
+	 *
+	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
+	 *          specification, must not be {@literal null}.
+	 * @param entityClass the parametrized type of the returned {@link Publisher}.
+	 * @param collectionName name of the collection to retrieve the objects from.
+	 * @return
+	 */
+	<T> Publisher<T> find(Query query, Class<T> entityClass, String collectionName);
+
+	/**
+	 * Emits all objects of the collection for the entity class.
+	 *
+	 * @param entityClass the parametrized type of the returned {@link Publisher}.
+	 * @return
+	 */
+	<T> Publisher<T> findAll(Class<T> entityClass);
+
+	/**
+	 * Emits all objects of the given collection.
+	 *
+	 * @param entityClass the parametrized type of the returned {@link Publisher}.
+	 * @param collectionName name of the collection to retrieve the objects from.
+	 * @return
+	 */
+	<T> Publisher<T> findAll(Class<T> entityClass, String collectionName);
+
+	/**
+	 * Emits the first result of the given query on the collection for the entity class or completes without emitting
+	 * an element if there is none.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass the parametrized type of the returned {@link Publisher}.
+	 * @return
+	 */
+	<T> Publisher<T> findOne(Query query, Class<T> entityClass);
+
+	/**
+	 * Emits the first result of the given query on the specified collection or completes without emitting an element
+	 * if there is none.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass the parametrized type of the returned {@link Publisher}.
+	 * @param collectionName name of the collection to retrieve the objects from.
+	 * @return
+	 */
+	<T> Publisher<T> findOne(Query query, Class<T> entityClass, String collectionName);
+
+	/**
+	 * Emits the document with the given id mapped onto the given class or completes without emitting an element if
+	 * there is none.
+	 *
+	 * @param id the id of the document to return.
+	 * @param entityClass the type the document shall be converted into.
+	 * @return
+	 */
+	<T> Publisher<T> findById(Object id, Class<T> entityClass);
+
+	/**
+	 * Emits the document with the given id from the given collection mapped onto the given class or completes without
+	 * emitting an element if there is none.
+	 *
+	 * @param id the id of the document to return.
+	 * @param entityClass the type to convert the document to.
+	 * @param collectionName the collection to query for the document.
+	 * @return
+	 */
+	<T> Publisher<T> findById(Object id, Class<T> entityClass, String collectionName);
+
+	/**
+	 * Emits the number of documents for the given {@link Query} by querying the collection of the given entity class.
+	 *
+	 * @param query
+	 * @param entityClass must not be {@literal null}.
+	 * @return
+	 */
+	Publisher<Long> count(Query query, Class<?> entityClass);
+
+	/**
+	 * Emits the number of documents for the given {@link Query} querying the given collection.
+	 *
+	 * @param query
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @return
+	 */
+	Publisher<Long> count(Query query, String collectionName);
+
+	/**
+	 * Emits the results of the given {@link TypedAggregation} on the collection of its input type mapped onto the given
+	 * output type.
+	 *
+	 * @param aggregation the {@link TypedAggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @param outputType the parametrized type of the returned {@link Publisher}, must not be {@literal null}.
+	 * @return
+	 */
+	<O> Publisher<O> aggregate(TypedAggregation<?> aggregation, Class<O> outputType);
+
+	/**
+	 * Emits the results of the given {@link Aggregation} on the given collection mapped onto the given output type.
+	 *
+	 * @param aggregation the {@link Aggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @param collectionName the collection to aggregate, must not be {@literal null} or empty.
+	 * @param outputType the parametrized type of the returned {@link Publisher}, must not be {@literal null}.
+	 * @return
+	 */
+	<O> Publisher<O> aggregate(Aggregation aggregation, String collectionName, Class<O> outputType);
+
+	/**
+	 * Inserts the given object into the collection for its type and emits it once inserted.
+	 *
+	 * @param objectToSave the object to store in the collection.
+	 * @return
+	 */
+	<T> Publisher<T> insert(T objectToSave);
+
+	/**
+	 * Inserts the given object into the given collection and emits it once inserted.
+	 *
+	 * @param objectToSave the object to store in the collection.
+	 * @param collectionName name of the collection to store the object in.
+	 * @return
+	 */
+	<T> Publisher<T> insert(T objectToSave, String collectionName);
+
+	/**
+	 * Inserts the given objects into the collections for their types and emits them once inserted.
+	 *
+	 * @param objectsToSave the objects to store, must not be {@literal null}.
+	 * @return
+	 */
+	<T> Publisher<T> insertAll(Collection<? extends T> objectsToSave);
+
+	/**
+	 * Saves the given object into the collection for its type, i.e. inserts or updates it depending on its identifier,
+	 * and emits it once saved.
+	 *
+	 * @param objectToSave the object to store in the collection.
+	 * @return
+	 */
+	<T> Publisher<T> save(T objectToSave);
+
+	/**
+	 * Saves the given object into the given collection and emits it once saved.
+	 *
+	 * @param objectToSave the object to store in the collection.
+	 * @param collectionName name of the collection to store the object in.
+	 * @return
+	 */
+	<T> Publisher<T> save(T objectToSave, String collectionName);
+
+	/**
+	 * Updates the first object found by the given {@link Query} in the collection of the given entity class and emits
+	 * the {@link WriteResult}.
+	 *
+	 * @param query the query document that specifies the criteria used to select a record to be updated.
+	 * @param update the update document that contains the updated object or $ operators to manipulate the existing
+	 *          object.
+	 * @param entityClass class that determines the collection to use.
+	 * @return
+	 */
+	Publisher<WriteResult> updateFirst(Query query, Update update, Class<?> entityClass);
+
+	/**
+	 * Updates the first object found by the given {@link Query} in the given collection and emits the
+	 * {@link WriteResult}.
+	 *
+	 * @param query the query document that specifies the criteria used to select a record to be updated.
+	 * @param update the update document that contains the updated object or $ operators to manipulate the existing
+	 *          object.
+	 * @param collectionName name of the collection to update the object in.
+	 * @return
+	 */
+	Publisher<WriteResult> updateFirst(Query query, Update update, String collectionName);
+
+	/**
+	 * Updates all objects found by the given {@link Query} in the collection of the given entity class and emits the
+	 * {@link WriteResult}.
+	 *
+	 * @param query the query document that specifies the criteria used to select the records to be updated.
+	 * @param update the update document that contains the updated object or $ operators to manipulate the existing
+	 *          objects.
+	 * @param entityClass class that determines the collection to use.
+	 * @return
+	 */
+	Publisher<WriteResult> updateMulti(Query query, Update update, Class<?> entityClass);
+
+	/**
+	 * Updates all objects found by the given {@link Query} in the given collection and emits the {@link WriteResult}.
+	 *
+	 * @param query the query document that specifies the criteria used to select the records to be updated.
+	 * @param update the update document that contains the updated object or $ operators to manipulate the existing
+	 *          objects.
+	 * @param collectionName name of the collection to update the objects in.
+	 * @return
+	 */
+	Publisher<WriteResult> updateMulti(Query query, Update update, String collectionName);
+
+	/**
+	 * Performs an upsert on the collection of the given entity class and emits the {@link WriteResult}.
+	 *
+	 * @param query the query document that specifies the criteria used to select a record to be upserted.
+	 * @param update the update document that contains the updated object or $ operators to manipulate the existing
+	 *          object.
+	 * @param entityClass class that determines the collection to use.
+	 * @return
+	 */
+	Publisher<WriteResult> upsert(Query query, Update update, Class<?> entityClass);
+
+	/**
+	 * Removes the given object from the collection for its type and emits the {@link WriteResult}.
+	 *
+	 * @param object must not be {@literal null}.
+	 * @return
+	 */
+	Publisher<WriteResult> remove(Object object);
+
+	/**
+	 * Removes all documents matching the given {@link Query} from the collection of the given entity class and emits
+	 * the {@link WriteResult}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass class that determines the collection to use.
+	 * @return
+	 */
+	Publisher<WriteResult> remove(Query query, Class<?> entityClass);
+
+	/**
+	 * Removes all documents matching the given {@link Query} from the given collection and emits the
+	 * {@link WriteResult}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param collectionName name of the collection to remove the documents from.
+	 * @return
+	 */
+	Publisher<WriteResult> remove(Query query, String collectionName);
+}
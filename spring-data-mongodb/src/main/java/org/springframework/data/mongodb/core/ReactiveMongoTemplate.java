@@ -0,0 +1,466 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.util.Assert;
+
+import com.mongodb.WriteResult;
+
+/**
+ * {@link ReactiveMongoOperations} implementation executing the operations of a {@link MongoOperations} on an
+ * {@link Executor}. Query results are read from a cursor only as far as requested by the subscriber, so that large
+ * results can be consumed with backpressure. Mapping and exception translation is done by the {@link MongoOperations}
+ * so that they behave exactly the same as for blocking usage.
+ *
+ * @since 1.10
+ */
+public class ReactiveMongoTemplate implements ReactiveMongoOperations {
+
+	private final MongoOperations operations;
+	private final Executor executor;
+
+	/**
+	 * Creates a new {@link ReactiveMongoTemplate} for the given {@link MongoOperations} executing operations on the
+	 * given {@link Executor}. Every subscription reads its elements on the {@link Executor} whenever the subscriber
+	 * requests more of them, so it should be a thread pool bounded to the number of concurrent database operations
+	 * acceptable for the application.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 */
+	public ReactiveMongoTemplate(MongoOperations operations, Executor executor) {
+
+		Assert.notNull(operations, "MongoOperations must not be null!");
+		Assert.notNull(executor, "Executor must not be null!");
+
+		this.operations = operations;
+		this.executor = executor;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#getConverter()
+	 */
+	@Override
+	public MongoConverter getConverter() {
+		return operations.getConverter();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#find(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public <T> Publisher<T> find(Query query, Class<T> entityClass) {
+		return find(query, entityClass, operations.getCollectionName(entityClass));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#find(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.lang.String)
+	 */
+	@Override
+	public <T> Publisher<T> find(final Query query, final Class<T> entityClass, final String collectionName) {
+
+		Assert.notNull(query, "Query must not be null!");
+
+		return new IteratorPublisher<T>(new Callable<Iterator<T>>() {
+
+			@Override
+			public Iterator<T> call() throws Exception {
+				return operations.stream(query, entityClass, collectionName);
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#findAll(java.lang.Class)
+	 */
+	@Override
+	public <T> Publisher<T> findAll(Class<T> entityClass) {
+		return find(new Query(), entityClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#findAll(java.lang.Class, java.lang.String)
+	 */
+	@Override
+	public <T> Publisher<T> findAll(Class<T> entityClass, String collectionName) {
+		return find(new Query(), entityClass, collectionName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#findOne(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public <T> Publisher<T> findOne(final Query query, final Class<T> entityClass) {
+
+		return IteratorPublisher.single(new Callable<T>() {
+
+			@Override
+			public T call() throws Exception {
+				return operations.findOne(query, entityClass);
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#findOne(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.lang.String)
+	 */
+	@Override
+	public <T> Publisher<T> findOne(final Query query, final Class<T> entityClass, final String collectionName) {
+
+		return IteratorPublisher.single(new Callable<T>() {
+
+			@Override
+			public T call() throws Exception {
+				return operations.findOne(query, entityClass, collectionName);
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#findById(java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	public <T> Publisher<T> findById(final Object id, final Class<T> entityClass) {
+
+		return IteratorPublisher.single(new Callable<T>() {
+
+			@Override
+			public T call() throws Exception {
+				return operations.findById(id, entityClass);
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#findById(java.lang.Object, java.lang.Class, java.lang.String)
+	 */
+	@Override
+	public <T> Publisher<T> findById(final Object id, final Class<T> entityClass, final String collectionName) {
+
+		return IteratorPublisher.single(new Callable<T>() {
+
+			@Override
+			public T call() throws Exception {
+				return operations.findById(id, entityClass, collectionName);
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#count(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public Publisher<Long> count(final Query query, final Class<?> entityClass) {
+
+		return IteratorPublisher.single(new Callable<Long>() {
+
+			@Override
+			public Long call() throws Exception {
+				return operations.count(query, entityClass);
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#count(org.springframework.data.mongodb.core.query.Query, java.lang.String)
+	 */
+	@Override
+	public Publisher<Long> count(final Query query, final String collectionName) {
+
+		return IteratorPublisher.single(new Callable<Long>() {
+
+			@Override
+			public Long call() throws Exception {
+				return operations.count(query, collectionName);
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#aggregate(org.springframework.data.mongodb.core.aggregation.TypedAggregation, java.lang.Class)
+	 */
+	@Override
+	public <O> Publisher<O> aggregate(final TypedAggregation<?> aggregation, final Class<O> outputType) {
+
+		return new IteratorPublisher<O>(new Callable<Iterator<O>>() {
+
+			@Override
+			public Iterator<O> call() throws Exception {
+				return operations.aggregateStream(aggregation, outputType);
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#aggregate(org.springframework.data.mongodb.core.aggregation.Aggregation, java.lang.String, java.lang.Class)
+	 */
+	@Override
+	public <O> Publisher<O> aggregate(final Aggregation aggregation, final String collectionName,
+			final Class<O> outputType) {
+
+		return new IteratorPublisher<O>(new Callable<Iterator<O>>() {
+
+			@Override
+			public Iterator<O> call() throws Exception {
+				return operations.aggregateStream(aggregation, collectionName, outputType);
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#insert(java.lang.Object)
+	 */
+	@Override
+	public <T> Publisher<T> insert(final T objectToSave) {
+
+		return IteratorPublisher.single(new Callable<T>() {
+
+			@Override
+			public T call() throws Exception {
+
+				operations.insert(objectToSave);
+				return objectToSave;
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#insert(java.lang.Object, java.lang.String)
+	 */
+	@Override
+	public <T> Publisher<T> insert(final T objectToSave, final String collectionName) {
+
+		return IteratorPublisher.single(new Callable<T>() {
+
+			@Override
+			public T call() throws Exception {
+
+				operations.insert(objectToSave, collectionName);
+				return objectToSave;
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#insertAll(java.util.Collection)
+	 */
+	@Override
+	public <T> Publisher<T> insertAll(final Collection<? extends T> objectsToSave) {
+
+		Assert.notNull(objectsToSave, "Objects to save must not be null!");
+
+		return new IteratorPublisher<T>(new Callable<Iterator<? extends T>>() {
+
+			@Override
+			public Iterator<? extends T> call() throws Exception {
+
+				operations.insertAll(objectsToSave);
+				return objectsToSave.iterator();
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#save(java.lang.Object)
+	 */
+	@Override
+	public <T> Publisher<T> save(final T objectToSave) {
+
+		return IteratorPublisher.single(new Callable<T>() {
+
+			@Override
+			public T call() throws Exception {
+
+				operations.save(objectToSave);
+				return objectToSave;
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#save(java.lang.Object, java.lang.String)
+	 */
+	@Override
+	public <T> Publisher<T> save(final T objectToSave, final String collectionName) {
+
+		return IteratorPublisher.single(new Callable<T>() {
+
+			@Override
+			public T call() throws Exception {
+
+				operations.save(objectToSave, collectionName);
+				return objectToSave;
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#updateFirst(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update, java.lang.Class)
+	 */
+	@Override
+	public Publisher<WriteResult> updateFirst(final Query query, final Update update, final Class<?> entityClass) {
+
+		return IteratorPublisher.single(new Callable<WriteResult>() {
+
+			@Override
+			public WriteResult call() throws Exception {
+				return operations.updateFirst(query, update, entityClass);
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#updateFirst(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update, java.lang.String)
+	 */
+	@Override
+	public Publisher<WriteResult> updateFirst(final Query query, final Update update, final String collectionName) {
+
+		return IteratorPublisher.single(new Callable<WriteResult>() {
+
+			@Override
+			public WriteResult call() throws Exception {
+				return operations.updateFirst(query, update, collectionName);
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#updateMulti(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update, java.lang.Class)
+	 */
+	@Override
+	public Publisher<WriteResult> updateMulti(final Query query, final Update update, final Class<?> entityClass) {
+
+		return IteratorPublisher.single(new Callable<WriteResult>() {
+
+			@Override
+			public WriteResult call() throws Exception {
+				return operations.updateMulti(query, update, entityClass);
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#updateMulti(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update, java.lang.String)
+	 */
+	@Override
+	public Publisher<WriteResult> updateMulti(final Query query, final Update update, final String collectionName) {
+
+		return IteratorPublisher.single(new Callable<WriteResult>() {
+
+			@Override
+			public WriteResult call() throws Exception {
+				return operations.updateMulti(query, update, collectionName);
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#upsert(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update, java.lang.Class)
+	 */
+	@Override
+	public Publisher<WriteResult> upsert(final Query query, final Update update, final Class<?> entityClass) {
+
+		return IteratorPublisher.single(new Callable<WriteResult>() {
+
+			@Override
+			public WriteResult call() throws Exception {
+				return operations.upsert(query, update, entityClass);
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#remove(java.lang.Object)
+	 */
+	@Override
+	public Publisher<WriteResult> remove(final Object object) {
+
+		return IteratorPublisher.single(new Callable<WriteResult>() {
+
+			@Override
+			public WriteResult call() throws Exception {
+				return operations.remove(object);
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#remove(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public Publisher<WriteResult> remove(final Query query, final Class<?> entityClass) {
+
+		return IteratorPublisher.single(new Callable<WriteResult>() {
+
+			@Override
+			public WriteResult call() throws Exception {
+				return operations.remove(query, entityClass);
+			}
+		}, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#remove(org.springframework.data.mongodb.core.query.Query, java.lang.String)
+	 */
+	@Override
+	public Publisher<WriteResult> remove(final Query query, final String collectionName) {
+
+		return IteratorPublisher.single(new Callable<WriteResult>() {
+
+			@Override
+			public WriteResult call() throws Exception {
+				return operations.remove(query, collectionName);
+			}
+		}, executor);
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * A range of document identifiers scanned as a unit by
+ * {@link MongoOperations#scan(org.springframework.data.mongodb.core.query.Query, Class, String, PartitionedScanOptions, PartitionCallback)}
+ * . The lower bound is inclusive, the upper bound exclusive. A {@literal null} bound leaves the range open to that
+ * side. As MongoDB only compares values of the same BSON type in range queries, a residual partition covers all
+ * documents whose identifier is not of the BSON type of the bounds.
+ *
+ * @since 1.10
+ */
+public class ScanPartition {
+
+	private static final String ID_FIELD = "_id";
+
+	private final int index;
+	private final Object lowerBound;
+	private final Object upperBound;
+	private final List<Integer> excludedTypes;
+
+	/**
+	 * Creates a new {@link ScanPartition} with the given index and bounds.
+	 *
+	 * @param index must not be negative.
+	 * @param lowerBound the inclusive lower bound, can be {@literal null}.
+	 * @param upperBound the exclusive upper bound, can be {@literal null}.
+	 */
+	public ScanPartition(int index, Object lowerBound, Object upperBound) {
+
+		Assert.isTrue(index >= 0, "Index must not be negative!");
+
+		this.index = index;
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
+		this.excludedTypes = Collections.emptyList();
+	}
+
+	/**
+	 * Creates a new residual {@link ScanPartition} with the given index covering all documents whose identifier is not
+	 * of one of the given BSON types.
+	 *
+	 * @param index must not be negative.
+	 * @param excludedTypes the BSON type numbers of the identifiers covered by other partitions, must not be
+	 *          {@literal null} or empty.
+	 */
+	public ScanPartition(int index, List<Integer> excludedTypes) {
+
+		Assert.isTrue(index >= 0, "Index must not be negative!");
+		Assert.notEmpty(excludedTypes, "Excluded types must not be null or empty!");
+
+		this.index = index;
+		this.lowerBound = null;
+		this.upperBound = null;
+		this.excludedTypes = Collections.unmodifiableList(new ArrayList<Integer>(excludedTypes));
+	}
+
+	/**
+	 * Returns the position of the partition within all partitions of a scan, starting with {@literal 0}.
+	 *
+	 * @return
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	public Object getLowerBound() {
+		return lowerBound;
+	}
+
+	public Object getUpperBound() {
+		return upperBound;
+	}
+
+	/**
+	 * Returns whether the partition covers the documents whose identifier is not of the BSON type of the other
+	 * partitions' bounds.
+	 *
+	 * @return
+	 */
+	public boolean isResidual() {
+		return !excludedTypes.isEmpty();
+	}
+
+	/**
+	 * Returns the criteria selecting the documents of the partition. Returns an empty {@link DBObject} for a partition
+	 * open to both sides.
+	 *
+	 * @return
+	 */
+	public DBObject getCriteriaObject() {
+
+		if (isResidual()) {
+
+			List<DBObject> types = new ArrayList<DBObject>(excludedTypes.size());
+
+			for (Integer type : excludedTypes) {
+				types.add(new BasicDBObject(ID_FIELD, new BasicDBObject("$type", type)));
+			}
+
+			return new BasicDBObject("$nor", types);
+		}
+
+		DBObject range = new BasicDBObject();
+
+		if (lowerBound != null) {
+			range.put("$gte", lowerBound);
+		}
+
+		if (upperBound != null) {
+			range.put("$lt", upperBound);
+		}
+
+		return range.keySet().isEmpty() ? new BasicDBObject() : new BasicDBObject(ID_FIELD, range);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof ScanPartition)) {
+			return false;
+		}
+
+		ScanPartition that = (ScanPartition) obj;
+
+		return this.index == that.index && ObjectUtils.nullSafeEquals(this.lowerBound, that.lowerBound)
+				&& ObjectUtils.nullSafeEquals(this.upperBound, that.upperBound)
+				&& this.excludedTypes.equals(that.excludedTypes);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+
+		int result = 17;
+
+		result = 31 * result + index;
+		result = 31 * result + ObjectUtils.nullSafeHashCode(lowerBound);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(upperBound);
+		result = 31 * result + excludedTypes.hashCode();
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+
+		if (isResidual()) {
+			return String.format("ScanPartition %s [_id not of BSON types %s]", index, excludedTypes);
+		}
+
+		return String.format("ScanPartition %s [%s, %s)", index, lowerBound == null ? "MinKey" : lowerBound,
+				upperBound == null ? "MaxKey" : upperBound);
+	}
+}
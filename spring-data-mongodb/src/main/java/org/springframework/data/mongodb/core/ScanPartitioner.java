@@ -0,0 +1,351 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.bson.types.BSONTimestamp;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.bson.types.Symbol;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.mongodb.AggregationOptions;
+import com.mongodb.BasicDBObject;
+import com.mongodb.CommandResult;
+import com.mongodb.Cursor;
+import com.mongodb.DBCollection;
+import com.mongodb.DBCursor;
+import com.mongodb.DBObject;
+import com.mongodb.MongoException;
+
+/**
+ * Splits a collection into {@link ScanPartition}s of about the same number of documents. Uses the boundaries
+ * calculated by the {@code splitVector} command if available and falls back to a {@code $sample} of the identifiers
+ * otherwise, e.g. when connected to a {@code mongos} or lacking the privileges to run {@code splitVector}. Only
+ * boundaries of the prevailing BSON type are used. If the collection contains identifiers of other BSON types, a
+ * residual partition is added for them.
+ *
+ * @since 1.10
+ */
+class ScanPartitioner {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ScanPartitioner.class);
+	private static final String ID_FIELD = "_id";
+	private static final long MIN_CHUNK_SIZE = 1024 * 1024;
+	private static final int SAMPLES_PER_PARTITION = 10;
+
+	private static final List<Integer> NUMBER_TYPES = Arrays.asList(1, 16, 18);
+	private static final List<Integer> STRING_TYPES = Arrays.asList(2, 14);
+	private static final List<Integer> OBJECT_TYPES = Collections.singletonList(3);
+	private static final List<Integer> BINARY_TYPES = Collections.singletonList(5);
+	private static final List<Integer> OBJECT_ID_TYPES = Collections.singletonList(7);
+	private static final List<Integer> BOOLEAN_TYPES = Collections.singletonList(8);
+	private static final List<Integer> DATE_TYPES = Collections.singletonList(9);
+	private static final List<Integer> TIMESTAMP_TYPES = Collections.singletonList(17);
+
+	private final DBCollection collection;
+
+	/**
+	 * Creates a new {@link ScanPartitioner} for the given {@link DBCollection}.
+	 *
+	 * @param collection must not be {@literal null}.
+	 */
+	ScanPartitioner(DBCollection collection) {
+
+		Assert.notNull(collection, "DBCollection must not be null!");
+		this.collection = collection;
+	}
+
+	/**
+	 * Splits the collection into at most the given number of {@link ScanPartition}s covering all documents, plus a
+	 * residual partition if the collection contains identifiers of different BSON types.
+	 *
+	 * @param partitions must be greater than zero.
+	 * @return
+	 */
+	List<ScanPartition> partition(int partitions) {
+
+		Assert.isTrue(partitions > 0, "Number of partitions must be greater than zero!");
+
+		List<Object> boundaries = Collections.emptyList();
+		List<Integer> types = null;
+
+		if (partitions > 1) {
+
+			List<Object> candidates = getSplitVectorBoundaries(partitions);
+
+			if (candidates == null) {
+				candidates = getSampledBoundaries(partitions);
+			}
+
+			types = getPrevailingTypes(candidates);
+			boundaries = types == null ? boundaries : select(filter(candidates, types), partitions - 1);
+		}
+
+		List<ScanPartition> result = new ArrayList<ScanPartition>(boundaries.size() + 2);
+		Object lowerBound = null;
+
+		for (Object boundary : boundaries) {
+
+			result.add(new ScanPartition(result.size(), lowerBound, boundary));
+			lowerBound = boundary;
+		}
+
+		result.add(new ScanPartition(result.size(), lowerBound, null));
+
+		if (!boundaries.isEmpty() && !containsOnlyIdentifiersOf(types)) {
+			result.add(new ScanPartition(result.size(), types));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the boundaries calculated by the {@code splitVector} command or {@literal null} if the command is not
+	 * available.
+	 *
+	 * @param partitions
+	 * @return
+	 */
+	private List<Object> getSplitVectorBoundaries(int partitions) {
+
+		try {
+
+			CommandResult stats = collection.getStats();
+			Object size = stats.get("size");
+
+			if (!stats.ok() || !(size instanceof Number)) {
+				return null;
+			}
+
+			long chunkSize = Math.max(((Number) size).longValue() / partitions, MIN_CHUNK_SIZE);
+
+			DBObject command = new BasicDBObject("splitVector", collection.getFullName());
+			command.put("keyPattern", new BasicDBObject(ID_FIELD, 1));
+			command.put("maxChunkSizeBytes", chunkSize);
+
+			CommandResult result = collection.getDB().command(command);
+
+			if (!result.ok()) {
+				LOGGER.debug("Could not determine split points for {}: {}", collection.getFullName(), result.getErrorMessage());
+				return null;
+			}
+
+			List<Object> boundaries = new ArrayList<Object>();
+
+			for (Object splitKey : (List<?>) result.get("splitKeys")) {
+				boundaries.add(((DBObject) splitKey).get(ID_FIELD));
+			}
+
+			return boundaries;
+
+		} catch (MongoException o_O) {
+
+			LOGGER.debug("Could not determine split points for {}: {}", collection.getFullName(), o_O.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the sorted identifiers of a random sample of documents, taking a few samples per partition. The sample is
+	 * taken by the {@code $sample} aggregation stage in a single round trip. Returns an empty {@link List} if the
+	 * server does not support {@code $sample}.
+	 *
+	 * @param partitions
+	 * @return
+	 */
+	private List<Object> getSampledBoundaries(int partitions) {
+
+		List<DBObject> pipeline = new ArrayList<DBObject>(3);
+		pipeline.add(new BasicDBObject("$sample", new BasicDBObject("size", partitions * SAMPLES_PER_PARTITION)));
+		pipeline.add(new BasicDBObject("$project", new BasicDBObject(ID_FIELD, 1)));
+		pipeline.add(new BasicDBObject("$sort", new BasicDBObject(ID_FIELD, 1)));
+
+		List<Object> boundaries = new ArrayList<Object>();
+
+		try {
+
+			Cursor cursor = collection.aggregate(pipeline,
+					AggregationOptions.builder().outputMode(AggregationOptions.OutputMode.CURSOR).build());
+
+			try {
+				while (cursor.hasNext()) {
+					addIfNew(boundaries, cursor.next().get(ID_FIELD));
+				}
+			} finally {
+				cursor.close();
+			}
+
+		} catch (MongoException o_O) {
+
+			LOGGER.debug("Could not sample identifiers of {}: {}", collection.getFullName(), o_O.getMessage());
+			return Collections.emptyList();
+		}
+
+		return boundaries;
+	}
+
+	/**
+	 * Returns whether the smallest and the largest identifier of the collection are of the given BSON types. As
+	 * MongoDB orders values by type first, all identifiers are of the given types then.
+	 *
+	 * @param types
+	 * @return
+	 */
+	private boolean containsOnlyIdentifiersOf(List<Integer> types) {
+		return types.equals(getTypes(getFirstIdentifier(1))) && types.equals(getTypes(getFirstIdentifier(-1)));
+	}
+
+	private Object getFirstIdentifier(int direction) {
+
+		DBCursor cursor = collection.find(new BasicDBObject(), new BasicDBObject(ID_FIELD, 1))
+				.sort(new BasicDBObject(ID_FIELD, direction)).limit(1);
+
+		try {
+			return cursor.hasNext() ? cursor.next().get(ID_FIELD) : null;
+		} finally {
+			cursor.close();
+		}
+	}
+
+	/**
+	 * Returns the BSON types most of the given boundaries are of or {@literal null} if none of the boundaries is of a
+	 * BSON type known to support range queries.
+	 *
+	 * @param boundaries
+	 * @return
+	 */
+	private static List<Integer> getPrevailingTypes(List<Object> boundaries) {
+
+		Map<List<Integer>, Integer> counts = new LinkedHashMap<List<Integer>, Integer>();
+		List<Integer> result = null;
+
+		for (Object boundary : boundaries) {
+
+			List<Integer> types = getTypes(boundary);
+
+			if (types == null) {
+				continue;
+			}
+
+			Integer count = counts.get(types);
+			counts.put(types, count == null ? 1 : count + 1);
+
+			if (result == null || counts.get(types) > counts.get(result)) {
+				result = types;
+			}
+		}
+
+		return result;
+	}
+
+	private static List<Object> filter(List<Object> boundaries, List<Integer> types) {
+
+		List<Object> result = new ArrayList<Object>(boundaries.size());
+
+		for (Object boundary : boundaries) {
+			if (types.equals(getTypes(boundary))) {
+				result.add(boundary);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the BSON types MongoDB compares the given identifier with or {@literal null} if unknown.
+	 *
+	 * @param id
+	 * @return
+	 */
+	private static List<Integer> getTypes(Object id) {
+
+		if (id instanceof Number) {
+			return NUMBER_TYPES;
+		}
+
+		if (id instanceof String || id instanceof Symbol) {
+			return STRING_TYPES;
+		}
+
+		if (id instanceof ObjectId) {
+			return OBJECT_ID_TYPES;
+		}
+
+		if (id instanceof Date) {
+			return DATE_TYPES;
+		}
+
+		if (id instanceof Boolean) {
+			return BOOLEAN_TYPES;
+		}
+
+		if (id instanceof BSONTimestamp) {
+			return TIMESTAMP_TYPES;
+		}
+
+		if (id instanceof byte[] || id instanceof Binary || id instanceof UUID) {
+			return BINARY_TYPES;
+		}
+
+		if (id instanceof DBObject && !(id instanceof List)) {
+			return OBJECT_TYPES;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Selects the given number of evenly distributed boundaries from the given ones.
+	 *
+	 * @param boundaries
+	 * @param count
+	 * @return
+	 */
+	private static List<Object> select(List<Object> boundaries, int count) {
+
+		if (boundaries.size() <= count) {
+			return boundaries;
+		}
+
+		List<Object> result = new ArrayList<Object>(count);
+		int size = boundaries.size();
+
+		for (int i = 1; i <= count; i++) {
+			addIfNew(result, boundaries.get((int) ((long) i * (size + 1) / (count + 1)) - 1));
+		}
+
+		return result;
+	}
+
+	private static void addIfNew(List<Object> boundaries, Object boundary) {
+
+		if (boundaries.isEmpty() || !ObjectUtils.nullSafeEquals(boundaries.get(boundaries.size() - 1), boundary)) {
+			boundaries.add(boundary);
+		}
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+/**
+ * Listener to be notified about the progress of a partitioned scan. Notifications for different partitions are
+ * received concurrently if an {@link java.util.concurrent.Executor} is configured for the scan.
+ *
+ * @since 1.10
+ * @see PartitionedScanOptions#progressListener(ScanProgressListener)
+ */
+public interface ScanProgressListener {
+
+	/**
+	 * Called after every batch of documents read from the given {@link ScanPartition}.
+	 *
+	 * @param partition will never be {@literal null}.
+	 * @param scanned the number of documents read from the partition so far.
+	 */
+	void onProgress(ScanPartition partition, long scanned);
+
+	/**
+	 * Called once the {@link PartitionCallback} for the given {@link ScanPartition} completed successfully. Not called
+	 * for partitions that were skipped or ended early because another partition failed.
+	 *
+	 * @param partition will never be {@literal null}.
+	 * @param scanned the total number of documents read from the partition.
+	 */
+	void onCompleted(ScanPartition partition, long scanned);
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for streaming query results via
+ * {@link MongoOperations#stream(org.springframework.data.mongodb.core.query.Query, Class, String, StreamOptions)}.
+ * Documents are read from the cursor in batches of {@link #getBatchSize()} documents. If an {@link Executor} is
+ * configured, the next batches are fetched in the background and converted on the {@link Executor} while the current
+ * one is consumed. At most {@link #getBufferSize()} batches are held ahead of the consumer, so that a slow consumer
+ * does not cause the whole result to be read into memory.
+ *
+ * @since 1.10
+ */
+public class StreamOptions {
+
+	private static final int DEFAULT_BATCH_SIZE = 100;
+	private static final int DEFAULT_BUFFER_SIZE = 2;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private int bufferSize = DEFAULT_BUFFER_SIZE;
+	private Executor executor;
+
+	/**
+	 * Static factory method to create a {@link StreamOptions} instance.
+	 *
+	 * @return a new instance
+	 */
+	public static StreamOptions options() {
+		return new StreamOptions();
+	}
+
+	/**
+	 * Configures the number of documents to read from the cursor and convert at once. Defaults to
+	 * {@value #DEFAULT_BATCH_SIZE}.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @return
+	 */
+	public StreamOptions batchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * Configures the maximum number of batches fetched ahead of the consumer. Defaults to {@value #DEFAULT_BUFFER_SIZE}.
+	 *
+	 * @param bufferSize must be greater than zero.
+	 * @return
+	 */
+	public StreamOptions bufferSize(int bufferSize) {
+
+		Assert.isTrue(bufferSize > 0, "Buffer size must be greater than zero!");
+
+		this.bufferSize = bufferSize;
+		return this;
+	}
+
+	/**
+	 * Configures the {@link Executor} to fetch and convert batches on. Setting {@literal null} reads and converts
+	 * documents on the consuming thread.
+	 *
+	 * @param executor can be {@literal null}.
+	 * @return
+	 */
+	public StreamOptions executor(Executor executor) {
+
+		this.executor = executor;
+		return this;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	public Executor getExecutor() {
+		return executor;
+	}
+}
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.mongodb.core.aggregation;
 
+import org.springframework.util.Assert;
+
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
 
@@ -177,6 +179,21 @@ public class AggregationOptions {
 			return this;
 		}
 
+		/**
+		 * Configures the number of documents to return per batch when reading the results through a cursor.
+		 * 
+		 * @param batchSize must be greater than zero.
+		 * @return
+		 * @since 1.10
+		 */
+		public Builder cursorBatchSize(int batchSize) {
+
+			Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+
+			this.cursor = new BasicDBObject("batchSize", batchSize);
+			return this;
+		}
+
 		/**
 		 * Returns a new {@link AggregationOptions} instance with the given configuration.
 		 * 
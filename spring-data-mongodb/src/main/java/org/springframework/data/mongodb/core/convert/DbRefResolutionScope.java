@@ -0,0 +1,281 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.mongodb.DBObject;
+import com.mongodb.DBRef;
+
+/**
+ * A first level cache for {@link DBRef} resolution bound to the current thread. While a scope is active, documents
+ * fetched for a {@link DBRef} are kept by collection and id so that subsequent references to the same document don't
+ * cause additional round-trips. Objects converted from these documents are shared as well, so that all references to
+ * the same document within a scope resolve to the same instance.
+ * <p>
+ * A scope is usually opened for a unit of work and closed in a {@literal finally} block:
+ *
+ * <pre class="code">
+ * DbRefResolutionScope scope = DbRefResolutionScope.open();
+ *
+ * try {
+ * 	// read operations
+ * } finally {
+ * 	scope.close();
+ * }
+ * </pre>
+ *
+ * Opening a scope while another one is active joins the currently active one. Activations are tracked per thread in a
+ * stack, so that closing a scope always re-activates the one that was active before. A scope created with a maximum
+ * size evicts the least recently used documents and instances once it holds more than that many of them, which allows
+ * to use it for units of work of arbitrary length like streams. Instances are not thread-safe and are meant to be
+ * used by a single thread at a time.
+ *
+ * @since 1.10
+ */
+public class DbRefResolutionScope {
+
+	private static final ThreadLocal<Deque<DbRefResolutionScope>> ACTIVE = new ThreadLocal<Deque<DbRefResolutionScope>>();
+
+	private final Map<CacheKey, DBObject> documents;
+	private final Map<CacheKey, Object> instances;
+
+	/**
+	 * Creates a new {@link DbRefResolutionScope} caching all documents and instances until it is discarded.
+	 */
+	public DbRefResolutionScope() {
+		this(0);
+	}
+
+	/**
+	 * Creates a new {@link DbRefResolutionScope} caching at most the given number of documents and instances each.
+	 *
+	 * @param maximumSize the maximum number of cached documents and instances, {@literal 0} for no limit.
+	 */
+	public DbRefResolutionScope(int maximumSize) {
+
+		Assert.isTrue(maximumSize >= 0, "Maximum size must not be negative!");
+
+		this.documents = new BoundedCache<DBObject>(maximumSize);
+		this.instances = new BoundedCache<Object>(maximumSize);
+	}
+
+	/**
+	 * Opens a new {@link DbRefResolutionScope} for the current thread or joins the currently active one.
+	 *
+	 * @return the active {@link DbRefResolutionScope}, will never be {@literal null}.
+	 */
+	public static DbRefResolutionScope open() {
+
+		DbRefResolutionScope current = getCurrent();
+		return (current != null ? current : new DbRefResolutionScope()).activate();
+	}
+
+	/**
+	 * Returns the {@link DbRefResolutionScope} currently bound to the thread.
+	 *
+	 * @return the current {@link DbRefResolutionScope} or {@literal null} if none is active.
+	 */
+	public static DbRefResolutionScope getCurrent() {
+
+		Deque<DbRefResolutionScope> active = ACTIVE.get();
+		return active == null ? null : active.peek();
+	}
+
+	/**
+	 * Binds the current {@link DbRefResolutionScope} to the current thread. Allows to re-activate a scope that has been
+	 * deactivated via {@link #close()} before, e.g. to resolve references for each element of a stream with the same
+	 * scope. Every call needs to be paired with a call to {@link #close()}.
+	 *
+	 * @return the current {@link DbRefResolutionScope}.
+	 */
+	public DbRefResolutionScope activate() {
+
+		Deque<DbRefResolutionScope> active = ACTIVE.get();
+
+		if (active == null) {
+			active = new ArrayDeque<DbRefResolutionScope>();
+			ACTIVE.set(active);
+		}
+
+		active.push(this);
+
+		return this;
+	}
+
+	/**
+	 * Closes the latest activation of the {@link DbRefResolutionScope}, making the scope that was active before it the
+	 * current one again. The cached documents and instances are kept so that the scope can be activated again.
+	 */
+	public void close() {
+
+		Deque<DbRefResolutionScope> active = ACTIVE.get();
+
+		Assert.state(active != null && active.peek() == this,
+				"DbRefResolutionScope is not active for the current thread!");
+
+		active.pop();
+
+		if (active.isEmpty()) {
+			ACTIVE.remove();
+		}
+	}
+
+	/**
+	 * Removes all cached documents and instances.
+	 */
+	public void clear() {
+
+		documents.clear();
+		instances.clear();
+	}
+
+	/**
+	 * Returns the document cached for the given {@link DBRef}.
+	 *
+	 * @param dbRef must not be {@literal null}.
+	 * @return the cached document or {@literal null} if the {@link DBRef} hasn't been resolved within the scope yet.
+	 */
+	public DBObject getDocument(DBRef dbRef) {
+		return documents.get(new CacheKey(dbRef, null));
+	}
+
+	/**
+	 * Caches the given document as resolved value for the given {@link DBRef}.
+	 *
+	 * @param dbRef must not be {@literal null}.
+	 * @param document can be {@literal null}, in which case nothing is cached.
+	 */
+	public void putDocument(DBRef dbRef, DBObject document) {
+
+		if (document != null) {
+			documents.put(new CacheKey(dbRef, null), document);
+		}
+	}
+
+	/**
+	 * Returns the object the given {@link DBRef} was converted into for the given type.
+	 *
+	 * @param dbRef must not be {@literal null}.
+	 * @param type can be {@literal null}.
+	 * @return the shared instance or {@literal null} if none was registered yet.
+	 */
+	public Object getInstance(DBRef dbRef, Class<?> type) {
+		return instances.get(new CacheKey(dbRef, type));
+	}
+
+	/**
+	 * Registers the given instance as converted value of the given {@link DBRef} for the given type.
+	 *
+	 * @param dbRef must not be {@literal null}.
+	 * @param type can be {@literal null}.
+	 * @param instance can be {@literal null}, in which case nothing is cached.
+	 */
+	public void putInstance(DBRef dbRef, Class<?> type, Object instance) {
+
+		if (instance != null) {
+			instances.put(new CacheKey(dbRef, type), instance);
+		}
+	}
+
+	/**
+	 * {@link LinkedHashMap} evicting the least recently used entry once it holds more than the configured number of
+	 * entries.
+	 */
+	@SuppressWarnings("serial")
+	private static final class BoundedCache<V> extends LinkedHashMap<CacheKey, V> {
+
+		private final int maximumSize;
+
+		BoundedCache(int maximumSize) {
+
+			super(16, 0.75f, true);
+			this.maximumSize = maximumSize;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+		 */
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<CacheKey, V> eldest) {
+			return maximumSize > 0 && size() > maximumSize;
+		}
+	}
+
+	/**
+	 * Key for cached values consisting of the collection name, the identifier of the referenced document and an optional
+	 * target type.
+	 */
+	private static final class CacheKey {
+
+		private final String collection;
+		private final Object id;
+		private final Class<?> type;
+
+		CacheKey(DBRef dbRef, Class<?> type) {
+
+			Assert.notNull(dbRef, "DBRef must not be null!");
+
+			this.collection = dbRef.getCollectionName();
+			this.id = dbRef.getId();
+			this.type = type;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+
+			CacheKey that = (CacheKey) obj;
+
+			return ObjectUtils.nullSafeEquals(this.collection, that.collection)
+					&& ObjectUtils.nullSafeEquals(this.id, that.id) && ObjectUtils.nullSafeEquals(this.type, that.type);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+
+			int result = 17;
+
+			result = 31 * result + ObjectUtils.nullSafeHashCode(collection);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(id);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(type);
+
+			return result;
+		}
+	}
+}
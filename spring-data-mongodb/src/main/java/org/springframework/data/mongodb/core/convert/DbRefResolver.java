@@ -15,6 +15,8 @@
  */
 package org.springframework.data.mongodb.core.convert;
 
+import java.util.List;
+
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 
@@ -64,4 +66,15 @@ public interface DbRefResolver {
 	 * @since 1.7
 	 */
 	DBObject fetch(DBRef dbRef);
+
+	/**
+	 * Loads the given {@link DBRef}s from the datasource using as few round-trips as possible, i.e. a single query per
+	 * referenced collection. The returned {@link List} is aligned with the given one and contains {@literal null} for
+	 * {@link DBRef}s that could not be resolved.
+	 * 
+	 * @param dbRefs must not be {@literal null}.
+	 * @return the documents referenced in the order of the given {@link DBRef}s, never {@literal null}.
+	 * @since 1.10
+	 */
+	List<DBObject> bulkFetch(List<DBRef> dbRefs);
 }
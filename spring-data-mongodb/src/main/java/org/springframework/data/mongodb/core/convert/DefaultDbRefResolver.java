@@ -22,6 +22,23 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -40,6 +57,8 @@ import org.springframework.objenesis.ObjenesisStd;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBCursor;
 import com.mongodb.DBObject;
 import com.mongodb.DBRef;
 
@@ -52,11 +71,19 @@ import com.mongodb.DBRef;
  * @author Christoph Strobl
  * @since 1.4
  */
-public class DefaultDbRefResolver implements DbRefResolver {
+public class DefaultDbRefResolver implements ReadScopeAwareDbRefResolver {
+
+	private static final int DEFAULT_PREFETCH_BATCH_SIZE = 100;
 
 	private final MongoDbFactory mongoDbFactory;
 	private final PersistenceExceptionTranslator exceptionTranslator;
 	private final ObjenesisStd objenesis;
+	private final ThreadLocal<PrefetchingRead> currentRead = new ThreadLocal<PrefetchingRead>();
+	private final ConcurrentMap<Class<?>, Class<?>> enhancedTypes = new ConcurrentHashMap<Class<?>, Class<?>>();
+	private final ConcurrentMap<Class<?>, Class<?>[]> proxyInterfaces = new ConcurrentHashMap<Class<?>, Class<?>[]>();
+
+	private Executor prefetchExecutor;
+	private int prefetchBatchSize = DEFAULT_PREFETCH_BATCH_SIZE;
 
 	/**
 	 * Creates a new {@link DefaultDbRefResolver} with the given {@link MongoDbFactory}.
@@ -72,6 +99,35 @@ public class DefaultDbRefResolver implements DbRefResolver {
 		this.objenesis = new ObjenesisStd(true);
 	}
 
+	/**
+	 * Configures the {@link Executor} to prefetch the documents backing lazy loading proxies for single {@link DBRef}s.
+	 * Proxies created while {@link MappingMongoConverter} reads a document are collected into batches of
+	 * {@link #setPrefetchBatchSize(int) the configured size}. Batches are loaded in the background using a single query
+	 * per collection once they're complete or the read has finished, whichever comes first. A batch not loaded yet is
+	 * loaded as a whole when the first of its proxies is accessed. Proxies are still resolved on the accessing thread and
+	 * report failures the same way as without prefetching. Setting {@literal null} disables prefetching, which is the
+	 * default.
+	 * 
+	 * @param prefetchExecutor can be {@literal null}.
+	 * @since 1.10
+	 */
+	public void setPrefetchExecutor(Executor prefetchExecutor) {
+		this.prefetchExecutor = prefetchExecutor;
+	}
+
+	/**
+	 * Configures the number of lazy loading proxies to prefetch together. Defaults to
+	 * {@value #DEFAULT_PREFETCH_BATCH_SIZE}.
+	 * 
+	 * @param prefetchBatchSize must be greater than zero.
+	 * @since 1.10
+	 */
+	public void setPrefetchBatchSize(int prefetchBatchSize) {
+
+		Assert.isTrue(prefetchBatchSize > 0, "Prefetch batch size must be greater than zero!");
+		this.prefetchBatchSize = prefetchBatchSize;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.core.convert.DbRefResolver#resolveDbRef(org.springframework.data.mongodb.core.mapping.MongoPersistentProperty, org.springframework.data.mongodb.core.convert.DbRefResolverCallback)
@@ -106,7 +162,114 @@ public class DefaultDbRefResolver implements DbRefResolver {
 	 */
 	@Override
 	public DBObject fetch(DBRef dbRef) {
-		return ReflectiveDBRefResolver.fetch(mongoDbFactory, dbRef);
+
+		DbRefResolutionScope scope = DbRefResolutionScope.getCurrent();
+
+		if (scope == null) {
+			return ReflectiveDBRefResolver.fetch(mongoDbFactory, dbRef);
+		}
+
+		DBObject document = scope.getDocument(dbRef);
+
+		if (document == null) {
+			document = ReflectiveDBRefResolver.fetch(mongoDbFactory, dbRef);
+			scope.putDocument(dbRef, document);
+		}
+
+		return document;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.convert.DbRefResolver#bulkFetch(java.util.List)
+	 */
+	@Override
+	public List<DBObject> bulkFetch(List<DBRef> dbRefs) {
+
+		Assert.notNull(dbRefs, "DBRefs to fetch must not be null!");
+
+		if (dbRefs.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		DbRefResolutionScope scope = DbRefResolutionScope.getCurrent();
+		DBObject[] result = new DBObject[dbRefs.size()];
+		Map<String, Set<Object>> idsByCollection = new LinkedHashMap<String, Set<Object>>();
+
+		for (int i = 0; i < result.length; i++) {
+
+			DBRef dbRef = dbRefs.get(i);
+			result[i] = scope == null ? null : scope.getDocument(dbRef);
+
+			if (result[i] != null) {
+				continue;
+			}
+
+			Set<Object> ids = idsByCollection.get(dbRef.getCollectionName());
+
+			if (ids == null) {
+				ids = new LinkedHashSet<Object>();
+				idsByCollection.put(dbRef.getCollectionName(), ids);
+			}
+
+			ids.add(dbRef.getId());
+		}
+
+		Map<String, Map<Object, DBObject>> documentsByCollection = new HashMap<String, Map<Object, DBObject>>();
+
+		for (Entry<String, Set<Object>> entry : idsByCollection.entrySet()) {
+			documentsByCollection.put(entry.getKey(), fetchById(entry.getKey(), new ArrayList<Object>(entry.getValue())));
+		}
+
+		for (int i = 0; i < result.length; i++) {
+
+			if (result[i] != null) {
+				continue;
+			}
+
+			DBRef dbRef = dbRefs.get(i);
+			result[i] = documentsByCollection.get(dbRef.getCollectionName()).get(dbRef.getId());
+
+			if (scope != null) {
+				scope.putDocument(dbRef, result[i]);
+			}
+		}
+
+		return Arrays.asList(result);
+	}
+
+	/**
+	 * Loads all documents with the given ids from the given collection with a single {@code $in} query.
+	 * 
+	 * @param collection must not be {@literal null}.
+	 * @param ids must not be {@literal null}.
+	 * @return the documents found by their id.
+	 */
+	private Map<Object, DBObject> fetchById(String collection, List<Object> ids) {
+
+		Map<Object, DBObject> documents = new HashMap<Object, DBObject>(ids.size());
+		DBObject query = new BasicDBObject("_id", new BasicDBObject("$in", ids));
+
+		try {
+
+			DBCursor cursor = mongoDbFactory.getDb().getCollection(collection).find(query);
+
+			try {
+				while (cursor.hasNext()) {
+					DBObject document = cursor.next();
+					documents.put(document.get("_id"), document);
+				}
+			} finally {
+				cursor.close();
+			}
+
+		} catch (RuntimeException o_O) {
+
+			DataAccessException translated = exceptionTranslator.translateExceptionIfPossible(o_O);
+			throw translated != null ? translated : o_O;
+		}
+
+		return documents;
 	}
 
 	/**
@@ -124,6 +287,10 @@ public class DefaultDbRefResolver implements DbRefResolver {
 		Class<?> propertyType = property.getType();
 		LazyLoadingInterceptor interceptor = new LazyLoadingInterceptor(property, dbref, exceptionTranslator, callback);
 
+		if (prefetchExecutor != null && dbref != null) {
+			interceptor.prefetchFrom(registerForPrefetch(dbref));
+		}
+
 		if (!propertyType.isInterface()) {
 
 			Factory factory = (Factory) objenesis.newInstance(getEnhancedTypeFor(propertyType));
@@ -132,33 +299,134 @@ public class DefaultDbRefResolver implements DbRefResolver {
 			return handler.populateId(property, dbref, factory);
 		}
 
-		ProxyFactory proxyFactory = new ProxyFactory();
+		ProxyFactory proxyFactory = new ProxyFactory(getProxyInterfacesFor(propertyType));
+		proxyFactory.addAdvice(interceptor);
 
-		for (Class<?> type : propertyType.getInterfaces()) {
-			proxyFactory.addInterface(type);
+		return handler.populateId(property, dbref, proxyFactory.getProxy());
+	}
+
+	/**
+	 * Marks the start of a read on the current thread. Lazy loading proxies created until the matching call to
+	 * {@link #endRead()} are prefetched together. Reads can be nested, in which case the proxies are collected until the
+	 * outermost read has finished.
+	 *
+	 * @see org.springframework.data.mongodb.core.convert.ReadScopeAwareDbRefResolver#beginRead()
+	 */
+	@Override
+	public void beginRead() {
+
+		PrefetchingRead read = currentRead.get();
+
+		if (read == null) {
+			read = new PrefetchingRead();
+			currentRead.set(read);
 		}
 
-		proxyFactory.addInterface(LazyLoadingProxy.class);
-		proxyFactory.addInterface(propertyType);
-		proxyFactory.addAdvice(interceptor);
+		read.depth++;
+	}
 
-		return handler.populateId(property, dbref, proxyFactory.getProxy());
+	/**
+	 * Marks the end of a read started via {@link #beginRead()}. Once the outermost read has finished, the batch not
+	 * complete yet is submitted for background loading.
+	 *
+	 * @see org.springframework.data.mongodb.core.convert.ReadScopeAwareDbRefResolver#endRead()
+	 */
+	@Override
+	public void endRead() {
+
+		PrefetchingRead read = currentRead.get();
+
+		if (read == null || --read.depth > 0) {
+			return;
+		}
+
+		currentRead.remove();
+
+		if (read.batch != null && prefetchExecutor != null) {
+			read.batch.submit(prefetchExecutor);
+		}
+	}
+
+	/**
+	 * Adds the given {@link DBRef} to the prefetch batch of the current read and submits the batch for background loading
+	 * once it's complete.
+	 * 
+	 * @param dbref must not be {@literal null}.
+	 * @return the {@link PrefetchedDocument} to eventually obtain the referenced document from or {@literal null} if no
+	 *         read is in progress.
+	 */
+	private PrefetchedDocument registerForPrefetch(DBRef dbref) {
+
+		PrefetchingRead read = currentRead.get();
+
+		if (read == null) {
+			return null;
+		}
+
+		PrefetchedDocument document = read.batch == null ? null : read.batch.add(dbref);
+
+		if (document == null) {
+
+			read.batch = new PrefetchBatch(this, prefetchBatchSize);
+			document = read.batch.add(dbref);
+		}
+
+		if (read.batch.isComplete()) {
+			read.batch.submit(prefetchExecutor);
+			read.batch = null;
+		}
+
+		return document;
 	}
 
 	/**
-	 * Returns the CGLib enhanced type for the given source type.
+	 * Returns the CGLib enhanced type for the given source type. Enhanced types are created once per source type and
+	 * cached.
 	 * 
 	 * @param type
 	 * @return
 	 */
 	private Class<?> getEnhancedTypeFor(Class<?> type) {
 
+		Class<?> enhancedType = enhancedTypes.get(type);
+
+		if (enhancedType != null) {
+			return enhancedType;
+		}
+
 		Enhancer enhancer = new Enhancer();
 		enhancer.setSuperclass(type);
 		enhancer.setCallbackType(org.springframework.cglib.proxy.MethodInterceptor.class);
 		enhancer.setInterfaces(new Class[] { LazyLoadingProxy.class });
 
-		return enhancer.createClass();
+		enhancedType = enhancer.createClass();
+		Class<?> existing = enhancedTypes.putIfAbsent(type, enhancedType);
+
+		return existing != null ? existing : enhancedType;
+	}
+
+	/**
+	 * Returns the interfaces a JDK proxy for the given interface type has to implement. The result is cached per type.
+	 * 
+	 * @param type must be an interface.
+	 * @return
+	 */
+	private Class<?>[] getProxyInterfacesFor(Class<?> type) {
+
+		Class<?>[] interfaces = proxyInterfaces.get(type);
+
+		if (interfaces != null) {
+			return interfaces;
+		}
+
+		List<Class<?>> result = new ArrayList<Class<?>>(Arrays.asList(type.getInterfaces()));
+		result.add(LazyLoadingProxy.class);
+		result.add(type);
+
+		interfaces = result.toArray(new Class<?>[result.size()]);
+		Class<?>[] existing = proxyInterfaces.putIfAbsent(type, interfaces);
+
+		return existing != null ? existing : interfaces;
 	}
 
 	/**
@@ -192,6 +460,7 @@ public class DefaultDbRefResolver implements DbRefResolver {
 		private volatile boolean resolved;
 		private Object result;
 		private DBRef dbref;
+		private transient PrefetchedDocument prefetched;
 
 		static {
 			try {
@@ -224,6 +493,15 @@ public class DefaultDbRefResolver implements DbRefResolver {
 			this.property = property;
 		}
 
+		/**
+		 * Configures the {@link PrefetchedDocument} to resolve the proxy from.
+		 * 
+		 * @param prefetched can be {@literal null}.
+		 */
+		void prefetchFrom(PrefetchedDocument prefetched) {
+			this.prefetched = prefetched;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
@@ -380,8 +658,23 @@ public class DefaultDbRefResolver implements DbRefResolver {
 
 			if (!resolved) {
 
+				DbRefResolutionScope scope = null;
+
 				try {
 
+					if (prefetched != null) {
+
+						DBObject document = prefetched.get();
+						prefetched = null;
+
+						if (document == null) {
+							return null;
+						}
+
+						scope = DbRefResolutionScope.open();
+						scope.putDocument(dbref, document);
+					}
+
 					return callback.resolve(property);
 
 				} catch (RuntimeException ex) {
@@ -389,10 +682,168 @@ public class DefaultDbRefResolver implements DbRefResolver {
 					DataAccessException translatedException = this.exceptionTranslator.translateExceptionIfPossible(ex);
 					throw new LazyLoadingException("Unable to lazily resolve DBRef!",
 							translatedException != null ? translatedException : ex);
+				} finally {
+
+					if (scope != null) {
+						scope.close();
+					}
 				}
 			}
 
 			return result;
 		}
 	}
+
+	/**
+	 * A batch of {@link DBRef}s to be loaded with a single {@link DbRefResolver#bulkFetch(List)} call. The batch is
+	 * loaded either in the background once complete or by the first thread accessing one of its documents, whichever
+	 * comes first. No {@link DBRef}s can be added once loading has started.
+	 * 
+	 * @since 1.10
+	 */
+	static class PrefetchBatch {
+
+		private final int maxSize;
+		private final List<DBRef> dbRefs;
+		private final FutureTask<List<DBObject>> documents;
+
+		private boolean closed;
+
+		/**
+		 * Creates a new {@link PrefetchBatch} loading the documents using the given {@link DbRefResolver}.
+		 * 
+		 * @param resolver must not be {@literal null}.
+		 * @param maxSize must be greater than zero.
+		 */
+		PrefetchBatch(final DbRefResolver resolver, int maxSize) {
+
+			Assert.notNull(resolver, "DbRefResolver must not be null!");
+
+			this.maxSize = maxSize;
+			this.dbRefs = new ArrayList<DBRef>(maxSize);
+			this.documents = new FutureTask<List<DBObject>>(new Callable<List<DBObject>>() {
+
+				@Override
+				public List<DBObject> call() throws Exception {
+					return resolver.bulkFetch(close());
+				}
+			});
+		}
+
+		/**
+		 * Adds the given {@link DBRef} to the batch.
+		 * 
+		 * @param dbRef must not be {@literal null}.
+		 * @return the {@link PrefetchedDocument} for the given {@link DBRef} or {@literal null} if the batch is already
+		 *         being loaded.
+		 */
+		synchronized PrefetchedDocument add(DBRef dbRef) {
+
+			if (closed || dbRefs.size() >= maxSize) {
+				return null;
+			}
+
+			dbRefs.add(dbRef);
+			return new PrefetchedDocument(this, dbRefs.size() - 1);
+		}
+
+		/**
+		 * Returns whether the batch has reached its maximum size.
+		 * 
+		 * @return
+		 */
+		synchronized boolean isComplete() {
+			return dbRefs.size() >= maxSize;
+		}
+
+		/**
+		 * Submits the batch for loading to the given {@link Executor}. If the {@link Executor} rejects the batch it's
+		 * loaded on first access.
+		 * 
+		 * @param executor must not be {@literal null}.
+		 */
+		void submit(Executor executor) {
+
+			try {
+				executor.execute(documents);
+			} catch (RejectedExecutionException o_O) {
+				// loaded on first access
+			}
+		}
+
+		/**
+		 * Returns the document at the given index, loading the batch if that hasn't happened yet and waiting for a load
+		 * already in progress.
+		 * 
+		 * @param index
+		 * @return
+		 */
+		DBObject get(int index) {
+
+			documents.run();
+
+			try {
+				return documents.get().get(index);
+			} catch (InterruptedException o_O) {
+				Thread.currentThread().interrupt();
+				throw new LazyLoadingException("Interrupted while waiting for prefetched DBRefs!", o_O);
+			} catch (ExecutionException o_O) {
+
+				Throwable cause = o_O.getCause();
+
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+
+				throw new LazyLoadingException("Unable to prefetch DBRefs!", cause);
+			}
+		}
+
+		private synchronized List<DBRef> close() {
+
+			this.closed = true;
+			return new ArrayList<DBRef>(dbRefs);
+		}
+	}
+
+	/**
+	 * The read in progress on a thread together with the {@link PrefetchBatch} collecting its lazy loading proxies.
+	 * 
+	 * @since 1.10
+	 */
+	private static class PrefetchingRead {
+
+		private int depth;
+		private PrefetchBatch batch;
+	}
+
+	/**
+	 * Handle to a single document of a {@link PrefetchBatch}.
+	 * 
+	 * @since 1.10
+	 */
+	static class PrefetchedDocument {
+
+		private final PrefetchBatch batch;
+		private final int index;
+
+		PrefetchedDocument(PrefetchBatch batch, int index) {
+
+			this.batch = batch;
+			this.index = index;
+		}
+
+		/**
+		 * Returns the prefetched document, loading it if necessary.
+		 * 
+		 * @return the document or {@literal null} if it doesn't exist.
+		 */
+		DBObject get() {
+			return batch.get(index);
+		}
+	}
 }
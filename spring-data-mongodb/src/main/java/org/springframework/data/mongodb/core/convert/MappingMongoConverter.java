@@ -15,15 +15,19 @@
  */
 package org.springframework.data.mongodb.core.convert;
 
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +43,7 @@ import org.springframework.data.convert.TypeMapper;
 import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
 import org.springframework.data.mapping.PreferredConstructor.Parameter;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.context.MappingContext;
@@ -96,6 +101,11 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 	protected String mapKeyDotReplacement = null;
 
 	private SpELContext spELContext;
+	private boolean usePreparedEntityReaders = false;
+	private boolean usePreparedEntityWriters = false;
+
+	private final ConcurrentMap<MongoPersistentEntity<?>, PreparedEntityReader<?>> preparedEntityReaders = new ConcurrentHashMap<MongoPersistentEntity<?>, PreparedEntityReader<?>>();
+	private final ConcurrentMap<MongoPersistentEntity<?>, PreparedEntityWriter> preparedEntityWriters = new ConcurrentHashMap<MongoPersistentEntity<?>, PreparedEntityWriter>();
 
 	/**
 	 * Creates a new {@link MappingMongoConverter} given the new {@link DbRefResolver} and {@link MappingContext}.
@@ -166,6 +176,33 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		this.mapKeyDotReplacement = mapKeyDotReplacement;
 	}
 
+	/**
+	 * Configures whether to read entities through a {@link PreparedEntityReader} that is computed once per
+	 * {@link MongoPersistentEntity} and cached. Prepared readers avoid the per-document property callbacks, value
+	 * providers and SpEL evaluators and set properties straight through the entity's {@link PersistentPropertyAccessor}.
+	 * Entities using SpEL expressions, associations or inner class constructors are read the default way. Defaults to
+	 * {@literal false}.
+	 * 
+	 * @param usePreparedEntityReaders
+	 * @since 1.10
+	 */
+	public void setUsePreparedEntityReaders(boolean usePreparedEntityReaders) {
+		this.usePreparedEntityReaders = usePreparedEntityReaders;
+	}
+
+	/**
+	 * Configures whether to write entities through a {@link PreparedEntityWriter} that is computed once per
+	 * {@link MongoPersistentEntity} and the currently configured {@link CustomConversions}. Prepared writers resolve
+	 * field names, custom write targets and simple type checks for properties of final types up front instead of for
+	 * every property of every object written. Defaults to {@literal false}.
+	 * 
+	 * @param usePreparedEntityWriters
+	 * @since 1.10
+	 */
+	public void setUsePreparedEntityWriters(boolean usePreparedEntityWriters) {
+		this.usePreparedEntityWriters = usePreparedEntityWriters;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.convert.EntityConverter#getMappingContext()
@@ -189,7 +226,19 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 	 * @see org.springframework.data.mongodb.core.core.MongoReader#read(java.lang.Class, com.mongodb.DBObject)
 	 */
 	public <S extends Object> S read(Class<S> clazz, final DBObject dbo) {
-		return read(ClassTypeInformation.from(clazz), dbo);
+
+		if (!(dbRefResolver instanceof ReadScopeAwareDbRefResolver)) {
+			return read(ClassTypeInformation.from(clazz), dbo);
+		}
+
+		ReadScopeAwareDbRefResolver resolver = (ReadScopeAwareDbRefResolver) dbRefResolver;
+		resolver.beginRead();
+
+		try {
+			return read(ClassTypeInformation.from(clazz), dbo);
+		} finally {
+			resolver.endRead();
+		}
 	}
 
 	protected <S extends Object> S read(TypeInformation<S> type, DBObject dbo) {
@@ -249,6 +298,15 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 
 	private <S extends Object> S read(final MongoPersistentEntity<S> entity, final DBObject dbo, final ObjectPath path) {
 
+		if (usePreparedEntityReaders) {
+
+			PreparedEntityReader<S> reader = getPreparedEntityReader(entity);
+
+			if (reader.isSupported()) {
+				return reader.read(dbo, path);
+			}
+		}
+
 		final DefaultSpELExpressionEvaluator evaluator = new DefaultSpELExpressionEvaluator(dbo, spELContext);
 
 		ParameterValueProvider<MongoPersistentProperty> provider = getParameterProvider(entity, dbo, evaluator, path);
@@ -314,6 +372,28 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		return result;
 	}
 
+	/**
+	 * Returns the {@link PreparedEntityReader} for the given {@link MongoPersistentEntity}, creating and caching it on
+	 * first access.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private <S> PreparedEntityReader<S> getPreparedEntityReader(MongoPersistentEntity<S> entity) {
+
+		PreparedEntityReader<?> reader = preparedEntityReaders.get(entity);
+
+		if (reader == null) {
+
+			reader = new PreparedEntityReader<S>(entity);
+			PreparedEntityReader<?> existing = preparedEntityReaders.putIfAbsent(entity, reader);
+			reader = existing != null ? existing : reader;
+		}
+
+		return (PreparedEntityReader<S>) reader;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.core.convert.MongoWriter#toDBRef(java.lang.Object, org.springframework.data.mongodb.core.mapping.MongoPersistentProperty)
@@ -407,6 +487,11 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 			throw new MappingException("No mapping metadata found for entity of type " + obj.getClass().getName());
 		}
 
+		if (usePreparedEntityWriters) {
+			getPreparedEntityWriter(entity).write(obj, dbo);
+			return;
+		}
+
 		final PersistentPropertyAccessor accessor = entity.getPropertyAccessor(obj);
 		final MongoPersistentProperty idProperty = entity.getIdProperty();
 
@@ -524,6 +609,26 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		accessor.put(prop, propDbObj);
 	}
 
+	/**
+	 * Returns the {@link PreparedEntityWriter} for the given {@link MongoPersistentEntity}. Re-creates the writer in case
+	 * the {@link CustomConversions} have been changed since it was created.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	private PreparedEntityWriter getPreparedEntityWriter(MongoPersistentEntity<?> entity) {
+
+		PreparedEntityWriter writer = preparedEntityWriters.get(entity);
+
+		if (writer == null || writer.conversions != conversions) {
+
+			writer = new PreparedEntityWriter(entity, conversions);
+			preparedEntityWriters.put(entity, writer);
+		}
+
+		return writer;
+	}
+
 	private boolean isSubtype(Class<?> left, Class<?> right) {
 		return left.isAssignableFrom(right) && !left.equals(right);
 	}
@@ -901,11 +1006,14 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		Collection<Object> items = targetType.getType().isArray() ? new ArrayList<Object>()
 				: CollectionFactory.createCollection(collectionType, rawComponentType, sourceValue.size());
 
+		boolean resolveDbRefs = !DBRef.class.equals(rawComponentType);
+		Iterator<Object> resolvedDbRefs = resolveDbRefs
+				? bulkReadAndConvertDBRefs(getDbRefs(sourceValue), componentType, path, rawComponentType).iterator() : null;
+
 		for (Object dbObjItem : sourceValue) {
 
 			if (dbObjItem instanceof DBRef) {
-				items.add(DBRef.class.equals(rawComponentType) ? dbObjItem
-						: readAndConvertDBRef((DBRef) dbObjItem, componentType, path, rawComponentType));
+				items.add(resolveDbRefs ? resolvedDbRefs.next() : dbObjItem);
 			} else if (dbObjItem instanceof DBObject) {
 				items.add(read(componentType, (DBObject) dbObjItem, path));
 			} else {
@@ -1186,6 +1294,290 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		}
 	}
 
+	/**
+	 * Reader for a single {@link MongoPersistentEntity} that resolves all property metadata once on creation so that
+	 * reading a {@link DBObject} boils down to a plain loop over the pre-computed properties. Only supports entities
+	 * that neither use SpEL expressions nor associations, {@link #isSupported()} has to be checked before using it.
+	 * 
+	 * @since 1.10
+	 */
+	private class PreparedEntityReader<S> {
+
+		private final MongoPersistentEntity<S> entity;
+		private final MongoPersistentProperty idProperty;
+		private final List<MongoPersistentProperty> properties;
+		private final boolean supported;
+
+		/**
+		 * Creates a new {@link PreparedEntityReader} for the given {@link MongoPersistentEntity}.
+		 * 
+		 * @param entity must not be {@literal null}.
+		 */
+		public PreparedEntityReader(final MongoPersistentEntity<S> entity) {
+
+			Assert.notNull(entity, "MongoPersistentEntity must not be null!");
+
+			this.entity = entity;
+			this.idProperty = entity.getIdProperty();
+
+			final List<MongoPersistentProperty> properties = new ArrayList<MongoPersistentProperty>();
+			final List<MongoPersistentProperty> unsupported = new ArrayList<MongoPersistentProperty>();
+
+			entity.doWithProperties(new PropertyHandler<MongoPersistentProperty>() {
+				public void doWithPersistentProperty(MongoPersistentProperty property) {
+
+					if (property.getSpelExpression() != null || property.isDbReference()) {
+						unsupported.add(property);
+					}
+
+					if (property.equals(idProperty) || entity.isConstructorArgument(property)) {
+						return;
+					}
+
+					properties.add(property);
+				}
+			});
+
+			entity.doWithAssociations(new AssociationHandler<MongoPersistentProperty>() {
+				public void doWithAssociation(Association<MongoPersistentProperty> association) {
+					unsupported.add(association.getInverse());
+				}
+			});
+
+			this.properties = Collections.unmodifiableList(properties);
+			this.supported = unsupported.isEmpty() && isSupported(entity.getPersistenceConstructor());
+		}
+
+		private boolean isSupported(PreferredConstructor<S, MongoPersistentProperty> constructor) {
+
+			if (constructor == null) {
+				return true;
+			}
+
+			for (Parameter<Object, MongoPersistentProperty> parameter : constructor.getParameters()) {
+
+				if (parameter.hasSpelExpression() || constructor.isEnclosingClassParameter(parameter)) {
+					return false;
+				}
+
+				if (parameter.getName() == null || entity.getPersistentProperty(parameter.getName()) == null) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		/**
+		 * Returns whether the backing {@link MongoPersistentEntity} can be read using the {@link PreparedEntityReader}.
+		 * 
+		 * @return
+		 */
+		public boolean isSupported() {
+			return supported;
+		}
+
+		/**
+		 * Reads the given {@link DBObject} into a new instance of the backing entity.
+		 * 
+		 * @param dbo must not be {@literal null}.
+		 * @param path must not be {@literal null}.
+		 * @return
+		 */
+		public S read(final DBObject dbo, final ObjectPath path) {
+
+			ParameterValueProvider<MongoPersistentProperty> provider = new ParameterValueProvider<MongoPersistentProperty>() {
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public <T> T getParameterValue(Parameter<T, MongoPersistentProperty> parameter) {
+					return (T) readProperty(entity.getPersistentProperty(parameter.getName()), dbo, path);
+				}
+			};
+
+			S instance = instantiators.getInstantiatorFor(entity).createInstance(entity, provider);
+			PersistentPropertyAccessor accessor = new ConvertingPropertyAccessor(entity.getPropertyAccessor(instance),
+					conversionService);
+
+			Object idValue = null;
+
+			if (idProperty != null) {
+				idValue = readProperty(idProperty, dbo, path);
+				accessor.setProperty(idProperty, idValue);
+			}
+
+			ObjectPath currentPath = path.push(instance, entity,
+					idValue != null ? dbo.get(idProperty.getFieldName()) : null);
+
+			for (MongoPersistentProperty property : properties) {
+
+				if (dbo.containsField(property.getFieldName())) {
+					accessor.setProperty(property, readProperty(property, dbo, currentPath));
+				}
+			}
+
+			return instance;
+		}
+
+		private Object readProperty(MongoPersistentProperty property, DBObject dbo, ObjectPath path) {
+
+			String fieldName = property.getFieldName();
+			Object value = fieldName.contains(".") ? new DBObjectAccessor(dbo).get(property) : dbo.get(fieldName);
+
+			return value == null ? null : readValue(value, property.getTypeInformation(), path);
+		}
+	}
+
+	/**
+	 * Write plan for a single {@link MongoPersistentEntity}. Resolves the writable properties, their field names and -
+	 * for properties of simple, final types - the custom write target once, so that writing an object does not have to
+	 * repeat these lookups for every property. Values of non-final or complex types are handed to
+	 * {@link MappingMongoConverter#writePropertyInternal(Object, DBObject, MongoPersistentProperty)} as usual.
+	 * 
+	 * @since 1.10
+	 */
+	private class PreparedEntityWriter {
+
+		private final MongoPersistentEntity<?> entity;
+		private final CustomConversions conversions;
+		private final MongoPersistentProperty idProperty;
+		private final List<PropertyWriter> properties;
+
+		/**
+		 * Creates a new {@link PreparedEntityWriter} for the given {@link MongoPersistentEntity} and
+		 * {@link CustomConversions}.
+		 * 
+		 * @param entity must not be {@literal null}.
+		 * @param conversions must not be {@literal null}.
+		 */
+		public PreparedEntityWriter(MongoPersistentEntity<?> entity, final CustomConversions conversions) {
+
+			Assert.notNull(entity, "MongoPersistentEntity must not be null!");
+			Assert.notNull(conversions, "CustomConversions must not be null!");
+
+			this.entity = entity;
+			this.conversions = conversions;
+			this.idProperty = entity.getIdProperty();
+
+			final List<PropertyWriter> properties = new ArrayList<PropertyWriter>();
+
+			entity.doWithProperties(new PropertyHandler<MongoPersistentProperty>() {
+				public void doWithPersistentProperty(MongoPersistentProperty property) {
+
+					if (!property.equals(idProperty) && property.isWritable()) {
+						properties.add(new PropertyWriter(property, conversions, false));
+					}
+				}
+			});
+
+			entity.doWithAssociations(new AssociationHandler<MongoPersistentProperty>() {
+				public void doWithAssociation(Association<MongoPersistentProperty> association) {
+					properties.add(new PropertyWriter(association.getInverse(), conversions, true));
+				}
+			});
+
+			this.properties = Collections.unmodifiableList(properties);
+		}
+
+		/**
+		 * Writes the given object into the given {@link DBObject}.
+		 * 
+		 * @param obj must not be {@literal null}.
+		 * @param dbo must not be {@literal null}.
+		 */
+		public void write(Object obj, DBObject dbo) {
+
+			PersistentPropertyAccessor accessor = entity.getPropertyAccessor(obj);
+
+			if (idProperty != null && !dbo.containsField("_id")) {
+
+				try {
+					dbo.put("_id", idMapper.convertId(accessor.getProperty(idProperty)));
+				} catch (ConversionException ignored) {}
+			}
+
+			for (PropertyWriter property : properties) {
+
+				Object value = accessor.getProperty(property.property);
+
+				if (value != null) {
+					property.write(value, dbo);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes the value of a single {@link MongoPersistentProperty} using metadata resolved on creation.
+	 * 
+	 * @since 1.10
+	 */
+	private class PropertyWriter {
+
+		private final MongoPersistentProperty property;
+		private final String fieldName;
+		private final boolean nested;
+		private final boolean association;
+		private final boolean simpleAndFinal;
+		private final Class<?> customWriteTarget;
+		private final boolean isEnum;
+
+		/**
+		 * Creates a new {@link PropertyWriter} for the given {@link MongoPersistentProperty}.
+		 * 
+		 * @param property must not be {@literal null}.
+		 * @param conversions must not be {@literal null}.
+		 * @param association whether the property is the inverse side of an association.
+		 */
+		public PropertyWriter(MongoPersistentProperty property, CustomConversions conversions, boolean association) {
+
+			Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
+
+			this.property = property;
+			this.fieldName = property.getFieldName();
+			this.nested = fieldName.contains(".");
+			this.association = association;
+			this.simpleAndFinal = !association && Modifier.isFinal(type.getModifiers()) && !type.isArray()
+					&& conversions.isSimpleType(type);
+			this.customWriteTarget = simpleAndFinal ? conversions.getCustomWriteTarget(type, null) : null;
+			this.isEnum = simpleAndFinal && type.isEnum();
+		}
+
+		/**
+		 * Writes the given non-{@literal null} value into the given {@link DBObject}.
+		 * 
+		 * @param value must not be {@literal null}.
+		 * @param dbo must not be {@literal null}.
+		 */
+		public void write(Object value, DBObject dbo) {
+
+			if (association) {
+				writePropertyInternal(value, dbo, property);
+				return;
+			}
+
+			if (!simpleAndFinal) {
+
+				if (conversions.isSimpleType(value.getClass())) {
+					writeSimpleInternal(value, dbo, property);
+				} else {
+					writePropertyInternal(value, dbo, property);
+				}
+
+				return;
+			}
+
+			Object converted = customWriteTarget != null ? conversionService.convert(value, customWriteTarget)
+					: isEnum ? ((Enum<?>) value).name() : value;
+
+			if (nested) {
+				new DBObjectAccessor(dbo).put(property, converted);
+			} else {
+				dbo.put(fieldName, converted);
+			}
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> T readValue(Object value, TypeInformation<?> type, ObjectPath path) {
 
@@ -1218,6 +1610,13 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 	@SuppressWarnings("unchecked")
 	private <T> T readAndConvertDBRef(DBRef dbref, TypeInformation<?> type, ObjectPath path, final Class<?> rawType) {
 
+		DbRefResolutionScope scope = DbRefResolutionScope.getCurrent();
+		Object shared = scope == null ? null : scope.getInstance(dbref, rawType);
+
+		if (shared != null) {
+			return (T) shared;
+		}
+
 		final DBObject readRef = readRef(dbref);
 		final String collectionName = dbref.getCollectionName();
 
@@ -1231,9 +1630,103 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 			maybeEmitEvent(new AfterConvertEvent<T>(readRef, target, collectionName));
 		}
 
+		if (scope != null) {
+			scope.putInstance(dbref, rawType, target);
+		}
+
 		return target;
 	}
 
+	/**
+	 * Resolves the given {@link DBRef}s with as few round-trips as possible and converts them into the given type. The
+	 * result is aligned with the given {@link List} of {@link DBRef}s. Instances already converted within the current
+	 * {@link DbRefResolutionScope} are reused.
+	 * 
+	 * @param dbrefs must not be {@literal null}.
+	 * @param type
+	 * @param path must not be {@literal null}.
+	 * @param rawType
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private List<Object> bulkReadAndConvertDBRefs(List<DBRef> dbrefs, TypeInformation<?> type, ObjectPath path,
+			Class<?> rawType) {
+
+		if (dbrefs.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		DbRefResolutionScope scope = DbRefResolutionScope.getCurrent();
+		Object[] targets = new Object[dbrefs.size()];
+		List<DBRef> unresolved = new ArrayList<DBRef>(dbrefs.size());
+
+		for (int i = 0; i < targets.length; i++) {
+
+			targets[i] = scope == null ? null : scope.getInstance(dbrefs.get(i), rawType);
+
+			if (targets[i] == null) {
+				unresolved.add(dbrefs.get(i));
+			}
+		}
+
+		if (unresolved.isEmpty()) {
+			return Arrays.asList(targets);
+		}
+
+		List<DBObject> referencedRawDocuments = unresolved.size() == 1
+				? Collections.singletonList(readRef(unresolved.get(0))) : bulkReadRefs(unresolved);
+		Iterator<DBObject> documents = referencedRawDocuments.iterator();
+
+		for (int i = 0; i < targets.length; i++) {
+
+			if (targets[i] != null) {
+				continue;
+			}
+
+			DBRef dbref = dbrefs.get(i);
+			DBObject document = documents.next();
+			Object shared = scope == null ? null : scope.getInstance(dbref, rawType);
+
+			if (shared != null) {
+				targets[i] = shared;
+				continue;
+			}
+
+			String collectionName = dbref.getCollectionName();
+
+			if (document != null) {
+				maybeEmitEvent(new AfterLoadEvent<Object>(document, (Class<Object>) rawType, collectionName));
+			}
+
+			Object target = read(type, document, path);
+
+			if (target != null) {
+				maybeEmitEvent(new AfterConvertEvent<Object>(document, target, collectionName));
+			}
+
+			if (scope != null) {
+				scope.putInstance(dbref, rawType, target);
+			}
+
+			targets[i] = target;
+		}
+
+		return Arrays.asList(targets);
+	}
+
+	private static List<DBRef> getDbRefs(BasicDBList source) {
+
+		List<DBRef> dbRefs = new ArrayList<DBRef>();
+
+		for (Object element : source) {
+			if (element instanceof DBRef) {
+				dbRefs.add((DBRef) element);
+			}
+		}
+
+		return dbRefs;
+	}
+
 	private void maybeEmitEvent(MongoMappingEvent<?> event) {
 
 		if (canPublishEvent()) {
@@ -1255,6 +1748,17 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		return dbRefResolver.fetch(ref);
 	}
 
+	/**
+	 * Performs a bulk fetch operation for the given {@link DBRef}s.
+	 * 
+	 * @param references must not be {@literal null}.
+	 * @return the referenced documents aligned with the given {@link DBRef}s.
+	 * @since 1.10
+	 */
+	List<DBObject> bulkReadRefs(List<DBRef> references) {
+		return dbRefResolver.bulkFetch(references);
+	}
+
 	/**
 	 * Marker class used to indicate we have a non root document object here that might be used within an update - so we
 	 * need to preserve type hints for potential nested elements but need to remove it on top level.
@@ -0,0 +1,466 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.springframework.util.ObjectUtils.*;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.mongodb.InvalidMongoDbApiUsageException;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.CriteriaDefinition;
+import org.springframework.data.mongodb.core.query.Meta;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.Assert;
+
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * A {@link Query} that has been mapped against a {@link MongoPersistentEntity} once and can be executed repeatedly with
+ * different values. Values are declared using {@link #parameter(String)} placeholders, e.g.:
+ *
+ * <pre class="code">
+ * PreparedQuery prepared = template.prepare(query(where("lastname").is(parameter("lastname"))), Person.class);
+ *
+ * List&lt;Person&gt; result = template.find(prepared.bind(Collections.singletonMap("lastname", "Matthews")),
+ * 		Person.class);
+ * </pre>
+ *
+ * Binding values only converts the given values according to the property they are bound to. The mapped query, field
+ * and sort documents are not inspected by the {@link QueryMapper} again. Placeholders have to be used as the value of a
+ * property or an operator, they must not be nested in collections.
+ *
+ * @since 1.10
+ */
+public class PreparedQuery {
+
+	private final MongoPersistentEntity<?> entity;
+	private final QueryMapper mapper;
+	private final Set<String> parameterNames;
+
+	private final DBObject mappedQuery;
+	private final DBObject mappedFields;
+	private final DBObject mappedSort;
+
+	private final int skip;
+	private final int limit;
+	private final String hint;
+	private final Meta meta;
+
+	/**
+	 * Creates a new {@link PreparedQuery} mapping the given {@link Query} against the given
+	 * {@link MongoPersistentEntity}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entity can be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 */
+	public PreparedQuery(Query query, MongoPersistentEntity<?> entity, QueryMapper mapper) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(mapper, "QueryMapper must not be null!");
+
+		this.entity = entity;
+		this.mapper = mapper;
+
+		DBObject queryObject = query.getQueryObject();
+
+		this.mappedQuery = mapper.getMappedObject(queryObject, entity);
+		this.mappedFields = mapper.getMappedFields(query.getFieldsObject(), entity);
+		this.mappedSort = mapper.getMappedSort(query.getSortObject(), entity);
+
+		this.parameterNames = new LinkedHashSet<String>();
+		collectSlots(mappedQuery, parameterNames);
+
+		Set<String> declaredNames = new LinkedHashSet<String>();
+		collectParameters(queryObject, declaredNames);
+
+		for (String name : declaredNames) {
+			if (!parameterNames.contains(name)) {
+				throw new IllegalArgumentException(String.format(
+						"Parameter %s must be used as the value of a property or operator in query %s!", name, query));
+			}
+		}
+
+		this.skip = query.getSkip();
+		this.limit = query.getLimit();
+		this.hint = query.getHint();
+		this.meta = query.getMeta();
+	}
+
+	/**
+	 * Creates a placeholder with the given name to be used as value within a {@link CriteriaDefinition}.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @return
+	 */
+	public static Parameter parameter(String name) {
+		return new Parameter(name);
+	}
+
+	/**
+	 * Returns the names of all parameters declared in the query.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Set<String> getParameterNames() {
+		return Collections.unmodifiableSet(parameterNames);
+	}
+
+	/**
+	 * Binds the given values to the parameters of the query. The returned {@link Query} can be handed to the template's
+	 * methods like any other {@link Query}. It can be extended with additional sort orders, fields, a skip and limit but
+	 * rejects additional criteria.
+	 *
+	 * @param values must not be {@literal null} and contain a value for each parameter.
+	 * @return
+	 */
+	public Query bind(Map<String, ?> values) {
+
+		Assert.notNull(values, "Values must not be null!");
+
+		for (String name : parameterNames) {
+			if (!values.containsKey(name)) {
+				throw new IllegalArgumentException(String.format("No value given for parameter %s!", name));
+			}
+		}
+
+		BoundQuery query = new BoundQuery((DBObject) bindValues(mappedQuery, values));
+
+		query.skip(skip);
+		query.limit(limit);
+
+		if (hint != null) {
+			query.withHint(hint);
+		}
+
+		if (meta.hasValues()) {
+			query.setMeta(copy(meta));
+		}
+
+		return query;
+	}
+
+	private static Object bindValues(Object source, Map<String, ?> values) {
+
+		if (source instanceof ParameterSlot) {
+
+			ParameterSlot slot = (ParameterSlot) source;
+			return slot.convert(values.get(slot.getName()));
+		}
+
+		if (source instanceof BasicDBList) {
+
+			BasicDBList result = new BasicDBList();
+
+			for (Object element : (BasicDBList) source) {
+				result.add(bindValues(element, values));
+			}
+
+			return result;
+		}
+
+		if (source instanceof DBObject) {
+
+			DBObject dbObject = (DBObject) source;
+			DBObject result = new BasicDBObject();
+
+			for (String key : dbObject.keySet()) {
+				result.put(key, bindValues(dbObject.get(key), values));
+			}
+
+			return result;
+		}
+
+		if (source instanceof Object[]) {
+
+			Object[] array = (Object[]) source;
+			Object[] result = new Object[array.length];
+
+			for (int i = 0; i < array.length; i++) {
+				result[i] = bindValues(array[i], values);
+			}
+
+			return result;
+		}
+
+		return source;
+	}
+
+	private static void collectSlots(Object source, Set<String> names) {
+
+		if (source instanceof ParameterSlot) {
+			names.add(((ParameterSlot) source).getName());
+		} else if (source instanceof DBObject) {
+			for (String key : ((DBObject) source).keySet()) {
+				collectSlots(((DBObject) source).get(key), names);
+			}
+		} else if (source instanceof Object[]) {
+			for (Object element : (Object[]) source) {
+				collectSlots(element, names);
+			}
+		}
+	}
+
+	private static void collectParameters(Object source, Set<String> names) {
+
+		if (source instanceof Parameter) {
+			names.add(((Parameter) source).getName());
+		} else if (source instanceof DBObject) {
+			for (String key : ((DBObject) source).keySet()) {
+				collectParameters(((DBObject) source).get(key), names);
+			}
+		} else if (source instanceof Collection) {
+			for (Object element : (Collection<?>) source) {
+				collectParameters(element, names);
+			}
+		} else if (source instanceof Object[]) {
+			for (Object element : (Object[]) source) {
+				collectParameters(element, names);
+			}
+		}
+	}
+
+	private static DBObject copyOf(DBObject source) {
+
+		if (source == null) {
+			return null;
+		}
+
+		MappedDocument result = new MappedDocument();
+		result.putAll(source);
+
+		return result;
+	}
+
+	private static Meta copy(Meta source) {
+
+		Meta meta = new Meta();
+
+		if (source.getMaxTimeMsec() != null) {
+			meta.setMaxTimeMsec(source.getMaxTimeMsec());
+		}
+
+		if (source.getMaxScan() != null) {
+			meta.setMaxScan(source.getMaxScan());
+		}
+
+		if (source.getComment() != null) {
+			meta.setComment(source.getComment());
+		}
+
+		if (source.getSnapshot()) {
+			meta.setSnapshot(true);
+		}
+
+		return meta;
+	}
+
+	/**
+	 * A named placeholder for a value to be bound to a {@link PreparedQuery}.
+	 */
+	public static final class Parameter {
+
+		private final String name;
+
+		private Parameter(String name) {
+
+			Assert.hasText(name, "Parameter name must not be null or empty!");
+			this.name = name;
+		}
+
+		/**
+		 * Returns the name of the parameter.
+		 *
+		 * @return
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return ":".concat(name);
+		}
+	}
+
+	/**
+	 * The mapped representation of a {@link Parameter} knowing how to convert a bound value for the property it's bound
+	 * to.
+	 */
+	static abstract class ParameterSlot {
+
+		private final String name;
+
+		ParameterSlot(Parameter parameter) {
+			this.name = parameter.getName();
+		}
+
+		String getName() {
+			return name;
+		}
+
+		/**
+		 * Converts the given value into its store representation.
+		 *
+		 * @param value can be {@literal null}.
+		 * @return
+		 */
+		abstract Object convert(Object value);
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return ":".concat(name);
+		}
+	}
+
+	/**
+	 * A {@link DBObject} that has already been mapped and will be used as is by the {@link QueryMapper}.
+	 */
+	static class MappedDocument extends BasicDBObject {
+
+		private static final long serialVersionUID = -4409271046396513613L;
+	}
+
+	/**
+	 * {@link Query} returned from {@link PreparedQuery#bind(Map)} exposing the already mapped documents.
+	 */
+	private class BoundQuery extends Query {
+
+		private final DBObject boundQuery;
+
+		BoundQuery(DBObject boundQuery) {
+			this.boundQuery = boundQuery;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.query.Query#addCriteria(org.springframework.data.mongodb.core.query.CriteriaDefinition)
+		 */
+		@Override
+		public Query addCriteria(CriteriaDefinition criteriaDefinition) {
+			throw new InvalidMongoDbApiUsageException("Criteria cannot be added to a prepared query!");
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.query.Query#restrict(java.lang.Class, java.lang.Class[])
+		 */
+		@Override
+		public Query restrict(Class<?> type, Class<?>... additionalTypes) {
+			throw new InvalidMongoDbApiUsageException("Type restrictions cannot be added to a prepared query!");
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.query.Query#getQueryObject()
+		 */
+		@Override
+		public DBObject getQueryObject() {
+
+			DBObject keysetCriteria = getKeysetCriteria();
+
+			if (keysetCriteria == null) {
+				return copyOf(boundQuery);
+			}
+
+			return copyOf(appendKeysetCriteria(boundQuery, mapper.getMappedObject(keysetCriteria, entity)));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.query.Query#getFieldsObject()
+		 */
+		@Override
+		public DBObject getFieldsObject() {
+
+			DBObject additionalFields = super.getFieldsObject();
+
+			if (additionalFields == null) {
+				return copyOf(mappedFields);
+			}
+
+			DBObject result = mappedFields == null ? new MappedDocument() : copyOf(mappedFields);
+			result.putAll(mapper.getMappedObject(additionalFields, entity));
+
+			return result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.query.Query#getSortObject()
+		 */
+		@Override
+		public DBObject getSortObject() {
+
+			DBObject additionalSort = super.getSortObject();
+
+			if (additionalSort == null) {
+				return copyOf(mappedSort);
+			}
+
+			DBObject result = mappedSort == null ? new MappedDocument() : copyOf(mappedSort);
+			result.putAll(mapper.getMappedSort(additionalSort, entity));
+
+			return result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.query.Query#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof BoundQuery)) {
+				return false;
+			}
+
+			BoundQuery that = (BoundQuery) obj;
+
+			return querySettingsEquals(that) && boundQuery.equals(that.boundQuery)
+					&& nullSafeEquals(getFieldsObject(), that.getFieldsObject())
+					&& nullSafeEquals(getSortObject(), that.getSortObject());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.query.Query#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * super.hashCode() + boundQuery.hashCode();
+		}
+	}
+}
@@ -22,12 +22,18 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
 
 import org.bson.types.ObjectId;
 import org.springframework.core.convert.ConversionException;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PropertyPath;
@@ -37,9 +43,13 @@ import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.context.PersistentPropertyPath;
 import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter.NestedDocument;
+import org.springframework.data.mongodb.core.convert.PreparedQuery.MappedDocument;
+import org.springframework.data.mongodb.core.convert.PreparedQuery.Parameter;
+import org.springframework.data.mongodb.core.convert.PreparedQuery.ParameterSlot;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty.PropertyToFieldNameConverter;
+import org.springframework.data.mongodb.core.query.KeysetPageRequest;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
@@ -62,6 +72,7 @@ import com.mongodb.DBRef;
 public class QueryMapper {
 
 	private static final List<String> DEFAULT_ID_NAMES = Arrays.asList("id", "_id");
+	private static final int DEFAULT_PROPERTY_FIELD_CACHE_SIZE = 1024;
 	private static final DBObject META_TEXT_SCORE = new BasicDBObject("$meta", "textScore");
 	static final ClassTypeInformation<?> NESTED_DOCUMENT = ClassTypeInformation.from(NestedDocument.class);
 
@@ -73,6 +84,11 @@ public class QueryMapper {
 	private final MongoConverter converter;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 	private final MongoExampleMapper exampleMapper;
+	private final ConcurrentMap<PropertyFieldCacheKey, MetadataBackedField> propertyFields;
+	private final AtomicLong propertyFieldCacheHits = new AtomicLong();
+	private final AtomicLong propertyFieldCacheMisses = new AtomicLong();
+
+	private int propertyFieldCacheSize = DEFAULT_PROPERTY_FIELD_CACHE_SIZE;
 
 	/**
 	 * Creates a new {@link QueryMapper} with the given {@link MongoConverter}.
@@ -87,6 +103,42 @@ public class QueryMapper {
 		this.converter = converter;
 		this.mappingContext = converter.getMappingContext();
 		this.exampleMapper = new MongoExampleMapper(converter);
+		this.propertyFields = new ConcurrentHashMap<PropertyFieldCacheKey, MetadataBackedField>();
+	}
+
+	/**
+	 * Configures the maximum number of resolved property paths to cache per entity and key. The cache is reset once the
+	 * given size is exceeded. Defaults to {@value #DEFAULT_PROPERTY_FIELD_CACHE_SIZE}, {@literal 0} disables caching.
+	 * 
+	 * @param propertyFieldCacheSize must not be negative.
+	 * @since 1.10
+	 */
+	public void setPropertyFieldCacheSize(int propertyFieldCacheSize) {
+
+		Assert.isTrue(propertyFieldCacheSize >= 0, "Property field cache size must not be negative!");
+
+		this.propertyFieldCacheSize = propertyFieldCacheSize;
+		this.propertyFields.clear();
+	}
+
+	/**
+	 * Returns the number of property lookups answered from the cache.
+	 * 
+	 * @return
+	 * @since 1.10
+	 */
+	public long getPropertyFieldCacheHitCount() {
+		return propertyFieldCacheHits.get();
+	}
+
+	/**
+	 * Returns the number of property lookups that had to resolve the property path.
+	 * 
+	 * @return
+	 * @since 1.10
+	 */
+	public long getPropertyFieldCacheMissCount() {
+		return propertyFieldCacheMisses.get();
 	}
 
 	/**
@@ -100,6 +152,10 @@ public class QueryMapper {
 	@SuppressWarnings("deprecation")
 	public DBObject getMappedObject(DBObject query, MongoPersistentEntity<?> entity) {
 
+		if (query instanceof MappedDocument) {
+			return query;
+		}
+
 		if (isNestedKeyword(query)) {
 			return getMappedKeyword(new Keyword(query), entity);
 		}
@@ -162,6 +218,54 @@ public class QueryMapper {
 		return mappedSort;
 	}
 
+	/**
+	 * Returns the values of the given entity for the properties of the given {@link Sort} in the form they are stored
+	 * in, keyed by the properties of the {@link Sort}. Used to create the position to continue a
+	 * {@link KeysetPageRequest} after the given entity.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @param sort must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 * @throws IllegalArgumentException in case the entity does not contain a property of the {@link Sort}, e.g. because
+	 *           it's a projection.
+	 * @since 1.10
+	 */
+	public DBObject getKeysetPosition(Object source, Sort sort, MongoPersistentEntity<?> entity) {
+
+		Assert.notNull(source, "Source must not be null!");
+		Assert.notNull(sort, "Sort must not be null!");
+		Assert.notNull(entity, "Entity must not be null!");
+		Assert.isInstanceOf(entity.getType(), source);
+
+		DBObject document = new BasicDBObject();
+		converter.write(source, document);
+
+		DBObject position = new BasicDBObject();
+
+		for (Order order : sort) {
+
+			Field field = createPropertyField(entity, order.getProperty(), mappingContext);
+
+			if (field.getProperty() == null && !(field.isIdField() && entity.hasIdProperty())) {
+				throw new IllegalArgumentException(
+						String.format("Cannot determine keyset position! %s does not contain sort property %s.",
+								entity.getType().getName(), order.getProperty()));
+			}
+
+			DBObject mappedSort = getMappedObject(new BasicDBObject(order.getProperty(), 1), entity);
+			Object value = document;
+
+			for (String segment : mappedSort.keySet().iterator().next().split("\\.")) {
+				value = value instanceof DBObject ? ((DBObject) value).get(segment) : null;
+			}
+
+			position.put(order.getProperty(), value);
+		}
+
+		return position;
+	}
+
 	/**
 	 * Maps fields to retrieve to the {@link MongoPersistentEntity}s properties. <br />
 	 * Also onverts and potentially adds missing property {@code $meta} representation.
@@ -227,7 +331,33 @@ public class QueryMapper {
 	 */
 	protected Field createPropertyField(MongoPersistentEntity<?> entity, String key,
 			MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
-		return entity == null ? new Field(key) : new MetadataBackedField(key, entity, mappingContext);
+
+		if (entity == null) {
+			return new Field(key);
+		}
+
+		if (propertyFieldCacheSize == 0 || mappingContext != this.mappingContext) {
+			return new MetadataBackedField(key, entity, mappingContext);
+		}
+
+		PropertyFieldCacheKey cacheKey = new PropertyFieldCacheKey(entity, key);
+		MetadataBackedField field = propertyFields.get(cacheKey);
+
+		if (field != null) {
+			propertyFieldCacheHits.incrementAndGet();
+			return field;
+		}
+
+		propertyFieldCacheMisses.incrementAndGet();
+		field = new MetadataBackedField(key, entity, mappingContext);
+
+		if (propertyFields.size() >= propertyFieldCacheSize) {
+			propertyFields.clear();
+		}
+
+		propertyFields.put(cacheKey, field);
+
+		return field;
 	}
 
 	/**
@@ -287,7 +417,17 @@ public class QueryMapper {
 	 * @param newKey the key the value will be bound to eventually
 	 * @return
 	 */
-	protected Object getMappedValue(Field documentField, Object value) {
+	protected Object getMappedValue(final Field documentField, Object value) {
+
+		if (value instanceof Parameter) {
+			return new ParameterSlot((Parameter) value) {
+
+				@Override
+				Object convert(Object source) {
+					return getMappedValue(documentField, source);
+				}
+			};
+		}
 
 		if (documentField.isIdField()) {
 
@@ -367,7 +507,17 @@ public class QueryMapper {
 	 * @param entity
 	 * @return
 	 */
-	protected Object convertSimpleOrDBObject(Object source, MongoPersistentEntity<?> entity) {
+	protected Object convertSimpleOrDBObject(Object source, final MongoPersistentEntity<?> entity) {
+
+		if (source instanceof Parameter) {
+			return new ParameterSlot((Parameter) source) {
+
+				@Override
+				Object convert(Object value) {
+					return convertSimpleOrDBObject(value, entity);
+				}
+			};
+		}
 
 		if (source instanceof BasicDBList) {
 			return delegateConvertToMongoType(source, entity);
@@ -403,7 +553,17 @@ public class QueryMapper {
 	 * @param property
 	 * @return
 	 */
-	protected Object convertAssociation(Object source, MongoPersistentProperty property) {
+	protected Object convertAssociation(Object source, final MongoPersistentProperty property) {
+
+		if (source instanceof Parameter) {
+			return new ParameterSlot((Parameter) source) {
+
+				@Override
+				Object convert(Object value) {
+					return convertAssociation(value, property);
+				}
+			};
+		}
 
 		if (property == null || source == null || source instanceof DBObject) {
 			return source;
@@ -486,6 +646,16 @@ public class QueryMapper {
 	 */
 	public Object convertId(Object id) {
 
+		if (id instanceof Parameter) {
+			return new ParameterSlot((Parameter) id) {
+
+				@Override
+				Object convert(Object value) {
+					return convertId(value);
+				}
+			};
+		}
+
 		if (id == null) {
 			return null;
 		}
@@ -714,6 +884,7 @@ public class QueryMapper {
 	protected static class MetadataBackedField extends Field {
 
 		private static final String INVALID_ASSOCIATION_REFERENCE = "Invalid path reference %s! Associations can only be pointed to directly or via their id property!";
+		private static final Pattern POSITIONAL_PARAMETER_PATTERN = Pattern.compile("\\.\\d");
 
 		private final MongoPersistentEntity<?> entity;
 		private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
@@ -721,6 +892,9 @@ public class QueryMapper {
 		private final PersistentPropertyPath<MongoPersistentProperty> path;
 		private final Association<MongoPersistentProperty> association;
 
+		private volatile String mappedKey;
+		private volatile TypeInformation<?> typeHint;
+
 		/**
 		 * Creates a new {@link MetadataBackedField} with the given name, {@link MongoPersistentEntity} and
 		 * {@link MappingContext}.
@@ -845,7 +1019,16 @@ public class QueryMapper {
 		 */
 		@Override
 		public String getMappedKey() {
-			return path == null ? name : path.toDotPath(isAssociation() ? getAssociationConverter() : getPropertyConverter());
+
+			String mappedKey = this.mappedKey;
+
+			if (mappedKey == null) {
+				mappedKey = path == null ? name
+						: path.toDotPath(isAssociation() ? getAssociationConverter() : getPropertyConverter());
+				this.mappedKey = mappedKey;
+			}
+
+			return mappedKey;
 		}
 
 		protected PersistentPropertyPath<MongoPersistentProperty> getPath() {
@@ -862,7 +1045,8 @@ public class QueryMapper {
 
 			try {
 
-				PropertyPath path = PropertyPath.from(pathExpression.replaceAll("\\.\\d", ""), entity.getTypeInformation());
+				PropertyPath path = PropertyPath.from(POSITIONAL_PARAMETER_PATTERN.matcher(pathExpression).replaceAll(""),
+						entity.getTypeInformation());
 				PersistentPropertyPath<MongoPersistentProperty> propertyPath = mappingContext.getPersistentPropertyPath(path);
 
 				Iterator<MongoPersistentProperty> iterator = propertyPath.iterator();
@@ -938,6 +1122,18 @@ public class QueryMapper {
 		@Override
 		public TypeInformation<?> getTypeHint() {
 
+			TypeInformation<?> typeHint = this.typeHint;
+
+			if (typeHint == null) {
+				typeHint = detectTypeHint();
+				this.typeHint = typeHint;
+			}
+
+			return typeHint;
+		}
+
+		private TypeInformation<?> detectTypeHint() {
+
 			MongoPersistentProperty property = getProperty();
 
 			if (property == null) {
@@ -1008,6 +1204,52 @@ public class QueryMapper {
 		}
 	}
 
+	/**
+	 * Cache key for {@link MetadataBackedField}s consisting of the {@link MongoPersistentEntity} and the raw key.
+	 * 
+	 * @since 1.10
+	 */
+	private static final class PropertyFieldCacheKey {
+
+		private final MongoPersistentEntity<?> entity;
+		private final String key;
+
+		PropertyFieldCacheKey(MongoPersistentEntity<?> entity, String key) {
+
+			this.entity = entity;
+			this.key = key;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof PropertyFieldCacheKey)) {
+				return false;
+			}
+
+			PropertyFieldCacheKey that = (PropertyFieldCacheKey) obj;
+
+			return this.entity.equals(that.entity) && this.key.equals(that.key);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * entity.hashCode() + key.hashCode();
+		}
+	}
+
 	/**
 	 * Converter to skip all properties after an association property was rendered.
 	 * 
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+/**
+ * {@link DbRefResolver} that is notified about the start and the end of reading a top-level document, e.g. to resolve
+ * the {@link com.mongodb.DBRef}s encountered while reading it together.
+ *
+ * @since 1.10
+ */
+public interface ReadScopeAwareDbRefResolver extends DbRefResolver {
+
+	/**
+	 * Marks the start of reading a document on the current thread. Reads can be nested, so every call has to be
+	 * followed by a call to {@link #endRead()}.
+	 */
+	void beginRead();
+
+	/**
+	 * Marks the end of reading a document started via {@link #beginRead()} on the current thread.
+	 */
+	void endRead();
+}
@@ -66,7 +66,9 @@ public class BasicQuery extends Query {
 
 	@Override
 	public DBObject getQueryObject() {
-		return this.queryObject;
+
+		DBObject keysetCriteria = getKeysetCriteria();
+		return keysetCriteria == null ? this.queryObject : appendKeysetCriteria(this.queryObject, keysetCriteria);
 	}
 
 	@Override
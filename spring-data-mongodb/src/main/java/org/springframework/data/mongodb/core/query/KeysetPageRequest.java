@@ -0,0 +1,333 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.query;
+
+import static org.springframework.util.ObjectUtils.*;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.util.Assert;
+import org.springframework.util.Base64Utils;
+
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import com.mongodb.util.JSON;
+import com.mongodb.util.JSONParseException;
+
+/**
+ * A {@link PageRequest} to seek to a page by the sort key values of the last element of the previous page instead of
+ * skipping all elements of the previous pages. Applying it to a {@link Query} adds a range predicate on the sort keys
+ * so that the database can start reading right at the requested page using an index on the sort keys. The {@link Sort}
+ * is always completed with the {@code _id} as tiebreaker to guarantee a unique position.
+ * <p>
+ * The request for the first page is created using {@link #KeysetPageRequest(int, Sort)}. The request for the following
+ * page is obtained from the {@link org.springframework.data.domain.Slice} or {@link org.springframework.data.domain.Page}
+ * returned by repository query methods via {@code nextPageable()} and can be turned into a continuation token using
+ * {@link #getContinuationToken()} to be handed to clients. {@link #fromContinuationToken(String, int, Sort)} restores
+ * the request from such a token. As the position of previous pages is not known, {@link #previous()} falls back to an
+ * offset based {@link PageRequest}.
+ *
+ * @since 1.10
+ */
+public class KeysetPageRequest extends PageRequest {
+
+	private static final long serialVersionUID = -3415282245930218367L;
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private static final String ID_FIELD = "_id";
+	private static final String PAGE_KEY = "page";
+	private static final String TOTAL_KEY = "total";
+	private static final String POSITION_KEY = "position";
+
+	private final DBObject position;
+	private final Long total;
+	private final DBObject nextPosition;
+
+	/**
+	 * Creates a new {@link KeysetPageRequest} for the first page of the given size ordered by the given {@link Sort}.
+	 *
+	 * @param size the size of the page, must be greater than zero.
+	 * @param sort can be {@literal null}.
+	 */
+	public KeysetPageRequest(int size, Sort sort) {
+		this(0, size, sort, null, null, null);
+	}
+
+	private KeysetPageRequest(int page, int size, Sort sort, DBObject position, Long total, DBObject nextPosition) {
+
+		super(page, size, withIdTiebreaker(sort));
+
+		this.position = position;
+		this.total = total;
+		this.nextPosition = nextPosition;
+	}
+
+	/**
+	 * Restores the {@link KeysetPageRequest} from the given continuation token obtained from
+	 * {@link #getContinuationToken()}. The given {@link Sort} has to be the one used for the previous pages.
+	 *
+	 * @param token must not be {@literal null} or empty.
+	 * @param size the size of the page, must be greater than zero.
+	 * @param sort can be {@literal null}.
+	 * @return
+	 * @throws IllegalArgumentException in case the given token is not a valid continuation token.
+	 */
+	public static KeysetPageRequest fromContinuationToken(String token, int size, Sort sort) {
+
+		Assert.hasText(token, "Continuation token must not be null or empty!");
+
+		Object parsed;
+
+		try {
+			parsed = JSON.parse(new String(Base64Utils.decodeFromUrlSafeString(token), UTF_8));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(String.format("Invalid continuation token %s!", token), e);
+		} catch (JSONParseException e) {
+			throw new IllegalArgumentException(String.format("Invalid continuation token %s!", token), e);
+		}
+
+		if (!(parsed instanceof DBObject) || !(((DBObject) parsed).get(POSITION_KEY) instanceof DBObject)) {
+			throw new IllegalArgumentException(String.format("Invalid continuation token %s!", token));
+		}
+
+		DBObject document = (DBObject) parsed;
+		Number page = (Number) document.get(PAGE_KEY);
+		Number total = (Number) document.get(TOTAL_KEY);
+
+		return new KeysetPageRequest(page == null ? 0 : page.intValue(), size, sort,
+				(DBObject) document.get(POSITION_KEY), total == null ? null : total.longValue(), null);
+	}
+
+	/**
+	 * Returns the sort key values of the last element of the previous page keyed by the properties of the {@link Sort}.
+	 *
+	 * @return the position or {@literal null} for the first page.
+	 */
+	public DBObject getPosition() {
+		return position;
+	}
+
+	/**
+	 * Returns the total number of elements if it has already been determined for a previous page.
+	 *
+	 * @return the total or {@literal null} if not known yet.
+	 */
+	public Long getTotal() {
+		return total;
+	}
+
+	/**
+	 * Returns a token to be handed to clients to request the page later on using
+	 * {@link #fromContinuationToken(String, int, Sort)}.
+	 *
+	 * @return the token or {@literal null} for the first page.
+	 */
+	public String getContinuationToken() {
+
+		if (position == null) {
+			return null;
+		}
+
+		DBObject document = new BasicDBObject(PAGE_KEY, getPageNumber());
+
+		if (total != null) {
+			document.put(TOTAL_KEY, total);
+		}
+
+		document.put(POSITION_KEY, position);
+
+		return Base64Utils.encodeToUrlSafeString(JSON.serialize(document).getBytes(UTF_8));
+	}
+
+	/**
+	 * Returns a copy of the current {@link KeysetPageRequest} that continues after the given position when requesting
+	 * the {@link #next()} page.
+	 *
+	 * @param nextPosition the sort key values of the last element of the current page keyed by the properties of the
+	 *          {@link Sort}, must not be {@literal null}.
+	 * @return
+	 */
+	public KeysetPageRequest withNextPosition(DBObject nextPosition) {
+
+		Assert.notNull(nextPosition, "Next position must not be null!");
+		return new KeysetPageRequest(getPageNumber(), getPageSize(), getSort(), position, total, nextPosition);
+	}
+
+	/**
+	 * Returns a copy of the current {@link KeysetPageRequest} carrying the given total number of elements to subsequent
+	 * pages so that it does not have to be calculated again.
+	 *
+	 * @param total must not be negative.
+	 * @return
+	 */
+	public KeysetPageRequest withTotal(long total) {
+
+		Assert.isTrue(total >= 0, "Total must not be negative!");
+		return new KeysetPageRequest(getPageNumber(), getPageSize(), getSort(), position, total, nextPosition);
+	}
+
+	/**
+	 * Returns the range predicate selecting the elements following the {@link #getPosition()} in the order of the
+	 * {@link Sort}. As MongoDB sorts {@literal null} and missing values before all others, a {@literal null} position
+	 * selects all non-{@literal null} values for ascending and no values for descending sort keys, whereas a non-
+	 * {@literal null} position for a descending sort key also selects {@literal null} and missing values.
+	 *
+	 * @return the predicate or {@literal null} for the first page.
+	 * @throws IllegalArgumentException in case the position does not contain a value for every sort key.
+	 */
+	public DBObject getCriteriaObject() {
+
+		if (position == null) {
+			return null;
+		}
+
+		List<Order> orders = new ArrayList<Order>();
+
+		for (Order order : getSort()) {
+
+			Assert.isTrue(position.containsField(order.getProperty()),
+					String.format("Position %s does not match sort %s!", position, getSort()));
+			orders.add(order);
+		}
+
+		BasicDBList or = new BasicDBList();
+
+		for (int i = 0; i < orders.size(); i++) {
+
+			DBObject alternative = new BasicDBObject();
+
+			for (Order previous : orders.subList(0, i)) {
+				alternative.put(previous.getProperty(), position.get(previous.getProperty()));
+			}
+
+			Order order = orders.get(i);
+			String property = order.getProperty();
+			Object value = position.get(property);
+
+			if (value == null) {
+
+				if (!order.isAscending()) {
+					continue;
+				}
+
+				alternative.put(property, new BasicDBObject("$ne", null));
+
+			} else if (order.isAscending()) {
+				alternative.put(property, new BasicDBObject("$gt", value));
+			} else {
+
+				BasicDBList lessOrNull = new BasicDBList();
+				lessOrNull.add(new BasicDBObject(property, new BasicDBObject("$lt", value)));
+				lessOrNull.add(new BasicDBObject(property, null));
+
+				alternative.put("$or", lessOrNull);
+			}
+
+			or.add(alternative);
+		}
+
+		return or.size() == 1 ? (DBObject) or.get(0) : new BasicDBObject("$or", or);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#next()
+	 */
+	@Override
+	public Pageable next() {
+
+		if (nextPosition == null) {
+			throw new IllegalStateException(
+					"Position of the next page not known! Use the pageable of the returned page or slice instead.");
+		}
+
+		return new KeysetPageRequest(getPageNumber() + 1, getPageSize(), getSort(), nextPosition, total, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#first()
+	 */
+	@Override
+	public Pageable first() {
+		return new KeysetPageRequest(0, getPageSize(), getSort(), null, total, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof KeysetPageRequest)) {
+			return false;
+		}
+
+		KeysetPageRequest that = (KeysetPageRequest) obj;
+
+		return super.equals(that) && nullSafeEquals(this.position, that.position)
+				&& nullSafeEquals(this.nextPosition, that.nextPosition);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + nullSafeHashCode(position);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("Keyset page request [number: %d, size %d, sort: %s, position: %s]", getPageNumber(),
+				getPageSize(), getSort(), position);
+	}
+
+	private static Sort withIdTiebreaker(Sort sort) {
+
+		Sort idSort = new Sort(Direction.ASC, ID_FIELD);
+
+		if (sort == null) {
+			return idSort;
+		}
+
+		for (Order order : sort) {
+			if (ID_FIELD.equals(order.getProperty()) || "id".equals(order.getProperty())) {
+				return sort;
+			}
+		}
+
+		return sort.and(idSort);
+	}
+}
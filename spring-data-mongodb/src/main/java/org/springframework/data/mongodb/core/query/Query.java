@@ -33,6 +33,7 @@ import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.mongodb.InvalidMongoDbApiUsageException;
 import org.springframework.util.Assert;
 
+import com.mongodb.BasicDBList;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
 
@@ -53,6 +54,7 @@ public class Query {
 	private int skip;
 	private int limit;
 	private String hint;
+	private DBObject keysetCriteria;
 
 	private Meta meta = new Meta();
 
@@ -145,7 +147,9 @@ public class Query {
 
 	/**
 	 * Sets the given pagination information on the {@link Query} instance. Will transparently set {@code skip} and
-	 * {@code limit} as well as applying the {@link Sort} instance defined with the {@link Pageable}.
+	 * {@code limit} as well as applying the {@link Sort} instance defined with the {@link Pageable}. For a
+	 * {@link KeysetPageRequest} no documents are skipped but the query is restricted to the documents following the
+	 * position of the request.
 	 * 
 	 * @param pageable
 	 * @return
@@ -156,6 +160,15 @@ public class Query {
 			return this;
 		}
 
+		if (pageable instanceof KeysetPageRequest) {
+
+			this.limit = pageable.getPageSize();
+			this.skip = 0;
+			this.keysetCriteria = ((KeysetPageRequest) pageable).getCriteriaObject();
+
+			return with(pageable.getSort());
+		}
+
 		this.limit = pageable.getPageSize();
 		this.skip = pageable.getOffset();
 
@@ -229,7 +242,7 @@ public class Query {
 			dbo.put(RESTRICTED_TYPES_KEY, getRestrictedTypes());
 		}
 
-		return dbo;
+		return keysetCriteria == null ? dbo : appendKeysetCriteria(dbo, keysetCriteria);
 	}
 
 	public DBObject getFieldsObject() {
@@ -358,6 +371,52 @@ public class Query {
 		return new ArrayList<CriteriaDefinition>(this.criteria.values());
 	}
 
+	/**
+	 * Returns the range predicate of the {@link KeysetPageRequest} applied to the {@link Query}.
+	 * 
+	 * @return the predicate or {@literal null} if no {@link KeysetPageRequest} or the one for the first page was applied.
+	 * @since 1.10
+	 */
+	protected DBObject getKeysetCriteria() {
+		return keysetCriteria;
+	}
+
+	/**
+	 * Returns a copy of the given query object additionally restricted by the given keyset criteria. The criteria are
+	 * combined using {@code $and} in case the query object already uses an {@code $or} so that it is not overridden.
+	 * 
+	 * @param queryObject must not be {@literal null}.
+	 * @param keysetCriteria must not be {@literal null}.
+	 * @return
+	 * @since 1.10
+	 */
+	protected static DBObject appendKeysetCriteria(DBObject queryObject, DBObject keysetCriteria) {
+
+		BasicDBObject result = new BasicDBObject();
+		result.putAll(queryObject);
+
+		for (String key : keysetCriteria.keySet()) {
+
+			if (!result.containsField(key)) {
+				continue;
+			}
+
+			BasicDBList and = new BasicDBList();
+
+			if (result.get("$and") instanceof List) {
+				and.addAll((List<?>) result.get("$and"));
+			}
+
+			and.add(keysetCriteria);
+			result.put("$and", and);
+
+			return result;
+		}
+
+		result.putAll(keysetCriteria);
+		return result;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#toString()
@@ -401,8 +460,10 @@ public class Query {
 		boolean skipEqual = this.skip == that.skip;
 		boolean limitEqual = this.limit == that.limit;
 		boolean metaEqual = nullSafeEquals(this.meta, that.meta);
+		boolean keysetEqual = nullSafeEquals(this.keysetCriteria, that.keysetCriteria);
 
-		return criteriaEqual && fieldsEqual && sortEqual && hintEqual && skipEqual && limitEqual && metaEqual;
+		return criteriaEqual && fieldsEqual && sortEqual && hintEqual && skipEqual && limitEqual && metaEqual
+				&& keysetEqual;
 	}
 
 	/* 
@@ -421,6 +482,7 @@ public class Query {
 		result += 31 * skip;
 		result += 31 * limit;
 		result += 31 * nullSafeHashCode(meta);
+		result += 31 * nullSafeHashCode(keysetCriteria);
 
 		return result;
 	}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReadableByteChannel} over the chunks read by a {@link GridFsChunkInputStream}. Besides the regular
+ * {@link #read(ByteBuffer)}, which has to copy into the given buffer, it allows handing out the chunks' data as
+ * {@link ByteBuffer}s wrapping the chunks as they were read from the database via {@link #readChunk()} and
+ * {@link #transferTo(WritableByteChannel)}.
+ *
+ * @since 1.10
+ */
+class GridFsChunkChannel implements ReadableByteChannel {
+
+	private final GridFsChunkInputStream chunks;
+
+	private ByteBuffer current;
+	private boolean open = true;
+
+	/**
+	 * Creates a new {@link GridFsChunkChannel} for the given {@link GridFsChunkInputStream}.
+	 *
+	 * @param chunks must not be {@literal null}.
+	 */
+	GridFsChunkChannel(GridFsChunkInputStream chunks) {
+
+		Assert.notNull(chunks, "Chunk stream must not be null!");
+		this.chunks = chunks;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.nio.channels.ReadableByteChannel#read(java.nio.ByteBuffer)
+	 */
+	@Override
+	public int read(ByteBuffer target) throws IOException {
+
+		ByteBuffer source = readChunk();
+
+		if (source == null) {
+			return -1;
+		}
+
+		int count = Math.min(source.remaining(), target.remaining());
+
+		ByteBuffer slice = source.duplicate();
+		slice.limit(slice.position() + count);
+		target.put(slice);
+
+		source.position(source.position() + count);
+		current = source.hasRemaining() ? source : null;
+
+		return count;
+	}
+
+	/**
+	 * Returns the not yet consumed data of the current chunk or the next chunk without copying it. The returned buffer
+	 * is owned by the caller.
+	 *
+	 * @return the next {@link ByteBuffer} or {@literal null} if all content was read.
+	 * @throws IOException
+	 */
+	ByteBuffer readChunk() throws IOException {
+
+		if (!open) {
+			throw new ClosedChannelException();
+		}
+
+		ByteBuffer result = current != null ? current : chunks.readChunk();
+		current = null;
+
+		return result;
+	}
+
+	/**
+	 * Writes all remaining content to the given {@link WritableByteChannel} chunk by chunk, so that at most the chunks
+	 * buffered by the underlying {@link GridFsChunkInputStream} are held in memory.
+	 *
+	 * @param target must not be {@literal null}.
+	 * @return the number of bytes written.
+	 * @throws IOException
+	 */
+	long transferTo(WritableByteChannel target) throws IOException {
+
+		Assert.notNull(target, "Target channel must not be null!");
+
+		long count = 0;
+		ByteBuffer chunk;
+
+		while ((chunk = readChunk()) != null) {
+			while (chunk.hasRemaining()) {
+				count += target.write(chunk);
+			}
+		}
+
+		return count;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.nio.channels.Channel#isOpen()
+	 */
+	@Override
+	public boolean isOpen() {
+		return open;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.nio.channels.Channel#close()
+	 */
+	@Override
+	public void close() throws IOException {
+
+		open = false;
+		current = null;
+		chunks.close();
+	}
+}
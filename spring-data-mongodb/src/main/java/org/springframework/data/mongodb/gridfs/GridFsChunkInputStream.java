@@ -0,0 +1,381 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.util.Assert;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBCollection;
+import com.mongodb.DBCursor;
+import com.mongodb.DBObject;
+import com.mongodb.gridfs.GridFSFile;
+
+/**
+ * {@link InputStream} reading a range of the content of a {@link GridFSFile} directly from the chunks collection,
+ * following the reference to shared chunks of files stored by a deduplicating {@link GridFsTemplate}. Only the chunks
+ * covering the range are queried and they are fetched with a single cursor in batches of the configured prefetch size
+ * instead of one query per chunk. If an {@link Executor} is given, the chunks are read by a background task into a
+ * buffer of the prefetch size, so that fetching the next chunks overlaps with consuming the current one. While
+ * prefetching, the cursor is only accessed by the background task, which also closes it once it is done.
+ *
+ * @since 1.10
+ */
+class GridFsChunkInputStream extends InputStream {
+
+	private static final byte[] END = new byte[0];
+
+	private final DBCursor cursor;
+	private final int chunkSize;
+	private final long end;
+	private final BlockingQueue<byte[]> buffer;
+	private final boolean prefetching;
+
+	private volatile boolean closed;
+	private volatile IOException failure;
+
+	private long position;
+	private int expectedChunk;
+	private byte[] chunk;
+	private int chunkOffset;
+
+	/**
+	 * Creates a new {@link GridFsChunkInputStream} for the given range of the given {@link GridFSFile}.
+	 *
+	 * @param chunks the chunks collection of the bucket the file is stored in, must not be {@literal null}.
+	 * @param file must not be {@literal null}.
+	 * @param offset the position of the first byte to read, must not be negative.
+	 * @param length the maximum number of bytes to read, must not be negative.
+	 * @param prefetchSize the number of chunks to fetch at once, must be greater than zero.
+	 * @param executor the {@link Executor} to fetch chunks on, can be {@literal null} to fetch on the reading thread.
+	 */
+	GridFsChunkInputStream(DBCollection chunks, GridFSFile file, long offset, long length, int prefetchSize,
+			Executor executor) {
+
+		Assert.notNull(chunks, "Chunks collection must not be null!");
+		Assert.notNull(file, "GridFSFile must not be null!");
+		Assert.isTrue(offset >= 0, "Offset must not be negative!");
+		Assert.isTrue(length >= 0, "Length must not be negative!");
+		Assert.isTrue(prefetchSize > 0, "Prefetch size must be greater than zero!");
+
+		this.chunkSize = (int) file.getChunkSize();
+		this.position = Math.min(offset, file.getLength());
+		this.end = Math.min(file.getLength(), length > Long.MAX_VALUE - position ? Long.MAX_VALUE : position + length);
+		this.expectedChunk = (int) (position / chunkSize);
+
+		if (position >= end) {
+
+			this.cursor = null;
+			this.buffer = null;
+			this.prefetching = false;
+
+			return;
+		}
+
+		int lastChunk = (int) ((end - 1) / chunkSize);
+
+		Object contentId = file.get(GridFsTemplate.CONTENT_ID_KEY);
+
+		DBObject query = new BasicDBObject("files_id", contentId == null ? file.getId() : contentId);
+		query.put("n", new BasicDBObject("$gte", expectedChunk).append("$lte", lastChunk));
+
+		this.cursor = chunks.find(query).sort(new BasicDBObject("n", 1)).batchSize(prefetchSize);
+		this.buffer = executor == null ? null : new ArrayBlockingQueue<byte[]>(prefetchSize);
+		this.prefetching = executor != null && startPrefetching(executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#read()
+	 */
+	@Override
+	public int read() throws IOException {
+
+		if (!ensureChunk()) {
+			return -1;
+		}
+
+		position++;
+		return chunk[chunkOffset++] & 0xff;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#read(byte[], int, int)
+	 */
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+
+		if (length == 0) {
+			return 0;
+		}
+
+		if (!ensureChunk()) {
+			return -1;
+		}
+
+		int count = (int) Math.min(Math.min(length, chunk.length - chunkOffset), end - position);
+
+		System.arraycopy(chunk, chunkOffset, bytes, offset, count);
+
+		chunkOffset += count;
+		position += count;
+
+		return count;
+	}
+
+	/**
+	 * Returns the remaining bytes of the current chunk within the range or the next chunk if the current one is
+	 * consumed. The returned {@link ByteBuffer} wraps the chunk's data without copying it.
+	 *
+	 * @return the next {@link ByteBuffer} or {@literal null} if the end of the range is reached.
+	 * @throws IOException
+	 */
+	ByteBuffer readChunk() throws IOException {
+
+		if (!ensureChunk()) {
+			return null;
+		}
+
+		int count = (int) Math.min(chunk.length - chunkOffset, end - position);
+		ByteBuffer result = ByteBuffer.wrap(chunk, chunkOffset, count).slice();
+
+		chunkOffset += count;
+		position += count;
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#available()
+	 */
+	@Override
+	public int available() throws IOException {
+		return chunk == null ? 0 : (int) Math.min(chunk.length - chunkOffset, end - position);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#close()
+	 */
+	@Override
+	public void close() throws IOException {
+
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+
+		if (prefetching) {
+			buffer.clear();
+		} else if (cursor != null) {
+			cursor.close();
+		}
+	}
+
+	/**
+	 * Makes sure there are bytes left to read from the current chunk, moving on to the next chunk if necessary.
+	 *
+	 * @return {@literal false} if the end of the range is reached.
+	 * @throws IOException
+	 */
+	private boolean ensureChunk() throws IOException {
+
+		if (closed) {
+			throw new IOException("Stream already closed!");
+		}
+
+		if (position >= end) {
+			return false;
+		}
+
+		if (chunk != null && chunkOffset < chunk.length) {
+			return true;
+		}
+
+		byte[] next = prefetching ? take() : fetch();
+
+		if (next == END) {
+
+			if (failure != null) {
+				throw failure;
+			}
+
+			throw new IOException(String.format("Missing chunk %s, file is incomplete!", expectedChunk));
+		}
+
+		chunkOffset = chunk == null ? (int) (position % chunkSize) : 0;
+		chunk = next;
+		expectedChunk++;
+
+		if (chunkOffset >= chunk.length) {
+			throw new IOException(String.format("Chunk %s is shorter than expected!", expectedChunk - 1));
+		}
+
+		return true;
+	}
+
+	private byte[] take() throws IOException {
+
+		try {
+			return buffer.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for chunk!", e);
+		}
+	}
+
+	/**
+	 * Reads the next chunk from the cursor and verifies it is the expected one.
+	 *
+	 * @return the data of the next chunk or {@link #END} if there are no more chunks.
+	 * @throws IOException in case the chunks are not contiguous.
+	 */
+	private byte[] fetch() throws IOException {
+
+		if (!cursor.hasNext()) {
+			return END;
+		}
+
+		DBObject next = cursor.next();
+		Object n = next.get("n");
+
+		if (!(n instanceof Number) || ((Number) n).intValue() != expectedChunk) {
+			throw new IOException(String.format("Missing chunk %s, found chunk %s instead!", expectedChunk, n));
+		}
+
+		return (byte[]) next.get("data");
+	}
+
+	private boolean startPrefetching(Executor executor) {
+
+		try {
+
+			executor.execute(new Runnable() {
+
+				@Override
+				public void run() {
+					prefetch();
+				}
+			});
+
+			return true;
+
+		} catch (RejectedExecutionException o_O) {
+			return false;
+		}
+	}
+
+	/**
+	 * Reads chunks from the cursor into the buffer until all chunks are read, reading failed or the stream is closed,
+	 * and closes the cursor afterwards. Chunks not read yet are only discarded if reading failed or the stream was
+	 * closed.
+	 */
+	private void prefetch() {
+
+		try {
+			doPrefetch();
+		} finally {
+
+			try {
+				cursor.close();
+			} catch (RuntimeException o_O) {
+				// ignore, the chunks are either read completely or the stream failed already
+			}
+		}
+	}
+
+	private void doPrefetch() {
+
+		int n = expectedChunk;
+
+		try {
+
+			while (!closed && cursor.hasNext()) {
+
+				DBObject next = cursor.next();
+				Object number = next.get("n");
+
+				if (!(number instanceof Number) || ((Number) number).intValue() != n) {
+					throw new IOException(String.format("Missing chunk %s, found chunk %s instead!", n, number));
+				}
+
+				if (!put((byte[]) next.get("data"))) {
+					return;
+				}
+
+				n++;
+			}
+
+			put(END);
+
+		} catch (IOException e) {
+			fail(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			fail(new IOException("Interrupted while prefetching chunks!", e));
+		} catch (RuntimeException e) {
+			fail(new IOException("Could not read chunks!", e));
+		}
+	}
+
+	/**
+	 * Adds the given chunk to the buffer, waiting for the reader to make room for it.
+	 *
+	 * @param chunk must not be {@literal null}.
+	 * @return {@literal false} if the stream was closed and prefetching has to stop.
+	 * @throws InterruptedException
+	 */
+	private boolean put(byte[] chunk) throws InterruptedException {
+
+		if (closed) {
+			return false;
+		}
+
+		buffer.put(chunk);
+
+		if (closed) {
+			buffer.clear();
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Discards the chunks not read yet and makes the reader fail with the given {@link IOException} on its next read.
+	 *
+	 * @param e must not be {@literal null}.
+	 */
+	private void fail(IOException e) {
+
+		failure = e;
+
+		if (!closed) {
+			buffer.clear();
+			buffer.offer(END);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2011 the original author or authors.
+ * Copyright 2011-2016 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,11 +15,23 @@
  */
 package org.springframework.data.mongodb.gridfs;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.Executor;
 
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
 
+import com.mongodb.DBCollection;
 import com.mongodb.gridfs.GridFSDBFile;
 
 /**
@@ -30,6 +42,9 @@ import com.mongodb.gridfs.GridFSDBFile;
 public class GridFsResource extends InputStreamResource {
 
 	private final GridFSDBFile file;
+	private final DBCollection chunks;
+	private final int prefetchSize;
+	private final Executor executor;
 
 	/**
 	 * Creates a new {@link GridFsResource} from the given {@link GridFSDBFile}.
@@ -37,8 +52,184 @@ public class GridFsResource extends InputStreamResource {
 	 * @param file must not be {@literal null}.
 	 */
 	public GridFsResource(GridFSDBFile file) {
+		this(file, null, 0, null);
+	}
+
+	/**
+	 * Creates a new {@link GridFsResource} from the given {@link GridFSDBFile} reading its content directly from the
+	 * given chunks collection, fetching the given number of chunks ahead. Such a resource can be read multiple times.
+	 * 
+	 * @param file must not be {@literal null}.
+	 * @param chunks the chunks collection of the file's bucket, can be {@literal null} to read through
+	 *          {@link GridFSDBFile}.
+	 * @param prefetchSize the number of chunks to fetch ahead.
+	 * @param executor the {@link Executor} to fetch chunks on, can be {@literal null}.
+	 * @since 1.10
+	 */
+	GridFsResource(GridFSDBFile file, DBCollection chunks, int prefetchSize, Executor executor) {
+
 		super(file.getInputStream());
+
 		this.file = file;
+		this.chunks = chunks;
+		this.prefetchSize = prefetchSize;
+		this.executor = executor;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.io.InputStreamResource#getInputStream()
+	 */
+	@Override
+	public InputStream getInputStream() throws IOException, IllegalStateException {
+		return chunks == null ? super.getInputStream() : getInputStream(0, file.getLength());
+	}
+
+	/**
+	 * Returns an {@link InputStream} for the given range of the file's content, e.g. to serve HTTP range requests. Only
+	 * the chunks containing the range are read.
+	 * 
+	 * @param offset the position of the first byte to read, must not be negative.
+	 * @param length the maximum number of bytes to read, must not be negative.
+	 * @return
+	 * @throws IOException
+	 * @since 1.10
+	 */
+	public InputStream getInputStream(long offset, long length) throws IOException {
+
+		Assert.isTrue(offset >= 0, "Offset must not be negative!");
+		Assert.isTrue(length >= 0, "Length must not be negative!");
+
+		if (chunks != null) {
+			return new GridFsChunkInputStream(chunks, file, offset, length, prefetchSize, executor);
+		}
+
+		InputStream stream = file.getInputStream();
+		long skipped = 0;
+
+		while (skipped < offset) {
+
+			long count = stream.skip(offset - skipped);
+
+			if (count <= 0) {
+				break;
+			}
+
+			skipped += count;
+		}
+
+		return new RangeInputStream(stream, length);
+	}
+
+	/**
+	 * Returns a {@link ReadableByteChannel} for the file's content.
+	 * 
+	 * @return
+	 * @throws IOException
+	 * @since 1.10
+	 */
+	public ReadableByteChannel readableChannel() throws IOException {
+		return readableChannel(0);
+	}
+
+	/**
+	 * Returns a {@link ReadableByteChannel} for the file's content starting at the given position. Only the chunks from
+	 * that position on are read.
+	 * 
+	 * @param position the position of the first byte to read, must not be negative.
+	 * @return
+	 * @throws IOException
+	 * @since 1.10
+	 */
+	public ReadableByteChannel readableChannel(long position) throws IOException {
+
+		Assert.isTrue(position >= 0, "Position must not be negative!");
+
+		long length = Math.max(file.getLength() - position, 0);
+
+		if (chunks != null) {
+			return new GridFsChunkChannel(
+					new GridFsChunkInputStream(chunks, file, position, length, prefetchSize, executor));
+		}
+
+		return Channels.newChannel(getInputStream(position, length));
+	}
+
+	/**
+	 * Writes the file's content to the given {@link WritableByteChannel}. When reading from the chunks collection, the
+	 * chunks are handed to the target as they were read from the database without copying them into an intermediate
+	 * buffer and at most the prefetched chunks are held in memory. The given channel is not closed.
+	 * 
+	 * @param target must not be {@literal null}.
+	 * @return the number of bytes written.
+	 * @throws IOException
+	 * @since 1.10
+	 */
+	public long transferTo(WritableByteChannel target) throws IOException {
+
+		Assert.notNull(target, "Target channel must not be null!");
+
+		ReadableByteChannel source = readableChannel();
+
+		try {
+
+			if (source instanceof GridFsChunkChannel) {
+				return ((GridFsChunkChannel) source).transferTo(target);
+			}
+
+			ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(file.getChunkSize(), Integer.MAX_VALUE));
+			long count = 0;
+
+			while (source.read(buffer) != -1) {
+
+				buffer.flip();
+
+				while (buffer.hasRemaining()) {
+					count += target.write(buffer);
+				}
+
+				buffer.clear();
+			}
+
+			return count;
+
+		} finally {
+			source.close();
+		}
+	}
+
+	/**
+	 * Writes the file's content to the given {@link File}, replacing its current content.
+	 * 
+	 * @param target must not be {@literal null}.
+	 * @return the number of bytes written.
+	 * @throws IOException
+	 * @since 1.10
+	 * @see #transferTo(WritableByteChannel)
+	 */
+	public long transferTo(File target) throws IOException {
+
+		Assert.notNull(target, "Target file must not be null!");
+
+		FileOutputStream stream = new FileOutputStream(target);
+
+		try {
+
+			FileChannel channel = stream.getChannel();
+			return transferTo(channel);
+
+		} finally {
+			stream.close();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.io.InputStreamResource#isOpen()
+	 */
+	@Override
+	public boolean isOpen() {
+		return chunks == null;
 	}
 
 	/*
@@ -85,4 +276,88 @@ public class GridFsResource extends InputStreamResource {
 	public String getContentType() {
 		return file.getContentType();
 	}
+
+	/**
+	 * {@link FilterInputStream} limiting the number of bytes read from the underlying stream.
+	 */
+	private static class RangeInputStream extends FilterInputStream {
+
+		private long remaining;
+
+		RangeInputStream(InputStream in, long length) {
+			super(in);
+			this.remaining = length;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#read()
+		 */
+		@Override
+		public int read() throws IOException {
+
+			if (remaining <= 0) {
+				return -1;
+			}
+
+			int result = super.read();
+
+			if (result >= 0) {
+				remaining--;
+			}
+
+			return result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#read(byte[], int, int)
+		 */
+		@Override
+		public int read(byte[] bytes, int offset, int length) throws IOException {
+
+			if (remaining <= 0) {
+				return -1;
+			}
+
+			int result = super.read(bytes, offset, (int) Math.min(length, remaining));
+
+			if (result > 0) {
+				remaining -= result;
+			}
+
+			return result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#skip(long)
+		 */
+		@Override
+		public long skip(long count) throws IOException {
+
+			long result = super.skip(Math.min(count, remaining));
+			remaining -= result;
+
+			return result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#available()
+		 */
+		@Override
+		public int available() throws IOException {
+			return (int) Math.min(super.available(), remaining);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#markSupported()
+		 */
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+	}
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+import com.mongodb.MongoException;
+import com.mongodb.gridfs.GridFS;
+import com.mongodb.gridfs.GridFSDBFile;
+
+/**
+ * {@link GridFSDBFile} stored by a deduplicating {@link GridFsTemplate} that references the chunks of another file.
+ * Reads and validates the content from the referenced chunks, which {@link GridFSDBFile} itself would not find as it
+ * only considers chunks stored for the file's own id.
+ *
+ * @since 1.10
+ */
+class GridFsSharedContentFile extends GridFSDBFile {
+
+	private final GridFS gridFs;
+	private final DBCollection chunks;
+	private final int prefetchSize;
+
+	/**
+	 * Creates a new {@link GridFsSharedContentFile} with the fields of the given {@link GridFSDBFile}.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @param gridFs must not be {@literal null}.
+	 * @param chunks the chunks collection of the bucket, must not be {@literal null}.
+	 * @param prefetchSize the number of chunks to fetch at once, must be greater than zero.
+	 */
+	GridFsSharedContentFile(GridFSDBFile file, GridFS gridFs, DBCollection chunks, int prefetchSize) {
+
+		Assert.notNull(file, "GridFSDBFile must not be null!");
+		Assert.notNull(gridFs, "GridFS must not be null!");
+		Assert.notNull(chunks, "Chunks collection must not be null!");
+
+		for (String key : file.keySet()) {
+
+			Object value = file.get(key);
+
+			if (value != null) {
+				put(key, value);
+			}
+		}
+
+		this.gridFs = gridFs;
+		this.chunks = chunks;
+		this.prefetchSize = prefetchSize;
+	}
+
+	/**
+	 * Returns an {@link InputStream} reading the shared chunks on the calling thread.
+	 *
+	 * @see com.mongodb.gridfs.GridFSDBFile#getInputStream()
+	 */
+	@Override
+	public InputStream getInputStream() {
+		return new GridFsChunkInputStream(chunks, this, 0, getLength(), prefetchSize, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.gridfs.GridFSDBFile#writeTo(java.io.OutputStream)
+	 */
+	@Override
+	public long writeTo(OutputStream out) throws IOException {
+
+		InputStream stream = getInputStream();
+
+		try {
+			StreamUtils.copy(stream, out);
+			return getLength();
+		} finally {
+			stream.close();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.gridfs.GridFSFile#save()
+	 */
+	@Override
+	public void save() {
+		gridFs.getFilesCollection().save(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.gridfs.GridFSFile#validate()
+	 */
+	@Override
+	public void validate() {
+
+		if (getMD5() == null) {
+			throw new MongoException("no md5 stored");
+		}
+
+		DBObject command = new BasicDBObject("filemd5", get(GridFsTemplate.CONTENT_ID_KEY));
+		command.put("root", gridFs.getBucketName());
+
+		DBObject result = gridFs.getDB().command(command);
+
+		if (result == null || !result.containsField("md5")) {
+			throw new MongoException("no md5 returned from server: " + result);
+		}
+
+		String md5 = result.get("md5").toString();
+
+		if (!md5.equals(getMD5())) {
+			throw new MongoException(String.format("md5 differ. mine [%s] theirs [%s]", getMD5(), md5));
+		}
+	}
+}
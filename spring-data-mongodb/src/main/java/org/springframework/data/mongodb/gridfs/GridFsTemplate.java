@@ -1,5 +1,5 @@
 /*
- * Copyright 2011-2014 the original author or authors.
+ * Copyright 2011-2016 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,9 +18,20 @@ package org.springframework.data.mongodb.gridfs;
 import static org.springframework.data.mongodb.core.query.Query.*;
 import static org.springframework.data.mongodb.gridfs.GridFsCriteria.*;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.bson.types.ObjectId;
 
 import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.data.mongodb.MongoDbFactory;
@@ -32,7 +43,10 @@ import org.springframework.util.StringUtils;
 
 import com.mongodb.BasicDBObject;
 import com.mongodb.DB;
+import com.mongodb.DBCollection;
+import com.mongodb.DBCursor;
 import com.mongodb.DBObject;
+import com.mongodb.MongoException;
 import com.mongodb.gridfs.GridFS;
 import com.mongodb.gridfs.GridFSDBFile;
 import com.mongodb.gridfs.GridFSFile;
@@ -48,11 +62,26 @@ import com.mongodb.gridfs.GridFSInputFile;
  */
 public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver {
 
+	/**
+	 * Key of the field in file documents referencing the id of the file whose chunks hold the content.
+	 */
+	static final String CONTENT_ID_KEY = "contentId";
+
+	private static final String REFERENCES_KEY = "references";
+	private static final int DEFAULT_CHUNK_WRITE_BATCH_SIZE = 16;
+
 	private final MongoDbFactory dbFactory;
 	private final String bucket;
 	private final MongoConverter converter;
 	private final QueryMapper queryMapper;
 
+	private int chunkSize = GridFS.DEFAULT_CHUNKSIZE;
+	private int chunkWriteBatchSize = 0;
+	private int chunkPrefetchSize = 0;
+	private Executor executor;
+	private boolean deduplicating = false;
+	private volatile boolean deduplicationIndexesCreated = false;
+
 	/**
 	 * Creates a new {@link GridFsTemplate} using the given {@link MongoDbFactory} and {@link MongoConverter}.
 	 * 
@@ -82,6 +111,75 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 		this.queryMapper = new QueryMapper(converter);
 	}
 
+	/**
+	 * Configures the size of the chunks new files are split into. Defaults to {@link GridFS#DEFAULT_CHUNKSIZE}.
+	 *
+	 * @param chunkSize must be greater than zero.
+	 * @since 1.10
+	 */
+	public void setChunkSize(int chunkSize) {
+
+		Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero!");
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Configures the number of chunks to write with a single multi-document insert when storing files. Defaults to
+	 * {@literal 0}, which stores files through {@link GridFSInputFile#save()} writing one chunk at a time.
+	 *
+	 * @param chunkWriteBatchSize must not be negative.
+	 * @since 1.10
+	 */
+	public void setChunkWriteBatchSize(int chunkWriteBatchSize) {
+
+		Assert.isTrue(chunkWriteBatchSize >= 0, "Chunk write batch size must not be negative!");
+		this.chunkWriteBatchSize = chunkWriteBatchSize;
+	}
+
+	/**
+	 * Configures the number of chunks {@link GridFsResource}s returned by this template fetch ahead when their content
+	 * is read. Defaults to {@literal 0}, which reads through {@link GridFSDBFile#getInputStream()} querying one chunk
+	 * at a time.
+	 *
+	 * @param chunkPrefetchSize must not be negative.
+	 * @since 1.10
+	 */
+	public void setChunkPrefetchSize(int chunkPrefetchSize) {
+
+		Assert.isTrue(chunkPrefetchSize >= 0, "Chunk prefetch size must not be negative!");
+		this.chunkPrefetchSize = chunkPrefetchSize;
+	}
+
+	/**
+	 * Configures the {@link Executor} to write chunk batches and prefetch chunks on, so that reading the content to
+	 * store overlaps with writing the previous batch and consuming content overlaps with fetching the next chunks.
+	 * Setting {@literal null} (the default) performs all reads and writes on the calling thread.
+	 *
+	 * @param executor can be {@literal null}.
+	 * @since 1.10
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Configures whether to store content only once. If enabled, the MD5 digest of the content is computed while it is
+	 * stored and if a file with the same digest, length and chunk size was already stored, the new file document
+	 * references the chunks of that file instead of keeping its own. Files fitting into a single write batch (see
+	 * {@link #setChunkWriteBatchSize(int)}) do not write any chunks in that case. The number of files referencing the
+	 * chunks is kept in a document of the bucket's {@code contents} collection and updated atomically, so that
+	 * {@link #delete(Query)} removes the shared chunks once the last file referencing them is deleted.
+	 * <p>
+	 * The {@link GridFSDBFile}s returned by this template read the shared chunks. Deduplicated files must only be
+	 * deleted through this template. Defaults to {@literal false}.
+	 *
+	 * @param deduplicating
+	 * @since 1.10
+	 */
+	public void setDeduplicating(boolean deduplicating) {
+		this.deduplicating = deduplicating;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#store(java.io.InputStream, java.lang.String)
@@ -157,7 +255,12 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 
 		Assert.notNull(content);
 
+		if (chunkWriteBatchSize > 0 || deduplicating) {
+			return storeInBatches(content, filename, contentType, metadata);
+		}
+
 		GridFSInputFile file = getGridFs().createFile(content);
+		file.setChunkSize(chunkSize);
 
 		if (filename != null) {
 			file.setFilename(filename);
@@ -181,14 +284,16 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 	 */
 	public List<GridFSDBFile> find(Query query) {
 
+		GridFS gridFs = getGridFs();
+
 		if (query == null) {
-			return getGridFs().find((DBObject) null);
+			return withSharedContent(gridFs.find((DBObject) null), gridFs);
 		}
 
 		DBObject queryObject = getMappedQuery(query.getQueryObject());
 		DBObject sortObject = getMappedQuery(query.getSortObject());
 
-		return getGridFs().find(queryObject, sortObject);
+		return withSharedContent(gridFs.find(queryObject, sortObject), gridFs);
 	}
 
 	/*
@@ -196,7 +301,9 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#findOne(com.mongodb.DBObject)
 	 */
 	public GridFSDBFile findOne(Query query) {
-		return getGridFs().findOne(getMappedQuery(query));
+
+		GridFS gridFs = getGridFs();
+		return withSharedContent(gridFs.findOne(getMappedQuery(query)), gridFs);
 	}
 
 	/*
@@ -204,7 +311,38 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#delete(org.springframework.data.mongodb.core.query.Query)
 	 */
 	public void delete(Query query) {
-		getGridFs().remove(getMappedQuery(query));
+
+		GridFS gridFs = getGridFs();
+		DBCollection files = gridFs.getFilesCollection();
+		DBCollection chunks = getChunksCollection(gridFs);
+		DBCollection contents = getContentsCollection(gridFs);
+
+		DBCursor cursor = files.find(getMappedQuery(query), new BasicDBObject("_id", 1));
+
+		try {
+
+			while (cursor.hasNext()) {
+
+				Object id = cursor.next().get("_id");
+				DBObject file = files.findAndRemove(new BasicDBObject("_id", id));
+
+				// removed concurrently
+				if (file == null) {
+					continue;
+				}
+
+				Object contentId = file.get(CONTENT_ID_KEY);
+
+				if (contentId == null) {
+					chunks.remove(new BasicDBObject("files_id", id));
+				} else {
+					releaseContent(contents, chunks, contentId);
+				}
+			}
+
+		} finally {
+			cursor.close();
+		}
 	}
 
 	/*
@@ -222,7 +360,7 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 	public GridFsResource getResource(String location) {
 
 		GridFSDBFile file = findOne(query(whereFilename().is(location)));
-		return file != null ? new GridFsResource(file) : null;
+		return file != null ? createResource(file) : null;
 	}
 
 	/*
@@ -243,7 +381,7 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 			List<GridFsResource> resources = new ArrayList<GridFsResource>(files.size());
 
 			for (GridFSDBFile file : files) {
-				resources.add(new GridFsResource(file));
+				resources.add(createResource(file));
 			}
 
 			return resources.toArray(new GridFsResource[resources.size()]);
@@ -252,6 +390,365 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 		return new GridFsResource[] { getResource(locationPattern) };
 	}
 
+	private GridFsResource createResource(GridFSDBFile file) {
+
+		if (chunkPrefetchSize == 0 && file.get(CONTENT_ID_KEY) == null) {
+			return new GridFsResource(file);
+		}
+
+		return new GridFsResource(file, getChunksCollection(getGridFs()), Math.max(chunkPrefetchSize, 1), executor);
+	}
+
+	/**
+	 * Stores the given content by writing its chunks with multi-document inserts of {@link #chunkWriteBatchSize} chunks
+	 * each and only inserting the file document once all chunks are written. If an {@link Executor} is configured, the
+	 * next batch is read from the {@link InputStream} while the previous one is written. When deduplicating, the last
+	 * batch is only written if no file with the same content exists.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param filename can be {@literal null}.
+	 * @param contentType can be {@literal null}.
+	 * @param metadata can be {@literal null}.
+	 * @return
+	 */
+	private GridFSFile storeInBatches(InputStream content, String filename, String contentType, DBObject metadata) {
+
+		GridFS gridFs = getGridFs();
+		DBCollection chunks = getChunksCollection(gridFs);
+
+		ObjectId id = new ObjectId();
+		MessageDigest digest = createMd5Digest();
+		FutureTask<Void> pendingWrite = null;
+
+		int batchSize = chunkWriteBatchSize > 0 ? chunkWriteBatchSize : DEFAULT_CHUNK_WRITE_BATCH_SIZE;
+		long length = 0;
+		int chunkNumber = 0;
+
+		try {
+
+			List<DBObject> batch = new ArrayList<DBObject>(batchSize);
+			byte[] data;
+
+			while ((data = readChunk(content)) != null) {
+
+				digest.update(data);
+				length += data.length;
+
+				batch.add(new BasicDBObject("files_id", id).append("n", chunkNumber++).append("data", data));
+
+				if (batch.size() == batchSize) {
+
+					awaitWrite(pendingWrite);
+					pendingWrite = writeChunks(chunks, batch);
+					batch = new ArrayList<DBObject>(batchSize);
+				}
+			}
+
+			awaitWrite(pendingWrite);
+			pendingWrite = null;
+
+			DBObject file = new BasicDBObject("_id", id);
+			file.put("filename", filename);
+			file.put("contentType", contentType);
+			file.put("length", length);
+			file.put("chunkSize", chunkSize);
+			file.put("uploadDate", new Date());
+			file.put("md5", String.format("%032x", new BigInteger(1, digest.digest())));
+
+			if (metadata != null) {
+				file.put("metadata", metadata);
+			}
+
+			if (deduplicating && length > 0) {
+				insertDeduplicated(gridFs.getFilesCollection(), chunks, getContentsCollection(gridFs), file, batch);
+			} else {
+
+				if (!batch.isEmpty()) {
+					awaitWrite(writeChunks(chunks, batch));
+				}
+
+				gridFs.getFilesCollection().insert(file);
+			}
+
+			return withSharedContent(gridFs.findOne(new BasicDBObject("_id", id)), gridFs);
+
+		} catch (IOException e) {
+
+			removeChunks(chunks, id, pendingWrite);
+			throw new MongoException("Could not store file!", e);
+
+		} catch (RuntimeException e) {
+
+			removeChunks(chunks, id, pendingWrite);
+			throw e;
+		}
+	}
+
+	/**
+	 * Inserts the given file document referencing the chunks of an already stored file with the same content if there
+	 * is one and removes the chunks already written for the new file. Otherwise the remaining chunks are written and a
+	 * content document counting the references to the file's own chunks is inserted. A content document whose
+	 * reference count dropped to zero is never referenced again, so that its chunks can be removed safely.
+	 *
+	 * @param files must not be {@literal null}.
+	 * @param chunks must not be {@literal null}.
+	 * @param contents must not be {@literal null}.
+	 * @param file must not be {@literal null}.
+	 * @param remainingChunks the chunks not written yet, must not be {@literal null}.
+	 */
+	private void insertDeduplicated(DBCollection files, DBCollection chunks, DBCollection contents, DBObject file,
+			List<DBObject> remainingChunks) {
+
+		ensureDeduplicationIndexes(contents);
+
+		Object id = file.get("_id");
+
+		DBObject query = new BasicDBObject("md5", file.get("md5"));
+		query.put("length", file.get("length"));
+		query.put("chunkSize", file.get("chunkSize"));
+		query.put(REFERENCES_KEY, new BasicDBObject("$gt", 0));
+
+		DBObject update = new BasicDBObject("$inc", new BasicDBObject(REFERENCES_KEY, 1));
+		DBObject existing = contents.findAndModify(query, new BasicDBObject("_id", 1), null, false, update, true,
+				false);
+
+		Object contentId;
+
+		if (existing != null) {
+
+			contentId = existing.get("_id");
+			chunks.remove(new BasicDBObject("files_id", id));
+
+		} else {
+
+			if (!remainingChunks.isEmpty()) {
+				awaitWrite(writeChunks(chunks, remainingChunks));
+			}
+
+			DBObject content = new BasicDBObject("_id", id);
+			content.put("md5", file.get("md5"));
+			content.put("length", file.get("length"));
+			content.put("chunkSize", file.get("chunkSize"));
+			content.put(REFERENCES_KEY, 1);
+
+			contents.insert(content);
+			contentId = id;
+		}
+
+		file.put(CONTENT_ID_KEY, contentId);
+
+		try {
+			files.insert(file);
+		} catch (RuntimeException o_O) {
+
+			releaseContent(contents, chunks, contentId);
+			throw o_O;
+		}
+	}
+
+	/**
+	 * Atomically decrements the reference count of the content with the given id and removes its chunks once it is no
+	 * longer referenced.
+	 *
+	 * @param contents must not be {@literal null}.
+	 * @param chunks must not be {@literal null}.
+	 * @param contentId must not be {@literal null}.
+	 */
+	private static void releaseContent(DBCollection contents, DBCollection chunks, Object contentId) {
+
+		DBObject update = new BasicDBObject("$inc", new BasicDBObject(REFERENCES_KEY, -1));
+		DBObject content = contents.findAndModify(new BasicDBObject("_id", contentId),
+				new BasicDBObject(REFERENCES_KEY, 1), null, false, update, true, false);
+
+		if (content == null) {
+			return;
+		}
+
+		Object references = content.get(REFERENCES_KEY);
+
+		if (references instanceof Number && ((Number) references).longValue() <= 0) {
+
+			chunks.remove(new BasicDBObject("files_id", contentId));
+			contents.remove(new BasicDBObject("_id", contentId));
+		}
+	}
+
+	private void ensureDeduplicationIndexes(DBCollection contents) {
+
+		if (deduplicationIndexesCreated) {
+			return;
+		}
+
+		contents.createIndex(new BasicDBObject("md5", 1).append("length", 1));
+
+		deduplicationIndexesCreated = true;
+	}
+
+	/**
+	 * Returns a {@link GridFsSharedContentFile} for the given file if it references the chunks of another file, so that
+	 * its content can be read through the {@link GridFSDBFile} API.
+	 *
+	 * @param file can be {@literal null}.
+	 * @param gridFs must not be {@literal null}.
+	 * @return
+	 */
+	private GridFSDBFile withSharedContent(GridFSDBFile file, GridFS gridFs) {
+
+		if (file == null) {
+			return null;
+		}
+
+		Object contentId = file.get(CONTENT_ID_KEY);
+
+		if (contentId == null || contentId.equals(file.getId())) {
+			return file;
+		}
+
+		return new GridFsSharedContentFile(file, gridFs, getChunksCollection(gridFs), Math.max(chunkPrefetchSize, 1));
+	}
+
+	private List<GridFSDBFile> withSharedContent(List<GridFSDBFile> files, GridFS gridFs) {
+
+		List<GridFSDBFile> result = new ArrayList<GridFSDBFile>(files.size());
+
+		for (GridFSDBFile file : files) {
+			result.add(withSharedContent(file, gridFs));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Reads the next chunk from the given {@link InputStream}, filling it completely unless the end of the stream is
+	 * reached.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @return the chunk read or {@literal null} if the stream is exhausted.
+	 * @throws IOException
+	 */
+	private byte[] readChunk(InputStream content) throws IOException {
+
+		byte[] buffer = new byte[chunkSize];
+		int read = 0;
+
+		while (read < chunkSize) {
+
+			int count = content.read(buffer, read, chunkSize - read);
+
+			if (count < 0) {
+				break;
+			}
+
+			read += count;
+		}
+
+		if (read == 0) {
+			return null;
+		}
+
+		if (read == chunkSize) {
+			return buffer;
+		}
+
+		byte[] result = new byte[read];
+		System.arraycopy(buffer, 0, result, 0, read);
+
+		return result;
+	}
+
+	/**
+	 * Inserts the given chunks on the configured {@link Executor} or the calling thread if there is none or it rejects
+	 * the write.
+	 *
+	 * @param chunks must not be {@literal null}.
+	 * @param batch must not be {@literal null}.
+	 * @return
+	 */
+	private FutureTask<Void> writeChunks(final DBCollection chunks, final List<DBObject> batch) {
+
+		FutureTask<Void> task = new FutureTask<Void>(new Runnable() {
+
+			@Override
+			public void run() {
+				chunks.insert(batch);
+			}
+		}, null);
+
+		if (executor == null) {
+			task.run();
+			return task;
+		}
+
+		try {
+			executor.execute(task);
+		} catch (RejectedExecutionException o_O) {
+			task.run();
+		}
+
+		return task;
+	}
+
+	private static void awaitWrite(FutureTask<Void> write) {
+
+		if (write == null) {
+			return;
+		}
+
+		// run the write ourselves in case the executor did not get to it yet
+		write.run();
+
+		try {
+			write.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while writing chunks!", e);
+		} catch (ExecutionException e) {
+
+			Throwable cause = e.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			throw new MongoException("Could not write chunks!", cause);
+		}
+	}
+
+	/**
+	 * Removes the chunks already written for the file with the given id after waiting for a pending write to finish.
+	 *
+	 * @param chunks must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @param pendingWrite can be {@literal null}.
+	 */
+	private static void removeChunks(DBCollection chunks, ObjectId id, FutureTask<Void> pendingWrite) {
+
+		if (pendingWrite != null) {
+			try {
+				awaitWrite(pendingWrite);
+			} catch (RuntimeException o_O) {}
+		}
+
+		chunks.remove(new BasicDBObject("files_id", id));
+	}
+
+	private static MessageDigest createMd5Digest() {
+
+		try {
+			return MessageDigest.getInstance("MD5");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("No MD5 algorithm available!", e);
+		}
+	}
+
+	private static DBCollection getChunksCollection(GridFS gridFs) {
+		return gridFs.getDB().getCollection(gridFs.getBucketName() + ".chunks");
+	}
+
+	private static DBCollection getContentsCollection(GridFS gridFs) {
+		return gridFs.getDB().getCollection(gridFs.getBucketName() + ".contents");
+	}
+
 	private DBObject getMappedQuery(Query query) {
 		return query == null ? new Query().getQueryObject() : getMappedQuery(query.getQueryObject());
 	}
@@ -22,6 +22,7 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.CollectionExecution;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.DeleteExecution;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.GeoNearExecution;
+import org.springframework.data.mongodb.repository.query.MongoQueryExecution.KeysetPagination;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.PagedExecution;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.PagingGeoNearExecution;
 import org.springframework.data.mongodb.repository.query.MongoQueryExecution.ResultProcessingConverter;
@@ -46,6 +47,9 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 	private final MongoQueryMethod method;
 	private final MongoOperations operations;
 	private final EntityInstantiators instantiators;
+	private final KeysetPagination keysetPagination;
+
+	private PageCountResolver pageCountResolver = new PageCountResolver();
 
 	/**
 	 * Creates a new {@link AbstractMongoQuery} from the given {@link MongoQueryMethod} and {@link MongoOperations}.
@@ -61,6 +65,20 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 		this.method = method;
 		this.operations = operations;
 		this.instantiators = new EntityInstantiators();
+		this.keysetPagination = new KeysetPagination(operations);
+	}
+
+	/**
+	 * Configures the {@link PageCountResolver} to determine the total number of elements for query methods returning a
+	 * {@link org.springframework.data.domain.Page}.
+	 * 
+	 * @param pageCountResolver must not be {@literal null}.
+	 * @since 1.10
+	 */
+	public void setPageCountResolver(PageCountResolver pageCountResolver) {
+
+		Assert.notNull(pageCountResolver, "PageCountResolver must not be null!");
+		this.pageCountResolver = pageCountResolver;
 	}
 
 	/* 
@@ -118,11 +136,11 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 		} else if (method.isGeoNearQuery()) {
 			return new GeoNearExecution(operations, accessor, method.getReturnType());
 		} else if (method.isSliceQuery()) {
-			return new SlicedExecution(operations, accessor.getPageable());
+			return new SlicedExecution(operations, accessor.getPageable(), keysetPagination);
 		} else if (method.isCollectionQuery()) {
 			return new CollectionExecution(operations, accessor.getPageable());
 		} else if (method.isPageQuery()) {
-			return new PagedExecution(operations, accessor.getPageable());
+			return new PagedExecution(operations, accessor.getPageable(), pageCountResolver, keysetPagination);
 		} else {
 			return new SingleEntityExecution(operations, isCountQuery());
 		}
@@ -16,11 +16,16 @@
 package org.springframework.data.mongodb.repository.query;
 
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.bind.DatatypeConverter;
 
 import org.bson.BSON;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.query.ParameterBindingDocument.Slot;
 import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery.ParameterBinding;
 import org.springframework.data.repository.query.EvaluationContextProvider;
 import org.springframework.expression.EvaluationContext;
@@ -30,11 +35,14 @@ import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
 import com.mongodb.util.JSON;
 
 /**
  * {@link ExpressionEvaluatingParameterBinder} allows to evaluate, convert and bind parameters to placholders within a
- * {@link String}.
+ * {@link String} or to the slots of a {@link ParameterBindingDocument}.
  * 
  * @author Christoph Strobl
  * @author Thomas Darimont
@@ -45,6 +53,7 @@ class ExpressionEvaluatingParameterBinder {
 
 	private final SpelExpressionParser expressionParser;
 	private final EvaluationContextProvider evaluationContextProvider;
+	private final ConcurrentMap<String, Expression> expressions = new ConcurrentHashMap<String, Expression>();
 
 	/**
 	 * Creates new {@link ExpressionEvaluatingParameterBinder}
@@ -80,6 +89,89 @@ class ExpressionEvaluatingParameterBinder {
 		return replacePlaceholders(raw, accessor, bindingContext);
 	}
 
+	/**
+	 * Bind values provided by {@link MongoParameterAccessor} to the slots of the given {@link ParameterBindingDocument}.
+	 * Values are converted the same way as they would have been when replacing the placeholders in the raw query and
+	 * parsing it afterwards but neither the raw query nor the bound values have to be serialized and parsed.
+	 * 
+	 * @param document can be {@literal null}.
+	 * @param accessor must not be {@literal null}.
+	 * @param bindingContext must not be {@literal null}.
+	 * @return {@literal null} if the given {@code document} is {@literal null}.
+	 */
+	public Object bind(ParameterBindingDocument document, MongoParameterAccessor accessor,
+			BindingContext bindingContext) {
+
+		if (document == null) {
+			return null;
+		}
+
+		return bindValues(document.getTemplate(), accessor, bindingContext);
+	}
+
+	private Object bindValues(Object source, MongoParameterAccessor accessor, BindingContext bindingContext) {
+
+		if (source instanceof Slot) {
+			return getParsedValueForBinding(accessor, bindingContext, ((Slot) source).getBinding());
+		}
+
+		if (source instanceof BasicDBList) {
+
+			BasicDBList result = new BasicDBList();
+
+			for (Object element : (BasicDBList) source) {
+				result.add(bindValues(element, accessor, bindingContext));
+			}
+
+			return result;
+		}
+
+		if (source instanceof DBObject) {
+
+			DBObject dbObject = (DBObject) source;
+			DBObject result = new BasicDBObject();
+
+			for (String key : dbObject.keySet()) {
+				result.put(key, bindValues(dbObject.get(key), accessor, bindingContext));
+			}
+
+			return result;
+		}
+
+		return source;
+	}
+
+	/**
+	 * Returns the value for the given {@link ParameterBinding} as it would have been parsed from the query after
+	 * replacing the placeholder with the serialized value. Values that are parsed into an equal object are used as is.
+	 * 
+	 * @param accessor must not be {@literal null}.
+	 * @param bindingContext must not be {@literal null}.
+	 * @param binding must not be {@literal null}.
+	 * @return
+	 */
+	private Object getParsedValueForBinding(MongoParameterAccessor accessor, BindingContext bindingContext,
+			ParameterBinding binding) {
+
+		Object value = getParameterValue(accessor, bindingContext, binding);
+
+		if (!binding.isQuoted()) {
+			return isParsedAsIs(value) ? value : JSON.parse(serialize(value, binding));
+		}
+
+		String serialized = serialize(value, binding);
+
+		// Object literals replace the quoted insertion point
+		return serialized.startsWith("{") ? JSON.parse(serialized) : serialized;
+	}
+
+	private static boolean isParsedAsIs(Object value) {
+
+		return value == null || value instanceof String || value instanceof Integer || value instanceof Boolean
+				|| value instanceof ObjectId || value instanceof Date
+				|| (value instanceof Double && !((Double) value).isNaN() && !((Double) value).isInfinite());
+	}
+
 	/**
 	 * Replaced the parameter placeholders with the actual parameter values from the given {@link ParameterBinding}s.
 	 * 
@@ -106,7 +198,7 @@ class ExpressionEvaluatingParameterBinder {
 				continue;
 			}
 
-			String valueForBinding = getParameterValueForBinding(accessor, bindingContext.getParameters(), binding);
+			String valueForBinding = getParameterValueForBinding(accessor, bindingContext, binding);
 
 			int start = idx;
 			int end = idx + parameter.length();
@@ -136,16 +228,39 @@ class ExpressionEvaluatingParameterBinder {
 	 * Returns the serialized value to be used for the given {@link ParameterBinding}.
 	 * 
 	 * @param accessor must not be {@literal null}.
-	 * @param parameters
+	 * @param bindingContext must not be {@literal null}.
+	 * @param binding must not be {@literal null}.
+	 * @return
+	 */
+	private String getParameterValueForBinding(MongoParameterAccessor accessor, BindingContext bindingContext,
+			ParameterBinding binding) {
+
+		return serialize(getParameterValue(accessor, bindingContext, binding), binding);
+	}
+
+	/**
+	 * Returns the raw value for the given {@link ParameterBinding}.
+	 * 
+	 * @param accessor must not be {@literal null}.
+	 * @param bindingContext must not be {@literal null}.
 	 * @param binding must not be {@literal null}.
 	 * @return
 	 */
-	private String getParameterValueForBinding(MongoParameterAccessor accessor, MongoParameters parameters,
+	private Object getParameterValue(MongoParameterAccessor accessor, BindingContext bindingContext,
 			ParameterBinding binding) {
 
-		Object value = binding.isExpression()
-				? evaluateExpression(binding.getExpression(), parameters, accessor.getValues())
+		return binding.isExpression() ? evaluateExpression(binding.getExpression(), bindingContext, accessor.getValues())
 				: accessor.getBindableValue(binding.getParameterIndex());
+	}
+
+	/**
+	 * Serializes the given value to be inserted into a query for the given {@link ParameterBinding}.
+	 * 
+	 * @param value can be {@literal null}.
+	 * @param binding must not be {@literal null}.
+	 * @return
+	 */
+	private static String serialize(Object value, ParameterBinding binding) {
 
 		if (value instanceof String && binding.isQuoted()) {
 			return (String) value;
@@ -169,16 +284,39 @@ class ExpressionEvaluatingParameterBinder {
 	 * Evaluates the given {@code expressionString}.
 	 * 
 	 * @param expressionString must not be {@literal null} or empty.
-	 * @param parameters must not be {@literal null}.
+	 * @param bindingContext must not be {@literal null}.
 	 * @param parameterValues must not be {@literal null}.
 	 * @return
 	 */
-	private Object evaluateExpression(String expressionString, MongoParameters parameters, Object[] parameterValues) {
+	private Object evaluateExpression(String expressionString, BindingContext bindingContext,
+			Object[] parameterValues) {
 
-		EvaluationContext evaluationContext = evaluationContextProvider.getEvaluationContext(parameters, parameterValues);
-		Expression expression = expressionParser.parseExpression(expressionString);
+		EvaluationContext evaluationContext = bindingContext.getEvaluationContext(evaluationContextProvider,
+				parameterValues);
 
-		return expression.getValue(evaluationContext, Object.class);
+		return getExpression(expressionString).getValue(evaluationContext, Object.class);
+	}
+
+	/**
+	 * Returns the parsed {@link Expression} for the given {@code expressionString}. Expressions are parsed once and
+	 * reused for subsequent invocations so that they can be compiled if the {@link SpelExpressionParser} is configured
+	 * accordingly.
+	 * 
+	 * @param expressionString must not be {@literal null} or empty.
+	 * @return
+	 */
+	private Expression getExpression(String expressionString) {
+
+		Expression expression = expressions.get(expressionString);
+
+		if (expression != null) {
+			return expression;
+		}
+
+		expression = expressionParser.parseExpression(expressionString);
+		Expression existing = expressions.putIfAbsent(expressionString, expression);
+
+		return existing != null ? existing : expression;
 	}
 
 	/**
@@ -190,6 +328,8 @@ class ExpressionEvaluatingParameterBinder {
 		final MongoParameters parameters;
 		final List<ParameterBinding> bindings;
 
+		private EvaluationContext evaluationContext;
+
 		/**
 		 * Creates new {@link BindingContext}.
 		 * 
@@ -227,5 +367,22 @@ class ExpressionEvaluatingParameterBinder {
 			return parameters;
 		}
 
+		/**
+		 * Returns the {@link EvaluationContext} for the given parameter values creating it on first access so that all
+		 * expressions bound within the context share it. As the {@link EvaluationContext} captures the parameter values of
+		 * a single invocation, a {@link BindingContext} must not be reused for other invocations.
+		 * 
+		 * @param provider must not be {@literal null}.
+		 * @param parameterValues must not be {@literal null}.
+		 * @return
+		 */
+		EvaluationContext getEvaluationContext(EvaluationContextProvider provider, Object[] parameterValues) {
+
+			if (evaluationContext == null) {
+				evaluationContext = provider.getEvaluationContext(parameters, parameterValues);
+			}
+
+			return evaluationContext;
+		}
 	}
 }
@@ -35,13 +35,19 @@ import org.springframework.data.geo.GeoResult;
 import org.springframework.data.geo.GeoResults;
 import org.springframework.data.geo.Point;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.KeysetPageRequest;
 import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.query.PageCountResolver.PageCount;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.util.CloseableIterator;
 import org.springframework.data.util.StreamUtils;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
 import com.mongodb.WriteResult;
@@ -83,6 +89,7 @@ interface MongoQueryExecution {
 
 		private final @NonNull MongoOperations operations;
 		private final @NonNull Pageable pageable;
+		private final @NonNull KeysetPagination keysetPagination;
 
 		/*
 		 * (non-Javadoc)
@@ -99,13 +106,17 @@ interface MongoQueryExecution {
 			List result = operations.find(modifiedQuery, type, collection);
 
 			boolean hasNext = result.size() > pageSize;
+			List content = hasNext ? result.subList(0, pageSize) : result;
 
-			return new SliceImpl<Object>(hasNext ? result.subList(0, pageSize) : result, pageable, hasNext);
+			Pageable resultPageable = keysetPagination.getResultPageable(pageable, content, type, null);
+
+			return new SliceImpl<Object>(content, resultPageable, hasNext);
 		}
 	}
 
 	/**
-	 * {@link MongoQueryExecution} for pagination queries.
+	 * {@link MongoQueryExecution} for pagination queries. The total number of elements is resolved through the given
+	 * {@link PageCountResolver} unless the content of the page or the {@link KeysetPageRequest} already reveals it.
 	 * 
 	 * @author Oliver Gierke
 	 */
@@ -114,6 +125,8 @@ interface MongoQueryExecution {
 
 		private final @NonNull MongoOperations operations;
 		private final @NonNull Pageable pageable;
+		private final @NonNull PageCountResolver countResolver;
+		private final @NonNull KeysetPagination keysetPagination;
 
 		/*
 		 * (non-Javadoc)
@@ -124,13 +137,15 @@ interface MongoQueryExecution {
 		public Object execute(Query query, Class<?> type, String collection) {
 
 			int overallLimit = query.getLimit();
-			long count = operations.count(query, type, collection);
-			count = overallLimit != 0 ? Math.min(count, query.getLimit()) : count;
+			Long knownTotal = pageable instanceof KeysetPageRequest ? ((KeysetPageRequest) pageable).getTotal() : null;
+
+			PageCount count = knownTotal != null ? new PageCount(knownTotal)
+					: countResolver.count(operations, query, type, collection);
 
-			boolean pageableOutOfScope = pageable.getOffset() > count;
+			boolean pageableOutOfScope = overallLimit != 0 && pageable.getOffset() >= overallLimit;
 
 			if (pageableOutOfScope) {
-				return new PageImpl<Object>(Collections.emptyList(), pageable, count);
+				return new PageImpl<Object>(Collections.emptyList(), pageable, Math.min(count.getTotal(), overallLimit));
 			}
 
 			// Apply raw pagination
@@ -142,7 +157,93 @@ interface MongoQueryExecution {
 			}
 
 			List<?> result = operations.find(query, type, collection);
-			return new PageImpl(result, pageable, count);
+
+			// A page that is not full reveals the total unless there's no content for a page other than the first one
+			boolean isLastPage = result.size() < query.getLimit() && (!result.isEmpty() || pageable.getOffset() == 0);
+			long total;
+
+			if (isLastPage) {
+
+				count.cancel();
+				total = pageable.getOffset() + result.size();
+
+			} else {
+
+				total = count.getTotal();
+				total = overallLimit != 0 ? Math.min(total, overallLimit) : total;
+			}
+
+			Pageable resultPageable = keysetPagination.getResultPageable(pageable, result, type, total);
+
+			return new PageImpl(result, resultPageable, total);
+		}
+	}
+
+	/**
+	 * Helper to continue a {@link KeysetPageRequest} after the last element of the current page. Meant to be held by a
+	 * query so that the {@link QueryMapper} and the property paths it resolved are reused across pages.
+	 *
+	 * @since 1.10
+	 */
+	static final class KeysetPagination {
+
+		private final MongoOperations operations;
+		private volatile QueryMapper mapper;
+
+		/**
+		 * Creates a new {@link KeysetPagination} for the given {@link MongoOperations}.
+		 *
+		 * @param operations must not be {@literal null}.
+		 */
+		KeysetPagination(MongoOperations operations) {
+
+			Assert.notNull(operations, "MongoOperations must not be null!");
+			this.operations = operations;
+		}
+
+		/**
+		 * Returns the {@link Pageable} to be exposed with the given page content. For a {@link KeysetPageRequest}
+		 * that is a copy continuing after the last element of a full page and carrying the given total, if any.
+		 *
+		 * @param pageable must not be {@literal null}.
+		 * @param content must not be {@literal null}.
+		 * @param type must not be {@literal null}.
+		 * @param total can be {@literal null}.
+		 * @return
+		 */
+		Pageable getResultPageable(Pageable pageable, List<?> content, Class<?> type, Long total) {
+
+			if (!(pageable instanceof KeysetPageRequest)) {
+				return pageable;
+			}
+
+			KeysetPageRequest request = (KeysetPageRequest) pageable;
+
+			if (total != null) {
+				request = request.withTotal(total);
+			}
+
+			if (content.isEmpty() || content.size() < request.getPageSize()) {
+				return request;
+			}
+
+			MongoConverter converter = operations.getConverter();
+			MongoPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(type);
+			Object last = content.get(content.size() - 1);
+
+			return request.withNextPosition(getMapper(converter).getKeysetPosition(last, request.getSort(), entity));
+		}
+
+		private QueryMapper getMapper(MongoConverter converter) {
+
+			QueryMapper mapper = this.mapper;
+
+			if (mapper == null) {
+				mapper = new QueryMapper(converter);
+				this.mapper = mapper;
+			}
+
+			return mapper;
 		}
 	}
 
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import static org.springframework.data.mongodb.core.query.SerializationUtils.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.Assert;
+
+import com.mongodb.DBObject;
+
+/**
+ * Resolves the total number of elements for query methods returning a {@link org.springframework.data.domain.Page}.
+ * By default the count query is executed on the calling thread after the query for the page content and only if the
+ * content does not already reveal the total. If an {@link Executor} is configured, the count query is started before
+ * the content query and runs concurrently to it, the calling thread runs the count itself in case the
+ * {@link Executor} did not get to it yet. Counts can additionally be cached per query for a short time to avoid
+ * counting again when paging through the same result.
+ *
+ * @since 1.10
+ */
+public class PageCountResolver {
+
+	private static final int DEFAULT_CACHE_SIZE = 1000;
+
+	private final ConcurrentMap<String, CachedCount> counts = new ConcurrentHashMap<String, CachedCount>();
+
+	private Executor executor;
+	private long timeToLive;
+	private int cacheSize = DEFAULT_CACHE_SIZE;
+
+	/**
+	 * Configures the {@link Executor} to run count queries concurrently to the queries for the page content.
+	 *
+	 * @param executor can be {@literal null} to run count queries on the calling thread.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Configures how long the total determined for a query is reused for subsequent pages of the same query. Defaults to
+	 * {@literal 0}, i.e. counts are not cached.
+	 *
+	 * @param timeToLive must not be negative.
+	 * @param unit must not be {@literal null}.
+	 */
+	public void setCacheTimeToLive(long timeToLive, TimeUnit unit) {
+
+		Assert.isTrue(timeToLive >= 0, "Time to live must not be negative!");
+		Assert.notNull(unit, "TimeUnit must not be null!");
+
+		this.timeToLive = unit.toMillis(timeToLive);
+		this.counts.clear();
+	}
+
+	/**
+	 * Configures the maximum number of cached counts. The cache is reset once the size is exceeded. Defaults to
+	 * {@value #DEFAULT_CACHE_SIZE}.
+	 *
+	 * @param cacheSize must not be negative.
+	 */
+	public void setCacheSize(int cacheSize) {
+
+		Assert.isTrue(cacheSize >= 0, "Cache size must not be negative!");
+
+		this.cacheSize = cacheSize;
+		this.counts.clear();
+	}
+
+	/**
+	 * Returns the {@link PageCount} for the given {@link Query}. The count query is derived from the current state of
+	 * the {@link Query} so that the {@link Query} can be modified to select the page content afterwards.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param collection must not be {@literal null}.
+	 * @return
+	 */
+	PageCount count(final MongoOperations operations, Query query, final Class<?> type, final String collection) {
+
+		DBObject queryObject = query.getQueryObject();
+
+		final Query countQuery = new BasicQuery(queryObject);
+		countQuery.setMeta(query.getMeta());
+
+		final String cacheKey = timeToLive > 0 ? getCacheKey(queryObject, type, collection) : null;
+
+		if (cacheKey != null) {
+
+			CachedCount cached = counts.get(cacheKey);
+
+			if (cached != null && !cached.isExpired()) {
+				return new PageCount(cached.total);
+			}
+
+			if (cached != null) {
+				counts.remove(cacheKey, cached);
+			}
+		}
+
+		PageCount count = new PageCount(new Callable<Long>() {
+
+			@Override
+			public Long call() throws Exception {
+
+				long total = operations.count(countQuery, type, collection);
+
+				if (cacheKey != null) {
+					cache(cacheKey, total);
+				}
+
+				return total;
+			}
+		});
+
+		if (executor != null) {
+			count.submitTo(executor);
+		}
+
+		return count;
+	}
+
+	private void cache(String key, long total) {
+
+		if (counts.size() >= cacheSize) {
+			counts.clear();
+		}
+
+		counts.put(key, new CachedCount(total, System.currentTimeMillis() + timeToLive));
+	}
+
+	private static String getCacheKey(DBObject queryObject, Class<?> type, String collection) {
+		return String.format("%s#%s#%s", collection, type.getName(), serializeToJsonSafely(queryObject));
+	}
+
+	/**
+	 * The total number of elements of a paged query that is counted on demand or concurrently.
+	 */
+	static class PageCount {
+
+		private final FutureTask<Long> task;
+		private final Long total;
+
+		PageCount(Callable<Long> count) {
+
+			this.task = new FutureTask<Long>(count);
+			this.total = null;
+		}
+
+		PageCount(long total) {
+
+			this.task = null;
+			this.total = total;
+		}
+
+		private void submitTo(Executor executor) {
+
+			if (task == null) {
+				return;
+			}
+
+			try {
+				executor.execute(task);
+			} catch (RejectedExecutionException o_O) {
+				// count on the calling thread
+			}
+		}
+
+		/**
+		 * Returns the total number of elements, waiting for the count query to complete or running it on the calling
+		 * thread if it was not started yet.
+		 *
+		 * @return
+		 */
+		long getTotal() {
+
+			if (task == null) {
+				return total;
+			}
+
+			task.run();
+
+			try {
+				return task.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for count query!", e);
+			} catch (ExecutionException e) {
+
+				Throwable cause = e.getCause();
+
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+
+				throw new IllegalStateException("Count query failed!", cause);
+			}
+		}
+
+		/**
+		 * Indicates the total is not needed anymore so that the count query does not get executed if it was not started
+		 * yet.
+		 */
+		void cancel() {
+
+			if (task != null) {
+				task.cancel(false);
+			}
+		}
+	}
+
+	/**
+	 * A cached count along with its expiration time.
+	 */
+	private static class CachedCount {
+
+		private final long total;
+		private final long expiresAt;
+
+		CachedCount(long total, long expiresAt) {
+
+			this.total = total;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired() {
+			return System.currentTimeMillis() > expiresAt;
+		}
+	}
+}
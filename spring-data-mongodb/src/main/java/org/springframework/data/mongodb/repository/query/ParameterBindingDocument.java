@@ -0,0 +1,169 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery.ParameterBinding;
+import org.springframework.util.Assert;
+
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * A manually defined query parsed into a {@link DBObject} tree once, keeping {@link Slot}s for the
+ * {@link ParameterBinding}s that replace a complete value. Binding parameters only requires to copy the tree and
+ * replace the slots with the parameter values instead of replacing placeholders in the raw query and parsing it again.
+ * Queries using placeholders as part of a key, a {@link String} value, a regular expression or a {@link com.mongodb.DBRef}
+ * cannot be represented as {@link ParameterBindingDocument}.
+ *
+ * @since 1.10
+ */
+class ParameterBindingDocument {
+
+	private static final Object UNSUPPORTED = new Object();
+	private static final Pattern PARAMETER_SLOT_PATTERN = Pattern.compile("^(\"?)_param_(\\d+)\\1$");
+	private static final Pattern EXPRESSION_SLOT_PATTERN = Pattern.compile("^\\?expr(\\d+)$");
+	private static final Pattern BINDING_MARKER_PATTERN = Pattern.compile("_param_\\d+|\\?expr\\d+");
+
+	private final Object template;
+
+	private ParameterBindingDocument(Object template) {
+		this.template = template;
+	}
+
+	/**
+	 * Creates a new {@link ParameterBindingDocument} for the given parsed query.
+	 *
+	 * @param parsedQuery the query parsed with all parameter references made parseable, must not be {@literal null}.
+	 * @param bindings the {@link ParameterBinding}s collected for the query, must not be {@literal null}.
+	 * @return the {@link ParameterBindingDocument} or {@literal null} in case the parameters of the query cannot be bound
+	 *         to a parsed document.
+	 */
+	public static ParameterBindingDocument from(Object parsedQuery, List<ParameterBinding> bindings) {
+
+		Assert.notNull(bindings, "Parameter bindings must not be null!");
+
+		Object template = createTemplate(parsedQuery, bindings);
+		return template == UNSUPPORTED ? null : new ParameterBindingDocument(template);
+	}
+
+	/**
+	 * Returns the parsed query containing {@link Slot}s for the parameter bindings. Must not be modified.
+	 *
+	 * @return
+	 */
+	public Object getTemplate() {
+		return template;
+	}
+
+	private static Object createTemplate(Object source, List<ParameterBinding> bindings) {
+
+		if (source instanceof String) {
+			return createSlotOrValue((String) source, bindings);
+		}
+
+		if (source instanceof BasicDBList) {
+
+			BasicDBList result = new BasicDBList();
+
+			for (Object element : (BasicDBList) source) {
+
+				Object template = createTemplate(element, bindings);
+
+				if (template == UNSUPPORTED) {
+					return UNSUPPORTED;
+				}
+
+				result.add(template);
+			}
+
+			return result;
+		}
+
+		if (source instanceof DBObject) {
+
+			DBObject dbObject = (DBObject) source;
+			DBObject result = new BasicDBObject();
+
+			for (String key : dbObject.keySet()) {
+
+				Object template = createTemplate(dbObject.get(key), bindings);
+
+				if (template == UNSUPPORTED || containsBindingMarker(key)) {
+					return UNSUPPORTED;
+				}
+
+				result.put(key, template);
+			}
+
+			return result;
+		}
+
+		return containsBindingMarker(String.valueOf(source)) ? UNSUPPORTED : source;
+	}
+
+	private static Object createSlotOrValue(String source, List<ParameterBinding> bindings) {
+
+		Matcher matcher = PARAMETER_SLOT_PATTERN.matcher(source);
+
+		if (matcher.matches()) {
+
+			boolean quoted = !matcher.group(1).isEmpty();
+			return new Slot(new ParameterBinding(Integer.parseInt(matcher.group(2)), quoted));
+		}
+
+		matcher = EXPRESSION_SLOT_PATTERN.matcher(source);
+
+		if (matcher.matches()) {
+
+			int index = Integer.parseInt(matcher.group(1));
+
+			for (ParameterBinding binding : bindings) {
+				if (binding.isExpression() && binding.getParameterIndex() == index) {
+					return new Slot(binding);
+				}
+			}
+
+			return UNSUPPORTED;
+		}
+
+		return containsBindingMarker(source) ? UNSUPPORTED : source;
+	}
+
+	private static boolean containsBindingMarker(String source) {
+		return BINDING_MARKER_PATTERN.matcher(source).find();
+	}
+
+	/**
+	 * A position within the {@link ParameterBindingDocument} to be replaced by the value of a {@link ParameterBinding}.
+	 */
+	static class Slot {
+
+		private final ParameterBinding binding;
+
+		Slot(ParameterBinding binding) {
+			this.binding = binding;
+		}
+
+		public ParameterBinding getBinding() {
+			return binding;
+		}
+	}
+}
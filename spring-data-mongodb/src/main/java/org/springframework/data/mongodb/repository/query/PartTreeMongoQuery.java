@@ -15,18 +15,26 @@
  */
 package org.springframework.data.mongodb.repository.query;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.PreparedQuery;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Field;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.repository.query.MongoParameters.MongoParameter;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.Part.IgnoreCaseType;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.util.StringUtils;
 
@@ -45,6 +53,10 @@ public class PartTreeMongoQuery extends AbstractMongoQuery {
 	private final boolean isGeoNearQuery;
 	private final MappingContext<?, MongoPersistentProperty> context;
 	private final ResultProcessor processor;
+	private final MongoOperations operations;
+	private final boolean isPreparable;
+
+	private volatile PreparedQuery preparedQuery;
 
 	/**
 	 * Creates a new {@link PartTreeMongoQuery} from the given {@link QueryMethod} and {@link MongoTemplate}.
@@ -60,6 +72,8 @@ public class PartTreeMongoQuery extends AbstractMongoQuery {
 		this.tree = new PartTree(method.getName(), processor.getReturnedType().getDomainType());
 		this.isGeoNearQuery = method.isGeoNearQuery();
 		this.context = mongoOperations.getConverter().getMappingContext();
+		this.operations = mongoOperations;
+		this.isPreparable = isPreparable(method, tree);
 	}
 
 	/**
@@ -78,6 +92,56 @@ public class PartTreeMongoQuery extends AbstractMongoQuery {
 	@Override
 	protected Query createQuery(ConvertingParameterAccessor accessor) {
 
+		PreparedQuery preparedQuery = isPreparable ? getPreparedQuery() : null;
+
+		if (preparedQuery == null) {
+			return doCreateQuery(accessor);
+		}
+
+		Map<String, Object> values = new HashMap<String, Object>();
+		Object[] parameterValues = accessor.getValues();
+
+		for (MongoParameter parameter : getQueryMethod().getParameters().getBindableParameters()) {
+			values.put(getParameterName(parameter), parameterValues[parameter.getIndex()]);
+		}
+
+		Query query = preparedQuery.bind(values);
+		Sort sort = accessor.getSort();
+
+		return sort == null ? query : query.with(sort);
+	}
+
+	/**
+	 * Returns the {@link PreparedQuery} for the query method, preparing it on first access.
+	 * 
+	 * @return the {@link PreparedQuery} created by the underlying {@link MongoOperations}.
+	 */
+	private PreparedQuery getPreparedQuery() {
+
+		PreparedQuery preparedQuery = this.preparedQuery;
+
+		if (preparedQuery != null) {
+			return preparedQuery;
+		}
+
+		MongoParameters parameters = getQueryMethod().getParameters();
+		Object[] placeholders = new Object[parameters.getNumberOfParameters()];
+
+		for (MongoParameter parameter : parameters.getBindableParameters()) {
+			placeholders[parameter.getIndex()] = PreparedQuery.parameter(getParameterName(parameter));
+		}
+
+		MongoParameterAccessor accessor = new MongoParametersParameterAccessor(getQueryMethod(), placeholders);
+		Query query = doCreateQuery(new ConvertingParameterAccessor(operations.getConverter(), accessor));
+
+		preparedQuery = operations.prepare(query, processor.getReturnedType().getDomainType());
+		this.preparedQuery = preparedQuery;
+
+		return preparedQuery;
+	}
+
+	private Query doCreateQuery(ConvertingParameterAccessor accessor) {
+
 		MongoQueryCreator creator = new MongoQueryCreator(tree, accessor, context, isGeoNearQuery);
 		Query query = creator.createQuery();
 
@@ -121,6 +185,57 @@ public class PartTreeMongoQuery extends AbstractMongoQuery {
 		}
 	}
 
+	/**
+	 * Returns whether the query derived from the given {@link PartTree} only depends on the values of the method
+	 * parameters but not on their types or on special parameters, so that it can be mapped once and bound to the
+	 * parameter values on each invocation.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @param tree must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean isPreparable(MongoQueryMethod method, PartTree tree) {
+
+		MongoParameters parameters = method.getParameters();
+
+		if (method.isGeoNearQuery() || StringUtils.hasText(method.getFieldSpecification())
+				|| parameters.hasDynamicProjection() || parameters.hasFullTextParameter()) {
+			return false;
+		}
+
+		for (Part part : tree.getParts()) {
+
+			switch (part.getType()) {
+				case SIMPLE_PROPERTY:
+				case NEGATING_SIMPLE_PROPERTY:
+					if (!IgnoreCaseType.NEVER.equals(part.shouldIgnoreCase())) {
+						return false;
+					}
+					continue;
+				case AFTER:
+				case GREATER_THAN:
+				case GREATER_THAN_EQUAL:
+				case BEFORE:
+				case LESS_THAN:
+				case LESS_THAN_EQUAL:
+				case BETWEEN:
+				case IS_NULL:
+				case IS_NOT_NULL:
+				case TRUE:
+				case FALSE:
+					continue;
+				default:
+					return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static String getParameterName(MongoParameter parameter) {
+		return String.valueOf(parameter.getIndex());
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.repository.query.AbstractMongoQuery#createCountQuery(org.springframework.data.mongodb.repository.query.ConvertingParameterAccessor)
@@ -55,6 +55,8 @@ public class StringBasedMongoQuery extends AbstractMongoQuery {
 	private final boolean isDeleteQuery;
 	private final List<ParameterBinding> queryParameterBindings;
 	private final List<ParameterBinding> fieldSpecParameterBindings;
+	private final ParameterBindingDocument queryDocument;
+	private final ParameterBindingDocument fieldSpecDocument;
 	private final ExpressionEvaluatingParameterBinder parameterBinder;
 
 	/**
@@ -95,6 +97,10 @@ public class StringBasedMongoQuery extends AbstractMongoQuery {
 		this.fieldSpec = BINDING_PARSER.parseAndCollectParameterBindingsFromQueryIntoBindings(
 				method.getFieldSpecification(), this.fieldSpecParameterBindings);
 
+		this.queryDocument = BINDING_PARSER.parseParameterBindingDocument(this.query, this.queryParameterBindings);
+		this.fieldSpecDocument = BINDING_PARSER.parseParameterBindingDocument(this.fieldSpec,
+				this.fieldSpecParameterBindings);
+
 		this.isCountQuery = method.hasAnnotatedQuery() ? method.getQueryAnnotation().count() : false;
 		this.isDeleteQuery = method.hasAnnotatedQuery() ? method.getQueryAnnotation().delete() : false;
 
@@ -112,12 +118,10 @@ public class StringBasedMongoQuery extends AbstractMongoQuery {
 	@Override
 	protected Query createQuery(ConvertingParameterAccessor accessor) {
 
-		String queryString = parameterBinder.bind(this.query, accessor, new BindingContext(getQueryMethod()
-				.getParameters(), queryParameterBindings));
-		String fieldsString = parameterBinder.bind(this.fieldSpec, accessor, new BindingContext(getQueryMethod()
-				.getParameters(), fieldSpecParameterBindings));
+		DBObject queryObject = bindParameters(this.query, queryDocument, queryParameterBindings, accessor);
+		DBObject fieldsObject = bindParameters(this.fieldSpec, fieldSpecDocument, fieldSpecParameterBindings, accessor);
 
-		Query query = new BasicQuery(queryString, fieldsString).with(accessor.getSort());
+		Query query = new BasicQuery(queryObject, fieldsObject).with(accessor.getSort());
 
 		if (LOG.isDebugEnabled()) {
 			LOG.debug(String.format("Created query %s for %s fields.", query.getQueryObject(), query.getFieldsObject()));
@@ -126,6 +130,30 @@ public class StringBasedMongoQuery extends AbstractMongoQuery {
 		return query;
 	}
 
+	/**
+	 * Binds the parameter values to the given {@link ParameterBindingDocument} or falls back to replacing the
+	 * placeholders in the given raw query and parsing it in case the query could not be parsed into a
+	 * {@link ParameterBindingDocument}.
+	 * 
+	 * @param input can be {@literal null}.
+	 * @param document can be {@literal null}.
+	 * @param bindings must not be {@literal null}.
+	 * @param accessor must not be {@literal null}.
+	 * @return
+	 */
+	private DBObject bindParameters(String input, ParameterBindingDocument document, List<ParameterBinding> bindings,
+			ConvertingParameterAccessor accessor) {
+
+		BindingContext bindingContext = new BindingContext(getQueryMethod().getParameters(), bindings);
+
+		if (document != null) {
+			return (DBObject) parameterBinder.bind(document, accessor, bindingContext);
+		}
+
+		String boundInput = parameterBinder.bind(input, accessor, bindingContext);
+		return boundInput == null ? null : (DBObject) JSON.parse(boundInput);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.repository.query.AbstractMongoQuery#isCountQuery()
@@ -190,6 +218,24 @@ public class StringBasedMongoQuery extends AbstractMongoQuery {
 			return transformedInput;
 		}
 
+		/**
+		 * Parses the given query transformed by {@link #parseAndCollectParameterBindingsFromQueryIntoBindings(String, List)}
+		 * into a {@link ParameterBindingDocument}.
+		 * 
+		 * @param input can be {@literal null} or empty.
+		 * @param bindings must not be {@literal null}.
+		 * @return the {@link ParameterBindingDocument} or {@literal null} if the given {@code input} is empty or cannot be
+		 *         represented as {@link ParameterBindingDocument}.
+		 */
+		public ParameterBindingDocument parseParameterBindingDocument(String input, List<ParameterBinding> bindings) {
+
+			if (!StringUtils.hasText(input)) {
+				return null;
+			}
+
+			return ParameterBindingDocument.from(JSON.parse(makeParameterReferencesParseable(input)), bindings);
+		}
+
 		private static String transformQueryAndCollectExpressionParametersIntoBindings(String input,
 				List<ParameterBinding> bindings) {
 
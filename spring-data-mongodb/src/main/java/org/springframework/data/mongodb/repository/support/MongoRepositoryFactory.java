@@ -26,8 +26,10 @@ import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.query.AbstractMongoQuery;
 import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
 import org.springframework.data.mongodb.repository.query.MongoQueryMethod;
+import org.springframework.data.mongodb.repository.query.PageCountResolver;
 import org.springframework.data.mongodb.repository.query.PartTreeMongoQuery;
 import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery;
 import org.springframework.data.projection.ProjectionFactory;
@@ -40,6 +42,8 @@ import org.springframework.data.repository.query.EvaluationContextProvider;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.Assert;
 
@@ -52,11 +56,14 @@ import org.springframework.util.Assert;
  */
 public class MongoRepositoryFactory extends RepositoryFactorySupport {
 
-	private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+	private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser(
+			new SpelParserConfiguration(SpelCompilerMode.MIXED, MongoRepositoryFactory.class.getClassLoader()));
 
 	private final MongoOperations operations;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 
+	private PageCountResolver pageCountResolver = new PageCountResolver();
+
 	/**
 	 * Creates a new {@link MongoRepositoryFactory} with the given {@link MongoOperations}.
 	 * 
@@ -70,6 +77,20 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 		this.mappingContext = mongoOperations.getConverter().getMappingContext();
 	}
 
+	/**
+	 * Configures the {@link PageCountResolver} to be used by query methods returning a
+	 * {@link org.springframework.data.domain.Page} to determine the total number of elements, e.g. to count concurrently
+	 * to reading the page content or to cache counts.
+	 * 
+	 * @param pageCountResolver must not be {@literal null}.
+	 * @since 1.10
+	 */
+	public void setPageCountResolver(PageCountResolver pageCountResolver) {
+
+		Assert.notNull(pageCountResolver, "PageCountResolver must not be null!");
+		this.pageCountResolver = pageCountResolver;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getRepositoryBaseClass(org.springframework.data.repository.core.RepositoryMetadata)
@@ -101,7 +122,7 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 	 */
 	@Override
 	protected QueryLookupStrategy getQueryLookupStrategy(Key key, EvaluationContextProvider evaluationContextProvider) {
-		return new MongoQueryLookupStrategy(operations, evaluationContextProvider, mappingContext);
+		return new MongoQueryLookupStrategy(operations, evaluationContextProvider, mappingContext, pageCountResolver);
 	}
 
 	/*
@@ -137,14 +158,17 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 
 		private final MongoOperations operations;
 		private final EvaluationContextProvider evaluationContextProvider;
+		private final PageCountResolver pageCountResolver;
 		MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 
 		public MongoQueryLookupStrategy(MongoOperations operations, EvaluationContextProvider evaluationContextProvider,
-				MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
+				MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext,
+				PageCountResolver pageCountResolver) {
 
 			this.operations = operations;
 			this.evaluationContextProvider = evaluationContextProvider;
 			this.mappingContext = mappingContext;
+			this.pageCountResolver = pageCountResolver;
 		}
 
 		/* 
@@ -157,16 +181,20 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 
 			MongoQueryMethod queryMethod = new MongoQueryMethod(method, metadata, factory, mappingContext);
 			String namedQueryName = queryMethod.getNamedQueryName();
+			AbstractMongoQuery query;
 
 			if (namedQueries.hasQuery(namedQueryName)) {
 				String namedQuery = namedQueries.getQuery(namedQueryName);
-				return new StringBasedMongoQuery(namedQuery, queryMethod, operations, EXPRESSION_PARSER,
+				query = new StringBasedMongoQuery(namedQuery, queryMethod, operations, EXPRESSION_PARSER,
 						evaluationContextProvider);
 			} else if (queryMethod.hasAnnotatedQuery()) {
-				return new StringBasedMongoQuery(queryMethod, operations, EXPRESSION_PARSER, evaluationContextProvider);
+				query = new StringBasedMongoQuery(queryMethod, operations, EXPRESSION_PARSER, evaluationContextProvider);
 			} else {
-				return new PartTreeMongoQuery(queryMethod, operations);
+				query = new PartTreeMongoQuery(queryMethod, operations);
 			}
+
+			query.setPageCountResolver(pageCountResolver);
+			return query;
 		}
 	}
 }
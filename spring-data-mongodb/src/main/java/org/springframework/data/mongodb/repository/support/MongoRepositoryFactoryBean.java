@@ -20,6 +20,7 @@ import java.io.Serializable;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.query.PageCountResolver;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
@@ -36,6 +37,7 @@ public class MongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 	private MongoOperations operations;
 	private boolean createIndexesForQueryMethods = false;
 	private boolean mappingContextConfigured = false;
+	private PageCountResolver pageCountResolver;
 
 	/**
 	 * Configures the {@link MongoOperations} to be used.
@@ -55,6 +57,17 @@ public class MongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 		this.createIndexesForQueryMethods = createIndexesForQueryMethods;
 	}
 
+	/**
+	 * Configures the {@link PageCountResolver} to be used by query methods returning a
+	 * {@link org.springframework.data.domain.Page}.
+	 * 
+	 * @param pageCountResolver the pageCountResolver to set
+	 * @since 1.10
+	 */
+	public void setPageCountResolver(PageCountResolver pageCountResolver) {
+		this.pageCountResolver = pageCountResolver;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#setMappingContext(org.springframework.data.mapping.context.MappingContext)
@@ -82,6 +95,10 @@ public class MongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 			factory.addQueryCreationListener(new IndexEnsuringQueryCreationListener(operations));
 		}
 
+		if (pageCountResolver != null && factory instanceof MongoRepositoryFactory) {
+			((MongoRepositoryFactory) factory).setPageCountResolver(pageCountResolver);
+		}
+
 		return factory;
 	}
 
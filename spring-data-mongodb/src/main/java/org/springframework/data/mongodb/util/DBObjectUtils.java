@@ -15,7 +15,14 @@
  */
 package org.springframework.data.mongodb.util;
 
+import java.util.Date;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.bson.types.ObjectId;
+
 import com.mongodb.BasicDBList;
+import com.mongodb.DBObject;
 
 /**
  * @author Thomas Darimont
@@ -30,4 +37,72 @@ public class DBObjectUtils {
 		}
 		return list;
 	}
+
+	/**
+	 * Returns a cheap estimate of the BSON size of the given value in bytes without actually encoding it. Strings are
+	 * estimated by their length, unknown types with a constant.
+	 * 
+	 * @param value can be {@literal null}.
+	 * @return
+	 * @since 1.10
+	 */
+	public static long estimateSize(Object value) {
+
+		if (value == null || value instanceof Boolean) {
+			return 1;
+		}
+
+		if (value instanceof CharSequence) {
+			return 5 + ((CharSequence) value).length();
+		}
+
+		if (value instanceof Number || value instanceof Date) {
+			return 8;
+		}
+
+		if (value instanceof ObjectId) {
+			return 12;
+		}
+
+		if (value instanceof byte[]) {
+			return 5 + ((byte[]) value).length;
+		}
+
+		if (value instanceof Iterable) {
+
+			long size = 5;
+			int index = 0;
+
+			for (Object element : (Iterable<?>) value) {
+				size += 2 + String.valueOf(index++).length() + estimateSize(element);
+			}
+
+			return size;
+		}
+
+		if (value instanceof DBObject) {
+
+			long size = 5;
+			DBObject dbObject = (DBObject) value;
+
+			for (String key : dbObject.keySet()) {
+				size += 2 + key.length() + estimateSize(dbObject.get(key));
+			}
+
+			return size;
+		}
+
+		if (value instanceof Map) {
+
+			long size = 5;
+
+			for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				size += 2 + String.valueOf(entry.getKey()).length() + estimateSize(entry.getValue());
+			}
+
+			return size;
+		}
+
+		return 16;
+	}
 }
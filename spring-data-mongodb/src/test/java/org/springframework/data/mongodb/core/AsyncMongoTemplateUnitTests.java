@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.CollectionFairExecutorUnitTests.ManualExecutor;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.concurrent.ListenableFuture;
+
+/**
+ * Unit tests for {@link AsyncMongoTemplate}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncMongoTemplateUnitTests {
+
+	@Mock MongoOperations operations;
+
+	ManualExecutor delegate;
+	CollectionFairExecutor executor;
+	AsyncMongoTemplate template;
+
+	@Before
+	public void setUp() {
+
+		this.delegate = new ManualExecutor();
+		this.executor = new CollectionFairExecutor(delegate, 1);
+		this.template = new AsyncMongoTemplate(operations, executor);
+
+		when(operations.getCollectionName(Person.class)).thenReturn("person");
+	}
+
+	@Test
+	public void executesOperationOnExecutor() throws Exception {
+
+		List<Person> people = Arrays.asList(new Person("Dave"));
+		when(operations.find(Mockito.<Query> any(), eq(Person.class))).thenReturn(people);
+
+		ListenableFuture<List<Person>> future = template.find(new Query(), Person.class);
+
+		verify(operations, never()).find(Mockito.<Query> any(), eq(Person.class));
+		assertThat(executor.getQueueDepth("person"), is(1));
+
+		delegate.runAll();
+
+		assertThat(future.get(), is(people));
+	}
+
+	@Test
+	public void failsFutureWithExceptionOfOperation() throws Exception {
+
+		DataAccessResourceFailureException exception = new DataAccessResourceFailureException("o_O");
+		when(operations.count(Mockito.<Query> any(), eq(Person.class))).thenThrow(exception);
+
+		ListenableFuture<Long> future = template.count(new Query(), Person.class);
+		delegate.runAll();
+
+		try {
+			future.get();
+			fail("Expected ExecutionException!");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause(), is((Throwable) exception));
+		}
+	}
+
+	@Test
+	public void queuesOperationsForCollectionOfEntity() throws Exception {
+
+		Person person = new Person("Dave");
+
+		ListenableFuture<Person> future = template.save(person);
+
+		assertThat(executor.getQueueDepth("person"), is(1));
+
+		delegate.runAll();
+
+		verify(operations).save(person);
+		assertThat(future.get(), is(person));
+	}
+
+	@Test
+	public void queuesOperationsForExplicitCollection() {
+
+		template.remove(new Query(), "people");
+
+		assertThat(executor.getQueueDepth("people"), is(1));
+		assertThat(executor.getQueueDepth("person"), is(0));
+	}
+}
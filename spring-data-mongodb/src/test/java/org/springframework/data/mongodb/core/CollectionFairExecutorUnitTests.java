@@ -0,0 +1,168 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.util.concurrent.ListenableFuture;
+
+/**
+ * Unit tests for {@link CollectionFairExecutor}.
+ */
+public class CollectionFairExecutorUnitTests {
+
+	ManualExecutor delegate;
+	List<String> executed;
+
+	@Before
+	public void setUp() {
+
+		this.delegate = new ManualExecutor();
+		this.executed = new ArrayList<String>();
+	}
+
+	@Test
+	public void servesCollectionsRoundRobin() {
+
+		CollectionFairExecutor executor = new CollectionFairExecutor(delegate, 1);
+
+		executor.submit("person", record("person-1"));
+		executor.submit("person", record("person-2"));
+		executor.submit("person", record("person-3"));
+		executor.submit("address", record("address-1"));
+
+		assertThat(delegate.tasks, hasSize(1));
+
+		delegate.runAll();
+
+		assertThat(executed, contains("person-1", "address-1", "person-2", "person-3"));
+		assertThat(executor.getActiveCount(), is(0));
+		assertThat(executor.getQueueDepth(), is(0));
+	}
+
+	@Test
+	public void limitsConcurrentlyRunningWorkers() {
+
+		CollectionFairExecutor executor = new CollectionFairExecutor(delegate, 2);
+
+		for (int i = 0; i < 5; i++) {
+			executor.submit("person", record("person-" + i));
+		}
+
+		assertThat(delegate.tasks, hasSize(2));
+		assertThat(executor.getActiveCount(), is(2));
+		assertThat(executor.getQueueDepth("person"), is(5));
+	}
+
+	@Test
+	public void rejectsTasksExceedingQueueDepthOfCollection() {
+
+		CollectionFairExecutor executor = new CollectionFairExecutor(delegate, 1, 2);
+
+		executor.submit("person", record("person-1"));
+		executor.submit("person", record("person-2"));
+
+		try {
+			executor.submit("person", record("person-3"));
+			fail("Expected TaskRejectedException!");
+		} catch (TaskRejectedException o_O) {}
+
+		executor.submit("address", record("address-1"));
+
+		assertThat(executor.getRejectedCount(), is(1L));
+		assertThat(executor.getRejectedCount("person"), is(1L));
+		assertThat(executor.getRejectedCount("address"), is(0L));
+
+		delegate.runAll();
+
+		assertThat(executed, contains("person-1", "address-1", "person-2"));
+	}
+
+	@Test
+	public void rejectsTaskNotAcceptedByExecutor() {
+
+		CollectionFairExecutor executor = new CollectionFairExecutor(new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+				throw new RejectedExecutionException();
+			}
+		}, 1);
+
+		try {
+			executor.submit("person", record("person-1"));
+			fail("Expected TaskRejectedException!");
+		} catch (TaskRejectedException o_O) {}
+
+		assertThat(executor.getRejectedCount("person"), is(1L));
+		assertThat(executor.getQueueDepth(), is(0));
+		assertThat(executor.getActiveCount(), is(0));
+	}
+
+	@Test
+	public void completesFutureWithResultOfTask() throws Exception {
+
+		CollectionFairExecutor executor = new CollectionFairExecutor(delegate, 1);
+
+		ListenableFuture<String> future = executor.submit("person", record("person-1"));
+
+		assertThat(future.isDone(), is(false));
+
+		delegate.runAll();
+
+		assertThat(future.get(), is("person-1"));
+	}
+
+	private Callable<String> record(final String name) {
+
+		return new Callable<String>() {
+
+			@Override
+			public String call() throws Exception {
+
+				executed.add(name);
+				return name;
+			}
+		};
+	}
+
+	static class ManualExecutor implements Executor {
+
+		List<Runnable> tasks = new ArrayList<Runnable>();
+
+		@Override
+		public void execute(Runnable command) {
+			tasks.add(command);
+		}
+
+		void runAll() {
+
+			while (!tasks.isEmpty()) {
+				tasks.remove(0).run();
+			}
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * Unit tests for {@link InMemoryEntityCache}.
+ */
+public class InMemoryEntityCacheUnitTests {
+
+	@Test
+	public void returnsCachedDocumentByCollectionAndId() {
+
+		InMemoryEntityCache cache = new InMemoryEntityCache(10, 1, TimeUnit.MINUTES);
+		DBObject document = new BasicDBObject("_id", 1);
+
+		cache.put("collection", 1, document, 0);
+
+		assertThat(cache.get("collection", 1), is(document));
+		assertThat(cache.get("collection", 2), is(nullValue()));
+		assertThat(cache.get("other", 1), is(nullValue()));
+		assertThat(cache.getHitCount(), is(1L));
+		assertThat(cache.getMissCount(), is(2L));
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedDocumentWhenMaximumSizeIsExceeded() {
+
+		InMemoryEntityCache cache = new InMemoryEntityCache(2, 1, TimeUnit.MINUTES);
+
+		cache.put("collection", 1, new BasicDBObject("_id", 1), 0);
+		cache.put("collection", 2, new BasicDBObject("_id", 2), 0);
+		cache.get("collection", 1);
+		cache.put("collection", 3, new BasicDBObject("_id", 3), 0);
+
+		assertThat(cache.size(), is(2));
+		assertThat(cache.get("collection", 1), is(notNullValue()));
+		assertThat(cache.get("collection", 2), is(nullValue()));
+		assertThat(cache.get("collection", 3), is(notNullValue()));
+	}
+
+	@Test
+	public void doesNotReturnExpiredDocuments() {
+
+		InMemoryEntityCache cache = new InMemoryEntityCache(10, 1, TimeUnit.NANOSECONDS);
+		cache.put("collection", 1, new BasicDBObject("_id", 1), 0);
+
+		assertThat(cache.get("collection", 1), is(nullValue()));
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	public void evictsSingleDocumentsAndWholeCollections() {
+
+		InMemoryEntityCache cache = new InMemoryEntityCache(10, 1, TimeUnit.MINUTES);
+
+		cache.put("collection", 1, new BasicDBObject("_id", 1), 0);
+		cache.put("collection", 2, new BasicDBObject("_id", 2), 0);
+		cache.put("other", 1, new BasicDBObject("_id", 1), 0);
+
+		cache.evict("collection", 1);
+		assertThat(cache.get("collection", 1), is(nullValue()));
+		assertThat(cache.size(), is(2));
+
+		cache.evictAll("collection");
+		assertThat(cache.get("collection", 2), is(nullValue()));
+		assertThat(cache.get("other", 1), is(notNullValue()));
+	}
+
+	@Test
+	public void doesNotCacheDocumentsReadBeforeEviction() {
+
+		InMemoryEntityCache cache = new InMemoryEntityCache(10, 1, TimeUnit.MINUTES);
+
+		long version = cache.getVersion("collection");
+		cache.evict("collection", 1);
+		cache.put("collection", 1, new BasicDBObject("_id", 1), version);
+		cache.put("other", 1, new BasicDBObject("_id", 1), version);
+
+		assertThat(cache.get("collection", 1), is(nullValue()));
+		assertThat(cache.get("other", 1), is(notNullValue()));
+
+		cache.put("collection", 1, new BasicDBObject("_id", 1), cache.getVersion("collection"));
+		assertThat(cache.get("collection", 1), is(notNullValue()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNonPositiveMaximumSize() {
+		new InMemoryEntityCache(0, 1, TimeUnit.MINUTES);
+	}
+}
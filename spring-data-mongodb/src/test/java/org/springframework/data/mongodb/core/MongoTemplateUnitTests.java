@@ -21,7 +21,15 @@ import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.bson.types.ObjectId;
@@ -35,7 +43,10 @@ import org.mockito.ArgumentMatcher;
 import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.DataAccessException;
@@ -45,24 +56,35 @@ import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.geo.Point;
 import org.springframework.data.mongodb.MongoDbFactory;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.convert.CustomConversions;
 import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexCreator;
+import org.springframework.data.mongodb.core.mapping.Cached;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
 import org.springframework.data.mongodb.core.mapreduce.MapReduceOptions;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.mongodb.BasicDBObject;
 import com.mongodb.BasicDBObjectBuilder;
+import com.mongodb.BulkWriteOperation;
+import com.mongodb.BulkWriteRequestBuilder;
 import com.mongodb.CommandResult;
+import com.mongodb.Cursor;
 import com.mongodb.DB;
 import com.mongodb.DBCollection;
 import com.mongodb.DBCursor;
@@ -531,6 +553,484 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		assertThat(captor.getValue().getLimit(), is(1000));
 	}
 
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void convertsBatchInParallelKeepingTheOrderOfElements() {
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			template.setBatchConversionExecutor(executor);
+			template.setParallelBatchConversionThreshold(2);
+			template.setBatchConversionChunkSize(3);
+
+			List<Sample> batch = new ArrayList<Sample>();
+
+			for (int i = 0; i < 10; i++) {
+				batch.add(new Sample("value-" + i));
+			}
+
+			template.insert(batch, "collection");
+
+			ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+			verify(collection).insert(captor.capture());
+
+			List<DBObject> dbObjects = captor.getValue();
+			assertThat(dbObjects, hasSize(10));
+
+			for (int i = 0; i < 10; i++) {
+				assertThat(dbObjects.get(i).get("value"), is((Object) ("value-" + i)));
+			}
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void publishesConversionEventsOnCallingThreadInBatchOrderWhenConvertingInParallel() {
+
+		final List<MongoMappingEvent<?>> events = Collections.synchronizedList(new ArrayList<MongoMappingEvent<?>>());
+		final List<Thread> threads = Collections.synchronizedList(new ArrayList<Thread>());
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.addApplicationListener(new ApplicationListener<MongoMappingEvent<?>>() {
+
+			@Override
+			public void onApplicationEvent(MongoMappingEvent<?> event) {
+
+				if (event instanceof BeforeConvertEvent || event instanceof BeforeSaveEvent) {
+					events.add(event);
+					threads.add(Thread.currentThread());
+				}
+			}
+		});
+		context.refresh();
+
+		template.setApplicationContext(context);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Sample> batch = new ArrayList<Sample>();
+
+		try {
+
+			template.setBatchConversionExecutor(executor);
+			template.setParallelBatchConversionThreshold(2);
+			template.setBatchConversionChunkSize(3);
+
+			for (int i = 0; i < 10; i++) {
+				batch.add(new Sample("value-" + i));
+			}
+
+			template.insert(batch, "collection");
+
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(events, hasSize(20));
+		assertThat(threads, everyItem(is(Thread.currentThread())));
+
+		for (int i = 0; i < 10; i++) {
+
+			assertThat(events.get(i), is(instanceOf(BeforeConvertEvent.class)));
+			assertThat(events.get(i).getSource(), is(sameInstance((Object) batch.get(i))));
+
+			assertThat(events.get(i + 10), is(instanceOf(BeforeSaveEvent.class)));
+			assertThat(events.get(i + 10).getSource(), is(sameInstance((Object) batch.get(i))));
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void populatesIdsWhenConvertingInParallel() {
+
+		when(collection.insert(Mockito.<List<DBObject>> any())).thenAnswer(new Answer<Object>() {
+
+			@Override
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+
+				for (DBObject dbObject : (List<DBObject>) invocation.getArguments()[0]) {
+					dbObject.put("_id", new ObjectId());
+				}
+
+				return null;
+			}
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			template.setBatchConversionExecutor(executor);
+			template.setParallelBatchConversionThreshold(2);
+			template.setBatchConversionChunkSize(3);
+
+			List<Sample> batch = new ArrayList<Sample>();
+
+			for (int i = 0; i < 10; i++) {
+				batch.add(new Sample("value-" + i));
+			}
+
+			template.insert(batch, "collection");
+
+			for (Sample sample : batch) {
+				assertThat(sample.id, is(notNullValue()));
+			}
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void convertsBatchInParallelWhenInsertingFromExecutorThread() throws Exception {
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+
+			template.setBatchConversionExecutor(executor);
+			template.setParallelBatchConversionThreshold(2);
+			template.setBatchConversionChunkSize(3);
+
+			final List<Sample> batch = new ArrayList<Sample>();
+
+			for (int i = 0; i < 10; i++) {
+				batch.add(new Sample("value-" + i));
+			}
+
+			Future<Void> future = executor.submit(new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+
+					template.insert(batch, "collection");
+					return null;
+				}
+			});
+
+			future.get(5, TimeUnit.SECONDS);
+
+		} finally {
+			executor.shutdownNow();
+		}
+
+		verify(collection).insert(Mockito.<List<DBObject>> any());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNonPositiveParallelBatchConversionThreshold() {
+		template.setParallelBatchConversionThreshold(0);
+	}
+
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void insertsIteratorInChunksBoundedByNumberOfDocuments() {
+
+		List<Sample> objects = new ArrayList<Sample>();
+
+		for (int i = 0; i < 10; i++) {
+			objects.add(new Sample("value-" + i));
+		}
+
+		List<InsertChunkResult> results = template.insertChunked(objects, "collection",
+				ChunkedInsertOptions.options().maxDocuments(3));
+
+		assertThat(results, hasSize(4));
+		assertThat(results.get(0).getCount(), is(3));
+		assertThat(results.get(3).getIndex(), is(3));
+		assertThat(results.get(3).getCount(), is(1));
+
+		verify(collection, times(4)).insert(Mockito.any(List.class));
+	}
+
+	@Test
+	public void closesChunksWhenEstimatedSizeIsReached() {
+
+		List<Sample> objects = new ArrayList<Sample>();
+
+		for (int i = 0; i < 4; i++) {
+			objects.add(new Sample("value-" + i));
+		}
+
+		List<InsertChunkResult> results = template.insertChunked(objects, "collection",
+				ChunkedInsertOptions.options().maxBytes(1));
+
+		assertThat(results, hasSize(4));
+	}
+
+	@Test
+	public void writesChunksOnConfiguredExecutor() {
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+
+			List<Sample> objects = new ArrayList<Sample>();
+
+			for (int i = 0; i < 5; i++) {
+				objects.add(new Sample("value-" + i));
+			}
+
+			List<InsertChunkResult> results = template.insertChunked(objects, "collection",
+					ChunkedInsertOptions.options().maxDocuments(2).executor(executor));
+
+			assertThat(results, hasSize(3));
+			assertThat(results.get(2).getCount(), is(1));
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void aggregateStreamUsesCursorWithConfiguredBatchSize() {
+
+		Cursor cursor = mock(Cursor.class);
+		when(collection.aggregate(Mockito.any(List.class), Mockito.any(com.mongodb.AggregationOptions.class)))
+				.thenReturn(cursor);
+
+		Aggregation aggregation = Aggregation.newAggregation(Aggregation.unwind("foo"))
+				.withOptions(new AggregationOptions.Builder().cursorBatchSize(100).build());
+
+		CloseableIterator<Wrapper> result = template.aggregateStream(aggregation, "collection-1", Wrapper.class);
+
+		ArgumentCaptor<com.mongodb.AggregationOptions> captor = ArgumentCaptor
+				.forClass(com.mongodb.AggregationOptions.class);
+		verify(collection).aggregate(Mockito.any(List.class), captor.capture());
+
+		assertThat(captor.getValue().getOutputMode(), is(com.mongodb.AggregationOptions.OutputMode.CURSOR));
+		assertThat(captor.getValue().getBatchSize(), is(100));
+
+		result.close();
+		verify(cursor).close();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void aggregateStreamRejectsExplain() {
+
+		Aggregation aggregation = Aggregation.newAggregation(Aggregation.unwind("foo"))
+				.withOptions(new AggregationOptions.Builder().explain(true).build());
+
+		template.aggregateStream(aggregation, "collection-1", Wrapper.class);
+	}
+
+	@Test
+	public void findByIdReadsCachedTypesThroughEntityCache() {
+
+		InMemoryEntityCache cache = new InMemoryEntityCache(10, 1, TimeUnit.MINUTES);
+		template.setEntityCache(cache);
+
+		when(collection.findOne(Mockito.any(DBObject.class)))
+				.thenReturn(new BasicDBObject("_id", "id-1").append("value", "value"));
+
+		CachedSample first = template.findById("id-1", CachedSample.class);
+		CachedSample second = template.findById("id-1", CachedSample.class);
+
+		assertThat(first.value, is("value"));
+		assertThat(second.value, is("value"));
+		assertThat(second, is(not(sameInstance(first))));
+		assertThat(cache.getHitCount(), is(1L));
+
+		verify(collection, times(1)).findOne(Mockito.any(DBObject.class));
+	}
+
+	@Test
+	public void cachedDocumentsCannotBeModifiedByEventListeners() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.addApplicationListener(new ApplicationListener<AfterLoadEvent<?>>() {
+
+			@Override
+			public void onApplicationEvent(AfterLoadEvent<?> event) {
+				event.getDBObject().put("value", "modified");
+			}
+		});
+		context.refresh();
+
+		InMemoryEntityCache cache = new InMemoryEntityCache(10, 1, TimeUnit.MINUTES);
+
+		template.setApplicationContext(context);
+		template.setEntityCache(cache);
+
+		when(collection.findOne(Mockito.any(DBObject.class)))
+				.thenReturn(new BasicDBObject("_id", "id-1").append("value", "value"));
+
+		template.findById("id-1", CachedSample.class);
+		assertThat(cache.get("cachedSample", "id-1").get("value"), is((Object) "value"));
+
+		template.findById("id-1", CachedSample.class);
+		assertThat(cache.get("cachedSample", "id-1").get("value"), is((Object) "value"));
+
+		verify(collection, times(1)).findOne(Mockito.any(DBObject.class));
+	}
+
+	@Test
+	public void doesNotCacheDocumentReadBeforeConcurrentEviction() {
+
+		final InMemoryEntityCache cache = new InMemoryEntityCache(10, 1, TimeUnit.MINUTES);
+		template.setEntityCache(cache);
+
+		when(collection.findOne(Mockito.any(DBObject.class))).thenAnswer(new Answer<DBObject>() {
+
+			@Override
+			public DBObject answer(InvocationOnMock invocation) throws Throwable {
+
+				cache.evict("cachedSample", "id-1");
+				return new BasicDBObject("_id", "id-1").append("value", "stale");
+			}
+		});
+
+		template.findById("id-1", CachedSample.class);
+
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	public void findByIdDoesNotCacheTypesNotAnnotatedWithCached() {
+
+		template.setEntityCache(new InMemoryEntityCache(10, 1, TimeUnit.MINUTES));
+
+		when(collection.findOne(Mockito.any(DBObject.class)))
+				.thenReturn(new BasicDBObject("_id", "id-1").append("value", "value"));
+
+		template.findById("id-1", Sample.class);
+		template.findById("id-1", Sample.class);
+
+		verify(collection, times(2)).findOne(Mockito.any(DBObject.class));
+	}
+
+	@Test
+	public void updateEvictsCachedDocument() {
+
+		InMemoryEntityCache cache = new InMemoryEntityCache(10, 1, TimeUnit.MINUTES);
+		template.setEntityCache(cache);
+
+		when(collection.findOne(Mockito.any(DBObject.class)))
+				.thenReturn(new BasicDBObject("_id", "id-1").append("value", "value"));
+
+		template.findById("id-1", CachedSample.class);
+		template.updateFirst(new Query(Criteria.where("id").is("id-1")), Update.update("value", "other"),
+				CachedSample.class);
+
+		assertThat(cache.size(), is(0));
+
+		template.findById("id-1", CachedSample.class);
+
+		verify(collection, times(2)).findOne(Mockito.any(DBObject.class));
+	}
+
+	@Test
+	public void removeEvictsCachedDocument() {
+
+		InMemoryEntityCache cache = new InMemoryEntityCache(10, 1, TimeUnit.MINUTES);
+		template.setEntityCache(cache);
+
+		when(collection.findOne(Mockito.any(DBObject.class)))
+				.thenReturn(new BasicDBObject("_id", "id-1").append("value", "value"));
+
+		template.findById("id-1", CachedSample.class);
+
+		CachedSample sample = new CachedSample();
+		sample.id = "id-1";
+		template.remove(sample);
+
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	public void bulkRemoveEvictsCachedDocuments() {
+
+		InMemoryEntityCache cache = new InMemoryEntityCache(10, 1, TimeUnit.MINUTES);
+		template.setEntityCache(cache);
+
+		BulkWriteOperation bulk = mock(BulkWriteOperation.class);
+		when(collection.initializeUnorderedBulkOperation()).thenReturn(bulk);
+		when(bulk.find(Mockito.any(DBObject.class))).thenReturn(mock(BulkWriteRequestBuilder.class));
+		when(collection.findOne(Mockito.any(DBObject.class)))
+				.thenReturn(new BasicDBObject("_id", "id-1").append("value", "value"));
+
+		template.findById("id-1", CachedSample.class);
+		assertThat(cache.size(), is(1));
+
+		template.bulkOps(BulkMode.UNORDERED, CachedSample.class).remove(new Query(Criteria.where("value").is("value")))
+				.execute();
+
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void scansPartitionsWithCursorEach() {
+
+		CommandResult stats = mock(CommandResult.class);
+		when(stats.ok()).thenReturn(true);
+		when(stats.get("size")).thenReturn(10L * 1024 * 1024);
+
+		CommandResult splitVector = mock(CommandResult.class);
+		when(splitVector.ok()).thenReturn(true);
+		when(splitVector.get("splitKeys")).thenReturn(Collections.singletonList(new BasicDBObject("_id", "id-5")));
+
+		when(collection.getStats()).thenReturn(stats);
+		when(collection.getDB()).thenReturn(db);
+		when(db.command(Mockito.any(DBObject.class))).thenReturn(splitVector);
+		when(collection.find(Mockito.any(DBObject.class), Mockito.any(DBObject.class))).thenReturn(cursor);
+		when(cursor.batchSize(anyInt())).thenReturn(cursor);
+
+		DBCursor identifiers = mock(DBCursor.class);
+		when(collection.find(new BasicDBObject(), new BasicDBObject("_id", 1))).thenReturn(identifiers);
+		when(identifiers.sort(Mockito.any(DBObject.class))).thenReturn(identifiers);
+		when(identifiers.limit(anyInt())).thenReturn(identifiers);
+		when(identifiers.hasNext()).thenReturn(true);
+		when(identifiers.next()).thenReturn(new BasicDBObject("_id", "id-0"), new BasicDBObject("_id", "id-9"));
+
+		PartitionCallback<Sample> callback = mock(PartitionCallback.class);
+		ScanProgressListener listener = mock(ScanProgressListener.class);
+
+		template.scan(new Query(Criteria.where("value").is("value")), Sample.class, "collection",
+				PartitionedScanOptions.options().partitions(2).progressListener(listener), callback);
+
+		ArgumentCaptor<DBObject> captor = ArgumentCaptor.forClass(DBObject.class);
+		verify(collection, times(4)).find(captor.capture(), Mockito.any(DBObject.class));
+
+		assertThat(captor.getAllValues().get(2).toString(),
+				is(new BasicDBObject("$and", Arrays.asList(new BasicDBObject("value", "value"),
+						new BasicDBObject("_id", new BasicDBObject("$lt", "id-5")))).toString()));
+		assertThat(captor.getAllValues().get(3).toString(),
+				is(new BasicDBObject("$and", Arrays.asList(new BasicDBObject("value", "value"),
+						new BasicDBObject("_id", new BasicDBObject("$gte", "id-5")))).toString()));
+
+		verify(callback).doInPartition(eq(new ScanPartition(0, null, "id-5")), Mockito.any(CloseableIterator.class));
+		verify(callback).doInPartition(eq(new ScanPartition(1, "id-5", null)), Mockito.any(CloseableIterator.class));
+		verify(listener).onCompleted(new ScanPartition(1, "id-5", null), 0L);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	@SuppressWarnings("unchecked")
+	public void rejectsPartitionedScanWithLimit() {
+		template.scan(new Query().limit(10), Sample.class, "collection", null, mock(PartitionCallback.class));
+	}
+
+	static class Sample {
+
+		@Id String id;
+		String value;
+
+		Sample(String value) {
+			this.value = value;
+		}
+	}
+
+	@Cached
+	static class CachedSample {
+
+		@Id String id;
+		String value;
+	}
+
 	class AutogenerateableId {
 
 		@Id BigInteger id;
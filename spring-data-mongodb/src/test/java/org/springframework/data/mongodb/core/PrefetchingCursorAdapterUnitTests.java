@@ -0,0 +1,281 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.core.MongoTemplate.DbObjectCallback;
+import org.springframework.data.mongodb.core.MongoTemplate.PrefetchingCursorAdapter;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.Cursor;
+import com.mongodb.DBObject;
+
+/**
+ * Unit tests for {@link PrefetchingCursorAdapter}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PrefetchingCursorAdapterUnitTests {
+
+	@Mock Cursor cursor;
+	@Mock PersistenceExceptionTranslator exceptionTranslator;
+
+	ExecutorService executor;
+	DbObjectCallback<Object> callback;
+
+	@Before
+	public void setUp() {
+
+		this.executor = Executors.newFixedThreadPool(2);
+		this.callback = new DbObjectCallback<Object>() {
+
+			@Override
+			public Object doWith(DBObject object) {
+				return object.get("value");
+			}
+		};
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void returnsElementsInCursorOrder() {
+
+		stubCursorWithDocuments(10);
+
+		PrefetchingCursorAdapter<Object> adapter = new PrefetchingCursorAdapter<Object>(cursor, exceptionTranslator,
+				callback, false, StreamOptions.options().batchSize(3).executor(executor));
+
+		assertThat(drain(adapter), contains((Object) 0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+		assertThat(adapter.hasNext(), is(false));
+	}
+
+	@Test
+	public void onlyReadsAheadAsFarAsBufferAllows() throws Exception {
+
+		CountDownLatch read = new CountDownLatch(30);
+		stubCursorWithDocuments(100, read);
+		CountDownLatch closed = latchOnClose();
+
+		PrefetchingCursorAdapter<Object> adapter = new PrefetchingCursorAdapter<Object>(cursor, exceptionTranslator,
+				callback, false, StreamOptions.options().batchSize(10).bufferSize(2).executor(executor));
+
+		assertThat(read.await(5, TimeUnit.SECONDS), is(true));
+
+		adapter.close();
+
+		assertThat(closed.await(5, TimeUnit.SECONDS), is(true));
+
+		// two buffered batches plus the one waiting to be buffered
+		verify(cursor, times(30)).next();
+	}
+
+	@Test
+	public void closesCursorOnPrefetchingThreadAndStopsPrefetching() throws Exception {
+
+		stubCursorWithDocuments(100);
+		CountDownLatch closed = latchOnClose();
+
+		PrefetchingCursorAdapter<Object> adapter = new PrefetchingCursorAdapter<Object>(cursor, exceptionTranslator,
+				callback, false, StreamOptions.options().batchSize(10).bufferSize(1).executor(executor));
+
+		adapter.next();
+		adapter.close();
+
+		assertThat(adapter.hasNext(), is(false));
+		assertThat(closed.await(5, TimeUnit.SECONDS), is(true));
+
+		verify(cursor, times(1)).close();
+		verify(cursor, atMost(30)).next();
+	}
+
+	@Test(timeout = 5000)
+	public void isExhaustedAfterReadingCursorFailed() {
+
+		final Iterator<Integer> values = Arrays.asList(0, 1).iterator();
+
+		when(cursor.hasNext()).thenAnswer(new Answer<Boolean>() {
+
+			@Override
+			public Boolean answer(InvocationOnMock invocation) throws Throwable {
+
+				if (!values.hasNext()) {
+					throw new IllegalArgumentException();
+				}
+
+				return true;
+			}
+		});
+
+		when(cursor.next()).thenAnswer(new Answer<DBObject>() {
+
+			@Override
+			public DBObject answer(InvocationOnMock invocation) throws Throwable {
+				return new BasicDBObject("value", values.next());
+			}
+		});
+
+		PrefetchingCursorAdapter<Object> adapter = new PrefetchingCursorAdapter<Object>(cursor, exceptionTranslator,
+				callback, false, StreamOptions.options().batchSize(2).executor(executor));
+
+		assertThat(adapter.next(), is((Object) 0));
+		assertThat(adapter.next(), is((Object) 1));
+
+		try {
+			adapter.hasNext();
+			fail("Expected IllegalArgumentException!");
+		} catch (IllegalArgumentException o_O) {}
+
+		assertThat(adapter.hasNext(), is(false));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void propagatesExceptionOfConversion() {
+
+		stubCursorWithDocuments(5);
+
+		DbObjectCallback<Object> callback = new DbObjectCallback<Object>() {
+
+			@Override
+			public Object doWith(DBObject object) {
+				throw new IllegalArgumentException();
+			}
+		};
+
+		PrefetchingCursorAdapter<Object> adapter = new PrefetchingCursorAdapter<Object>(cursor, exceptionTranslator,
+				callback, false, StreamOptions.options().batchSize(2).executor(executor));
+
+		adapter.next();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void propagatesExceptionOfCursor() {
+
+		doThrow(IllegalArgumentException.class).when(cursor).hasNext();
+
+		PrefetchingCursorAdapter<Object> adapter = new PrefetchingCursorAdapter<Object>(cursor, exceptionTranslator,
+				callback, false, StreamOptions.options().executor(executor));
+
+		adapter.hasNext();
+	}
+
+	@Test
+	public void readsOnConsumingThreadIfExecutorRejectsPrefetching() {
+
+		stubCursorWithDocuments(5);
+
+		Executor rejecting = new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+				throw new RejectedExecutionException();
+			}
+		};
+
+		PrefetchingCursorAdapter<Object> adapter = new PrefetchingCursorAdapter<Object>(cursor, exceptionTranslator,
+				callback, false, StreamOptions.options().batchSize(2).executor(rejecting));
+
+		assertThat(drain(adapter), contains((Object) 0, 1, 2, 3, 4));
+	}
+
+	private CountDownLatch latchOnClose() {
+
+		final CountDownLatch latch = new CountDownLatch(1);
+
+		doAnswer(new Answer<Void>() {
+
+			@Override
+			public Void answer(InvocationOnMock invocation) throws Throwable {
+
+				latch.countDown();
+				return null;
+			}
+		}).when(cursor).close();
+
+		return latch;
+	}
+
+	private void stubCursorWithDocuments(int count) {
+		stubCursorWithDocuments(count, new CountDownLatch(0));
+	}
+
+	private void stubCursorWithDocuments(int count, final CountDownLatch read) {
+
+		List<DBObject> documents = new ArrayList<DBObject>();
+
+		for (int i = 0; i < count; i++) {
+			documents.add(new BasicDBObject("value", i));
+		}
+
+		final Iterator<DBObject> iterator = documents.iterator();
+
+		when(cursor.hasNext()).thenAnswer(new Answer<Boolean>() {
+
+			@Override
+			public Boolean answer(InvocationOnMock invocation) throws Throwable {
+				return iterator.hasNext();
+			}
+		});
+
+		when(cursor.next()).thenAnswer(new Answer<DBObject>() {
+
+			@Override
+			public DBObject answer(InvocationOnMock invocation) throws Throwable {
+
+				DBObject next = iterator.next();
+				read.countDown();
+
+				return next;
+			}
+		});
+	}
+
+	private static List<Object> drain(Iterator<Object> iterator) {
+
+		List<Object> result = new ArrayList<Object>();
+
+		while (iterator.hasNext()) {
+			result.add(iterator.next());
+		}
+
+		return result;
+	}
+}
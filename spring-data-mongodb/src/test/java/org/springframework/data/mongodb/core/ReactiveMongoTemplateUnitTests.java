@@ -0,0 +1,307 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+
+/**
+ * Unit tests for {@link ReactiveMongoTemplate}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveMongoTemplateUnitTests {
+
+	@Mock MongoOperations operations;
+
+	RecordingExecutor executor;
+	ReactiveMongoTemplate template;
+
+	Person dave, oliver, carter;
+	ListBasedCloseableIterator<Person> iterator;
+
+	@Before
+	public void setUp() {
+
+		this.executor = new RecordingExecutor();
+		this.template = new ReactiveMongoTemplate(operations, executor);
+
+		this.dave = new Person("Dave");
+		this.oliver = new Person("Oliver");
+		this.carter = new Person("Carter");
+
+		this.iterator = new ListBasedCloseableIterator<Person>(Arrays.asList(dave, oliver, carter));
+
+		when(operations.getCollectionName(Person.class)).thenReturn("person");
+		when(operations.stream(Mockito.<Query> any(), eq(Person.class), eq("person"))).thenReturn(iterator);
+	}
+
+	@Test
+	public void doesNotQueryBeforeElementsAreRequested() {
+
+		RecordingSubscriber<Person> subscriber = new RecordingSubscriber<Person>();
+		template.find(new Query(), Person.class).subscribe(subscriber);
+
+		verify(operations, never()).stream(Mockito.<Query> any(), eq(Person.class), eq("person"));
+		assertThat(executor.executions, is(0));
+	}
+
+	@Test
+	public void emitsRequestedElementsOnlyOnExecutor() {
+
+		RecordingSubscriber<Person> subscriber = new RecordingSubscriber<Person>();
+		template.find(new Query(), Person.class).subscribe(subscriber);
+
+		subscriber.request(2);
+
+		assertThat(executor.executions, is(1));
+		assertThat(subscriber.elements, contains(dave, oliver));
+		assertThat(subscriber.completed, is(false));
+
+		subscriber.request(1);
+
+		assertThat(subscriber.elements, contains(dave, oliver, carter));
+		assertThat(subscriber.completed, is(true));
+		assertThat(iterator.closed, is(true));
+	}
+
+	@Test
+	public void closesCursorOnCancel() {
+
+		RecordingSubscriber<Person> subscriber = new RecordingSubscriber<Person>();
+		template.find(new Query(), Person.class).subscribe(subscriber);
+
+		subscriber.request(1);
+		subscriber.subscription.cancel();
+
+		assertThat(subscriber.elements, contains(dave));
+		assertThat(subscriber.completed, is(false));
+		assertThat(iterator.closed, is(true));
+	}
+
+	@Test
+	public void closesCursorAndSignalsErrorIfExecutorRejectsDrain() {
+
+		RecordingSubscriber<Person> subscriber = new RecordingSubscriber<Person>();
+		template.find(new Query(), Person.class).subscribe(subscriber);
+
+		subscriber.request(1);
+		executor.rejecting = true;
+		subscriber.request(1);
+
+		assertThat(subscriber.elements, contains(dave));
+		assertThat(subscriber.error, is(instanceOf(RejectedExecutionException.class)));
+		assertThat(iterator.closed, is(true));
+	}
+
+	@Test
+	public void propagatesExceptionOfSubscriberAndClosesCursor() {
+
+		final IllegalStateException exception = new IllegalStateException("o_O");
+
+		RecordingSubscriber<Person> subscriber = new RecordingSubscriber<Person>() {
+
+			@Override
+			public void onNext(Person element) {
+				throw exception;
+			}
+		};
+
+		template.find(new Query(), Person.class).subscribe(subscriber);
+
+		try {
+			subscriber.request(1);
+			fail("Expected exception of subscriber to be propagated!");
+		} catch (IllegalStateException o_O) {
+			assertThat(o_O, is(exception));
+		}
+
+		assertThat(subscriber.error, is(nullValue()));
+		assertThat(iterator.closed, is(true));
+	}
+
+	@Test
+	public void signalsErrorForNonPositiveRequest() {
+
+		RecordingSubscriber<Person> subscriber = new RecordingSubscriber<Person>();
+		template.find(new Query(), Person.class).subscribe(subscriber);
+
+		subscriber.request(0);
+
+		assertThat(subscriber.error, is(instanceOf(IllegalArgumentException.class)));
+		assertThat(subscriber.elements, is(empty()));
+	}
+
+	@Test
+	public void signalsTranslatedExceptionOfOperation() {
+
+		DataAccessResourceFailureException exception = new DataAccessResourceFailureException("o_O");
+		when(operations.count(Mockito.<Query> any(), eq(Person.class))).thenThrow(exception);
+
+		RecordingSubscriber<Long> subscriber = new RecordingSubscriber<Long>();
+		template.count(new Query(), Person.class).subscribe(subscriber);
+
+		subscriber.request(1);
+
+		assertThat(subscriber.error, is((Throwable) exception));
+	}
+
+	@Test
+	public void completesWithoutElementIfNothingFound() {
+
+		RecordingSubscriber<Person> subscriber = new RecordingSubscriber<Person>();
+		template.findById(42, Person.class).subscribe(subscriber);
+
+		subscriber.request(1);
+
+		assertThat(subscriber.elements, is(empty()));
+		assertThat(subscriber.completed, is(true));
+	}
+
+	@Test
+	public void emitsInsertedObjects() {
+
+		List<Person> people = Arrays.asList(dave, oliver);
+
+		RecordingSubscriber<Person> subscriber = new RecordingSubscriber<Person>();
+		template.insertAll(people).subscribe(subscriber);
+
+		verify(operations, never()).insertAll(people);
+
+		subscriber.request(Long.MAX_VALUE);
+
+		verify(operations).insertAll(people);
+		assertThat(subscriber.elements, contains(dave, oliver));
+		assertThat(subscriber.completed, is(true));
+	}
+
+	@Test
+	public void executesOperationForEverySubscription() {
+
+		Publisher<Person> publisher = template.findOne(new Query(), Person.class);
+
+		RecordingSubscriber<Person> first = new RecordingSubscriber<Person>();
+		RecordingSubscriber<Person> second = new RecordingSubscriber<Person>();
+
+		publisher.subscribe(first);
+		publisher.subscribe(second);
+		first.request(1);
+		second.request(1);
+
+		verify(operations, times(2)).findOne(Mockito.<Query> any(), eq(Person.class));
+	}
+
+	static class ListBasedCloseableIterator<T> implements CloseableIterator<T> {
+
+		Iterator<T> delegate;
+		boolean closed;
+
+		ListBasedCloseableIterator(List<T> elements) {
+			this.delegate = elements.iterator();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return delegate.hasNext();
+		}
+
+		@Override
+		public T next() {
+			return delegate.next();
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void close() {
+			this.closed = true;
+		}
+	}
+
+	static class RecordingExecutor implements Executor {
+
+		Executor delegate = new SyncTaskExecutor();
+		int executions;
+		boolean rejecting;
+
+		@Override
+		public void execute(Runnable command) {
+
+			if (rejecting) {
+				throw new RejectedExecutionException();
+			}
+
+			executions++;
+			delegate.execute(command);
+		}
+	}
+
+	static class RecordingSubscriber<T> implements Subscriber<T> {
+
+		List<T> elements = new ArrayList<T>();
+		Subscription subscription;
+		Throwable error;
+		boolean completed;
+
+		void request(long n) {
+			subscription.request(n);
+		}
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(T element) {
+			elements.add(element);
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			this.error = error;
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed = true;
+		}
+	}
+}
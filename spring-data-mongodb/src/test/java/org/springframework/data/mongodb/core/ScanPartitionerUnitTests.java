@@ -0,0 +1,195 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.mongodb.AggregationOptions;
+import com.mongodb.BasicDBObject;
+import com.mongodb.CommandResult;
+import com.mongodb.Cursor;
+import com.mongodb.DB;
+import com.mongodb.DBCollection;
+import com.mongodb.DBCursor;
+import com.mongodb.DBObject;
+import com.mongodb.MongoException;
+
+/**
+ * Unit tests for {@link ScanPartitioner}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ScanPartitionerUnitTests {
+
+	@Mock DB db;
+	@Mock DBCollection collection;
+	@Mock DBCursor cursor;
+	@Mock Cursor samples;
+	@Mock CommandResult stats;
+	@Mock CommandResult splitVector;
+
+	ScanPartitioner partitioner;
+
+	@Before
+	public void setUp() {
+
+		when(collection.getDB()).thenReturn(db);
+		when(collection.getFullName()).thenReturn("database.collection");
+		when(collection.getStats()).thenReturn(stats);
+		when(db.command(Mockito.any(DBObject.class))).thenReturn(splitVector);
+
+		when(stats.ok()).thenReturn(true);
+		when(stats.get("size")).thenReturn(100L * 1024 * 1024);
+
+		when(collection.find(Mockito.any(DBObject.class), Mockito.any(DBObject.class))).thenReturn(cursor);
+		when(cursor.sort(Mockito.any(DBObject.class))).thenReturn(cursor);
+		when(cursor.limit(anyInt())).thenReturn(cursor);
+
+		this.partitioner = new ScanPartitioner(collection);
+	}
+
+	@Test
+	public void returnsSingleOpenPartitionIfOnlyOneRequested() {
+
+		assertThat(partitioner.partition(1), contains(new ScanPartition(0, null, null)));
+		verify(db, never()).command(Mockito.any(DBObject.class));
+	}
+
+	@Test
+	public void selectsEvenlyDistributedSplitVectorBoundaries() {
+
+		List<DBObject> splitKeys = new ArrayList<DBObject>();
+
+		for (int i = 1; i <= 5; i++) {
+			splitKeys.add(new BasicDBObject("_id", i));
+		}
+
+		when(splitVector.ok()).thenReturn(true);
+		when(splitVector.get("splitKeys")).thenReturn(splitKeys);
+		stubSmallestAndLargestIdentifier(0, 6);
+
+		List<ScanPartition> partitions = partitioner.partition(3);
+
+		assertThat(partitions, contains(new ScanPartition(0, null, 2), new ScanPartition(1, 2, 4),
+				new ScanPartition(2, 4, null)));
+		verify(db).command(new BasicDBObject("splitVector", "database.collection")
+				.append("keyPattern", new BasicDBObject("_id", 1)).append("maxChunkSizeBytes", 100L * 1024 * 1024 / 3));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void samplesIdentifiersIfSplitVectorIsNotAvailable() {
+
+		when(splitVector.ok()).thenReturn(false);
+		when(collection.aggregate(Mockito.any(List.class), Mockito.any(AggregationOptions.class))).thenReturn(samples);
+		when(samples.hasNext()).thenReturn(true, true, true, true, true, true, true, true, false);
+		when(samples.next()).thenReturn(new BasicDBObject("_id", 1), new BasicDBObject("_id", 2),
+				new BasicDBObject("_id", 3), new BasicDBObject("_id", 3), new BasicDBObject("_id", 4),
+				new BasicDBObject("_id", 5), new BasicDBObject("_id", 6), new BasicDBObject("_id", 7));
+		stubSmallestAndLargestIdentifier(0, 8);
+
+		List<ScanPartition> partitions = partitioner.partition(4);
+
+		assertThat(partitions, contains(new ScanPartition(0, null, 2), new ScanPartition(1, 2, 4),
+				new ScanPartition(2, 4, 6), new ScanPartition(3, 6, null)));
+
+		ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection).aggregate(captor.capture(), Mockito.any(AggregationOptions.class));
+		assertThat(captor.getValue().get(0),
+				is((Object) new BasicDBObject("$sample", new BasicDBObject("size", 40))));
+		verify(collection, never()).count();
+		verify(cursor, never()).skip(anyInt());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void fallsBackToSinglePartitionIfSamplingIsNotSupported() {
+
+		when(splitVector.ok()).thenReturn(false);
+		when(collection.aggregate(Mockito.any(List.class), Mockito.any(AggregationOptions.class)))
+				.thenThrow(new MongoException("Unrecognized pipeline stage name: '$sample'"));
+
+		assertThat(partitioner.partition(4), contains(new ScanPartition(0, null, null)));
+	}
+
+	@Test
+	public void addsResidualPartitionForIdentifiersOfOtherTypes() {
+
+		List<DBObject> splitKeys = new ArrayList<DBObject>();
+		splitKeys.add(new BasicDBObject("_id", 1));
+		splitKeys.add(new BasicDBObject("_id", 2L));
+		splitKeys.add(new BasicDBObject("_id", 3.0));
+		splitKeys.add(new BasicDBObject("_id", "a"));
+		splitKeys.add(new BasicDBObject("_id", "b"));
+
+		when(splitVector.ok()).thenReturn(true);
+		when(splitVector.get("splitKeys")).thenReturn(splitKeys);
+		stubSmallestAndLargestIdentifier(0, "c");
+
+		List<ScanPartition> partitions = partitioner.partition(3);
+
+		assertThat(partitions, contains(new ScanPartition(0, null, 1), new ScanPartition(1, 1, 2L),
+				new ScanPartition(2, 2L, null), new ScanPartition(3, Arrays.asList(1, 16, 18))));
+		assertThat(partitions.get(3).isResidual(), is(true));
+	}
+
+	@Test
+	public void doesNotAddResidualPartitionIfAllIdentifiersAreOfBoundaryType() {
+
+		List<DBObject> splitKeys = new ArrayList<DBObject>();
+		splitKeys.add(new BasicDBObject("_id", "a"));
+
+		when(splitVector.ok()).thenReturn(true);
+		when(splitVector.get("splitKeys")).thenReturn(splitKeys);
+		stubSmallestAndLargestIdentifier("0", "z");
+
+		assertThat(partitioner.partition(2),
+				contains(new ScanPartition(0, null, "a"), new ScanPartition(1, "a", null)));
+		verify(cursor).sort(new BasicDBObject("_id", 1));
+		verify(cursor).sort(new BasicDBObject("_id", -1));
+	}
+
+	@Test
+	public void createsRangeCriteriaForPartition() {
+
+		assertThat(new ScanPartition(0, null, null).getCriteriaObject(), is((DBObject) new BasicDBObject()));
+		assertThat(new ScanPartition(1, 25, 50).getCriteriaObject(),
+				is((DBObject) new BasicDBObject("_id", new BasicDBObject("$gte", 25).append("$lt", 50))));
+		assertThat(new ScanPartition(2, Arrays.asList(2, 14)).getCriteriaObject(),
+				is((DBObject) new BasicDBObject("$nor",
+						Arrays.asList(new BasicDBObject("_id", new BasicDBObject("$type", 2)),
+								new BasicDBObject("_id", new BasicDBObject("$type", 14))))));
+	}
+
+	private void stubSmallestAndLargestIdentifier(Object smallest, Object largest) {
+
+		when(cursor.hasNext()).thenReturn(true);
+		when(cursor.next()).thenReturn(new BasicDBObject("_id", smallest), new BasicDBObject("_id", largest));
+	}
+}
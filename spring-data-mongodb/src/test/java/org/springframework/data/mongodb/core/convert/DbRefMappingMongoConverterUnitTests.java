@@ -52,6 +52,7 @@ import org.springframework.data.mongodb.util.MongoClientVersion;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.SerializationUtils;
 
+import com.mongodb.BasicDBList;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DB;
 import com.mongodb.DBCollection;
@@ -577,6 +578,114 @@ public class DbRefMappingMongoConverterUnitTests {
 		assertProxyIsResolved(result.dbRefToPlainObject, false);
 	}
 
+	@Test
+	public void resolvesCollectionOfDbRefsWithSingleBulkFetchKeepingTheOrder() {
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(ClassWithDbRefList.class);
+		MongoPersistentProperty property = entity.getPersistentProperty("references");
+
+		DBRef first = converter.toDBRef(new LazyDbRefTarget("1"), property);
+		DBRef second = converter.toDBRef(new LazyDbRefTarget("2"), property);
+		DBRef third = converter.toDBRef(new LazyDbRefTarget("3"), property);
+
+		doReturn(Arrays.<DBObject> asList(new BasicDBObject("_id", "3").append("value", "three"), null,
+				new BasicDBObject("_id", "1").append("value", "one"))).when(dbRefResolver)
+						.bulkFetch(Arrays.asList(third, second, first));
+
+		BasicDBList references = new BasicDBList();
+		references.addAll(Arrays.asList(third, second, first));
+
+		ClassWithDbRefList result = converter.read(ClassWithDbRefList.class, new BasicDBObject("references", references));
+
+		assertThat(result.references.size(), is(3));
+		assertThat(result.references.get(0).getValue(), is("three"));
+		assertThat(result.references.get(1), is(nullValue()));
+		assertThat(result.references.get(2).getValue(), is("one"));
+
+		verify(dbRefResolver, times(1)).bulkFetch(anyListOf(DBRef.class));
+		verify(dbRefResolver, never()).fetch((DBRef) any());
+	}
+
+	@Test
+	public void resolvesLazyCollectionOfDbRefsWithSingleBulkFetch() {
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(ClassWithLazyDbRefs.class);
+		MongoPersistentProperty property = entity.getPersistentProperty("dbRefToInterface");
+
+		DBRef first = converter.toDBRef(new LazyDbRefTarget("1"), property);
+		DBRef second = converter.toDBRef(new LazyDbRefTarget("2"), property);
+
+		MappingMongoConverter converterSpy = spy(converter);
+		doReturn(Arrays.<DBObject> asList(new BasicDBObject("_id", "1").append("value", "one"),
+				new BasicDBObject("_id", "2").append("value", "two"))).when(converterSpy)
+						.bulkReadRefs(Arrays.asList(first, second));
+
+		BasicDBList references = new BasicDBList();
+		references.addAll(Arrays.asList(first, second));
+
+		ClassWithLazyDbRefs result = converterSpy.read(ClassWithLazyDbRefs.class,
+				new BasicDBObject("dbRefToInterface", references));
+
+		assertProxyIsResolved(result.dbRefToInterface, false);
+		assertThat(result.dbRefToInterface.get(1).getValue(), is("two"));
+		assertProxyIsResolved(result.dbRefToInterface, true);
+		assertThat(result.dbRefToInterface.get(0).getValue(), is("one"));
+
+		verify(converterSpy, times(1)).bulkReadRefs(anyListOf(DBRef.class));
+		verify(converterSpy, never()).readRef((DBRef) any());
+	}
+
+	@Test
+	public void sharesResolvedReferencesWithinDbRefResolutionScope() {
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(ClassWithDbRefList.class);
+		MongoPersistentProperty property = entity.getPersistentProperty("references");
+
+		DBRef dbRef = converter.toDBRef(new LazyDbRefTarget("1"), property);
+
+		MappingMongoConverter converterSpy = spy(converter);
+		doReturn(new BasicDBObject("_id", "1").append("value", "one")).when(converterSpy).readRef(dbRef);
+
+		BasicDBList references = new BasicDBList();
+		references.add(dbRef);
+
+		DbRefResolutionScope scope = DbRefResolutionScope.open();
+
+		try {
+
+			ClassWithDbRefList first = converterSpy.read(ClassWithDbRefList.class,
+					new BasicDBObject("references", references));
+			ClassWithDbRefList second = converterSpy.read(ClassWithDbRefList.class,
+					new BasicDBObject("references", references));
+
+			assertThat(first.references.get(0), is(sameInstance(second.references.get(0))));
+
+		} finally {
+			scope.close();
+		}
+
+		verify(converterSpy, times(1)).readRef(dbRef);
+	}
+
+	@Test
+	public void reusesProxyTypesForLazyReferencesOfTheSameType() {
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(ClassWithLazyDbRefs.class);
+		MongoPersistentProperty property = entity.getPersistentProperty("dbRefToConcreteType");
+
+		DBRef first = converter.toDBRef(new LazyDbRefTarget("1"), property);
+		DBRef second = converter.toDBRef(new LazyDbRefTarget("2"), property);
+
+		ClassWithLazyDbRefs firstResult = converter.read(ClassWithLazyDbRefs.class,
+				new BasicDBObject("dbRefToConcreteType", first).append("dbRefToInterface", new BasicDBList()));
+		ClassWithLazyDbRefs secondResult = converter.read(ClassWithLazyDbRefs.class,
+				new BasicDBObject("dbRefToConcreteType", second).append("dbRefToInterface", new BasicDBList()));
+
+		assertProxyIsResolved(firstResult.dbRefToConcreteType, false);
+		assertThat(firstResult.dbRefToConcreteType.getClass(), is((Object) secondResult.dbRefToConcreteType.getClass()));
+		assertThat(firstResult.dbRefToInterface.getClass(), is((Object) secondResult.dbRefToInterface.getClass()));
+	}
+
 	private Object transport(Object result) {
 		return SerializationUtils.deserialize(SerializationUtils.serialize(result));
 	}
@@ -770,6 +879,11 @@ public class DbRefMappingMongoConverterUnitTests {
 		@org.springframework.data.mongodb.core.mapping.DBRef(lazy = true) EqualsAndHashCodeObjectMethodOverrideLazyDbRefTarget dbRefEqualsAndHashcodeObjectMethodOverride1;
 	}
 
+	static class ClassWithDbRefList {
+
+		@org.springframework.data.mongodb.core.mapping.DBRef List<LazyDbRefTarget> references;
+	}
+
 	class ClassWithDbRefField {
 
 		String id;
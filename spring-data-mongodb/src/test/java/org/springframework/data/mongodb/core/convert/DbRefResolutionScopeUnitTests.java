@@ -0,0 +1,148 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import com.mongodb.DBRef;
+
+/**
+ * Unit tests for {@link DbRefResolutionScope}.
+ */
+public class DbRefResolutionScopeUnitTests {
+
+	@After
+	public void tearDown() {
+
+		while (DbRefResolutionScope.getCurrent() != null) {
+			DbRefResolutionScope.getCurrent().close();
+		}
+	}
+
+	@Test
+	public void bindsScopeToCurrentThreadUntilClosed() {
+
+		assertThat(DbRefResolutionScope.getCurrent(), is(nullValue()));
+
+		DbRefResolutionScope scope = DbRefResolutionScope.open();
+		assertThat(DbRefResolutionScope.getCurrent(), is(scope));
+
+		scope.close();
+		assertThat(DbRefResolutionScope.getCurrent(), is(nullValue()));
+	}
+
+	@Test
+	public void nestedOpenJoinsActiveScope() {
+
+		DbRefResolutionScope outer = DbRefResolutionScope.open();
+		DbRefResolutionScope inner = DbRefResolutionScope.open();
+
+		assertThat(inner, is(sameInstance(outer)));
+
+		inner.close();
+		assertThat(DbRefResolutionScope.getCurrent(), is(outer));
+
+		outer.close();
+		assertThat(DbRefResolutionScope.getCurrent(), is(nullValue()));
+	}
+
+	@Test
+	public void restoresPreviouslyActiveScopeOnClose() {
+
+		DbRefResolutionScope outer = DbRefResolutionScope.open();
+		DbRefResolutionScope other = new DbRefResolutionScope().activate();
+
+		assertThat(DbRefResolutionScope.getCurrent(), is(other));
+
+		other.close();
+		assertThat(DbRefResolutionScope.getCurrent(), is(outer));
+	}
+
+	@Test
+	public void restoresScopesInReverseOrderOfNestedActivations() {
+
+		DbRefResolutionScope first = new DbRefResolutionScope().activate();
+		DbRefResolutionScope second = new DbRefResolutionScope().activate();
+
+		first.activate();
+		assertThat(DbRefResolutionScope.getCurrent(), is(first));
+
+		first.close();
+		assertThat(DbRefResolutionScope.getCurrent(), is(second));
+
+		second.close();
+		assertThat(DbRefResolutionScope.getCurrent(), is(first));
+
+		first.close();
+		assertThat(DbRefResolutionScope.getCurrent(), is(nullValue()));
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedDocumentsBeyondMaximumSize() {
+
+		DbRefResolutionScope scope = new DbRefResolutionScope(2);
+
+		scope.putDocument(new DBRef("collection", "1"), new BasicDBObject("_id", "1"));
+		scope.putDocument(new DBRef("collection", "2"), new BasicDBObject("_id", "2"));
+		scope.getDocument(new DBRef("collection", "1"));
+		scope.putDocument(new DBRef("collection", "3"), new BasicDBObject("_id", "3"));
+
+		assertThat(scope.getDocument(new DBRef("collection", "1")), is(notNullValue()));
+		assertThat(scope.getDocument(new DBRef("collection", "2")), is(nullValue()));
+		assertThat(scope.getDocument(new DBRef("collection", "3")), is(notNullValue()));
+	}
+
+	@Test
+	public void clearRemovesCachedDocumentsAndInstances() {
+
+		DbRefResolutionScope scope = new DbRefResolutionScope();
+
+		scope.putDocument(new DBRef("collection", "1"), new BasicDBObject("_id", "1"));
+		scope.putInstance(new DBRef("collection", "1"), Object.class, new Object());
+		scope.clear();
+
+		assertThat(scope.getDocument(new DBRef("collection", "1")), is(nullValue()));
+		assertThat(scope.getInstance(new DBRef("collection", "1"), Object.class), is(nullValue()));
+	}
+
+	@Test
+	public void cachesDocumentsAndInstancesByCollectionAndId() {
+
+		DbRefResolutionScope scope = new DbRefResolutionScope();
+		DBObject document = new BasicDBObject("_id", "1");
+		Object instance = new Object();
+
+		scope.putDocument(new DBRef("collection", "1"), document);
+		scope.putInstance(new DBRef("collection", "1"), Object.class, instance);
+
+		assertThat(scope.getDocument(new DBRef("collection", "1")), is(document));
+		assertThat(scope.getDocument(new DBRef("collection", "2")), is(nullValue()));
+		assertThat(scope.getDocument(new DBRef("other", "1")), is(nullValue()));
+		assertThat(scope.getInstance(new DBRef("collection", "1"), Object.class), is(instance));
+		assertThat(scope.getInstance(new DBRef("collection", "1"), String.class), is(nullValue()));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsClosingInactiveScope() {
+		new DbRefResolutionScope().close();
+	}
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.mongodb.MongoDbFactory;
+import org.springframework.data.mongodb.core.MongoExceptionTranslator;
+import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver.LazyLoadingInterceptor;
+import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver.PrefetchBatch;
+import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver.PrefetchedDocument;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DB;
+import com.mongodb.DBCollection;
+import com.mongodb.DBCursor;
+import com.mongodb.DBObject;
+import com.mongodb.DBRef;
+
+/**
+ * Unit tests for {@link DefaultDbRefResolver}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultDbRefResolverUnitTests {
+
+	@Mock MongoDbFactory factoryMock;
+	@Mock DB dbMock;
+	@Mock DBCollection fooMock, barMock;
+	@Mock DBCursor fooCursorMock, barCursorMock;
+
+	static final DbRefProxyHandler PASS_THROUGH = new DbRefProxyHandler() {
+
+		@Override
+		public Object populateId(MongoPersistentProperty property, DBRef source, Object proxy) {
+			return proxy;
+		}
+	};
+
+	DefaultDbRefResolver resolver;
+
+	@Before
+	public void setUp() {
+
+		when(factoryMock.getExceptionTranslator()).thenReturn(new MongoExceptionTranslator());
+		when(factoryMock.getDb()).thenReturn(dbMock);
+		when(dbMock.getCollection("foo")).thenReturn(fooMock);
+		when(dbMock.getCollection("bar")).thenReturn(barMock);
+		when(fooMock.find((DBObject) anyObject())).thenReturn(fooCursorMock);
+		when(barMock.find((DBObject) anyObject())).thenReturn(barCursorMock);
+
+		resolver = new DefaultDbRefResolver(factoryMock);
+	}
+
+	@Test
+	public void bulkFetchIssuesSingleInQueryPerCollection() {
+
+		DBRef first = dbRef("foo", "1");
+		DBRef second = dbRef("bar", "2");
+		DBRef third = dbRef("foo", "3");
+
+		when(fooCursorMock.hasNext()).thenReturn(true, true, false);
+		when(fooCursorMock.next()).thenReturn(new BasicDBObject("_id", "3"), new BasicDBObject("_id", "1"));
+		when(barCursorMock.hasNext()).thenReturn(false);
+
+		List<DBObject> result = resolver.bulkFetch(Arrays.asList(first, second, third));
+
+		assertThat(result, hasSize(3));
+		assertThat(result.get(0).get("_id"), is((Object) "1"));
+		assertThat(result.get(1), is(nullValue()));
+		assertThat(result.get(2).get("_id"), is((Object) "3"));
+
+		ArgumentCaptor<DBObject> captor = ArgumentCaptor.forClass(DBObject.class);
+		verify(fooMock, times(1)).find(captor.capture());
+		verify(barMock, times(1)).find((DBObject) anyObject());
+		verify(fooCursorMock).close();
+		verify(barCursorMock).close();
+
+		DBObject in = (DBObject) captor.getValue().get("_id");
+		assertThat((List<?>) in.get("$in"), contains((Object) "1", "3"));
+	}
+
+	@Test
+	public void bulkFetchReturnsEmptyListForNoReferences() {
+
+		assertThat(resolver.bulkFetch(Collections.<DBRef> emptyList()), is(empty()));
+		verify(factoryMock, never()).getDb();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void bulkFetchRejectsNullReferences() {
+		resolver.bulkFetch(null);
+	}
+
+	@Test
+	public void prefetchBatchLoadsAllDocumentsWithSingleBulkFetchWhenSubmitted() {
+
+		DbRefResolver resolverMock = mock(DbRefResolver.class);
+		DBRef first = dbRef("foo", "1");
+		DBRef second = dbRef("bar", "2");
+
+		when(resolverMock.bulkFetch(Arrays.asList(first, second)))
+				.thenReturn(Arrays.<DBObject> asList(new BasicDBObject("_id", "1"), new BasicDBObject("_id", "2")));
+
+		PrefetchBatch batch = new PrefetchBatch(resolverMock, 2);
+		PrefetchedDocument firstDocument = batch.add(first);
+		PrefetchedDocument secondDocument = batch.add(second);
+
+		assertThat(batch.isComplete(), is(true));
+		assertThat(batch.add(dbRef("foo", "3")), is(nullValue()));
+
+		batch.submit(new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+				command.run();
+			}
+		});
+
+		verify(resolverMock, times(1)).bulkFetch(Matchers.<List<DBRef>> any());
+
+		assertThat(secondDocument.get().get("_id"), is((Object) "2"));
+		assertThat(firstDocument.get().get("_id"), is((Object) "1"));
+
+		verify(resolverMock, times(1)).bulkFetch(Matchers.<List<DBRef>> any());
+	}
+
+	@Test
+	public void prefetchBatchIsLoadedOnFirstAccessAndClosedForFurtherReferences() {
+
+		DbRefResolver resolverMock = mock(DbRefResolver.class);
+		DBRef first = dbRef("foo", "1");
+
+		when(resolverMock.bulkFetch(Arrays.asList(first)))
+				.thenReturn(Arrays.<DBObject> asList(new BasicDBObject("_id", "1")));
+
+		PrefetchBatch batch = new PrefetchBatch(resolverMock, 10);
+		PrefetchedDocument document = batch.add(first);
+
+		assertThat(document.get().get("_id"), is((Object) "1"));
+		assertThat(batch.add(dbRef("foo", "2")), is(nullValue()));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void prefetchBatchRethrowsLoadingFailureOnAccess() {
+
+		DbRefResolver resolverMock = mock(DbRefResolver.class);
+		when(resolverMock.bulkFetch(Matchers.<List<DBRef>> any())).thenThrow(new IllegalStateException());
+
+		PrefetchBatch batch = new PrefetchBatch(resolverMock, 10);
+		batch.add(dbRef("foo", "1")).get();
+	}
+
+	@Test
+	public void submitsIncompletePrefetchBatchOnceReadHasFinished() {
+
+		final List<Runnable> submitted = new ArrayList<Runnable>();
+
+		resolver.setPrefetchExecutor(new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+				submitted.add(command);
+			}
+		});
+
+		MongoPersistentProperty property = lazyDbRefProperty();
+		DbRefResolverCallback callback = mock(DbRefResolverCallback.class);
+
+		resolver.resolveDbRef(property, dbRef("foo", "1"), callback, PASS_THROUGH);
+		assertThat(submitted, is(empty()));
+
+		resolver.beginRead();
+		resolver.beginRead();
+		resolver.resolveDbRef(property, dbRef("foo", "2"), callback, PASS_THROUGH);
+		resolver.resolveDbRef(property, dbRef("foo", "3"), callback, PASS_THROUGH);
+		resolver.endRead();
+
+		assertThat(submitted, is(empty()));
+
+		resolver.endRead();
+
+		assertThat(submitted, hasSize(1));
+
+		when(fooCursorMock.hasNext()).thenReturn(false);
+		submitted.get(0).run();
+
+		ArgumentCaptor<DBObject> captor = ArgumentCaptor.forClass(DBObject.class);
+		verify(fooMock, times(1)).find(captor.capture());
+
+		DBObject in = (DBObject) captor.getValue().get("_id");
+		assertThat((List<?>) in.get("$in"), contains((Object) "2", "3"));
+	}
+
+	@Test
+	public void resolvesMissingPrefetchedDocumentToNullWithoutFetchingAgain() throws Throwable {
+
+		DbRefResolver resolverMock = mock(DbRefResolver.class);
+		DBRef dbRef = dbRef("foo", "1");
+
+		when(resolverMock.bulkFetch(Arrays.asList(dbRef))).thenReturn(Arrays.<DBObject> asList((DBObject) null));
+
+		PrefetchBatch batch = new PrefetchBatch(resolverMock, 10);
+		DbRefResolverCallback callback = mock(DbRefResolverCallback.class);
+
+		LazyLoadingInterceptor interceptor = new LazyLoadingInterceptor(lazyDbRefProperty(), dbRef,
+				new MongoExceptionTranslator(), callback);
+		interceptor.prefetchFrom(batch.add(dbRef));
+
+		assertThat(interceptor.intercept(null, LazyLoadingProxy.class.getMethod("getTarget"), new Object[0], null),
+				is(nullValue()));
+
+		verify(callback, never()).resolve(Matchers.<MongoPersistentProperty> any());
+		verify(resolverMock, times(1)).bulkFetch(Matchers.<List<DBRef>> any());
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static MongoPersistentProperty lazyDbRefProperty() {
+
+		org.springframework.data.mongodb.core.mapping.DBRef annotation = mock(
+				org.springframework.data.mongodb.core.mapping.DBRef.class);
+		when(annotation.lazy()).thenReturn(true);
+
+		MongoPersistentProperty property = mock(MongoPersistentProperty.class);
+		when(property.getDBRef()).thenReturn(annotation);
+		when(property.getType()).thenReturn((Class) Runnable.class);
+
+		return property;
+	}
+
+	private static DBRef dbRef(String collection, Object id) {
+
+		DBRef dbRef = mock(DBRef.class);
+		when(dbRef.getCollectionName()).thenReturn(collection);
+		when(dbRef.getId()).thenReturn(id);
+
+		return dbRef;
+	}
+}
@@ -52,6 +52,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
@@ -2066,6 +2067,113 @@ public class MappingMongoConverterUnitTests {
 		assertThat(target.map.get(FooBarEnum.FOO), is("spring"));
 	}
 
+	@Test
+	public void readsEntityWithConstructorAndNestedCollectionUsingPreparedReader() {
+
+		converter.setUsePreparedEntityReaders(true);
+
+		BasicDBList addresses = new BasicDBList();
+		addresses.add(new BasicDBObject("street", "Broadway").append("city", "New York"));
+
+		DBObject dbObject = new BasicDBObject("_id", "4711").append("foo", "Dave").append("lastname", "Matthews")
+				.append("addresses", addresses);
+
+		Person result = converter.read(Person.class, dbObject);
+
+		assertThat(result.id, is("4711"));
+		assertThat(result.firstname, is("Dave"));
+		assertThat(result.lastname, is("Matthews"));
+		assertThat(result.addresses, hasSize(1));
+		assertThat(result.addresses.iterator().next().city, is("New York"));
+	}
+
+	@Test
+	public void preparedReaderFallsBackToDefaultReadingForSpELConstructorArguments() {
+
+		converter.setUsePreparedEntityReaders(true);
+
+		DBObject dbObject = new BasicDBObject("foo", "foo").append("foobar", 2.5);
+
+		DefaultedConstructorArgument result = converter.read(DefaultedConstructorArgument.class, dbObject);
+
+		assertThat(result.foo, is("foo"));
+		assertThat(result.bar, is(-1));
+		assertThat(result.foobar, is(2.5));
+	}
+
+	@Test
+	public void preparedReaderProducesSameResultAsDefaultReading() {
+
+		Person person = new Person(Collections.singleton(new Address()));
+		person.id = "4711";
+		person.firstname = "Dave";
+		person.birthDate = new LocalDate();
+
+		DBObject dbObject = new BasicDBObject();
+		converter.write(person, dbObject);
+
+		Person expected = converter.read(Person.class, dbObject);
+
+		converter.setUsePreparedEntityReaders(true);
+		Person result = converter.read(Person.class, dbObject);
+
+		assertThat(result.id, is(expected.id));
+		assertThat(result.firstname, is(expected.firstname));
+		assertThat(result.birthDate, is(expected.birthDate));
+		assertThat(result.addresses, hasSize(expected.addresses.size()));
+	}
+
+	@Test
+	public void preparedWriterProducesSameResultAsDefaultWriting() {
+
+		Person person = new Person(Collections.singleton(new Address()));
+		person.id = "4711";
+		person.firstname = "Dave";
+		person.birthDate = new LocalDate();
+
+		DBObject expected = new BasicDBObject();
+		converter.write(person, expected);
+
+		converter.setUsePreparedEntityWriters(true);
+
+		DBObject result = new BasicDBObject();
+		converter.write(person, result);
+
+		assertThat(result, is(expected));
+	}
+
+	@Test
+	public void preparedWriterAppliesCustomConversionsForSimpleFinalTypes() {
+
+		MappingMongoConverter converter = new MappingMongoConverter(resolver, mappingContext);
+		converter.setCustomConversions(new CustomConversions(Arrays.asList(new FooBarEnumToStringConverter())));
+		converter.setUsePreparedEntityWriters(true);
+		converter.afterPropertiesSet();
+
+		ClassWithFooBarEnum source = new ClassWithFooBarEnum();
+		source.value = FooBarEnum.FOO;
+
+		DBObject result = new BasicDBObject();
+		converter.write(source, result);
+
+		assertThat(result.get("value"), is((Object) "foo-enum-value"));
+	}
+
+	@Test
+	public void notifiesReadScopeAwareDbRefResolverAroundReadingDocument() {
+
+		ReadScopeAwareDbRefResolver resolver = mock(ReadScopeAwareDbRefResolver.class);
+
+		MappingMongoConverter converter = new MappingMongoConverter(resolver, mappingContext);
+		converter.afterPropertiesSet();
+
+		converter.read(Person.class, new BasicDBObject("firstname", "Dave"));
+
+		InOrder inOrder = inOrder(resolver);
+		inOrder.verify(resolver).beginRead();
+		inOrder.verify(resolver).endRead();
+	}
+
 	static class GenericType<T> {
 		T content;
 	}
@@ -2378,6 +2486,10 @@ public class MappingMongoConverterUnitTests {
 		Map<FooBarEnum, String> map;
 	}
 
+	static class ClassWithFooBarEnum {
+		FooBarEnum value;
+	}
+
 	@WritingConverter
 	static class FooBarEnumToStringConverter implements Converter<FooBarEnum, String> {
 
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.data.mongodb.core.convert.PreparedQuery.*;
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+import static org.springframework.data.mongodb.core.query.Query.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.InvalidMongoDbApiUsageException;
+import org.springframework.data.mongodb.MongoDbFactory;
+import org.springframework.data.mongodb.core.mapping.DBRef;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.mongodb.DBObject;
+
+/**
+ * Unit tests for {@link PreparedQuery}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PreparedQueryUnitTests {
+
+	QueryMapper mapper;
+	MongoMappingContext context;
+	MappingMongoConverter converter;
+	MongoPersistentEntity<?> entity;
+
+	@Mock MongoDbFactory factory;
+
+	@Before
+	public void setUp() {
+
+		this.context = new MongoMappingContext();
+
+		this.converter = new MappingMongoConverter(new DefaultDbRefResolver(factory), context);
+		this.converter.afterPropertiesSet();
+
+		this.mapper = new QueryMapper(converter);
+		this.entity = context.getPersistentEntity(Sample.class);
+	}
+
+	@Test
+	public void mapsQueryOnceAndConvertsBoundValues() {
+
+		Query query = query(where("firstname").is(parameter("firstname")).and("id").is(parameter("id")))
+				.with(new Sort("firstname"));
+
+		PreparedQuery prepared = new PreparedQuery(query, entity, mapper);
+		assertThat(prepared.getParameterNames(), contains("firstname", "id"));
+
+		ObjectId id = new ObjectId();
+		Map<String, Object> values = new HashMap<String, Object>();
+		values.put("firstname", "Dave");
+		values.put("id", id.toString());
+
+		Query bound = prepared.bind(values);
+
+		assertThat(bound.getQueryObject().get("fn"), is((Object) "Dave"));
+		assertThat(bound.getQueryObject().get("_id"), is((Object) id));
+		assertThat(bound.getSortObject().get("fn"), is((Object) 1));
+	}
+
+	@Test
+	public void bindsValuesForEachInvocationIndependently() {
+
+		PreparedQuery prepared = new PreparedQuery(query(where("age").gt(parameter("age"))), entity, mapper);
+
+		Query first = prepared.bind(Collections.singletonMap("age", 20));
+		Query second = prepared.bind(Collections.singletonMap("age", 30));
+
+		assertThat(((DBObject) first.getQueryObject().get("age")).get("$gt"), is((Object) 20));
+		assertThat(((DBObject) second.getQueryObject().get("age")).get("$gt"), is((Object) 30));
+		assertThat(first, is(not(second)));
+	}
+
+	@Test
+	public void convertsBoundValuesForAssociations() {
+
+		PreparedQuery prepared = new PreparedQuery(query(where("reference").is(parameter("reference"))), entity, mapper);
+
+		Reference reference = new Reference();
+		reference.id = new ObjectId().toString();
+
+		Object value = prepared.bind(Collections.singletonMap("reference", reference)).getQueryObject().get("reference");
+
+		assertThat(value, is(instanceOf(com.mongodb.DBRef.class)));
+		assertThat(((com.mongodb.DBRef) value).getId(), is((Object) new ObjectId(reference.id)));
+	}
+
+	@Test
+	public void doesNotMapBoundQueryAgain() {
+
+		PreparedQuery prepared = new PreparedQuery(query(where("firstname").is(parameter("firstname"))), entity, mapper);
+		DBObject queryObject = prepared.bind(Collections.singletonMap("firstname", "Dave")).getQueryObject();
+
+		assertThat(mapper.getMappedObject(queryObject, entity), is(sameInstance(queryObject)));
+	}
+
+	@Test
+	public void mapsAdditionalSortOfBoundQuery() {
+
+		Query query = query(where("firstname").is(parameter("firstname"))).with(new Sort("firstname"));
+		PreparedQuery prepared = new PreparedQuery(query, entity, mapper);
+
+		DBObject sort = prepared.bind(Collections.singletonMap("firstname", "Dave")).with(new Sort("age"))
+				.getSortObject();
+
+		assertThat(sort.keySet(), contains("fn", "age"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMissingParameterValue() {
+
+		PreparedQuery prepared = new PreparedQuery(query(where("firstname").is(parameter("firstname"))), entity, mapper);
+		prepared.bind(Collections.<String, Object> emptyMap());
+	}
+
+	@Test(expected = InvalidMongoDbApiUsageException.class)
+	public void rejectsAdditionalCriteriaOnBoundQuery() {
+
+		PreparedQuery prepared = new PreparedQuery(query(where("firstname").is(parameter("firstname"))), entity, mapper);
+		prepared.bind(Collections.singletonMap("firstname", "Dave")).addCriteria(Criteria.where("age").is(20));
+	}
+
+	static class Sample {
+
+		@Id String id;
+		@Field("fn") String firstname;
+		Integer age;
+		@DBRef Reference reference;
+	}
+
+	static class Reference {
+
+		@Id String id;
+	}
+}
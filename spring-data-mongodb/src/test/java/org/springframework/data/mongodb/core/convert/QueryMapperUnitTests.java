@@ -855,6 +855,79 @@ public class QueryMapperUnitTests {
 		assertThat(dbo.get("legacyPoint.y"), Is.<Object> is(20D));
 	}
 
+	@Test
+	public void reusesResolvedPropertyFieldsForSameEntityAndKey() {
+
+		MongoPersistentEntity<?> entity = context.getPersistentEntity(ClassWithEmbedded.class);
+		DBObject query = query(where("sample.foo").is("value").and("id").is("id")).getQueryObject();
+
+		DBObject first = mapper.getMappedObject(query, entity);
+		DBObject second = mapper.getMappedObject(query, entity);
+
+		assertThat(second, is(first));
+		assertThat(second.get("sample._id"), is((Object) "value"));
+		assertThat(mapper.getPropertyFieldCacheMissCount(), is(2L));
+		assertThat(mapper.getPropertyFieldCacheHitCount(), is(2L));
+	}
+
+	@Test
+	public void doesNotCachePropertyFieldsIfCacheIsDisabled() {
+
+		mapper.setPropertyFieldCacheSize(0);
+
+		MongoPersistentEntity<?> entity = context.getPersistentEntity(ClassWithEmbedded.class);
+		DBObject query = query(where("sample.foo").is("value")).getQueryObject();
+
+		mapper.getMappedObject(query, entity);
+		DBObject result = mapper.getMappedObject(query, entity);
+
+		assertThat(result.get("sample._id"), is((Object) "value"));
+		assertThat(mapper.getPropertyFieldCacheHitCount(), is(0L));
+		assertThat(mapper.getPropertyFieldCacheMissCount(), is(0L));
+	}
+
+	@Test
+	public void resetsPropertyFieldCacheWhenMaximumSizeIsExceeded() {
+
+		mapper.setPropertyFieldCacheSize(1);
+
+		MongoPersistentEntity<?> entity = context.getPersistentEntity(ClassWithEmbedded.class);
+
+		mapper.getMappedObject(query(where("sample.foo").is("value")).getQueryObject(), entity);
+		mapper.getMappedObject(query(where("id").is("id")).getQueryObject(), entity);
+		mapper.getMappedObject(query(where("sample.foo").is("value")).getQueryObject(), entity);
+
+		assertThat(mapper.getPropertyFieldCacheHitCount(), is(0L));
+		assertThat(mapper.getPropertyFieldCacheMissCount(), is(3L));
+	}
+
+	@Test
+	public void resolvesKeysetPositionInStoredFormat() {
+
+		ObjectId id = new ObjectId();
+
+		ClassWithRenamedField source = new ClassWithRenamedField();
+		source.id = id.toString();
+		source.firstname = "Dave";
+
+		DBObject position = mapper.getKeysetPosition(source, new Sort("firstname").and(new Sort("_id")),
+				context.getPersistentEntity(ClassWithRenamedField.class));
+
+		assertThat(position.keySet(), contains("firstname", "_id"));
+		assertThat(position.get("firstname"), is((Object) "Dave"));
+		assertThat(position.get("_id"), is((Object) id));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsKeysetPositionForTypeWithoutSortProperty() {
+
+		SimpeEntityWithoutId source = new SimpeEntityWithoutId();
+		source.stringProperty = "Dave";
+
+		mapper.getKeysetPosition(source, new Sort("stringProperty").and(new Sort("_id")),
+				context.getPersistentEntity(SimpeEntityWithoutId.class));
+	}
+
 	@Document
 	public class Foo {
 		@Id private ObjectId id;
@@ -969,4 +1042,10 @@ public class QueryMapperUnitTests {
 	static class EntityWithComplexValueTypeList {
 		List<SimpeEntityWithoutId> list;
 	}
+
+	static class ClassWithRenamedField {
+
+		@Id String id;
+		@Field("fn") String firstname;
+	}
 }
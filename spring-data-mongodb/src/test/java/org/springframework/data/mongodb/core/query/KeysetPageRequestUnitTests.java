@@ -0,0 +1,124 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.query;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.bson.types.ObjectId;
+import org.junit.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+import com.mongodb.BasicDBObjectBuilder;
+import com.mongodb.DBObject;
+import com.mongodb.util.JSON;
+
+/**
+ * Unit tests for {@link KeysetPageRequest}.
+ */
+public class KeysetPageRequestUnitTests {
+
+	@Test
+	public void addsIdentifierAsTiebreakerToSort() {
+
+		KeysetPageRequest request = new KeysetPageRequest(10, new Sort("lastname"));
+
+		assertThat(request.getSort(), is(new Sort("lastname").and(new Sort("_id"))));
+		assertThat(new KeysetPageRequest(10, null).getSort(), is(new Sort("_id")));
+	}
+
+	@Test
+	public void doesNotAddTiebreakerIfSortContainsIdentifier() {
+		assertThat(new KeysetPageRequest(10, new Sort("id")).getSort(), is(new Sort("id")));
+	}
+
+	@Test
+	public void doesNotCreateCriteriaForFirstPage() {
+
+		KeysetPageRequest request = new KeysetPageRequest(10, new Sort("lastname"));
+
+		assertThat(request.getCriteriaObject(), is(nullValue()));
+		assertThat(request.getContinuationToken(), is(nullValue()));
+	}
+
+	@Test
+	public void createsRangeCriteriaForSortKeys() {
+
+		Sort sort = new Sort("lastname").and(new Sort(Direction.DESC, "age"));
+		DBObject position = BasicDBObjectBuilder.start("lastname", "Matthews").add("age", 30).add("_id", 4711).get();
+
+		Pageable next = new KeysetPageRequest(10, sort).withNextPosition(position).next();
+
+		assertThat(next, is(instanceOf(KeysetPageRequest.class)));
+		assertThat(next.getPageNumber(), is(1));
+		assertThat(((KeysetPageRequest) next).getCriteriaObject(),
+				is(JSON.parse("{ '$or' : [ { 'lastname' : { '$gt' : 'Matthews' } }, "
+						+ "{ 'lastname' : 'Matthews', '$or' : [ { 'age' : { '$lt' : 30 } }, { 'age' : null } ] }, "
+						+ "{ 'lastname' : 'Matthews', 'age' : 30, '_id' : { '$gt' : 4711 } } ] }")));
+	}
+
+	@Test
+	public void createsRangeCriteriaForNullPositions() {
+
+		Sort sort = new Sort("lastname").and(new Sort(Direction.DESC, "age"));
+		DBObject position = BasicDBObjectBuilder.start("lastname", null).add("age", null).add("_id", 4711).get();
+
+		Pageable next = new KeysetPageRequest(10, sort).withNextPosition(position).next();
+
+		assertThat(((KeysetPageRequest) next).getCriteriaObject(),
+				is(JSON.parse("{ '$or' : [ { 'lastname' : { '$ne' : null } }, "
+						+ "{ 'lastname' : null, 'age' : null, '_id' : { '$gt' : 4711 } } ] }")));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsPositionNotMatchingSort() {
+
+		KeysetPageRequest request = new KeysetPageRequest(10, new Sort("lastname"));
+		DBObject position = BasicDBObjectBuilder.start("firstname", "Dave").add("_id", 4711).get();
+
+		((KeysetPageRequest) request.withNextPosition(position).next()).getCriteriaObject();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsNextPageWithoutPosition() {
+		new KeysetPageRequest(10, new Sort("lastname")).next();
+	}
+
+	@Test
+	public void restoresRequestFromContinuationToken() {
+
+		ObjectId id = new ObjectId();
+		DBObject position = BasicDBObjectBuilder.start("lastname", "Matthews").add("_id", id).get();
+
+		KeysetPageRequest next = (KeysetPageRequest) new KeysetPageRequest(10, new Sort("lastname")).withTotal(42)
+				.withNextPosition(position).next();
+
+		KeysetPageRequest restored = KeysetPageRequest.fromContinuationToken(next.getContinuationToken(), 10,
+				new Sort("lastname"));
+
+		assertThat(restored, is(next));
+		assertThat(restored.getPageNumber(), is(1));
+		assertThat(restored.getTotal(), is(42L));
+		assertThat(restored.getPosition().get("_id"), is((Object) id));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvalidContinuationToken() {
+		KeysetPageRequest.fromContinuationToken("invalid", 10, null);
+	}
+}
@@ -21,6 +21,7 @@ import static org.springframework.data.mongodb.core.query.Criteria.*;
 import static org.springframework.data.mongodb.core.query.Query.*;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Assert;
 import org.junit.Rule;
@@ -31,6 +32,9 @@ import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.mongodb.InvalidMongoDbApiUsageException;
 import org.springframework.data.mongodb.core.SpecialDoc;
 
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
 /**
  * Unit tests for {@link Query}.
  * 
@@ -213,4 +217,34 @@ public class QueryTests {
 		assertThat(query.getRestrictedTypes().size(), is(1));
 		assertThat(query.getRestrictedTypes(), hasItems(Arrays.asList(SpecialDoc.class).toArray(new Class<?>[0])));
 	}
+
+	@Test
+	public void appliesKeysetPageRequestInsteadOfSkipping() {
+
+		KeysetPageRequest first = new KeysetPageRequest(10, new Sort("name"));
+		DBObject position = new BasicDBObject("name", "Thomas").append("_id", 4711);
+
+		Query query = new Query(where("age").lt(80)).with(first.withNextPosition(position).next());
+
+		assertThat(query.getSkip(), is(0));
+		assertThat(query.getLimit(), is(10));
+		assertThat(query.getSortObject(), is((DBObject) new BasicDBObject("name", 1).append("_id", 1)));
+		assertThat(query.getQueryObject().get("age"), is(notNullValue()));
+		assertThat(query.getQueryObject().get("$or"), is(notNullValue()));
+	}
+
+	@Test
+	public void doesNotOverrideExistingOrWithKeysetCriteria() {
+
+		KeysetPageRequest first = new KeysetPageRequest(10, new Sort("name"));
+		DBObject position = new BasicDBObject("name", "Thomas").append("_id", 4711);
+
+		Query query = new Query(new Criteria().orOperator(where("age").lt(20), where("age").gt(80)))
+				.with(first.withNextPosition(position).next());
+
+		DBObject queryObject = query.getQueryObject();
+
+		assertThat(((List<?>) queryObject.get("$or")).size(), is(2));
+		assertThat(((List<?>) queryObject.get("$and")).size(), is(1));
+	}
 }
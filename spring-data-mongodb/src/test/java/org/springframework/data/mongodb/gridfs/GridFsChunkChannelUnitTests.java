@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+/**
+ * Unit tests for {@link GridFsChunkChannel}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class GridFsChunkChannelUnitTests {
+
+	@Mock GridFsChunkInputStream chunks;
+
+	ByteBuffer first, second;
+
+	@Before
+	public void setUp() throws IOException {
+
+		this.first = ByteBuffer.wrap("0123".getBytes());
+		this.second = ByteBuffer.wrap("45".getBytes());
+
+		when(chunks.readChunk()).thenReturn(first, second, null);
+	}
+
+	@Test
+	public void readsChunksIntoTargetBuffer() throws IOException {
+
+		GridFsChunkChannel channel = new GridFsChunkChannel(chunks);
+		ByteBuffer target = ByteBuffer.allocate(3);
+
+		assertThat(channel.read(target), is(3));
+		assertThat(new String(target.array()), is("012"));
+
+		target.clear();
+
+		assertThat(channel.read(target), is(1));
+		assertThat(channel.read(target), is(2));
+		assertThat(channel.read(target), is(-1));
+		assertThat(new String(target.array()), is("345"));
+	}
+
+	@Test
+	public void transfersChunkBuffersWithoutCopying() throws IOException {
+
+		final List<ByteBuffer> written = new ArrayList<ByteBuffer>();
+
+		WritableByteChannel target = new WritableByteChannel() {
+
+			boolean open = true;
+
+			@Override
+			public int write(ByteBuffer source) {
+
+				written.add(source);
+
+				int count = source.remaining();
+				source.position(source.limit());
+
+				return count;
+			}
+
+			@Override
+			public boolean isOpen() {
+				return open;
+			}
+
+			@Override
+			public void close() {
+				open = false;
+			}
+		};
+
+		GridFsChunkChannel channel = new GridFsChunkChannel(chunks);
+
+		assertThat(channel.transferTo(target), is(6L));
+		assertThat(written, hasSize(2));
+		assertThat(written.get(0), is(sameInstance(first)));
+		assertThat(written.get(1), is(sameInstance(second)));
+	}
+
+	@Test
+	public void transfersRemainderOfPartiallyReadChunk() throws IOException {
+
+		GridFsChunkChannel channel = new GridFsChunkChannel(chunks);
+		channel.read(ByteBuffer.allocate(1));
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		assertThat(channel.transferTo(Channels.newChannel(output)), is(5L));
+		assertThat(new String(output.toByteArray()), is("12345"));
+	}
+
+	@Test
+	public void closesUnderlyingStream() throws IOException {
+
+		GridFsChunkChannel channel = new GridFsChunkChannel(chunks);
+		channel.close();
+
+		assertThat(channel.isOpen(), is(false));
+		verify(chunks).close();
+	}
+
+	@Test(expected = ClosedChannelException.class)
+	public void rejectsReadingFromClosedChannel() throws IOException {
+
+		GridFsChunkChannel channel = new GridFsChunkChannel(chunks);
+		channel.close();
+
+		channel.read(ByteBuffer.allocate(1));
+	}
+}
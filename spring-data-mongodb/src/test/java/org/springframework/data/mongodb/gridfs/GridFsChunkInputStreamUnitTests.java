@@ -0,0 +1,279 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBCollection;
+import com.mongodb.DBCursor;
+import com.mongodb.DBObject;
+import com.mongodb.gridfs.GridFSDBFile;
+
+/**
+ * Unit tests for {@link GridFsChunkInputStream}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class GridFsChunkInputStreamUnitTests {
+
+	static final byte[] CONTENT = "0123456789abcdefghij".getBytes();
+
+	@Mock DBCollection chunks;
+	@Mock DBCursor cursor;
+	@Mock GridFSDBFile file;
+
+	ExecutorService executor;
+
+	@Before
+	public void setUp() {
+
+		this.executor = Executors.newSingleThreadExecutor();
+
+		when(file.getId()).thenReturn("id");
+		when(file.getChunkSize()).thenReturn(4L);
+		when(file.getLength()).thenReturn((long) CONTENT.length);
+
+		when(chunks.find(any(DBObject.class))).thenReturn(cursor);
+		when(cursor.sort(any(DBObject.class))).thenReturn(cursor);
+		when(cursor.batchSize(anyInt())).thenReturn(cursor);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void readsCompleteContent() throws IOException {
+
+		stubCursorWithChunks(0, 4);
+
+		InputStream stream = new GridFsChunkInputStream(chunks, file, 0, CONTENT.length, 2, null);
+
+		assertThat(new String(read(stream)), is(new String(CONTENT)));
+		verify(cursor).batchSize(2);
+	}
+
+	@Test
+	public void readsCompleteContentWithPrefetching() throws IOException {
+
+		stubCursorWithChunks(0, 4);
+
+		InputStream stream = new GridFsChunkInputStream(chunks, file, 0, CONTENT.length, 2, executor);
+
+		assertThat(new String(read(stream)), is(new String(CONTENT)));
+	}
+
+	@Test
+	public void onlyQueriesChunksContainingRange() throws IOException {
+
+		stubCursorWithChunks(1, 3);
+
+		InputStream stream = new GridFsChunkInputStream(chunks, file, 6, 7, 2, null);
+
+		assertThat(new String(read(stream)), is("6789abc"));
+
+		ArgumentCaptor<DBObject> captor = ArgumentCaptor.forClass(DBObject.class);
+		verify(chunks).find(captor.capture());
+
+		DBObject range = (DBObject) captor.getValue().get("n");
+		assertThat(range.get("$gte"), is((Object) 1));
+		assertThat(range.get("$lte"), is((Object) 3));
+	}
+
+	@Test
+	public void limitsRangeToFileLength() throws IOException {
+
+		stubCursorWithChunks(4, 4);
+
+		InputStream stream = new GridFsChunkInputStream(chunks, file, 18, 100, 2, null);
+
+		assertThat(new String(read(stream)), is("ij"));
+	}
+
+	@Test
+	public void returnsEmptyStreamForRangeBeyondFileLength() throws IOException {
+
+		InputStream stream = new GridFsChunkInputStream(chunks, file, 100, 10, 2, null);
+
+		assertThat(stream.read(), is(-1));
+		verifyZeroInteractions(chunks);
+	}
+
+	@Test(timeout = 5000)
+	public void readsChunksPrefetchedAheadOfSlowerReader() throws Exception {
+
+		stubCursorWithChunks(0, 4);
+		CountDownLatch prefetched = latchOnCloseByPrefetchingThread();
+
+		InputStream stream = new GridFsChunkInputStream(chunks, file, 0, CONTENT.length, 10, executor);
+
+		assertThat(prefetched.await(5, TimeUnit.SECONDS), is(true));
+		assertThat(new String(read(stream)), is(new String(CONTENT)));
+	}
+
+	@Test(expected = IOException.class)
+	public void rejectsMissingChunk() throws IOException {
+
+		List<DBObject> documents = new ArrayList<DBObject>();
+		documents.add(chunk(0));
+		documents.add(chunk(2));
+
+		stubCursorWith(documents);
+
+		read(new GridFsChunkInputStream(chunks, file, 0, CONTENT.length, 2, null));
+	}
+
+	@Test(expected = IOException.class)
+	public void rejectsMissingChunkWithPrefetching() throws IOException {
+
+		stubCursorWithChunks(0, 2);
+
+		read(new GridFsChunkInputStream(chunks, file, 0, CONTENT.length, 2, executor));
+	}
+
+	@Test
+	public void closesCursorOnClose() throws IOException {
+
+		stubCursorWithChunks(0, 4);
+
+		InputStream stream = new GridFsChunkInputStream(chunks, file, 0, CONTENT.length, 2, null);
+		stream.read();
+		stream.close();
+
+		verify(cursor).close();
+	}
+
+	@Test
+	public void closesCursorOnPrefetchingThreadAndStopsPrefetching() throws Exception {
+
+		stubCursorWithChunks(0, 4);
+		CountDownLatch closed = latchOnCloseByPrefetchingThread();
+
+		InputStream stream = new GridFsChunkInputStream(chunks, file, 0, CONTENT.length, 1, executor);
+		stream.read();
+		stream.close();
+
+		assertThat(closed.await(5, TimeUnit.SECONDS), is(true));
+
+		verify(cursor, times(1)).close();
+		verify(cursor, atMost(3)).next();
+	}
+
+	private CountDownLatch latchOnCloseByPrefetchingThread() {
+
+		final CountDownLatch latch = new CountDownLatch(1);
+		final Thread reader = Thread.currentThread();
+
+		doAnswer(new Answer<Void>() {
+
+			@Override
+			public Void answer(InvocationOnMock invocation) throws Throwable {
+
+				if (Thread.currentThread() != reader) {
+					latch.countDown();
+				}
+
+				return null;
+			}
+		}).when(cursor).close();
+
+		return latch;
+	}
+
+	private void stubCursorWithChunks(int first, int last) {
+
+		List<DBObject> documents = new ArrayList<DBObject>();
+
+		for (int i = first; i <= last; i++) {
+			documents.add(chunk(i));
+		}
+
+		stubCursorWith(documents);
+	}
+
+	private void stubCursorWith(List<DBObject> documents) {
+
+		final Iterator<DBObject> iterator = documents.iterator();
+
+		when(cursor.hasNext()).thenAnswer(new Answer<Boolean>() {
+
+			@Override
+			public Boolean answer(InvocationOnMock invocation) throws Throwable {
+				return iterator.hasNext();
+			}
+		});
+
+		when(cursor.next()).thenAnswer(new Answer<DBObject>() {
+
+			@Override
+			public DBObject answer(InvocationOnMock invocation) throws Throwable {
+				return iterator.next();
+			}
+		});
+	}
+
+	private static DBObject chunk(int n) {
+
+		int start = n * 4;
+		int end = Math.min(start + 4, CONTENT.length);
+
+		byte[] data = new byte[end - start];
+		System.arraycopy(CONTENT, start, data, 0, data.length);
+
+		return new BasicDBObject("files_id", "id").append("n", n).append("data", data);
+	}
+
+	private static byte[] read(InputStream stream) throws IOException {
+
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		byte[] buffer = new byte[3];
+		int count;
+
+		try {
+			while ((count = stream.read(buffer)) != -1) {
+				result.write(buffer, 0, count);
+			}
+		} finally {
+			stream.close();
+		}
+
+		return result.toByteArray();
+	}
+}
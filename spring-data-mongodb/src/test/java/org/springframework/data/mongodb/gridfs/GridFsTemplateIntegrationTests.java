@@ -1,5 +1,5 @@
 /*
- * Copyright 2011-2014 the original author or authors.
+ * Copyright 2011-2016 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,8 +20,15 @@ import static org.junit.Assert.*;
 import static org.springframework.data.mongodb.core.query.Query.*;
 import static org.springframework.data.mongodb.gridfs.GridFsCriteria.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -31,11 +38,15 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.MongoDbFactory;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.util.StreamUtils;
 
 import com.mongodb.BasicDBObject;
+import com.mongodb.DBCollection;
 import com.mongodb.DBObject;
 import com.mongodb.gridfs.GridFSDBFile;
 import com.mongodb.gridfs.GridFSFile;
@@ -55,6 +66,8 @@ public class GridFsTemplateIntegrationTests {
 	Resource resource = new ClassPathResource("gridfs/gridfs.xml");
 
 	@Autowired GridFsOperations operations;
+	@Autowired MongoDbFactory dbFactory;
+	@Autowired MongoConverter converter;
 
 	@Before
 	public void setUp() {
@@ -218,6 +231,149 @@ public class GridFsTemplateIntegrationTests {
 		assertSame(result.get(0), reference);
 	}
 
+	@Test
+	public void storesAndReadsFileWithBatchedChunkWritesAndPrefetchedReads() throws IOException {
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			GridFsTemplate template = new GridFsTemplate(dbFactory, converter);
+			template.setChunkSize(16);
+			template.setChunkWriteBatchSize(3);
+			template.setChunkPrefetchSize(2);
+			template.setExecutor(executor);
+
+			byte[] content = StreamUtils.copyToByteArray(resource.getInputStream());
+
+			GridFSFile reference = template.store(new ByteArrayInputStream(content), "foo.xml", "application/xml");
+
+			assertThat(reference.getLength(), is((long) content.length));
+			assertThat(reference.getChunkSize(), is(16L));
+			assertThat(reference.getContentType(), is("application/xml"));
+
+			GridFSDBFile file = operations.findOne(query(whereFilename().is("foo.xml")));
+			assertSame(file, reference);
+			assertThat(file.getMD5(), is(operations.store(resource.getInputStream(), "bar.xml").getMD5()));
+
+			GridFsResource gridFsResource = template.getResource("foo.xml");
+
+			assertThat(StreamUtils.copyToByteArray(gridFsResource.getInputStream()), is(content));
+			assertThat(StreamUtils.copyToByteArray(gridFsResource.getInputStream()), is(content));
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void readsRangeOfFile() throws IOException {
+
+		byte[] content = StreamUtils.copyToByteArray(resource.getInputStream());
+		operations.store(new ByteArrayInputStream(content), "foo.xml");
+
+		GridFsTemplate template = new GridFsTemplate(dbFactory, converter);
+		template.setChunkPrefetchSize(2);
+
+		byte[] expected = new byte[20];
+		System.arraycopy(content, 10, expected, 0, 20);
+
+		InputStream prefetched = template.getResource("foo.xml").getInputStream(10, 20);
+		InputStream legacy = operations.getResource("foo.xml").getInputStream(10, 20);
+
+		assertThat(StreamUtils.copyToByteArray(prefetched), is(expected));
+		assertThat(StreamUtils.copyToByteArray(legacy), is(expected));
+	}
+
+	@Test
+	public void transfersFileContentToChannel() throws IOException {
+
+		byte[] content = StreamUtils.copyToByteArray(resource.getInputStream());
+		operations.store(new ByteArrayInputStream(content), "foo.xml");
+
+		GridFsTemplate template = new GridFsTemplate(dbFactory, converter);
+		template.setChunkPrefetchSize(2);
+
+		ByteArrayOutputStream prefetched = new ByteArrayOutputStream();
+		ByteArrayOutputStream legacy = new ByteArrayOutputStream();
+
+		long length = content.length;
+
+		assertThat(template.getResource("foo.xml").transferTo(Channels.newChannel(prefetched)), is(length));
+		assertThat(operations.getResource("foo.xml").transferTo(Channels.newChannel(legacy)), is(length));
+
+		assertThat(prefetched.toByteArray(), is(content));
+		assertThat(legacy.toByteArray(), is(content));
+	}
+
+	@Test
+	public void storesIdenticalContentOnlyOnceWhenDeduplicating() throws IOException {
+
+		byte[] content = StreamUtils.copyToByteArray(resource.getInputStream());
+		DBCollection chunks = dbFactory.getDb().getCollection("fs.chunks");
+
+		GridFsTemplate template = new GridFsTemplate(dbFactory, converter);
+		template.setChunkSize(64);
+		template.setChunkWriteBatchSize(2);
+		template.setDeduplicating(true);
+
+		GridFSFile first = template.store(new ByteArrayInputStream(content), "foo.xml");
+		long chunkCount = chunks.count();
+
+		GridFSFile second = template.store(new ByteArrayInputStream(content), "bar.xml");
+
+		assertThat(second.getId(), is(not(first.getId())));
+		assertThat(second.getMD5(), is(first.getMD5()));
+		assertThat(chunks.count(), is(chunkCount));
+
+		template.delete(query(whereFilename().is("foo.xml")));
+
+		assertThat(template.getResource("foo.xml"), is(nullValue()));
+		assertThat(StreamUtils.copyToByteArray(template.getResource("bar.xml").getInputStream()), is(content));
+
+		GridFSDBFile file = template.findOne(query(whereFilename().is("bar.xml")));
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		assertThat(StreamUtils.copyToByteArray(file.getInputStream()), is(content));
+		assertThat(file.writeTo(output), is((long) content.length));
+		assertThat(output.toByteArray(), is(content));
+
+		file.validate();
+
+		template.delete(query(whereFilename().is("bar.xml")));
+
+		assertThat(chunks.count(), is(0L));
+		assertThat(dbFactory.getDb().getCollection("fs.contents").count(), is(0L));
+	}
+
+	@Test
+	public void keepsSharedContentUntilLastReferenceIsDeleted() throws IOException {
+
+		byte[] content = StreamUtils.copyToByteArray(resource.getInputStream());
+		DBCollection chunks = dbFactory.getDb().getCollection("fs.chunks");
+
+		GridFsTemplate template = new GridFsTemplate(dbFactory, converter);
+		template.setChunkSize(64);
+		template.setDeduplicating(true);
+
+		for (String filename : Arrays.asList("foo.xml", "bar.xml", "baz.xml")) {
+			template.store(new ByteArrayInputStream(content), filename);
+		}
+
+		long chunkCount = chunks.count();
+
+		template.delete(query(whereFilename().in("foo.xml", "bar.xml")));
+		template.delete(query(whereFilename().is("bar.xml")));
+
+		assertThat(chunks.count(), is(chunkCount));
+		assertThat(StreamUtils.copyToByteArray(template.findOne(query(whereFilename().is("baz.xml"))).getInputStream()),
+				is(content));
+
+		template.delete(query(whereFilename().is("baz.xml")));
+
+		assertThat(chunks.count(), is(0L));
+	}
+
 	private static void assertSame(GridFSFile left, GridFSFile right) {
 
 		assertThat(left.getId(), is(right.getId()));
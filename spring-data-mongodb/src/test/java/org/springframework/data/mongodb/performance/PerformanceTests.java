@@ -43,7 +43,10 @@ import org.springframework.data.mongodb.core.SimpleMongoDbFactory;
 import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.support.MongoRepositoryFactoryBean;
@@ -82,6 +85,7 @@ public class PerformanceTests {
 	MongoTemplate operations;
 	PersonRepository repository;
 	MongoConverter converter;
+	MappingMongoConverter preparedConverter;
 
 	@Before
 	public void setUp() throws Exception {
@@ -95,6 +99,11 @@ public class PerformanceTests {
 		context.afterPropertiesSet();
 
 		this.converter = new MappingMongoConverter(new DefaultDbRefResolver(mongoDbFactory), context);
+
+		this.preparedConverter = new MappingMongoConverter(new DefaultDbRefResolver(mongoDbFactory), context);
+		this.preparedConverter.setUsePreparedEntityReaders(true);
+		this.preparedConverter.setUsePreparedEntityWriters(true);
+		this.preparedConverter.afterPropertiesSet();
 		this.operations = new MongoTemplate(new SimpleMongoDbFactory(this.mongo, DATABASE_NAME), converter);
 
 		MongoRepositoryFactoryBean<PersonRepository, Person, ObjectId> factory = new MongoRepositoryFactoryBean<PersonRepository, Person, ObjectId>();
@@ -132,7 +141,8 @@ public class PerformanceTests {
 
 		for (int i = 0; i < ITERATIONS; i++) {
 			statistics.registerTime(Api.DIRECT, Mode.READ, convertDirectly(dbObjects));
-			statistics.registerTime(Api.CONVERTER, Mode.READ, convertUsingConverter(dbObjects));
+			statistics.registerTime(Api.CONVERTER, Mode.READ, convertUsingConverter(converter, dbObjects));
+			statistics.registerTime(Api.PREPARED_CONVERTER, Mode.READ, convertUsingConverter(preparedConverter, dbObjects));
 		}
 
 		statistics.printResults(ITERATIONS);
@@ -158,7 +168,7 @@ public class PerformanceTests {
 		return watch.getLastTaskTimeMillis();
 	}
 
-	private long convertUsingConverter(final List<DBObject> dbObjects) {
+	private long convertUsingConverter(final MongoConverter converter, final List<DBObject> dbObjects) {
 
 		executeWatched(new WatchCallback<List<Person>>() {
 
@@ -178,6 +188,202 @@ public class PerformanceTests {
 		return watch.getLastTaskTimeMillis();
 	}
 
+	@Test
+	public void plainWriteConversion() {
+
+		Statistics statistics = new Statistics("Plain write conversion of " + NUMBER_OF_PERSONS * 100
+				+ " persons - After %s iterations");
+
+		List<Person> persons = getPersonObjects(NUMBER_OF_PERSONS * 100);
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			statistics.registerTime(Api.DIRECT, Mode.WRITE, writeDirectly(persons));
+			statistics.registerTime(Api.CONVERTER, Mode.WRITE, writeUsingConverter(converter, persons));
+			statistics.registerTime(Api.PREPARED_CONVERTER, Mode.WRITE, writeUsingConverter(preparedConverter, persons));
+		}
+
+		statistics.printResults(ITERATIONS);
+	}
+
+	private long writeDirectly(final List<Person> persons) {
+
+		executeWatched(new WatchCallback<List<DBObject>>() {
+
+			@Override
+			public List<DBObject> doInWatch() {
+
+				List<DBObject> dbObjects = new ArrayList<DBObject>(persons.size());
+
+				for (Person person : persons) {
+					dbObjects.add(person.toDBObject());
+				}
+
+				return dbObjects;
+			}
+		});
+
+		return watch.getLastTaskTimeMillis();
+	}
+
+	private long writeUsingConverter(final MongoConverter converter, final List<Person> persons) {
+
+		executeWatched(new WatchCallback<List<DBObject>>() {
+
+			@Override
+			public List<DBObject> doInWatch() {
+
+				List<DBObject> dbObjects = new ArrayList<DBObject>(persons.size());
+
+				for (Person person : persons) {
+
+					DBObject dbObject = new BasicDBObject();
+					converter.write(person, dbObject);
+					dbObjects.add(dbObject);
+				}
+
+				return dbObjects;
+			}
+		});
+
+		return watch.getLastTaskTimeMillis();
+	}
+
+	@Test
+	public void lazyProxyCreation() {
+
+		Statistics statistics = new Statistics("Creating lazy DBRef proxies for " + NUMBER_OF_PERSONS * 100
+				+ " documents - After %s iterations");
+
+		List<DBObject> dbObjects = new ArrayList<DBObject>(NUMBER_OF_PERSONS * 100);
+
+		for (int i = 0; i < NUMBER_OF_PERSONS * 100; i++) {
+
+			BasicDBList persons = new BasicDBList();
+			persons.add(new com.mongodb.DBRef("person", new ObjectId()));
+
+			dbObjects.add(new BasicDBObject("person", new com.mongodb.DBRef("person", new ObjectId())).append("persons",
+					persons));
+		}
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			statistics.registerTime(Api.CONVERTER, Mode.READ, createLazyProxies(dbObjects));
+		}
+
+		statistics.printResults(ITERATIONS);
+	}
+
+	private long createLazyProxies(final List<DBObject> dbObjects) {
+
+		executeWatched(new WatchCallback<List<LazyReferences>>() {
+
+			@Override
+			public List<LazyReferences> doInWatch() {
+
+				List<LazyReferences> result = new ArrayList<LazyReferences>(dbObjects.size());
+
+				for (DBObject dbObject : dbObjects) {
+					result.add(converter.read(LazyReferences.class, dbObject));
+				}
+
+				return result;
+			}
+		});
+
+		return watch.getLastTaskTimeMillis();
+	}
+
+	@Test
+	public void queryMapping() {
+
+		Statistics statistics = new Statistics("Mapping " + NUMBER_OF_PERSONS * 100
+				+ " nested queries - After %s iterations");
+
+		QueryMapper mapper = new QueryMapper(converter);
+		QueryMapper uncachedMapper = new QueryMapper(converter);
+		uncachedMapper.setPropertyFieldCacheSize(0);
+
+		DBObject query = query(where("firstname").is("Dave").and("lastname").regex("^Matt")
+				.and("addresses.zipCode").in("01234", "56789").and("orders.lineItems.price").gt(100D)
+				.and("orders.status").is(Order.Status.SHIPPED)).getQueryObject();
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			statistics.registerTime(Api.QUERY_MAPPER, Mode.QUERY, mapQueries(uncachedMapper, query));
+			statistics.registerTime(Api.CACHING_QUERY_MAPPER, Mode.QUERY, mapQueries(mapper, query));
+		}
+
+		statistics.printResults(ITERATIONS);
+
+		System.out.println(String.format("Property field cache hits: %s, misses: %s", mapper.getPropertyFieldCacheHitCount(),
+				mapper.getPropertyFieldCacheMissCount()));
+	}
+
+	private long mapQueries(final QueryMapper mapper, final DBObject query) {
+
+		final MongoPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(Person.class);
+
+		executeWatched(new WatchCallback<DBObject>() {
+
+			@Override
+			public DBObject doInWatch() {
+
+				DBObject result = null;
+
+				for (int i = 0; i < NUMBER_OF_PERSONS * 100; i++) {
+					result = mapper.getMappedObject(query, entity);
+				}
+
+				return result;
+			}
+		});
+
+		return watch.getLastTaskTimeMillis();
+	}
+
+	@Test
+	public void annotatedQueries() {
+
+		Statistics statistics = new Statistics("Executing " + NUMBER_OF_PERSONS * 10
+				+ " derived and annotated queries - After %s iterations");
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			statistics.registerTime(Api.REPOSITORY, Mode.QUERY, queryUsingRepository(Api.REPOSITORY));
+			statistics.registerTime(Api.STRING_QUERY, Mode.QUERY, queryUsingRepository(Api.STRING_QUERY));
+			statistics.registerTime(Api.SPEL_QUERY, Mode.QUERY, queryUsingRepository(Api.SPEL_QUERY));
+		}
+
+		statistics.printResults(ITERATIONS);
+	}
+
+	private long queryUsingRepository(final Api api) {
+
+		executeWatched(new WatchCallback<List<Person>>() {
+
+			@Override
+			public List<Person> doInWatch() {
+
+				List<Person> result = null;
+
+				for (int i = 0; i < NUMBER_OF_PERSONS * 10; i++) {
+
+					switch (api) {
+						case STRING_QUERY:
+							result = repository.findByLastnameAndFirstnameUsingQuery("Matthews", "Dave");
+							break;
+						case SPEL_QUERY:
+							result = repository.findByLastnameAndFirstnameUsingExpression("Matthews", "Dave");
+							break;
+						default:
+							result = repository.findByLastnameAndFirstname("Matthews", "Dave");
+					}
+				}
+
+				return result;
+			}
+		});
+
+		return watch.getLastTaskTimeMillis();
+	}
+
 	@Test
 	public void writeAndRead() throws Exception {
 
@@ -479,6 +685,12 @@ public class PerformanceTests {
 		}
 	}
 
+	static class LazyReferences {
+
+		@DBRef(lazy = true) Person person;
+		@DBRef(lazy = true) List<Person> persons;
+	}
+
 	static class Address implements Convertible {
 
 		final String zipCode;
@@ -655,6 +867,14 @@ public class PerformanceTests {
 	private interface PersonRepository extends MongoRepository<Person, ObjectId> {
 
 		List<Person> findByAddressesZipCodeContaining(String parameter);
+
+		List<Person> findByLastnameAndFirstname(String lastname, String firstname);
+
+		@org.springframework.data.mongodb.repository.Query("{ 'lastname' : ?0, 'firstname' : ?1 }")
+		List<Person> findByLastnameAndFirstnameUsingQuery(String lastname, String firstname);
+
+		@org.springframework.data.mongodb.repository.Query("{ 'lastname' : ?#{[0]}, 'firstname' : ?#{[1]} }")
+		List<Person> findByLastnameAndFirstnameUsingExpression(String lastname, String firstname);
 	}
 
 	private interface Convertible {
@@ -671,7 +891,7 @@ public class PerformanceTests {
 	}
 
 	static enum Api {
-		DRIVER, TEMPLATE, REPOSITORY, DIRECT, CONVERTER;
+		DRIVER, TEMPLATE, REPOSITORY, DIRECT, CONVERTER, PREPARED_CONVERTER, QUERY_MAPPER, CACHING_QUERY_MAPPER, STRING_QUERY, SPEL_QUERY;
 	}
 
 	static enum Mode {
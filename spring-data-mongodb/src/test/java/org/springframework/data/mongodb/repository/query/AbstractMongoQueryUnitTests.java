@@ -22,9 +22,11 @@ import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import org.bson.types.ObjectId;
 import org.hamcrest.core.Is;
@@ -50,6 +52,7 @@ import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.mapping.BasicMongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.KeysetPageRequest;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
@@ -187,6 +190,9 @@ public class AbstractMongoQueryUnitTests {
 	@Test
 	public void metadataShouldBeAddedToCountQueryCorrectly() {
 
+		when(mongoOperationsMock.find(Matchers.any(Query.class), eq(Person.class), eq("persons")))
+				.thenReturn(Collections.nCopies(10, new Person()));
+
 		MongoQueryFake query = createQueryForMethod("findByFirstname", String.class, Pageable.class);
 		query.execute(new Object[] { "fake", new PageRequest(0, 10) });
 
@@ -275,6 +281,79 @@ public class AbstractMongoQueryUnitTests {
 		assertThat(captor.getAllValues().get(1).getSortObject(), is(expectedSortObject));
 	}
 
+	@Test
+	public void pagedExecutionSkipsCountIfContentRevealsLastPage() {
+
+		when(mongoOperationsMock.find(Matchers.any(Query.class), eq(Person.class), eq("persons")))
+				.thenReturn(Collections.nCopies(3, new Person()));
+
+		MongoQueryFake query = createQueryForMethod("findByFirstname", String.class, Pageable.class);
+		Page<?> page = (Page<?>) query.execute(new Object[] { "fake", new PageRequest(1, 10) });
+
+		verify(mongoOperationsMock, never()).count(Matchers.any(Query.class), eq(Person.class), eq("persons"));
+		assertThat(page.getTotalElements(), is(13L));
+	}
+
+	@Test
+	public void pagedExecutionCountsForEmptyPageAfterFirstPage() {
+
+		when(mongoOperationsMock.count(Matchers.any(Query.class), eq(Person.class), eq("persons"))).thenReturn(5L);
+
+		MongoQueryFake query = createQueryForMethod("findByFirstname", String.class, Pageable.class);
+		Page<?> page = (Page<?>) query.execute(new Object[] { "fake", new PageRequest(1, 10) });
+
+		assertThat(page.getTotalElements(), is(5L));
+	}
+
+	@Test
+	public void pagedExecutionSubmitsCountToConfiguredExecutor() {
+
+		when(mongoOperationsMock.find(Matchers.any(Query.class), eq(Person.class), eq("persons")))
+				.thenReturn(Collections.nCopies(10, new Person()));
+		when(mongoOperationsMock.count(Matchers.any(Query.class), eq(Person.class), eq("persons"))).thenReturn(42L);
+
+		Executor executor = mock(Executor.class);
+
+		PageCountResolver resolver = new PageCountResolver();
+		resolver.setExecutor(executor);
+
+		MongoQueryFake query = createQueryForMethod("findByFirstname", String.class, Pageable.class);
+		query.setPageCountResolver(resolver);
+
+		Page<?> page = (Page<?>) query.execute(new Object[] { "fake", new PageRequest(0, 10) });
+
+		verify(executor).execute(Matchers.any(Runnable.class));
+		assertThat(page.getTotalElements(), is(42L));
+	}
+
+	@Test
+	public void pagedExecutionReusesTotalOfKeysetPageRequest() {
+
+		MongoQueryFake query = createQueryForMethod("findByFirstname", String.class, Pageable.class);
+		DBObject position = new BasicDBObjectBuilder().add("lastname", "Matthews").add("_id", 4711).get();
+		Pageable pageable = new KeysetPageRequest(10, new Sort("lastname")).withTotal(42).withNextPosition(position).next();
+
+		Page<?> page = (Page<?>) query.execute(new Object[] { "fake", pageable });
+
+		verify(mongoOperationsMock, never()).count(Matchers.any(Query.class), eq(Person.class), eq("persons"));
+		assertThat(page.getTotalElements(), is(42L));
+	}
+
+	@Test
+	public void slicedExecutionSeeksWithKeysetPageRequest() {
+
+		MongoQueryFake query = createQueryForMethod("findByLastname", String.class, Pageable.class);
+		query.execute(new Object[] { "fake", new KeysetPageRequest(10, new Sort("lastname")) });
+
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		verify(mongoOperationsMock).find(captor.capture(), eq(Person.class), eq("persons"));
+
+		DBObject expectedSortObject = new BasicDBObjectBuilder().add("lastname", 1).add("_id", 1).get();
+		assertThat(captor.getValue().getSortObject(), is(expectedSortObject));
+		assertThat(captor.getValue().getSkip(), is(0));
+		assertThat(captor.getValue().getLimit(), is(11));
+	}
+
 	/**
 	 * @see DATAMONGO-1080
 	 */
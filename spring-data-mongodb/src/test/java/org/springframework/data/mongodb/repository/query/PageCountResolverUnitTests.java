@@ -0,0 +1,108 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+import static org.springframework.data.mongodb.core.query.Query.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.Person;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.query.PageCountResolver.PageCount;
+
+/**
+ * Unit tests for {@link PageCountResolver}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PageCountResolverUnitTests {
+
+	@Mock MongoOperations operations;
+
+	PageCountResolver resolver;
+
+	@Before
+	public void setUp() {
+
+		this.resolver = new PageCountResolver();
+
+		when(operations.count(Mockito.<Query> any(), eq(Person.class), eq("person"))).thenReturn(42L);
+	}
+
+	@Test
+	public void countsOnDemandOnly() {
+
+		PageCount count = resolver.count(operations, query(where("lastname").is("Matthews")), Person.class, "person");
+
+		verify(operations, never()).count(Mockito.<Query> any(), eq(Person.class), eq("person"));
+		assertThat(count.getTotal(), is(42L));
+	}
+
+	@Test
+	public void doesNotCountIfCancelled() {
+
+		PageCount count = resolver.count(operations, query(where("lastname").is("Matthews")), Person.class, "person");
+		count.cancel();
+
+		verify(operations, never()).count(Mockito.<Query> any(), eq(Person.class), eq("person"));
+	}
+
+	@Test
+	public void countsQueryStateAtCreation() {
+
+		Query query = query(where("lastname").is("Matthews"));
+		PageCount count = resolver.count(operations, query, Person.class, "person");
+
+		query.addCriteria(where("firstname").is("Dave"));
+		count.getTotal();
+
+		verify(operations).count((Query) argThat(hasProperty("queryObject", not(hasKey("firstname")))),
+				eq(Person.class), eq("person"));
+	}
+
+	@Test
+	public void doesNotCacheCountsByDefault() {
+
+		resolver.count(operations, query(where("lastname").is("Matthews")), Person.class, "person").getTotal();
+		resolver.count(operations, query(where("lastname").is("Matthews")), Person.class, "person").getTotal();
+
+		verify(operations, times(2)).count(Mockito.<Query> any(), eq(Person.class), eq("person"));
+	}
+
+	@Test
+	public void reusesCachedCountForSameQuery() {
+
+		resolver.setCacheTimeToLive(1, TimeUnit.MINUTES);
+
+		resolver.count(operations, query(where("lastname").is("Matthews")), Person.class, "person").getTotal();
+		long total = resolver.count(operations, query(where("lastname").is("Matthews")), Person.class, "person")
+				.getTotal();
+		resolver.count(operations, query(where("lastname").is("Beauford")), Person.class, "person").getTotal();
+
+		assertThat(total, is(42L));
+		verify(operations, times(2)).count(Mockito.<Query> any(), eq(Person.class), eq("person"));
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.mongodb.repository.query.ParameterBindingDocument.Slot;
+import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery.ParameterBinding;
+
+import com.mongodb.DBObject;
+import com.mongodb.util.JSON;
+
+/**
+ * Unit tests for {@link ParameterBindingDocument}.
+ */
+public class ParameterBindingDocumentUnitTests {
+
+	static final List<ParameterBinding> NO_BINDINGS = Collections.emptyList();
+
+	@Test
+	public void createsSlotsForUnquotedAndQuotedParameters() {
+
+		ParameterBindingDocument document = parse("{ 'lastname' : \"_param_0\", 'firstname' : '\"_param_1\"' }",
+				NO_BINDINGS);
+
+		DBObject template = (DBObject) document.getTemplate();
+
+		assertSlot(template.get("lastname"), 0, false);
+		assertSlot(template.get("firstname"), 1, true);
+	}
+
+	@Test
+	public void createsSlotsForNestedParameters() {
+
+		ParameterBindingDocument document = parse(
+				"{ 'age' : { '$gt' : \"_param_0\" }, '$or' : [ { 'lastname' : \"_param_1\" } ] }", NO_BINDINGS);
+
+		DBObject template = (DBObject) document.getTemplate();
+		DBObject or = (DBObject) ((List<?>) template.get("$or")).get(0);
+
+		assertSlot(((DBObject) template.get("age")).get("$gt"), 0, false);
+		assertSlot(or.get("lastname"), 1, false);
+	}
+
+	@Test
+	public void createsSlotForCompletelyParameterizedQuery() {
+		assertSlot(parse("\"_param_0\"", NO_BINDINGS).getTemplate(), 0, false);
+	}
+
+	@Test
+	public void createsSlotsForExpressions() {
+
+		List<ParameterBinding> bindings = new ArrayList<ParameterBinding>();
+		bindings.add(new ParameterBinding(0, true, "[0]"));
+
+		ParameterBindingDocument document = parse("{ 'lastname' : '?expr0' }", bindings);
+		Object slot = ((DBObject) document.getTemplate()).get("lastname");
+
+		assertThat(slot, is(instanceOf(Slot.class)));
+		assertThat(((Slot) slot).getBinding(), is(sameInstance(bindings.get(0))));
+	}
+
+	@Test
+	public void keepsValuesWithoutParameters() {
+
+		ParameterBindingDocument document = parse("{ 'fans' : { '$not' : { '$size' : 0 } } }", NO_BINDINGS);
+
+		assertThat(document.getTemplate(), is(JSON.parse("{ 'fans' : { '$not' : { '$size' : 0 } } }")));
+	}
+
+	@Test
+	public void rejectsParametersWithinStringValues() {
+		assertThat(parse("{ 'title' : { '$regex' : '^\"_param_0\"' } }", NO_BINDINGS), is(nullValue()));
+	}
+
+	@Test
+	public void rejectsParametersInKeys() {
+		assertThat(parse("{ \"_param_0\" : \"_param_1\" }", NO_BINDINGS), is(nullValue()));
+	}
+
+	@Test
+	public void rejectsParametersWithinDbRefs() {
+		assertThat(parse("{ 'reference' : { '$ref' : 'reference', '$id' : \"_param_0\" } }", NO_BINDINGS),
+				is(nullValue()));
+	}
+
+	private static ParameterBindingDocument parse(String query, List<ParameterBinding> bindings) {
+		return ParameterBindingDocument.from(JSON.parse(query), bindings);
+	}
+
+	private static void assertSlot(Object candidate, int index, boolean quoted) {
+
+		assertThat(candidate, is(instanceOf(Slot.class)));
+
+		ParameterBinding binding = ((Slot) candidate).getBinding();
+
+		assertThat(binding.getParameterIndex(), is(index));
+		assertThat(binding.isQuoted(), is(quoted));
+		assertThat(binding.isExpression(), is(false));
+	}
+}
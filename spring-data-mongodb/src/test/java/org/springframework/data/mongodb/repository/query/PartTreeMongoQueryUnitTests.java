@@ -21,6 +21,7 @@ import static org.mockito.Mockito.*;
 import static org.springframework.data.mongodb.core.query.IsTextQuery.*;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -28,13 +29,17 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 import org.springframework.data.mongodb.MongoDbFactory;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.convert.DbRefResolver;
 import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.PreparedQuery;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.TextCriteria;
@@ -192,6 +197,48 @@ public class PartTreeMongoQueryUnitTests {
 		assertThat(fields.get("age"), is((Object) 1));
 	}
 
+	@Test
+	public void bindsValuesToPreparedQueryForSimpleDerivedQueries() {
+
+		final QueryMapper queryMapper = new QueryMapper(mongoOperationsMock.getConverter());
+
+		when(mongoOperationsMock.prepare((org.springframework.data.mongodb.core.query.Query) any(), eq(Person.class)))
+				.thenAnswer(new Answer<PreparedQuery>() {
+
+					@Override
+					public PreparedQuery answer(InvocationOnMock invocation) throws Throwable {
+						return new PreparedQuery((org.springframework.data.mongodb.core.query.Query) invocation.getArguments()[0],
+								mappingContext.getPersistentEntity(Person.class), queryMapper);
+					}
+				});
+
+		PartTreeMongoQuery partTreeQuery = createQueryForMethod("findByAgeGreaterThan", Integer.class);
+
+		DBObject first = createQuery(partTreeQuery, 18).getQueryObject();
+		DBObject second = createQuery(partTreeQuery, 21).getQueryObject();
+
+		assertThat(first, is(new BasicDBObjectBuilder().push("age").add("$gt", 18).get()));
+		assertThat(second, is(new BasicDBObjectBuilder().push("age").add("$gt", 21).get()));
+		verify(mongoOperationsMock, times(1)).prepare((org.springframework.data.mongodb.core.query.Query) any(),
+				eq(Person.class));
+	}
+
+	@Test
+	public void doesNotPrepareQueriesDependingOnParameterValues() {
+
+		deriveQueryFromMethod("findByFirstnameLike", "Dav*");
+
+		verify(mongoOperationsMock, never()).prepare((org.springframework.data.mongodb.core.query.Query) any(),
+				(Class<?>) any());
+	}
+
+	private org.springframework.data.mongodb.core.query.Query createQuery(PartTreeMongoQuery partTreeQuery,
+			Object... args) {
+
+		MongoParameterAccessor accessor = new MongoParametersParameterAccessor(partTreeQuery.getQueryMethod(), args);
+		return partTreeQuery.createQuery(new ConvertingParameterAccessor(mongoOperationsMock.getConverter(), accessor));
+	}
+
 	private org.springframework.data.mongodb.core.query.Query deriveQueryFromMethod(String method, Object... args) {
 
 		Class<?>[] types = new Class<?>[args.length];
@@ -249,6 +296,10 @@ public class PartTreeMongoQueryUnitTests {
 		PersonDto findPersonDtoByAge(Integer age);
 
 		<T> T findDynamicallyProjectedBy(Class<T> type);
+
+		List<Person> findByAgeGreaterThan(Integer age);
+
+		List<Person> findByFirstnameLike(String firstname);
 	}
 
 	interface PersonProjection {
@@ -30,7 +30,9 @@ import org.bson.BSON;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.AdditionalAnswers;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.data.mongodb.core.DBObjectTestUtils;
 import org.springframework.data.mongodb.core.MongoOperations;
@@ -48,6 +50,7 @@ import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.data.repository.query.DefaultEvaluationContextProvider;
+import org.springframework.data.repository.query.EvaluationContextProvider;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 
 import com.mongodb.BasicDBObject;
@@ -362,6 +365,54 @@ public class StringBasedMongoQueryUnitTests {
 		assertThat(query.getQueryObject(), is(reference.getQueryObject()));
 	}
 
+	@Test
+	public void bindsQuotedNonStringParameterAsString() throws Exception {
+
+		ConvertingParameterAccessor accessor = StubParameterAccessor.getAccessor(converter, 42);
+		StringBasedMongoQuery mongoQuery = createQueryForMethod("findByAgeQuoted", Integer.class);
+
+		org.springframework.data.mongodb.core.query.Query query = mongoQuery.createQuery(accessor);
+
+		assertThat(query.getQueryObject(), is(new BasicQuery("{'age' : '42'}").getQueryObject()));
+	}
+
+	@Test
+	public void bindsParametersForEachInvocationIndependently() throws Exception {
+
+		StringBasedMongoQuery mongoQuery = createQueryForMethod("findByLastname", String.class);
+
+		org.springframework.data.mongodb.core.query.Query first = mongoQuery
+				.createQuery(StubParameterAccessor.getAccessor(converter, "Matthews"));
+		org.springframework.data.mongodb.core.query.Query second = mongoQuery
+				.createQuery(StubParameterAccessor.getAccessor(converter, "Gierke"));
+
+		assertThat(first.getQueryObject(), is(new BasicQuery("{'lastname' : 'Matthews'}").getQueryObject()));
+		assertThat(second.getQueryObject(), is(new BasicQuery("{'lastname' : 'Gierke'}").getQueryObject()));
+	}
+
+	@Test
+	public void parsesExpressionsOnceAndSharesEvaluationContextWithinInvocation() throws Exception {
+
+		SpelExpressionParser parser = spy(new SpelExpressionParser());
+		EvaluationContextProvider provider = mock(EvaluationContextProvider.class,
+				AdditionalAnswers.delegatesTo(DefaultEvaluationContextProvider.INSTANCE));
+
+		Method method = SampleRepository.class.getMethod("findByQueryWithExpressionAndMultipleNestedObjects",
+				boolean.class, String.class, String.class);
+		MongoQueryMethod queryMethod = new MongoQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class),
+				new SpelAwareProxyProjectionFactory(), converter.getMappingContext());
+		StringBasedMongoQuery mongoQuery = new StringBasedMongoQuery(queryMethod, operations, parser, provider);
+
+		mongoQuery.createQuery(StubParameterAccessor.getAccessor(converter, true, "param1", "param2"));
+		org.springframework.data.mongodb.core.query.Query query = mongoQuery
+				.createQuery(StubParameterAccessor.getAccessor(converter, false, "param1", "param2"));
+
+		assertThat(query.getQueryObject(),
+				is(new BasicQuery("{ \"id\" : \"param1\" , \"foo\" : 42 , \"bar\" : \"param1\"}").getQueryObject()));
+		verify(parser, times(2)).parseExpression(anyString());
+		verify(provider, times(2)).getEvaluationContext(Mockito.<MongoParameters> any(), Mockito.<Object[]> any());
+	}
+
 	private StringBasedMongoQuery createQueryForMethod(String name, Class<?>... parameters) throws Exception {
 
 		Method method = SampleRepository.class.getMethod(name, parameters);
@@ -385,6 +436,9 @@ public class StringBasedMongoQueryUnitTests {
 		@Query("{ 'address' : ?0 }")
 		Person findByAddress(Address address);
 
+		@Query("{ 'age' : '?0' }")
+		Person findByAgeQuoted(Integer age);
+
 		@Query("{ 'lastname' : ?0, 'address' : ?1 }")
 		Person findByLastnameAndAddress(String lastname, Address address);
 